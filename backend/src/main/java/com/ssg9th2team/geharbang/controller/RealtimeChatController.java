@@ -1,16 +1,14 @@
 package com.ssg9th2team.geharbang.controller;
 
-import com.ssg9th2team.geharbang.domain.auth.entity.User;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
 import com.ssg9th2team.geharbang.domain.chat.dto.ChatRoomDto;
 import com.ssg9th2team.geharbang.domain.chat.service.RealtimeChatService;
+import com.ssg9th2team.geharbang.global.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,37 +23,35 @@ import java.util.Map;
 public class RealtimeChatController {
 
     private final RealtimeChatService chatService;
-    private final UserRepository userRepository;
     private final StringRedisTemplate stringRedisTemplate;
 
     // 내 채팅방 목록 조회
     @GetMapping("/rooms")
-    public ResponseEntity<List<ChatRoomDto>> getMyChatRooms(@AuthenticationPrincipal UserDetails userDetails) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
+    public ResponseEntity<List<ChatRoomDto>> getMyChatRooms(Authentication authentication) {
+        Long userId = SecurityUtils.findUserId(authentication)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        Long userId = user.getId();
         return ResponseEntity.ok(chatService.getUserChatRooms(userId));
     }
 
-    // 특정 채팅방 메시지 조회
+    // 특정 채팅방 메시지 조회 (before: 이 메시지 ID 이전부터, limit: 최대 개수)
     @GetMapping("/rooms/{roomId}/messages")
     public ResponseEntity<List<ChatMessageDto>> getRoomMessages(
             @PathVariable Long roomId,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+        Long userId = SecurityUtils.findUserId(authentication)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        Long userId = user.getId();
-        return ResponseEntity.ok(chatService.getRoomMessages(roomId, userId));
+        return ResponseEntity.ok(chatService.getRoomMessages(roomId, userId, before, limit));
     }
 
     // 메시지 읽음 처리
     @PostMapping("/rooms/{roomId}/read")
     public ResponseEntity<Void> markAsRead(
             @PathVariable Long roomId,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
+            Authentication authentication) {
+        Long userId = SecurityUtils.findUserId(authentication)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        Long userId = user.getId();
         chatService.markMessagesAsRead(roomId, userId);
         return ResponseEntity.ok().build();
     }
@@ -4,8 +4,8 @@ import com.ssg9th2team.geharbang.domain.accommodation.dto.AccommodationCreateReq
 import com.ssg9th2team.geharbang.domain.accommodation.dto.AccommodationResponseDto;
 import com.ssg9th2team.geharbang.domain.accommodation.dto.AccommodationUpdateRequestDto;
 import com.ssg9th2team.geharbang.domain.accommodation.service.AccommodationService;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import jakarta.validation.Valid;
+import com.ssg9th2team.geharbang.global.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import org.springframework.http.HttpStatus;
@@ -19,16 +19,13 @@ import org.springframework.web.bind.annotation.*;
 public class AccommodationController {
 
     private final AccommodationService accommodationService;
-    private final UserRepository userRepository;
 
     // 숙소 등록
     @PostMapping
     public ResponseEntity<?> createAccommodation(@Valid @RequestBody AccommodationCreateRequestDto requestDto, Authentication authentication) {
         try {
-            String email = authentication.getName();
-            Long userId = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                    .getId();
+            Long userId = SecurityUtils.findUserId(authentication)
+                    .orElseThrow(() -> new IllegalArgumentException("User not found"));
             Long accommodationsId = accommodationService.createAccommodation(userId, requestDto);
             return ResponseEntity.status(HttpStatus.CREATED).body(accommodationsId);
         } catch (Exception e) {
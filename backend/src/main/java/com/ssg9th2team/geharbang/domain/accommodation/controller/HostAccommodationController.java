@@ -3,7 +3,7 @@ package com.ssg9th2team.geharbang.domain.accommodation.controller;
 import com.ssg9th2team.geharbang.domain.accommodation.dto.HostAccommodationSummaryResponse;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.mybatis.AccommodationMapper;
 import com.ssg9th2team.geharbang.domain.accommodation.service.AccommodationService;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -22,14 +22,11 @@ public class HostAccommodationController {
 
     private final AccommodationMapper accommodationMapper;
     private final AccommodationService accommodationService;
-    private final UserRepository userRepository;
 
     @GetMapping
     public List<HostAccommodationSummaryResponse> listHostAccommodations(Authentication authentication) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
+        Long hostId = SecurityUtils.findUserId(authentication)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
         return accommodationMapper.selectHostAccommodations(hostId);
     }
 
@@ -38,10 +35,8 @@ public class HostAccommodationController {
             @PathVariable Long accommodationsId,
             Authentication authentication
     ) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
+        Long hostId = SecurityUtils.findUserId(authentication)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
         HostAccommodationSummaryResponse response = accommodationMapper
                 .selectHostAccommodationById(hostId, accommodationsId);
         if (response == null) {
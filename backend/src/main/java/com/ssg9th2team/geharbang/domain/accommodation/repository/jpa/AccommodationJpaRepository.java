@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -60,6 +61,23 @@ public interface AccommodationJpaRepository
                         """)
         List<Accommodation> findByKeywordInDescription(@Param("keyword") String keyword);
 
+        /**
+         * 키워드 역색인 후보 ID 로 범위를 좁힌 숙소 설명 검색
+         */
+        @Query("""
+                        SELECT a FROM Accommodation a
+                        WHERE a.accommodationsId IN :accommodationIds
+                        AND a.accommodationStatus = 1
+                        AND a.approvalStatus = 'APPROVED'
+                        AND (LOWER(a.accommodationsDescription) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                             OR LOWER(a.shortDescription) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                             OR LOWER(a.accommodationsName) LIKE LOWER(CONCAT('%', :keyword, '%')))
+                        ORDER BY a.rating DESC
+                        """)
+        List<Accommodation> findByKeywordInDescriptionInIds(
+                        @Param("keyword") String keyword,
+                        @Param("accommodationIds") Collection<Long> accommodationIds);
+
         /**
          * 위치(city/district/township)로 승인된 숙소 검색
          */
@@ -5,6 +5,8 @@ import com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.Accommodati
 import com.ssg9th2team.geharbang.domain.admin.dto.GeoBackfillResponse;
 import com.ssg9th2team.geharbang.domain.geocoding.GeoPoint;
 import com.ssg9th2team.geharbang.domain.geocoding.GeocodingClient;
+import com.ssg9th2team.geharbang.domain.main.service.PublicListingSnapshot;
+import com.ssg9th2team.geharbang.domain.search.service.GeoGridIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -26,6 +28,8 @@ public class AccommodationGeoService {
 
     private final AccommodationJpaRepository accommodationRepository;
     private final GeocodingClient geocodingClient;
+    private final GeoGridIndex geoGridIndex;
+    private final PublicListingSnapshot publicListingSnapshot;
 
     @Transactional
     public GeoBackfillResponse backfillMissingCoordinates(int limit) {
@@ -48,6 +52,8 @@ public class AccommodationGeoService {
                     continue;
                 }
                 accommodation.updateCoordinates(point.get().latitude(), point.get().longitude());
+                geoGridIndex.refreshAccommodation(accommodation.getAccommodationsId());
+                publicListingSnapshot.refreshAccommodation(accommodation.getAccommodationsId());
                 updated++;
             } catch (Exception ex) {
                 failed++;
@@ -5,6 +5,7 @@ import com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation;
 import com.ssg9th2team.geharbang.domain.accommodation.entity.AccommodationsCategory;
 import com.ssg9th2team.geharbang.domain.accommodation.entity.ApprovalStatus;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.mybatis.AccommodationMapper;
+import com.ssg9th2team.geharbang.domain.main.service.PublicListingSnapshot;
 import com.ssg9th2team.geharbang.domain.payment.entity.Payment;
 import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentJpaRepository;
 import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentRefundJpaRepository;
@@ -19,12 +20,17 @@ import com.ssg9th2team.geharbang.domain.room.repository.mybatis.RoomMapper;
 import com.ssg9th2team.geharbang.domain.theme.entity.Theme;
 import com.ssg9th2team.geharbang.domain.theme.repository.ThemeRepository;
 import com.ssg9th2team.geharbang.domain.wishlist.repository.mybatis.WishlistMapper;
-import com.ssg9th2team.geharbang.global.storage.ObjectStorageService;
+import com.ssg9th2team.geharbang.global.storage.ImageUploadResult;
+import com.ssg9th2team.geharbang.global.storage.ImageUploadService;
+import com.ssg9th2team.geharbang.domain.search.service.GeoGridIndex;
+import com.ssg9th2team.geharbang.domain.search.service.KeywordSearchIndex;
+import com.ssg9th2team.geharbang.domain.search.service.SearchAutocompleteIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
@@ -38,63 +44,81 @@ public class AccommodationServiceImpl implements AccommodationService {
 
     private final AccommodationMapper accommodationMapper;
     private final RoomMapper roomMapper;
-    private final ObjectStorageService objectStorageService;
+    private final ImageUploadService imageUploadService;
+    private final TransactionTemplate transactionTemplate;
     private final ReservationJpaRepository reservationJpaRepository;
     private final PaymentJpaRepository paymentJpaRepository;
     private final PaymentRefundJpaRepository paymentRefundJpaRepository;
     private final WishlistMapper wishlistMapper;
     private final ThemeRepository themeRepository;
+    private final KeywordSearchIndex keywordSearchIndex;
+    private final GeoGridIndex geoGridIndex;
+    private final PublicListingSnapshot publicListingSnapshot;
+    private final SearchAutocompleteIndex searchAutocompleteIndex;
 
 
     // 숙소 등록
     @Override
-    @Transactional
     public Long createAccommodation(Long userId, AccommodationCreateRequestDto createRequestDto) {
-        
+
+        // 이미지는 트랜잭션 밖에서 병렬로 업로드하고, 모두 끝난 뒤 URL 만 트랜잭션 안에서 저장 (업로드 동안 DB 커넥션을 잡지 않음)
+        List<String> uploadedUrls = uploadCreateImages(createRequestDto);
+
+        return transactionTemplate.execute(status -> {
+            imageUploadService.deleteOnRollback(uploadedUrls);
+            return insertAccommodation(userId, createRequestDto);
+        });
+    }
+
+    private List<String> uploadCreateImages(AccommodationCreateRequestDto createRequestDto) {
         // Base64 이미지 처리 - 네이버 클라우드 Object Storage에 업로드
+        List<String> uploadedUrls = new ArrayList<>();
         try {
             // 1. 사업자 등록증 이미지
             if (createRequestDto.getBusinessRegistrationImage() != null) {
-                String savedUrl = objectStorageService.uploadBase64Image(
-                        createRequestDto.getBusinessRegistrationImage(), "business");
-                createRequestDto.setBusinessRegistrationImage(savedUrl);
+                ImageUploadResult result = imageUploadService.uploadAll(
+                        List.of(createRequestDto.getBusinessRegistrationImage()), "business");
+                createRequestDto.setBusinessRegistrationImage(result.url(0));
+                uploadedUrls.addAll(result.ownedUrls());
             }
 
             // 2. 숙소 이미지 리스트
             if (createRequestDto.getImages() != null) {
-                for (AccommodationImageDto img : createRequestDto.getImages()) {
-                    if (img.getImageUrl() != null) {
-                        String savedUrl = objectStorageService.uploadBase64Image(
-                                img.getImageUrl(), "accommodations");
-                        img.setImageUrl(savedUrl);
-                    }
+                List<AccommodationImageDto> images = createRequestDto.getImages().stream()
+                        .filter(img -> img.getImageUrl() != null)
+                        .toList();
+                ImageUploadResult result = imageUploadService.uploadAll(
+                        images.stream().map(AccommodationImageDto::getImageUrl).toList(), "accommodations");
+                for (int i = 0; i < images.size(); i++) {
+                    images.get(i).setImageUrl(result.url(i));
                 }
+                uploadedUrls.addAll(result.ownedUrls());
             }
 
-
             // 3. 객실 대표 이미지
             if (createRequestDto.getRooms() != null) {
                 log.info("객실 수: {}", createRequestDto.getRooms().size());
-                for (RoomCreateDto room : createRequestDto.getRooms()) {
-                    log.info("객실 이름: {}, mainImageUrl 존재: {}, 길이: {}",
-                        room.getRoomName(),
-                        room.getMainImageUrl() != null,
-                        room.getMainImageUrl() != null ? room.getMainImageUrl().length() : 0);
-                    if (room.getMainImageUrl() != null && !room.getMainImageUrl().isEmpty()) {
-                        String savedUrl = objectStorageService.uploadBase64Image(
-                                room.getMainImageUrl(), "rooms");
-                        room.setMainImageUrl(savedUrl);
-                    }
+                List<RoomCreateDto> rooms = createRequestDto.getRooms().stream()
+                        .filter(room -> room.getMainImageUrl() != null && !room.getMainImageUrl().isEmpty())
+                        .toList();
+                ImageUploadResult result = imageUploadService.uploadAll(
+                        rooms.stream().map(RoomCreateDto::getMainImageUrl).toList(), "rooms");
+                for (int i = 0; i < rooms.size(); i++) {
+                    rooms.get(i).setMainImageUrl(result.url(i));
                 }
+                uploadedUrls.addAll(result.ownedUrls());
             } else {
                 log.info("객실 데이터 없음 (rooms is null)");
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            imageUploadService.deleteAll(uploadedUrls);
+            log.error("숙소 이미지 업로드 실패", e);
             throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다: " + e.getMessage());
         }
+        return uploadedUrls;
+    }
 
-
+    private Long insertAccommodation(Long userId, AccommodationCreateRequestDto createRequestDto) {
         // 정산계좌 먼저 등록
         // 계좌테이블이 부모이므로 계좌를 먼저 등록하고 계좌 아이디를 가지고 숙소를 등록
         AccountNumberDto accountNumberDto = new AccountNumberDto();
@@ -185,8 +209,59 @@ public class AccommodationServiceImpl implements AccommodationService {
 
     // 숙소 수정
     @Override
-    @Transactional
     public void updateAccommodation(Long accommodationsId, AccommodationUpdateRequestDto updateRequestDto) {
+        // 이미지는 트랜잭션 밖에서 병렬로 먼저 업로드하고, 모두 끝난 뒤 트랜잭션 안에서 저장
+        List<String> uploadedUrls = uploadUpdateImages(updateRequestDto);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            imageUploadService.deleteOnRollback(uploadedUrls);
+            applyAccommodationUpdate(accommodationsId, updateRequestDto);
+        });
+    }
+
+    private List<String> uploadUpdateImages(AccommodationUpdateRequestDto updateRequestDto) {
+        List<String> uploadedUrls = new ArrayList<>();
+
+        // 숙소 이미지
+        if (updateRequestDto.getImages() != null) {
+            try {
+                List<AccommodationImageDto> images = updateRequestDto.getImages().stream()
+                        .filter(img -> img.getImageUrl() != null)
+                        .toList();
+                ImageUploadResult result = imageUploadService.uploadAll(
+                        images.stream().map(AccommodationImageDto::getImageUrl).toList(), "accommodations");
+                for (int i = 0; i < images.size(); i++) {
+                    images.get(i).setImageUrl(result.url(i));
+                }
+                uploadedUrls.addAll(result.ownedUrls());
+            } catch (Exception e) {
+                log.error("숙소 이미지 수정 업로드 실패", e);
+                throw new RuntimeException("숙소 이미지 수정 중 오류가 발생했습니다: " + e.getMessage());
+            }
+        }
+
+        // 객실 이미지
+        if (updateRequestDto.getRooms() != null) {
+            try {
+                List<AccommodationUpdateRequestDto.RoomData> rooms = updateRequestDto.getRooms().stream()
+                        .filter(room -> room.getMainImageUrl() != null)
+                        .toList();
+                ImageUploadResult result = imageUploadService.uploadAll(
+                        rooms.stream().map(AccommodationUpdateRequestDto.RoomData::getMainImageUrl).toList(), "rooms");
+                for (int i = 0; i < rooms.size(); i++) {
+                    rooms.get(i).setMainImageUrl(result.url(i));
+                }
+                uploadedUrls.addAll(result.ownedUrls());
+            } catch (Exception e) {
+                imageUploadService.deleteAll(uploadedUrls);
+                log.error("객실 이미지 수정 업로드 실패", e);
+                throw new RuntimeException("객실 이미지 수정 중 오류가 발생했습니다: " + e.getMessage());
+            }
+        }
+        return uploadedUrls;
+    }
+
+    private void applyAccommodationUpdate(Long accommodationsId, AccommodationUpdateRequestDto updateRequestDto) {
         // 1. 숙소 기본 정보 업데이트
         Accommodation accommodation = Accommodation.builder()
                 .accommodationsId(accommodationsId)
@@ -206,6 +281,10 @@ public class AccommodationServiceImpl implements AccommodationService {
 
         // 업데이트 쿼리에 숙소 아이디 , 업데이트 된 숙소 정보 주입
         accommodationMapper.updateAccommodation(accommodationsId, accommodation);
+        keywordSearchIndex.refreshAccommodation(accommodationsId);
+        geoGridIndex.refreshAccommodation(accommodationsId);
+        publicListingSnapshot.refreshAccommodation(accommodationsId);
+        searchAutocompleteIndex.refresh();
 
         // 2. 연관 데이터 업데이트 (삭제 후 재등록)
         
@@ -230,20 +309,6 @@ public class AccommodationServiceImpl implements AccommodationService {
 
         // 이미지
         if (updateRequestDto.getImages() != null) {
-            // 이미지 업로드 로직 추가
-            try {
-                for (AccommodationImageDto img : updateRequestDto.getImages()) {
-                    if (img.getImageUrl() != null) {
-                        String savedUrl = objectStorageService.uploadBase64Image(
-                                img.getImageUrl(), "accommodations");
-                        img.setImageUrl(savedUrl);
-                    }
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
-                throw new RuntimeException("숙소 이미지 수정 중 오류가 발생했습니다: " + e.getMessage());
-            }
-
             // 이미지도 삭제 후 재등록
             accommodationMapper.deleteAccommodationImages(accommodationsId);
             if (!updateRequestDto.getImages().isEmpty()) {
@@ -331,18 +396,6 @@ public class AccommodationServiceImpl implements AccommodationService {
         // 3-4. 객실 추가/수정
         if (updateRequestDto.getRooms() != null) {
             for (AccommodationUpdateRequestDto.RoomData roomDto : updateRequestDto.getRooms()) {
-                // 객실 이미지 업로드 로직 추가
-                try {
-                    if (roomDto.getMainImageUrl() != null) {
-                        String savedUrl = objectStorageService.uploadBase64Image(
-                                roomDto.getMainImageUrl(), "rooms");
-                        roomDto.setMainImageUrl(savedUrl);
-                    }
-                } catch (Exception e) {
-                    e.printStackTrace();
-                    throw new RuntimeException("객실 이미지 수정 중 오류가 발생했습니다: " + e.getMessage());
-                }
-
                 Room room = Room.builder()
                         .accommodationsId(accommodationsId)
                         .roomName(roomDto.getRoomName())
@@ -411,6 +464,10 @@ public class AccommodationServiceImpl implements AccommodationService {
         wishlistMapper.deleteWishlistByAccommodationId(accommodationsId);
 
         accommodationMapper.deleteAccommodation(accommodationsId);
+        keywordSearchIndex.refreshAccommodation(accommodationsId);
+        geoGridIndex.refreshAccommodation(accommodationsId);
+        publicListingSnapshot.refreshAccommodation(accommodationsId);
+        searchAutocompleteIndex.refresh();
 
     }
 
@@ -459,6 +516,10 @@ public class AccommodationServiceImpl implements AccommodationService {
 
         // 숙소 삭제
         accommodationMapper.deleteAccommodations(accommodationIds);
+        keywordSearchIndex.refreshAccommodations(accommodationIds);
+        geoGridIndex.refreshAccommodations(accommodationIds);
+        publicListingSnapshot.refreshAccommodations(accommodationIds);
+        searchAutocompleteIndex.refresh();
     }
 
     private void validateThemeIds(List<Long> themeIds) {
@@ -33,14 +33,16 @@ public class AdminAccommodationController {
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "latest") String sort
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor
     ) {
         return accommodationService.getAccommodations(
                 normalizeFilter(status),
                 normalizeFilter(keyword),
                 page,
                 size,
-                sort
+                sort,
+                cursor
         );
     }
 
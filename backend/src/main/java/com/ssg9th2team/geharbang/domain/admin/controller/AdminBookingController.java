@@ -33,8 +33,9 @@ public class AdminBookingController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
             @RequestParam(defaultValue = "latest") String sort,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        return bookingService.getBookings(status, from, to, sort, page, size);
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+        return bookingService.getBookings(status, from, to, sort, page, size, cursor);
     }
 
     @GetMapping("/{reservationId}")
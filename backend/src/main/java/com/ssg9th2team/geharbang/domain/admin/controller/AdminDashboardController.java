@@ -1,19 +1,28 @@
 package com.ssg9th2team.geharbang.domain.admin.controller;
 
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminDashboardSummaryResponse;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminHourlyTimeseriesResponse;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminIssueCenterResponse;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminTimeseriesResponse;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminWeeklyReportResponse;
+import com.ssg9th2team.geharbang.domain.admin.dto.HostStatsBackfillResponse;
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformStatsBackfillResponse;
+import com.ssg9th2team.geharbang.domain.admin.entity.PlatformDailyStats;
 import com.ssg9th2team.geharbang.domain.admin.service.AdminDashboardService;
+import com.ssg9th2team.geharbang.domain.admin.service.AdminMetricRollupService;
+import com.ssg9th2team.geharbang.domain.admin.service.PlatformDailyStatsService;
 import com.ssg9th2team.geharbang.domain.admin.support.AdminId;
+import com.ssg9th2team.geharbang.domain.dashboard.host.service.HostDailyStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/admin/dashboard")
@@ -21,6 +30,9 @@ import java.time.LocalDate;
 public class AdminDashboardController {
 
     private final AdminDashboardService dashboardService;
+    private final PlatformDailyStatsService platformDailyStatsService;
+    private final AdminMetricRollupService metricRollupService;
+    private final HostDailyStatsService hostDailyStatsService;
 
     @GetMapping("/summary")
     public AdminDashboardSummaryResponse getDashboardSummary(
@@ -41,6 +53,16 @@ public class AdminDashboardController {
         return dashboardService.getTimeseries(metric, from, to);
     }
 
+    @GetMapping("/timeseries/hourly")
+    public AdminHourlyTimeseriesResponse getDashboardHourlyTimeseries(
+            @AdminId Long adminId,
+            @RequestParam String metric,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return dashboardService.getHourlyTimeseries(metric, from, to);
+    }
+
     @GetMapping("/issues")
     public AdminIssueCenterResponse getIssueCenter(
             @AdminId Long adminId,
@@ -59,4 +81,34 @@ public class AdminDashboardController {
     ) {
         return dashboardService.getWeeklyReport(days, from, to);
     }
+
+    @PostMapping("/stats/backfill")
+    public PlatformStatsBackfillResponse backfillDailyStats(
+            @AdminId Long adminId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        List<PlatformDailyStats> stats = platformDailyStatsService.refreshDailyStats(from, to);
+        return new PlatformStatsBackfillResponse(from, to, stats.size());
+    }
+
+    @PostMapping("/rollup/rebuild")
+    public PlatformStatsBackfillResponse rebuildMetricRollup(
+            @AdminId Long adminId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        int days = metricRollupService.rebuild(from, to);
+        return new PlatformStatsBackfillResponse(from, to, days);
+    }
+
+    @PostMapping("/stats/host-backfill")
+    public HostStatsBackfillResponse backfillHostDailyStats(
+            @AdminId Long adminId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        int hosts = hostDailyStatsService.backfill(from, to);
+        return new HostStatsBackfillResponse(from, to, hosts);
+    }
 }
@@ -0,0 +1,21 @@
+package com.ssg9th2team.geharbang.domain.admin.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 숙소 목록 조회용 컬럼 (엔티티를 만들지 않고 목록에 필요한 컬럼만 조회)
+ */
+public record AdminAccommodationRow(
+        Long accommodationsId,
+        Long hostUserId,
+        String name,
+        String category,
+        String city,
+        String district,
+        String approvalStatus,
+        String rejectionReason,
+        LocalDateTime createdAt,
+        Double rating,
+        Integer reviewCount
+) {
+}
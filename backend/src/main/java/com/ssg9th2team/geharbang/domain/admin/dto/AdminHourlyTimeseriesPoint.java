@@ -0,0 +1,9 @@
+package com.ssg9th2team.geharbang.domain.admin.dto;
+
+import java.time.LocalDateTime;
+
+public record AdminHourlyTimeseriesPoint(
+        LocalDateTime bucketStart,
+        Long value
+) {
+}
@@ -0,0 +1,9 @@
+package com.ssg9th2team.geharbang.domain.admin.dto;
+
+import java.util.List;
+
+public record AdminHourlyTimeseriesResponse(
+        String metric,
+        List<AdminHourlyTimeseriesPoint> points
+) {
+}
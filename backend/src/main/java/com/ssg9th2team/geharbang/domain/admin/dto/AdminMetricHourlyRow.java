@@ -0,0 +1,15 @@
+package com.ssg9th2team.geharbang.domain.admin.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 원천 테이블을 일자/시간별로 GROUP BY 한 결과 (의미는 AdminMetricRollupMapper 의 쿼리별 설명 참고)
+ */
+public record AdminMetricHourlyRow(
+        LocalDate statDate,
+        Integer statHour,
+        Long count,
+        Long secondaryCount,
+        Long amount
+) {
+}
@@ -0,0 +1,20 @@
+package com.ssg9th2team.geharbang.domain.admin.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * admin_metric_rollup 한 버킷 (granularity: HOUR, DAY)
+ */
+public record AdminMetricRollupRow(
+        String granularity,
+        LocalDateTime bucketStart,
+        Long reservationCount,
+        Long reservationCancelCount,
+        Long paymentSuccessCount,
+        Long paymentSuccessAmount,
+        Long paymentFailureCount,
+        Long refundRequestCount,
+        Long refundCompletedCount,
+        Long refundCompletedAmount
+) {
+}
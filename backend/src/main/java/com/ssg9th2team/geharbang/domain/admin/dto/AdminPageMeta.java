@@ -4,6 +4,7 @@ public record AdminPageMeta(
         int number,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        String nextCursor
 ) {
 }
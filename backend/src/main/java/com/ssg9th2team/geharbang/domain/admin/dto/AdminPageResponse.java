@@ -7,6 +7,14 @@ public record AdminPageResponse<T>(
         AdminPageMeta page
 ) {
     public static <T> AdminPageResponse<T> of(List<T> items, int page, int size, long totalElements, int totalPages) {
-        return new AdminPageResponse<>(items, new AdminPageMeta(page, size, totalElements, totalPages));
+        return of(items, page, size, totalElements, totalPages, null);
+    }
+
+    /**
+     * nextCursor: 다음 페이지 keyset 커서 (마지막 페이지면 null)
+     */
+    public static <T> AdminPageResponse<T> of(List<T> items, int page, int size, long totalElements, int totalPages,
+                                              String nextCursor) {
+        return new AdminPageResponse<>(items, new AdminPageMeta(page, size, totalElements, totalPages, nextCursor));
     }
 }
@@ -0,0 +1,9 @@
+package com.ssg9th2team.geharbang.domain.admin.dto;
+
+import java.time.LocalDate;
+
+public record PlatformDailyCountRow(
+        LocalDate statDate,
+        Long count
+) {
+}
@@ -0,0 +1,13 @@
+package com.ssg9th2team.geharbang.domain.admin.dto;
+
+import java.time.LocalDate;
+
+public record PlatformDailyReservationRow(
+        LocalDate statDate,
+        Long totalReservations,
+        Long reservationsSuccess,
+        Long reservationsFailed,
+        Long cancelCount,
+        Long activeGuests
+) {
+}
@@ -0,0 +1,10 @@
+package com.ssg9th2team.geharbang.domain.admin.dto;
+
+import java.time.LocalDate;
+
+public record PlatformStatsBackfillResponse(
+        LocalDate from,
+        LocalDate to,
+        int days
+) {
+}
@@ -6,8 +6,11 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PlatformDailyStatsRepository extends JpaRepository<PlatformDailyStats, LocalDate> {
     List<PlatformDailyStats> findByStatDateBetweenOrderByStatDateAsc(LocalDate from, LocalDate to);
+
+    Optional<PlatformDailyStats> findTopByOrderByStatDateDesc();
 }
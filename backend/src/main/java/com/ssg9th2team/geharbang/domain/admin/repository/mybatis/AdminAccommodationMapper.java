@@ -1,16 +1,40 @@
 package com.ssg9th2team.geharbang.domain.admin.repository.mybatis;
 
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminAccommodationMetrics;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminAccommodationRow;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface AdminAccommodationMapper {
     List<AdminAccommodationMetrics> selectAccommodationMetrics(@Param("ids") List<Long> ids);
 
+    /**
+     * 관리자 숙소 목록 (필터/정렬/페이징을 DB 에서 처리)
+     * - approvalStatus: PENDING/APPROVED/REJECTED (null 이면 전체)
+     * - keyword: 숙소명/시/구 부분 일치
+     * - oldest: true 면 생성일 오름차순, false 면 내림차순 (동률은 accommodations_id)
+     * - cursorAt/cursorId: keyset 커서 (있으면 offset 은 0 으로 호출)
+     */
+    List<AdminAccommodationRow> selectAccommodationRows(
+            @Param("approvalStatus") String approvalStatus,
+            @Param("keyword") String keyword,
+            @Param("oldest") boolean oldest,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            @Param("offset") int offset,
+            @Param("limit") int limit
+    );
+
+    long countAccommodations(
+            @Param("approvalStatus") String approvalStatus,
+            @Param("keyword") String keyword
+    );
+
     @Select("""
         SELECT am.amenity_name
         FROM accommodation_amenity aa
@@ -0,0 +1,36 @@
+package com.ssg9th2team.geharbang.domain.admin.repository.mybatis;
+
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminBookingSummary;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 예약 목록 (필터/정렬/페이징을 DB 에서 처리하고 목록 컬럼만 조회)
+ * - status: reservation_status (null 이면 전체)
+ * - from/to: 체크인 기간 [from, to) (null 이면 제한 없음)
+ * - sortByCheckin: true 면 체크인 오름차순, false 면 생성일 내림차순 (동률은 reservation_id)
+ * - cursorAt/cursorId: keyset 커서 (있으면 offset 은 0 으로 호출)
+ */
+@Mapper
+public interface AdminBookingMapper {
+
+    List<AdminBookingSummary> selectBookingSummaries(
+            @Param("status") Integer status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("sortByCheckin") boolean sortByCheckin,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            @Param("offset") int offset,
+            @Param("limit") int limit
+    );
+
+    long countBookings(
+            @Param("status") Integer status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+}
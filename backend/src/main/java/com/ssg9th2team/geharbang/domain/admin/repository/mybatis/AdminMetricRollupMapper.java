@@ -0,0 +1,46 @@
+package com.ssg9th2team.geharbang.domain.admin.repository.mybatis;
+
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminMetricHourlyRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminMetricRollupRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 대시보드 지표 롤업 (admin_metric_rollup)
+ * - select*Hourly: 원천 테이블의 기간 [from, to) 를 일자/시간별로 GROUP BY 해서 한 번에 조회한다.
+ * - selectRollups/upsertRollups: 롤업 버킷 조회/저장
+ */
+@Mapper
+public interface AdminMetricRollupMapper {
+
+    /** count: 결제 완료 건수, secondaryCount: 결제 실패 건수, amount: 결제 완료 금액 합 (created_at 기준) */
+    List<AdminMetricHourlyRow> selectPaymentHourly(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /** count: 환불 요청 건수, secondaryCount: 환불 완료 건수, amount: 환불 완료 금액 합 (requested_at 기준) */
+    List<AdminMetricHourlyRow> selectRefundHourly(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /** count: 생성된 예약 건수, secondaryCount: 그중 취소된 건수 (created_at 기준) */
+    List<AdminMetricHourlyRow> selectReservationHourly(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    List<AdminMetricRollupRow> selectRollups(
+            @Param("granularity") String granularity,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    long countRollups(@Param("granularity") String granularity);
+
+    int upsertRollups(@Param("rows") List<AdminMetricRollupRow> rows);
+}
@@ -0,0 +1,52 @@
+package com.ssg9th2team.geharbang.domain.admin.repository.mybatis;
+
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyAmountRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyCountRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyReservationRow;
+import com.ssg9th2team.geharbang.domain.admin.entity.PlatformDailyStats;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 플랫폼 일별 통계 집계 - 기간 [from, to) 를 일자별로 GROUP BY 해서 한 번에 조회한다.
+ */
+@Mapper
+public interface PlatformDailyStatsMapper {
+
+    List<PlatformDailyCountRow> selectDailyNewHosts(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    List<PlatformDailyCountRow> selectDailyNewAccommodations(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    List<PlatformDailyReservationRow> selectDailyReservations(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    List<PlatformDailyCountRow> selectDailyActiveHosts(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /** count: 결제 완료 건수, amount: 결제 완료 금액 합 */
+    List<PlatformDailyAmountRow> selectDailyPayments(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /** count: 환불 요청/완료 건수, amount: 환불 완료 금액 합 */
+    List<PlatformDailyAmountRow> selectDailyRefunds(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    int upsertDailyStats(@Param("stats") List<PlatformDailyStats> stats);
+}
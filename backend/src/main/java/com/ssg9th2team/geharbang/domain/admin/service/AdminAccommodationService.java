@@ -11,13 +11,18 @@ import com.ssg9th2team.geharbang.domain.auth.entity.UserRole;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminAccommodationMapper;
 import com.ssg9th2team.geharbang.domain.admin.log.AdminLogConstants;
+import com.ssg9th2team.geharbang.domain.admin.support.AdminKeysetCursor;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.mybatis.AccommodationMapper;
+import com.ssg9th2team.geharbang.domain.main.service.PublicListingSnapshot;
 import com.ssg9th2team.geharbang.domain.room.dto.RoomResponseListDto;
 import com.ssg9th2team.geharbang.domain.room.entity.Room;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomJpaRepository;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomStats;
+import com.ssg9th2team.geharbang.domain.search.service.GeoGridIndex;
+import com.ssg9th2team.geharbang.domain.search.service.KeywordSearchIndex;
+import com.ssg9th2team.geharbang.domain.search.service.SearchAutocompleteIndex;
+import com.ssg9th2team.geharbang.global.security.UserAuthStateCache;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -39,34 +44,59 @@ public class AdminAccommodationService {
     private final AccommodationMapper accommodationMapper;
     private final RoomJpaRepository roomRepository;
     private final AdminLogService adminLogService;
+    private final KeywordSearchIndex keywordSearchIndex;
+    private final GeoGridIndex geoGridIndex;
+    private final PublicListingSnapshot publicListingSnapshot;
+    private final SearchAutocompleteIndex searchAutocompleteIndex;
+    private final UserAuthStateCache userAuthStateCache;
 
+    /**
+     * 숙소 목록. 필터/정렬/페이징은 DB 에서 처리하고 목록 컬럼만 조회한 뒤, 페이지 숙소의 예약 지표를 한 번에 붙인다.
+     * cursor 가 있으면 page 대신 keyset 으로 다음 페이지를 읽는다. (응답의 nextCursor 를 그대로 전달)
+     */
     public AdminPageResponse<AdminAccommodationSummary> getAccommodations(
             String status,
             String keyword,
             int page,
             int size,
-            String sort
+            String sort,
+            String cursor
     ) {
-        Sort sorting = "oldest".equalsIgnoreCase(sort)
-                ? Sort.by(Sort.Direction.ASC, "createdAt")
-                : Sort.by(Sort.Direction.DESC, "createdAt");
+        int safePage = Math.max(0, page);
+        int safeSize = size > 0 ? Math.min(size, 50) : 20;
+        boolean oldest = "oldest".equalsIgnoreCase(sort);
+        ApprovalStatus approvalStatus = parseStatus(status);
+        String statusName = approvalStatus != null ? approvalStatus.name() : null;
+        String normalizedKeyword = StringUtils.hasText(keyword) ? keyword.trim() : null;
+        AdminKeysetCursor keyset = AdminKeysetCursor.decode(cursor);
 
-        List<Accommodation> filtered = accommodationRepository.findAll(sorting).stream()
-                .filter(accommodation -> matchesStatus(accommodation, status))
-                .filter(accommodation -> matchesKeyword(accommodation, keyword))
-                .toList();
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<AdminAccommodationRow> rows = adminAccommodationMapper.selectAccommodationRows(
+                statusName,
+                normalizedKeyword,
+                oldest,
+                keyset != null ? keyset.sortValue() : null,
+                keyset != null ? keyset.id() : null,
+                keyset != null ? 0 : safePage * safeSize,
+                safeSize + 1
+        );
+        boolean hasNext = rows.size() > safeSize;
+        List<AdminAccommodationRow> pageRows = hasNext ? rows.subList(0, safeSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            AdminAccommodationRow last = pageRows.get(pageRows.size() - 1);
+            AdminKeysetCursor next = AdminKeysetCursor.of(last.createdAt(), last.accommodationsId());
+            nextCursor = next != null ? next.encode() : null;
+        }
 
-        int totalElements = filtered.size();
-        int totalPages = size > 0 ? (int) Math.ceil(totalElements / (double) size) : 1;
-        int fromIndex = Math.min(page * size, totalElements);
-        int toIndex = Math.min(fromIndex + size, totalElements);
-        List<Accommodation> pageItems = filtered.subList(fromIndex, toIndex);
-        Map<Long, AdminAccommodationMetrics> metricsMap = loadMetrics(pageItems);
-        List<AdminAccommodationSummary> items = pageItems.stream()
-                .map(item -> toSummary(item, metricsMap.get(item.getAccommodationsId())))
+        Map<Long, AdminAccommodationMetrics> metricsMap = loadMetrics(pageRows);
+        List<AdminAccommodationSummary> items = pageRows.stream()
+                .map(row -> toSummary(row, metricsMap.get(row.accommodationsId())))
                 .toList();
 
-        return AdminPageResponse.of(items, page, size, totalElements, totalPages);
+        long totalElements = adminAccommodationMapper.countAccommodations(statusName, normalizedKeyword);
+        int totalPages = (int) Math.ceil(totalElements / (double) safeSize);
+        return AdminPageResponse.of(items, safePage, safeSize, totalElements, totalPages, nextCursor);
     }
 
     public AdminAccommodationDetailResponse getAccommodationDetail(Long accommodationId) {
@@ -111,6 +141,10 @@ public class AdminAccommodationService {
         accommodation.updateApprovalStatus(ApprovalStatus.APPROVED, null);
         promoteUserToHost(accommodation.getUserId());
         Accommodation saved = accommodationRepository.save(accommodation);
+        keywordSearchIndex.refreshAccommodation(accommodationId);
+        geoGridIndex.refreshAccommodation(accommodationId);
+        publicListingSnapshot.refreshAccommodation(accommodationId);
+        searchAutocompleteIndex.refresh();
         java.util.Map<String, Object> metadata = new java.util.LinkedHashMap<>();
         metadata.put("before", java.util.Map.of("approvalStatus", beforeStatus));
         metadata.put("after", java.util.Map.of("approvalStatus", ApprovalStatus.APPROVED.name()));
@@ -132,6 +166,10 @@ public class AdminAccommodationService {
         String beforeStatus = accommodation.getApprovalStatus() != null ? accommodation.getApprovalStatus().name() : null;
         accommodation.reject(reason);
         Accommodation saved = accommodationRepository.save(accommodation);
+        keywordSearchIndex.refreshAccommodation(accommodationId);
+        geoGridIndex.refreshAccommodation(accommodationId);
+        publicListingSnapshot.refreshAccommodation(accommodationId);
+        searchAutocompleteIndex.refresh();
         java.util.Map<String, Object> metadata = new java.util.LinkedHashMap<>();
         metadata.put("before", java.util.Map.of("approvalStatus", beforeStatus));
         metadata.put("after", java.util.Map.of("approvalStatus", ApprovalStatus.REJECTED.name()));
@@ -162,38 +200,20 @@ public class AdminAccommodationService {
         };
     }
 
-    private boolean matchesStatus(Accommodation accommodation, String status) {
-        ApprovalStatus approvalStatus = parseStatus(status);
-        return approvalStatus == null || approvalStatus == accommodation.getApprovalStatus();
-    }
-
-    private boolean matchesKeyword(Accommodation accommodation, String keyword) {
-        if (!StringUtils.hasText(keyword)) {
-            return true;
-        }
-        String normalized = keyword.toLowerCase();
-        String name = accommodation.getAccommodationsName() != null
-                ? accommodation.getAccommodationsName().toLowerCase()
-                : "";
-        String city = accommodation.getCity() != null ? accommodation.getCity().toLowerCase() : "";
-        String district = accommodation.getDistrict() != null ? accommodation.getDistrict().toLowerCase() : "";
-        return name.contains(normalized) || city.contains(normalized) || district.contains(normalized);
-    }
-
-    private AdminAccommodationSummary toSummary(Accommodation accommodation, AdminAccommodationMetrics metrics) {
+    private AdminAccommodationSummary toSummary(AdminAccommodationRow row, AdminAccommodationMetrics metrics) {
         MetricsSnapshot snapshot = MetricsSnapshot.from(metrics);
         return new AdminAccommodationSummary(
-                accommodation.getAccommodationsId(),
-                accommodation.getUserId(),
-                accommodation.getAccommodationsName(),
-                accommodation.getAccommodationsCategory() != null ? accommodation.getAccommodationsCategory().name() : null,
-                accommodation.getCity(),
-                accommodation.getDistrict(),
-                accommodation.getApprovalStatus() != null ? accommodation.getApprovalStatus().name() : null,
-                accommodation.getRejectionReason(),
-                accommodation.getCreatedAt(),
-                accommodation.getRating(),
-                accommodation.getReviewCount(),
+                row.accommodationsId(),
+                row.hostUserId(),
+                row.name(),
+                row.category(),
+                row.city(),
+                row.district(),
+                row.approvalStatus(),
+                row.rejectionReason(),
+                row.createdAt(),
+                row.rating(),
+                row.reviewCount(),
                 null,
                 null,
                 null,
@@ -204,9 +224,9 @@ public class AdminAccommodationService {
         );
     }
 
-    private Map<Long, AdminAccommodationMetrics> loadMetrics(List<Accommodation> accommodations) {
-        List<Long> ids = accommodations.stream()
-                .map(Accommodation::getAccommodationsId)
+    private Map<Long, AdminAccommodationMetrics> loadMetrics(List<AdminAccommodationRow> rows) {
+        List<Long> ids = rows.stream()
+                .map(AdminAccommodationRow::accommodationsId)
                 .filter(id -> id != null)
                 .toList();
         if (ids.isEmpty()) {
@@ -247,5 +267,6 @@ public class AdminAccommodationService {
         }
         user.updateHostApproved(true);
         userRepository.save(user);
+        userAuthStateCache.evict(userId);
     }
 }
@@ -4,7 +4,10 @@ import com.ssg9th2team.geharbang.domain.admin.dto.AdminBookingDetail;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminBookingSummary;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminPageResponse;
 import com.ssg9th2team.geharbang.domain.admin.log.AdminLogConstants;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminBookingMapper;
+import com.ssg9th2team.geharbang.domain.admin.support.AdminKeysetCursor;
 import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.AccommodationJpaRepository;
 import com.ssg9th2team.geharbang.domain.auth.entity.User;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
@@ -15,7 +18,6 @@ import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentRefundJpaR
 import com.ssg9th2team.geharbang.domain.payment.service.PaymentService;
 import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -32,6 +34,7 @@ import java.util.Map;
 public class AdminBookingService {
 
     private final ReservationJpaRepository reservationRepository;
+    private final AdminBookingMapper adminBookingMapper;
     private final AccommodationJpaRepository accommodationRepository;
     private final UserRepository userRepository;
     private final PaymentJpaRepository paymentRepository;
@@ -39,28 +42,51 @@ public class AdminBookingService {
     private final AdminLogService adminLogService;
     private final PaymentService paymentService;
 
+    /**
+     * 예약 목록. 필터/정렬/페이징은 DB 에서 처리하고 목록 컬럼만 조회한다.
+     * cursor 가 있으면 page 대신 keyset 으로 다음 페이지를 읽는다. (응답의 nextCursor 를 그대로 전달)
+     */
     public AdminPageResponse<AdminBookingSummary> getBookings(
             String status,
             LocalDate from,
             LocalDate to,
             String sort,
             int page,
-            int size
+            int size,
+            String cursor
     ) {
-        Sort sorting = resolveSort(sort);
-        List<Reservation> filtered = reservationRepository.findAll(sorting).stream()
-                .filter(reservation -> matchesStatus(reservation, status))
-                .filter(reservation -> matchesDateRange(reservation, from, to))
-                .toList();
-
-        int totalElements = filtered.size();
-        int totalPages = size > 0 ? (int) Math.ceil(totalElements / (double) size) : 1;
-        int fromIndex = Math.min(page * size, totalElements);
-        int toIndex = Math.min(fromIndex + size, totalElements);
-        List<AdminBookingSummary> items = filtered.subList(fromIndex, toIndex).stream()
-                .map(this::toSummary)
-                .toList();
-        return AdminPageResponse.of(items, page, size, totalElements, totalPages);
+        int safePage = Math.max(0, page);
+        int safeSize = size > 0 ? Math.min(size, 50) : 20;
+        boolean sortByCheckin = StringUtils.hasText(sort) && sort.equalsIgnoreCase("checkin");
+        Integer statusCode = parseStatus(status);
+        LocalDateTime fromAt = from != null ? from.atStartOfDay() : null;
+        LocalDateTime toAt = to != null ? to.plusDays(1).atStartOfDay() : null;
+        AdminKeysetCursor keyset = AdminKeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<AdminBookingSummary> rows = adminBookingMapper.selectBookingSummaries(
+                statusCode,
+                fromAt,
+                toAt,
+                sortByCheckin,
+                keyset != null ? keyset.sortValue() : null,
+                keyset != null ? keyset.id() : null,
+                keyset != null ? 0 : safePage * safeSize,
+                safeSize + 1
+        );
+        boolean hasNext = rows.size() > safeSize;
+        List<AdminBookingSummary> items = hasNext ? rows.subList(0, safeSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            AdminBookingSummary last = items.get(items.size() - 1);
+            AdminKeysetCursor next = AdminKeysetCursor.of(
+                    sortByCheckin ? last.checkin() : last.createdAt(), last.reservationId());
+            nextCursor = next != null ? next.encode() : null;
+        }
+
+        long totalElements = adminBookingMapper.countBookings(statusCode, fromAt, toAt);
+        int totalPages = (int) Math.ceil(totalElements / (double) safeSize);
+        return AdminPageResponse.of(List.copyOf(items), safePage, safeSize, totalElements, totalPages, nextCursor);
     }
 
     public AdminBookingDetail getBookingDetail(Long reservationId) {
@@ -89,13 +115,6 @@ public class AdminBookingService {
         );
     }
 
-    private Sort resolveSort(String sort) {
-        if (StringUtils.hasText(sort) && sort.equalsIgnoreCase("checkin")) {
-            return Sort.by(Sort.Direction.ASC, "checkin");
-        }
-        return Sort.by(Sort.Direction.DESC, "createdAt");
-    }
-
     private Integer parseStatus(String status) {
         if (!StringUtils.hasText(status) || "all".equalsIgnoreCase(status)) {
             return null;
@@ -110,51 +129,12 @@ public class AdminBookingService {
         };
     }
 
-    private boolean matchesStatus(Reservation reservation, String status) {
-        Integer statusCode = parseStatus(status);
-        return statusCode == null || statusCode.equals(reservation.getReservationStatus());
-    }
-
-    private boolean matchesDateRange(Reservation reservation, LocalDate from, LocalDate to) {
-        LocalDateTime checkin = reservation.getCheckin();
-        if (checkin == null) {
-            return false;
-        }
-        if (from != null && checkin.isBefore(from.atStartOfDay())) {
-            return false;
-        }
-        if (to != null && !checkin.isBefore(to.plusDays(1).atStartOfDay())) {
-            return false;
-        }
-        return true;
-    }
-
-    private AdminBookingSummary toSummary(Reservation reservation) {
-        return new AdminBookingSummary(
-                reservation.getId(),
-                reservation.getAccommodationsId(),
-                reservation.getUserId(),
-                reservation.getCheckin(),
-                reservation.getCheckout(),
-                reservation.getGuestCount(),
-                reservation.getReservationStatus(),
-                reservation.getPaymentStatus(),
-                reservation.getFinalPaymentAmount(),
-                reservation.getCreatedAt()
-        );
-    }
-
     private AdminBookingDetail toDetail(Reservation reservation) {
-        String accommodationName = reservation.getAccommodationsId() != null
-                ? accommodationRepository.findById(reservation.getAccommodationsId())
-                .map(acc -> acc.getAccommodationsName())
-                .orElse(null)
-                : null;
-        Long hostUserId = reservation.getAccommodationsId() != null
-                ? accommodationRepository.findById(reservation.getAccommodationsId())
-                .map(acc -> acc.getUserId())
-                .orElse(null)
+        Accommodation accommodation = reservation.getAccommodationsId() != null
+                ? accommodationRepository.findById(reservation.getAccommodationsId()).orElse(null)
                 : null;
+        String accommodationName = accommodation != null ? accommodation.getAccommodationsName() : null;
+        Long hostUserId = accommodation != null ? accommodation.getUserId() : null;
 
         User guest = reservation.getUserId() != null
                 ? userRepository.findById(reservation.getUserId()).orElse(null)
@@ -5,7 +5,10 @@ import com.ssg9th2team.geharbang.domain.accommodation.entity.ApprovalStatus;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.AccommodationJpaRepository;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminAccommodationSummary;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminDashboardSummaryResponse;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminHourlyTimeseriesPoint;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminHourlyTimeseriesResponse;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminIssueCenterResponse;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminMetricRollupRow;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminReportSummary;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminTimeseriesPoint;
 import com.ssg9th2team.geharbang.domain.admin.dto.AdminTimeseriesResponse;
@@ -15,13 +18,8 @@ import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminDashboardM
 import com.ssg9th2team.geharbang.domain.admin.repository.PlatformDailyStatsRepository;
 import com.ssg9th2team.geharbang.domain.auth.entity.User;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
-import com.ssg9th2team.geharbang.domain.payment.entity.Payment;
-import com.ssg9th2team.geharbang.domain.payment.entity.PaymentRefund;
-import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentJpaRepository;
-import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentRefundJpaRepository;
 import com.ssg9th2team.geharbang.domain.report.entity.ReviewReport;
 import com.ssg9th2team.geharbang.domain.report.repository.jpa.ReviewReportJpaRepository;
-import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
@@ -37,7 +35,9 @@ import java.time.temporal.TemporalAdjusters;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -51,16 +51,15 @@ public class AdminDashboardService {
     private final PlatformDailyStatsRepository statsRepository;
     private final AdminDashboardMapper dashboardMapper;
     private final UserRepository userRepository;
-    private final ReservationJpaRepository reservationRepository;
-    private final PaymentJpaRepository paymentRepository;
-    private final PaymentRefundJpaRepository refundRepository;
+    private final AdminMetricRollupService rollupService;
     private final Clock clock;
 
     public AdminDashboardSummaryResponse getDashboardSummary(LocalDate from, LocalDate to) {
         LocalDate nowDate = LocalDate.now(clock);
         LocalDate startDate = from != null ? from : nowDate;
         LocalDate endDate = to != null ? to : nowDate;
-        SummaryMetrics metrics = buildSummaryMetrics(startDate, endDate);
+        List<AdminMetricRollupRow> rollups = rollupService.findDaily(startDate, endDate);
+        SummaryMetrics metrics = buildSummaryMetrics(rollups);
         long reservationCount = metrics.reservationCount;
         long paymentSuccessAmount = metrics.paymentSuccessAmount;
         long paymentFailureCount = metrics.paymentFailureCount;
@@ -78,12 +77,11 @@ public class AdminDashboardService {
         );
 
         LocalDate weekStart = endDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-        LocalDateTime weekStartAt = weekStart.atStartOfDay();
-        LocalDateTime weekEndAt = endDate.plusDays(1).atStartOfDay();
-        long weeklyRefundRequestCount = refundRepository.countByStatusAndRequestedAtBetween(0, weekStartAt, weekEndAt);
-        long weeklyRefundCompletedCount = refundRepository.countByStatusAndRequestedAtBetween(1, weekStartAt, weekEndAt);
-        long weeklyPaymentFailureCount = paymentRepository.countByStatusAndCreatedAtBetween(2, weekStartAt, weekEndAt);
-        long weeklyPaymentSuccessCount = paymentRepository.countByStatusAndCreatedAtBetween(1, weekStartAt, weekEndAt);
+        List<AdminMetricRollupRow> weeklyRollups = rollupService.findDaily(weekStart, endDate);
+        long weeklyRefundRequestCount = sum(weeklyRollups, AdminMetricRollupRow::refundRequestCount);
+        long weeklyRefundCompletedCount = sum(weeklyRollups, AdminMetricRollupRow::refundCompletedCount);
+        long weeklyPaymentFailureCount = sum(weeklyRollups, AdminMetricRollupRow::paymentFailureCount);
+        long weeklyPaymentSuccessCount = sum(weeklyRollups, AdminMetricRollupRow::paymentSuccessCount);
         long weeklyPaymentAttempts = weeklyPaymentFailureCount + weeklyPaymentSuccessCount;
         double weeklyPaymentFailureRate = weeklyPaymentAttempts > 0
                 ? (double) weeklyPaymentFailureCount / weeklyPaymentAttempts * 100
@@ -92,8 +90,8 @@ public class AdminDashboardService {
                 ApprovalStatus.PENDING,
                 endDate.plusDays(1).atStartOfDay().minusDays(7)
         );
-        long platformFeeAmount = buildPlatformFeeSeries(startDate, endDate).stream()
-                .mapToLong(AdminTimeseriesPoint::value)
+        long platformFeeAmount = rollups.stream()
+                .mapToLong(row -> calcPlatformFee(netRevenueOf(row)))
                 .sum();
 
         List<AdminAccommodationSummary> pendingList = dashboardMapper.selectPendingAccommodations(5);
@@ -132,15 +130,20 @@ public class AdminDashboardService {
         LocalDate nowDate = LocalDate.now(clock);
         LocalDate startDate = from != null ? from : nowDate.minusDays(6);
         LocalDate endDate = to != null ? to : nowDate;
-        List<PlatformDailyStats> stats = statsRepository.findByStatDateBetweenOrderByStatDateAsc(startDate, endDate);
 
         List<AdminTimeseriesPoint> points;
-        if ("platform_fee".equalsIgnoreCase(metric)) {
-            points = buildPlatformFeeSeries(startDate, endDate);
-        } else if ("revenue".equalsIgnoreCase(metric)) {
-            points = buildNetRevenueSeries(startDate, endDate);
+        if (isRollupMetric(metric)) {
+            Map<LocalDate, AdminMetricRollupRow> rollupMap = rollupService.findDaily(startDate, endDate).stream()
+                    .collect(Collectors.toMap(row -> row.bucketStart().toLocalDate(), Function.identity()));
+            points = startDate.datesUntil(endDate.plusDays(1))
+                    .map(date -> {
+                        AdminMetricRollupRow row = rollupMap.get(date);
+                        long value = row != null ? resolveRollupValue(metric, row) : 0L;
+                        return new AdminTimeseriesPoint(date, value);
+                    })
+                    .toList();
         } else {
-            points = stats.stream()
+            points = statsRepository.findByStatDateBetweenOrderByStatDateAsc(startDate, endDate).stream()
                     .map(stat -> new AdminTimeseriesPoint(stat.getStatDate(), resolveMetricValue(metric, stat)))
                     .toList();
         }
@@ -148,18 +151,37 @@ public class AdminDashboardService {
         return new AdminTimeseriesResponse(metric, points);
     }
 
+    /**
+     * 시간 단위 시계열 (결제/환불/예약 롤업 지표만 지원)
+     */
+    public AdminHourlyTimeseriesResponse getHourlyTimeseries(String metric, LocalDate from, LocalDate to) {
+        LocalDate nowDate = LocalDate.now(clock);
+        LocalDate startDate = from != null ? from : nowDate;
+        LocalDate endDate = to != null ? to : startDate;
+
+        Map<LocalDateTime, AdminMetricRollupRow> rollupMap = rollupService.findHourly(startDate, endDate).stream()
+                .collect(Collectors.toMap(AdminMetricRollupRow::bucketStart, Function.identity()));
+        List<AdminHourlyTimeseriesPoint> points = startDate.datesUntil(endDate.plusDays(1))
+                .flatMap(date -> IntStream.range(0, 24).mapToObj(hour -> date.atTime(hour, 0)))
+                .map(bucketStart -> {
+                    AdminMetricRollupRow row = rollupMap.get(bucketStart);
+                    long value = row != null ? resolveRollupValue(metric, row) : 0L;
+                    return new AdminHourlyTimeseriesPoint(bucketStart, value);
+                })
+                .toList();
+
+        return new AdminHourlyTimeseriesResponse(metric, points);
+    }
+
     public AdminIssueCenterResponse getIssueCenter(LocalDate from, LocalDate to) {
         LocalDate nowDate = LocalDate.now(clock);
         LocalDate startDate = from != null ? from : nowDate;
         LocalDate endDate = to != null ? to : nowDate;
-        List<PlatformDailyStats> stats = statsRepository.findByStatDateBetweenOrderByStatDateAsc(startDate, endDate);
+        List<AdminMetricRollupRow> rollups = rollupService.findDaily(startDate, endDate);
 
-        long paymentFailureCount = stats.stream()
-                .mapToLong(PlatformDailyStats::getReservationsFailed)
-                .sum();
-        long refundCount = stats.stream()
-                .mapToLong(PlatformDailyStats::getRefundCount)
-                .sum();
+        long paymentFailureCount = sum(rollups, AdminMetricRollupRow::paymentFailureCount);
+        long refundCount = sum(rollups, AdminMetricRollupRow::refundRequestCount)
+                + sum(rollups, AdminMetricRollupRow::refundCompletedCount);
 
         long pendingAccommodations = accommodationRepository.count(approvalEquals(ApprovalStatus.PENDING));
         long openReports = reportRepository.count(reportStateEquals("WAIT"));
@@ -190,21 +212,13 @@ public class AdminDashboardService {
         List<PlatformDailyStats> stats = statsRepository.findByStatDateBetweenOrderByStatDateAsc(startDate, endDate);
         boolean statsReady = !stats.isEmpty();
 
-        long reservationCount = stats.stream()
-                .mapToLong(PlatformDailyStats::getTotalReservations)
-                .sum();
-        long paymentSuccessCount = stats.stream()
-                .mapToLong(PlatformDailyStats::getReservationsSuccess)
-                .sum();
-        long cancelCount = stats.stream()
-                .mapToLong(PlatformDailyStats::getCancelCount)
-                .sum();
-        long refundCount = stats.stream()
-                .mapToLong(PlatformDailyStats::getRefundCount)
-                .sum();
-        long refundAmount = stats.stream()
-                .mapToLong(PlatformDailyStats::getRefundAmount)
-                .sum();
+        List<AdminMetricRollupRow> rollups = rollupService.findDaily(startDate, endDate);
+        long reservationCount = sum(rollups, AdminMetricRollupRow::reservationCount);
+        long paymentSuccessCount = sum(rollups, AdminMetricRollupRow::paymentSuccessCount);
+        long cancelCount = sum(rollups, AdminMetricRollupRow::reservationCancelCount);
+        long refundCount = sum(rollups, AdminMetricRollupRow::refundRequestCount)
+                + sum(rollups, AdminMetricRollupRow::refundCompletedCount);
+        long refundAmount = sum(rollups, AdminMetricRollupRow::refundCompletedAmount);
         long newHosts = stats.stream()
                 .mapToLong(PlatformDailyStats::getNewHosts)
                 .sum();
@@ -218,16 +232,12 @@ public class AdminDashboardService {
         LocalDateTime endAt = endDate.plusDays(1).atStartOfDay().minusNanos(1);
         long newUsers = userRepository.count(createdBetween(startAt, endAt));
 
-        Map<LocalDate, PlatformDailyStats> statMap = new HashMap<>();
-        for (PlatformDailyStats stat : stats) {
-            statMap.put(stat.getStatDate(), stat);
+        Map<LocalDate, Long> revenueByDate = new HashMap<>();
+        for (AdminMetricRollupRow row : rollups) {
+            revenueByDate.put(row.bucketStart().toLocalDate(), valueOf(row.paymentSuccessAmount()));
         }
         List<AdminTimeseriesPoint> revenueSeries = startDate.datesUntil(endDate.plusDays(1))
-                .map(date -> {
-                    PlatformDailyStats stat = statMap.get(date);
-                    long value = stat != null ? stat.getTotalRevenue() : 0L;
-                    return new AdminTimeseriesPoint(date, value);
-                })
+                .map(date -> new AdminTimeseriesPoint(date, revenueByDate.getOrDefault(date, 0L)))
                 .toList();
 
         return new AdminWeeklyReportResponse(
@@ -267,35 +277,23 @@ public class AdminDashboardService {
     }
 
     /*
-     * KPI definitions (Admin dashboard / payments management)
+     * KPI definitions (Admin dashboard / payments management) - admin_metric_rollup 일 버킷 합계
      * - Gross: Payment.paymentStatus=1 AND createdAt in [from, to) SUM(approvedAmount)
      * - Refund completed: PaymentRefund.refundStatus=1 AND requestedAt in [from, to) COUNT/SUM(refundAmount)
      * - Net: Gross - Refund completed amount
-     * - Platform fee: floor(Net * platformFeeRate)
+     * - Platform fee: floor(Net * platformFeeRate), 일 단위로 계산해서 합산
      * - Payment failure: Payment.paymentStatus=2 COUNT
      * - Refund request: PaymentRefund.refundStatus=0 COUNT
      */
-    private SummaryMetrics buildSummaryMetrics(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
-
-        // Perf: ensure indexes on payment.createdAt and payment_refund.requestedAt for range scans.
-        long reservationCount = reservationRepository.countByCreatedAtBetween(start, end);
-
-        long paymentSuccessAmount = paymentRepository
-                .sumApprovedAmountByStatusAndCreatedAtBetween(1, start, end);
-        long paymentFailureCount = paymentRepository
-                .countByStatusAndCreatedAtBetween(2, start, end);
-
-        long refundRequestCount = refundRepository
-                .countByStatusAndRequestedAtBetween(0, start, end);
-        long refundCompletedCount = refundRepository
-                .countByStatusAndRequestedAtBetween(1, start, end);
-        long refundCompletedAmount = refundRepository
-                .sumRefundAmountByStatusAndRequestedAtBetween(1, start, end);
+    private SummaryMetrics buildSummaryMetrics(List<AdminMetricRollupRow> rollups) {
+        long reservationCount = sum(rollups, AdminMetricRollupRow::reservationCount);
+        long paymentSuccessAmount = sum(rollups, AdminMetricRollupRow::paymentSuccessAmount);
+        long paymentFailureCount = sum(rollups, AdminMetricRollupRow::paymentFailureCount);
+        long refundRequestCount = sum(rollups, AdminMetricRollupRow::refundRequestCount);
+        long refundCompletedCount = sum(rollups, AdminMetricRollupRow::refundCompletedCount);
+        long refundCompletedAmount = sum(rollups, AdminMetricRollupRow::refundCompletedAmount);
         long netRevenue = paymentSuccessAmount - refundCompletedAmount;
 
-        // Validation check: compare with raw SQL SUM/COUNT for the same date window if needed.
         return new SummaryMetrics(
                 reservationCount,
                 paymentSuccessAmount,
@@ -307,59 +305,37 @@ public class AdminDashboardService {
         );
     }
 
-    private List<AdminTimeseriesPoint> buildNetRevenueSeries(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
-
-        Map<LocalDate, Long> grossByDate = paymentRepository.findByCreatedAtBetween(start, end).stream()
-                .filter(payment -> payment.getPaymentStatus() != null && payment.getPaymentStatus() == 1)
-                .collect(Collectors.groupingBy(
-                        payment -> payment.getCreatedAt().toLocalDate(),
-                        Collectors.summingLong(payment -> payment.getApprovedAmount() != null ? payment.getApprovedAmount() : 0L)
-                ));
-
-        Map<LocalDate, Long> refundByDate = refundRepository.findByRequestedAtBetween(start, end).stream()
-                .filter(refund -> refund.getRefundStatus() != null && refund.getRefundStatus() == 1)
-                .collect(Collectors.groupingBy(
-                        refund -> refund.getRequestedAt().toLocalDate(),
-                        Collectors.summingLong(refund -> refund.getRefundAmount() != null ? refund.getRefundAmount() : 0L)
-                ));
-
-        return startDate.datesUntil(endDate.plusDays(1))
-                .map(date -> {
-                    long gross = grossByDate.getOrDefault(date, 0L);
-                    long refund = refundByDate.getOrDefault(date, 0L);
-                    return new AdminTimeseriesPoint(date, gross - refund);
-                })
-                .toList();
+    private boolean isRollupMetric(String metric) {
+        return "revenue".equalsIgnoreCase(metric)
+                || "platform_fee".equalsIgnoreCase(metric)
+                || "reservations".equalsIgnoreCase(metric);
     }
 
-    private List<AdminTimeseriesPoint> buildPlatformFeeSeries(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
-
-        Map<LocalDate, Long> grossByDate = paymentRepository.findByCreatedAtBetween(start, end).stream()
-                .filter(payment -> payment.getPaymentStatus() != null && payment.getPaymentStatus() == 1)
-                .collect(Collectors.groupingBy(
-                        payment -> payment.getCreatedAt().toLocalDate(),
-                        Collectors.summingLong(payment -> payment.getApprovedAmount() != null ? payment.getApprovedAmount() : 0L)
-                ));
-
-        Map<LocalDate, Long> refundByDate = refundRepository.findByRequestedAtBetween(start, end).stream()
-                .filter(refund -> refund.getRefundStatus() != null && refund.getRefundStatus() == 1)
-                .collect(Collectors.groupingBy(
-                        refund -> refund.getRequestedAt().toLocalDate(),
-                        Collectors.summingLong(refund -> refund.getRefundAmount() != null ? refund.getRefundAmount() : 0L)
-                ));
-
-        return startDate.datesUntil(endDate.plusDays(1))
-                .map(date -> {
-                    long gross = grossByDate.getOrDefault(date, 0L);
-                    long refund = refundByDate.getOrDefault(date, 0L);
-                    long net = gross - refund;
-                    return new AdminTimeseriesPoint(date, calcPlatformFee(net));
-                })
-                .toList();
+    private long resolveRollupValue(String metric, AdminMetricRollupRow row) {
+        if (metric == null) {
+            return netRevenueOf(row);
+        }
+        return switch (metric.toLowerCase()) {
+            case "platform_fee" -> calcPlatformFee(netRevenueOf(row));
+            case "reservations" -> valueOf(row.reservationCount());
+            case "cancellations" -> valueOf(row.reservationCancelCount());
+            case "payments" -> valueOf(row.paymentSuccessCount());
+            case "payment_failures" -> valueOf(row.paymentFailureCount());
+            case "refunds" -> valueOf(row.refundRequestCount()) + valueOf(row.refundCompletedCount());
+            default -> netRevenueOf(row);
+        };
+    }
+
+    private long netRevenueOf(AdminMetricRollupRow row) {
+        return valueOf(row.paymentSuccessAmount()) - valueOf(row.refundCompletedAmount());
+    }
+
+    private long sum(List<AdminMetricRollupRow> rows, Function<AdminMetricRollupRow, Long> metric) {
+        return rows.stream().mapToLong(row -> valueOf(metric.apply(row))).sum();
+    }
+
+    private long valueOf(Long value) {
+        return value != null ? value : 0L;
     }
 
     private long calcPlatformFee(long netRevenue) {
@@ -0,0 +1,238 @@
+package com.ssg9th2team.geharbang.domain.admin.service;
+
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminMetricHourlyRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminMetricRollupRow;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminMetricRollupMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관리자 대시보드 지표 롤업 (admin_metric_rollup)
+ *
+ * <p>결제/환불/예약 지표를 시간(HOUR)/일(DAY) 버킷으로 저장해 두고 대시보드는 롤업만 읽는다.
+ * <ul>
+ *   <li>결제·환불·예약 변경 시 {@link #markDirty(LocalDateTime)} 로 해당 날짜를 표시 (커밋 이후)</li>
+ *   <li>표시된 날짜는 주기적으로 모아서 원천 테이블 GROUP BY 쿼리로 다시 계산 (하루 단위 upsert)</li>
+ *   <li>벌크 삭제 등 이벤트를 거치지 않는 변경은 오늘/어제를 주기적으로 재계산해서 맞춘다.</li>
+ *   <li>롤업이 비어 있으면 기동 시 최근 bootstrap-days 만큼 채운다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminMetricRollupService {
+
+    public static final String HOUR = "HOUR";
+    public static final String DAY = "DAY";
+
+    private static final int UPSERT_CHUNK_SIZE = 200;
+
+    private final AdminMetricRollupMapper rollupMapper;
+    private final Clock clock;
+
+    private final Set<LocalDate> dirtyDates = ConcurrentHashMap.newKeySet();
+
+    @Value("${admin.rollup.rebuild-max-days:366}")
+    private int rebuildMaxDays;
+
+    @Value("${admin.rollup.bootstrap-days:90}")
+    private int bootstrapDays;
+
+    /**
+     * occurredAt 이 속한 날짜의 롤업을 다시 계산하도록 표시한다. (null 이면 오늘)
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에만 표시한다.
+     */
+    public void markDirty(LocalDateTime occurredAt) {
+        LocalDate date = occurredAt != null ? occurredAt.toLocalDate() : LocalDate.now(clock);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyDates.add(date);
+                }
+            });
+            return;
+        }
+        dirtyDates.add(date);
+    }
+
+    @Scheduled(fixedDelayString = "${admin.rollup.flush-delay-ms:60000}")
+    public void flushDirty() {
+        if (dirtyDates.isEmpty()) {
+            return;
+        }
+        List<LocalDate> dates = new ArrayList<>(dirtyDates);
+        dirtyDates.removeAll(dates);
+        for (LocalDate date : dates) {
+            try {
+                rebuild(date, date);
+            } catch (RuntimeException e) {
+                dirtyDates.add(date);
+                log.warn("Admin metric rollup flush failed: date={}", date, e);
+            }
+        }
+    }
+
+    /**
+     * 대기 예약 정리(벌크 삭제)처럼 markDirty 를 거치지 않는 변경을 반영한다.
+     */
+    @Scheduled(cron = "${admin.rollup.reconcile-cron:0 */15 * * * *}")
+    public void reconcileRecent() {
+        LocalDate today = LocalDate.now(clock);
+        try {
+            rebuild(today.minusDays(1), today);
+        } catch (RuntimeException e) {
+            log.warn("Admin metric rollup reconcile failed", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        try {
+            if (rollupMapper.countRollups(DAY) > 0) {
+                return;
+            }
+            LocalDate today = LocalDate.now(clock);
+            rebuild(today.minusDays(Math.max(bootstrapDays, 1) - 1L), today);
+        } catch (RuntimeException e) {
+            log.warn("Admin metric rollup bootstrap failed", e);
+        }
+    }
+
+    /**
+     * [from, to] 기간(양 끝 포함)의 시간/일 버킷을 원천 테이블에서 다시 계산해서 저장한다.
+     * 데이터가 없는 시간도 0 으로 저장해서 삭제된 예약 등이 남지 않게 한다.
+     *
+     * @return 재계산한 일 수
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid rollup range: " + from + " ~ " + to);
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > rebuildMaxDays) {
+            throw new IllegalArgumentException("Rollup range must be within " + rebuildMaxDays + " days");
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        Map<LocalDateTime, Bucket> hourly = new HashMap<>();
+        for (AdminMetricHourlyRow row : rollupMapper.selectPaymentHourly(start, end)) {
+            Bucket bucket = hourly.computeIfAbsent(bucketStart(row), key -> new Bucket());
+            bucket.paymentSuccessCount += valueOf(row.count());
+            bucket.paymentFailureCount += valueOf(row.secondaryCount());
+            bucket.paymentSuccessAmount += valueOf(row.amount());
+        }
+        for (AdminMetricHourlyRow row : rollupMapper.selectRefundHourly(start, end)) {
+            Bucket bucket = hourly.computeIfAbsent(bucketStart(row), key -> new Bucket());
+            bucket.refundRequestCount += valueOf(row.count());
+            bucket.refundCompletedCount += valueOf(row.secondaryCount());
+            bucket.refundCompletedAmount += valueOf(row.amount());
+        }
+        for (AdminMetricHourlyRow row : rollupMapper.selectReservationHourly(start, end)) {
+            Bucket bucket = hourly.computeIfAbsent(bucketStart(row), key -> new Bucket());
+            bucket.reservationCount += valueOf(row.count());
+            bucket.reservationCancelCount += valueOf(row.secondaryCount());
+        }
+
+        List<AdminMetricRollupRow> rows = new ArrayList<>((int) days * 25);
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            Bucket daily = new Bucket();
+            for (int hour = 0; hour < 24; hour++) {
+                LocalDateTime hourStart = date.atTime(hour, 0);
+                Bucket bucket = hourly.getOrDefault(hourStart, Bucket.EMPTY);
+                daily.add(bucket);
+                rows.add(bucket.toRow(HOUR, hourStart));
+            }
+            rows.add(daily.toRow(DAY, date.atStartOfDay()));
+        }
+
+        for (int i = 0; i < rows.size(); i += UPSERT_CHUNK_SIZE) {
+            rollupMapper.upsertRollups(rows.subList(i, Math.min(i + UPSERT_CHUNK_SIZE, rows.size())));
+        }
+        log.debug("Admin metric rollup rebuilt: {} ~ {} ({} days)", from, to, days);
+        return (int) days;
+    }
+
+    /**
+     * [from, to] 기간의 일 버킷. 롤업이 없는 날은 빠지므로 호출하는 쪽에서 0 으로 채운다.
+     */
+    public List<AdminMetricRollupRow> findDaily(LocalDate from, LocalDate to) {
+        return rollupMapper.selectRollups(DAY, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * [from, to] 기간(일자 기준)의 시간 버킷
+     */
+    public List<AdminMetricRollupRow> findHourly(LocalDate from, LocalDate to) {
+        return rollupMapper.selectRollups(HOUR, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    private LocalDateTime bucketStart(AdminMetricHourlyRow row) {
+        int hour = row.statHour() != null ? row.statHour() : 0;
+        return row.statDate().atTime(hour, 0);
+    }
+
+    private long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static final class Bucket {
+
+        private static final Bucket EMPTY = new Bucket();
+
+        private long reservationCount;
+        private long reservationCancelCount;
+        private long paymentSuccessCount;
+        private long paymentSuccessAmount;
+        private long paymentFailureCount;
+        private long refundRequestCount;
+        private long refundCompletedCount;
+        private long refundCompletedAmount;
+
+        private void add(Bucket other) {
+            reservationCount += other.reservationCount;
+            reservationCancelCount += other.reservationCancelCount;
+            paymentSuccessCount += other.paymentSuccessCount;
+            paymentSuccessAmount += other.paymentSuccessAmount;
+            paymentFailureCount += other.paymentFailureCount;
+            refundRequestCount += other.refundRequestCount;
+            refundCompletedCount += other.refundCompletedCount;
+            refundCompletedAmount += other.refundCompletedAmount;
+        }
+
+        private AdminMetricRollupRow toRow(String granularity, LocalDateTime bucketStart) {
+            return new AdminMetricRollupRow(
+                    granularity,
+                    bucketStart,
+                    reservationCount,
+                    reservationCancelCount,
+                    paymentSuccessCount,
+                    paymentSuccessAmount,
+                    paymentFailureCount,
+                    refundRequestCount,
+                    refundCompletedCount,
+                    refundCompletedAmount
+            );
+        }
+    }
+}
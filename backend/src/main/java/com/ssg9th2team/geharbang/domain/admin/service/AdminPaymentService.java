@@ -17,6 +17,8 @@ import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentRefundJpaR
 import com.ssg9th2team.geharbang.domain.payment.service.RefundPolicyService;
 import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
 import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import com.ssg9th2team.geharbang.domain.reservation.service.RoomCapacityLedger;
+import com.ssg9th2team.geharbang.domain.reservation.service.RoomOccupancyIndex;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
@@ -67,6 +69,9 @@ public class AdminPaymentService {
     private final ReservationJpaRepository reservationRepository;
     private final AdminLogService adminLogService;
     private final RefundPolicyService refundPolicyService;
+    private final RoomOccupancyIndex roomOccupancyIndex;
+    private final RoomCapacityLedger roomCapacityLedger;
+    private final AdminMetricRollupService metricRollupService;
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -359,6 +364,7 @@ public class AdminPaymentService {
                 .approvedAt(LocalDateTime.now())
                 .build();
         paymentRefundRepository.save(refund);
+        metricRollupService.markDirty(refund.getRequestedAt());
 
         entityManager.createQuery(
                         "UPDATE Payment p SET p.paymentStatus = :status, p.updatedAt = :updatedAt WHERE p.id = :id")
@@ -375,6 +381,9 @@ public class AdminPaymentService {
                     .setParameter("updatedAt", LocalDateTime.now())
                     .setParameter("id", reservation.getId())
                     .executeUpdate();
+            roomOccupancyIndex.release(reservation.getId());
+            roomCapacityLedger.release(reservation);
+            metricRollupService.markDirty(reservation.getCreatedAt());
         }
 
         entityManager.clear();
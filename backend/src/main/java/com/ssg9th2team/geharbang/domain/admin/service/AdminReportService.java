@@ -10,6 +10,7 @@ import com.ssg9th2team.geharbang.domain.report.entity.ReviewReport;
 import com.ssg9th2team.geharbang.domain.report.repository.jpa.ReviewReportJpaRepository;
 import com.ssg9th2team.geharbang.domain.review.entity.ReviewEntity;
 import com.ssg9th2team.geharbang.domain.review.repository.jpa.ReviewJpaRepository;
+import com.ssg9th2team.geharbang.domain.search.service.KeywordSearchIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -28,6 +29,7 @@ public class AdminReportService {
     private final ReviewJpaRepository reviewRepository;
     private final UserRepository userRepository;
     private final AdminLogService adminLogService;
+    private final KeywordSearchIndex keywordSearchIndex;
 
     public AdminPageResponse<AdminReportSummary> getReports(String status, String type, String query, int page, int size, String sort) {
         Sort sorting = "oldest".equalsIgnoreCase(sort)
@@ -78,6 +80,7 @@ public class AdminReportService {
                 if (review != null) {
                     review.softDelete(); // isDeleted = true
                     reviewRepository.save(review);
+                    keywordSearchIndex.refreshReview(review.getReviewId());
                 }
             }
         }
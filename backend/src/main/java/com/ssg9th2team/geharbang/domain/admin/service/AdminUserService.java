@@ -9,6 +9,7 @@ import com.ssg9th2team.geharbang.domain.auth.entity.User;
 import com.ssg9th2team.geharbang.domain.auth.entity.UserRole;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.auth.spec.UserSpecifications;
+import com.ssg9th2team.geharbang.global.security.UserAuthStateCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.data.domain.Page;
@@ -24,6 +25,7 @@ public class AdminUserService {
 
     private final UserRepository userRepository;
     private final AdminLogService adminLogService;
+    private final UserAuthStateCache userAuthStateCache;
     private static final int MIN_REASON_LENGTH = 5;
     private static final int MAX_REASON_LENGTH = 200;
 
@@ -99,6 +101,7 @@ public class AdminUserService {
         }
         user.updateHostApproved(true);
         User saved = userRepository.save(user);
+        userAuthStateCache.evict(saved.getId());
         String normalizedReason = normalizeOptionalReason(reason, "메모");
         java.util.Map<String, Object> metadata = new java.util.LinkedHashMap<>();
         metadata.put("before", java.util.Map.of("role", beforeRole != null ? beforeRole.name() : null, "hostApproved", beforeApproved));
@@ -126,6 +129,7 @@ public class AdminUserService {
         }
         user.updateHostApproved(false);
         User saved = userRepository.save(user);
+        userAuthStateCache.evict(saved.getId());
         java.util.Map<String, Object> metadata = new java.util.LinkedHashMap<>();
         metadata.put("before", java.util.Map.of("role", beforeRole != null ? beforeRole.name() : null, "hostApproved", beforeApproved));
         metadata.put("after", java.util.Map.of("role", saved.getRole().name(), "hostApproved", false));
@@ -147,6 +151,7 @@ public class AdminUserService {
         Boolean beforeSuspended = user.getSuspended();
         user.updateSuspended(true);
         User saved = userRepository.save(user);
+        userAuthStateCache.evict(saved.getId());
         java.util.Map<String, Object> metadata = new java.util.LinkedHashMap<>();
         metadata.put("before", java.util.Map.of("suspended", beforeSuspended));
         metadata.put("after", java.util.Map.of("suspended", true));
@@ -168,6 +173,7 @@ public class AdminUserService {
         Boolean beforeSuspended = user.getSuspended();
         user.updateSuspended(false);
         User saved = userRepository.save(user);
+        userAuthStateCache.evict(saved.getId());
         String normalizedReason = normalizeOptionalReason(reason, "메모");
         java.util.Map<String, Object> metadata = new java.util.LinkedHashMap<>();
         metadata.put("before", java.util.Map.of("suspended", beforeSuspended));
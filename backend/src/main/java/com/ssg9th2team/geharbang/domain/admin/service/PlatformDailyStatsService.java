@@ -2,99 +2,164 @@ package com.ssg9th2team.geharbang.domain.admin.service;
 
 import com.ssg9th2team.geharbang.domain.accommodation.entity.ApprovalStatus;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.AccommodationJpaRepository;
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyAmountRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyCountRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyReservationRow;
 import com.ssg9th2team.geharbang.domain.admin.entity.PlatformDailyStats;
 import com.ssg9th2team.geharbang.domain.admin.repository.PlatformDailyStatsRepository;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.PlatformDailyStatsMapper;
 import com.ssg9th2team.geharbang.domain.auth.entity.UserRole;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
-import com.ssg9th2team.geharbang.domain.payment.entity.Payment;
-import com.ssg9th2team.geharbang.domain.payment.entity.PaymentRefund;
-import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentJpaRepository;
-import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentRefundJpaRepository;
 import com.ssg9th2team.geharbang.domain.report.repository.jpa.ReviewReportJpaRepository;
-import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 플랫폼 일별 통계 (platform_daily_stats)
+ *
+ * <p>원천 테이블(users, accommodation, reservation, payment, payment_refund)마다 일자별 GROUP BY 쿼리를
+ * 한 번씩만 실행해서 기간 전체를 집계하고, 결과는 stat_date 기준으로 upsert 한다.
+ * 결제/환불 이력을 메모리로 읽지 않으므로 데이터가 늘어도 집계 기간 크기만큼만 비용이 든다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PlatformDailyStatsService {
 
+    private static final int UPSERT_CHUNK_SIZE = 100;
+
     private final PlatformDailyStatsRepository statsRepository;
+    private final PlatformDailyStatsMapper statsMapper;
     private final UserRepository userRepository;
     private final AccommodationJpaRepository accommodationRepository;
-    private final ReservationJpaRepository reservationRepository;
-    private final PaymentJpaRepository paymentRepository;
-    private final PaymentRefundJpaRepository refundRepository;
     private final ReviewReportJpaRepository reportRepository;
 
+    @Value("${admin.stats.backfill-max-days:366}")
+    private int backfillMaxDays;
+
+    @Value("${admin.stats.catch-up-days:31}")
+    private int catchUpDays;
+
+    @Transactional
     public PlatformDailyStats refreshDailyStats(LocalDate statDate) {
-        LocalDateTime start = statDate.atStartOfDay();
-        LocalDateTime end = statDate.plusDays(1).atStartOfDay();
-
-        long totalHosts = userRepository.count(roleEquals(UserRole.HOST));
-        long newHosts = userRepository.count(roleCreatedBetween(UserRole.HOST, start, end));
-
-        long totalAccommodations = accommodationRepository.count();
-        long newAccommodations = accommodationRepository.count(createdBetween(start, end));
-
-        long totalReservations = reservationRepository.count(createdBetweenReservation(start, end));
-        long reservationsSuccess = reservationRepository.count(paymentStatusBetween(1, start, end));
-        long reservationsFailed = reservationRepository.count(paymentStatusInBetween(List.of(2, 3), start, end));
-        long cancelCount = reservationRepository.count(reservationStatusBetween(9, start, end));
-
-        List<Payment> payments = paymentRepository.findAll();
-        long paymentSuccessAmount = payments.stream()
-                .filter(payment -> isBetween(payment.getCreatedAt(), start, end))
-                .filter(payment -> payment.getPaymentStatus() != null && payment.getPaymentStatus() == 1)
-                .mapToLong(payment -> payment.getApprovedAmount() != null ? payment.getApprovedAmount() : 0L)
-                .sum();
-
-        List<PaymentRefund> refunds = refundRepository.findAll();
-        long refundCount = refunds.stream()
-                .filter(refund -> isBetween(refund.getCreatedAt(), start, end))
-                .filter(refund -> refund.getRefundStatus() != null
-                        && (refund.getRefundStatus() == 0 || refund.getRefundStatus() == 1))
-                .count();
-        long refundAmount = refunds.stream()
-                .filter(refund -> isBetween(refund.getCreatedAt(), start, end))
-                .filter(refund -> refund.getRefundStatus() != null && refund.getRefundStatus() == 1)
-                .mapToLong(refund -> refund.getRefundAmount() != null ? refund.getRefundAmount() : 0L)
-                .sum();
-
-        long pendingAccommodations = accommodationRepository.count(approvalEquals(ApprovalStatus.PENDING));
-        long openReports = reportRepository.count(reportStateEquals("WAIT"));
-
-        long activeGuests = reservationRepository.countDistinctGuest(start, end);
-        long activeHosts = reservationRepository.countDistinctHost(start, end);
-
-        PlatformDailyStats stats = PlatformDailyStats.builder()
-                .statDate(statDate)
-                .totalHosts(totalHosts)
-                .newHosts(newHosts)
-                .totalAccommodations(totalAccommodations)
-                .newAccommodations(newAccommodations)
-                .totalReservations(totalReservations)
-                .reservationsSuccess(reservationsSuccess)
-                .reservationsFailed(reservationsFailed)
-                .totalRevenue(paymentSuccessAmount)
-                .cancelCount(cancelCount)
-                .refundCount(refundCount)
-                .refundAmount(refundAmount)
-                .pendingAccommodations(pendingAccommodations)
-                .openReports(openReports)
-                .activeGuests(activeGuests)
-                .activeHosts(activeHosts)
-                .occupancyRate(BigDecimal.ZERO)
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        return statsRepository.save(stats);
+        return refreshDailyStats(statDate, statDate).get(0);
+    }
+
+    /**
+     * [from, to] 기간(양 끝 포함)의 일별 통계를 한 번에 집계해서 저장한다.
+     *
+     * <p>승인 대기 숙소/미처리 신고 수는 이력이 없어 집계 시점의 값밖에 알 수 없으므로 to 가 어제 이후일 때
+     * to 날짜에만 기록한다. 나머지 날짜는 이미 저장된 값을 유지한다. (처음 저장하는 날짜는 0)
+     */
+    @Transactional
+    public List<PlatformDailyStats> refreshDailyStats(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid stats range: " + from + " ~ " + to);
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > backfillMaxDays) {
+            throw new IllegalArgumentException("Stats range must be within " + backfillMaxDays + " days");
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        Map<LocalDate, Long> newHosts = countByDate(statsMapper.selectDailyNewHosts(start, end));
+        Map<LocalDate, Long> newAccommodations = countByDate(statsMapper.selectDailyNewAccommodations(start, end));
+        Map<LocalDate, Long> activeHosts = countByDate(statsMapper.selectDailyActiveHosts(start, end));
+        Map<LocalDate, PlatformDailyReservationRow> reservations = statsMapper.selectDailyReservations(start, end)
+                .stream()
+                .collect(Collectors.toMap(PlatformDailyReservationRow::statDate, Function.identity()));
+        Map<LocalDate, PlatformDailyAmountRow> payments = amountByDate(statsMapper.selectDailyPayments(start, end));
+        Map<LocalDate, PlatformDailyAmountRow> refunds = amountByDate(statsMapper.selectDailyRefunds(start, end));
+
+        // 누적 값: 기간 시작 전까지의 수 + 일별 신규 수
+        long totalHosts = userRepository.count(hostCreatedBefore(start));
+        long totalAccommodations = accommodationRepository.count(accommodationCreatedBefore(start));
+        LocalDate snapshotDate = to.isBefore(LocalDate.now().minusDays(1)) ? null : to;
+        long pendingAccommodations = snapshotDate != null
+                ? accommodationRepository.count(approvalEquals(ApprovalStatus.PENDING)) : 0L;
+        long openReports = snapshotDate != null ? reportRepository.count(reportStateEquals("WAIT")) : 0L;
+        Map<LocalDate, PlatformDailyStats> existing = statsRepository.findByStatDateBetweenOrderByStatDateAsc(from, to)
+                .stream()
+                .collect(Collectors.toMap(PlatformDailyStats::getStatDate, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PlatformDailyStats> stats = new ArrayList<>((int) days);
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            long hostsOfDay = newHosts.getOrDefault(date, 0L);
+            long accommodationsOfDay = newAccommodations.getOrDefault(date, 0L);
+            totalHosts += hostsOfDay;
+            totalAccommodations += accommodationsOfDay;
+
+            PlatformDailyReservationRow reservation = reservations.get(date);
+            PlatformDailyAmountRow payment = payments.get(date);
+            PlatformDailyAmountRow refund = refunds.get(date);
+            PlatformDailyStats previous = existing.get(date);
+            boolean snapshotDay = date.equals(snapshotDate);
+
+            stats.add(PlatformDailyStats.builder()
+                    .statDate(date)
+                    .totalHosts(totalHosts)
+                    .newHosts(hostsOfDay)
+                    .totalAccommodations(totalAccommodations)
+                    .newAccommodations(accommodationsOfDay)
+                    .totalReservations(reservation != null ? valueOf(reservation.totalReservations()) : 0L)
+                    .reservationsSuccess(reservation != null ? valueOf(reservation.reservationsSuccess()) : 0L)
+                    .reservationsFailed(reservation != null ? valueOf(reservation.reservationsFailed()) : 0L)
+                    .totalRevenue(payment != null ? valueOf(payment.amount()) : 0L)
+                    .cancelCount(reservation != null ? valueOf(reservation.cancelCount()) : 0L)
+                    .refundCount(refund != null ? valueOf(refund.count()) : 0L)
+                    .refundAmount(refund != null ? valueOf(refund.amount()) : 0L)
+                    .pendingAccommodations(snapshotDay ? pendingAccommodations
+                            : previous != null ? valueOf(previous.getPendingAccommodations()) : 0L)
+                    .openReports(snapshotDay ? openReports
+                            : previous != null ? valueOf(previous.getOpenReports()) : 0L)
+                    .activeGuests(reservation != null ? valueOf(reservation.activeGuests()) : 0L)
+                    .activeHosts(activeHosts.getOrDefault(date, 0L))
+                    .occupancyRate(BigDecimal.ZERO)
+                    .createdAt(now)
+                    .build());
+        }
+
+        for (int i = 0; i < stats.size(); i += UPSERT_CHUNK_SIZE) {
+            statsMapper.upsertDailyStats(stats.subList(i, Math.min(i + UPSERT_CHUNK_SIZE, stats.size())));
+        }
+        log.info("Platform daily stats refreshed: {} ~ {} ({} days)", from, to, days);
+        return stats;
+    }
+
+    /**
+     * 마지막으로 집계한 날의 다음 날부터 until 까지 집계한다. (until 은 항상 다시 집계)
+     * 스케줄러가 멈췄던 기간은 최대 catch-up-days 만큼 거슬러 올라가 채운다.
+     */
+    @Transactional
+    public List<PlatformDailyStats> refreshSinceLastRun(LocalDate until) {
+        LocalDate earliest = until.minusDays(Math.max(catchUpDays, 1) - 1L);
+        LocalDate from = statsRepository.findTopByOrderByStatDateDesc()
+                .map(last -> last.getStatDate().plusDays(1))
+                .orElse(until);
+        if (from.isBefore(earliest)) {
+            from = earliest;
+        }
+        if (from.isAfter(until)) {
+            from = until;
+        }
+        return refreshDailyStats(from, until);
     }
 
     public List<PlatformDailyStats> getStats(LocalDate from, LocalDate to) {
@@ -103,17 +168,10 @@ public class PlatformDailyStatsService {
         return statsRepository.findByStatDateBetweenOrderByStatDateAsc(start, end);
     }
 
-    private Specification<com.ssg9th2team.geharbang.domain.auth.entity.User> roleEquals(UserRole role) {
-        return (root, query, cb) -> cb.equal(root.get("role"), role);
-    }
-
-    private Specification<com.ssg9th2team.geharbang.domain.auth.entity.User> roleCreatedBetween(
-            UserRole role, LocalDateTime start, LocalDateTime end
-    ) {
+    private Specification<com.ssg9th2team.geharbang.domain.auth.entity.User> hostCreatedBefore(LocalDateTime start) {
         return (root, query, cb) -> cb.and(
-                cb.equal(root.get("role"), role),
-                cb.greaterThanOrEqualTo(root.get("createdAt"), start),
-                cb.lessThan(root.get("createdAt"), end)
+                cb.equal(root.get("role"), UserRole.HOST),
+                cb.or(cb.lessThan(root.get("createdAt"), start), cb.isNull(root.get("createdAt")))
         );
     }
 
@@ -121,62 +179,27 @@ public class PlatformDailyStatsService {
         return (root, query, cb) -> cb.equal(root.get("approvalStatus"), status);
     }
 
-    private Specification<com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation> createdBetween(
-            LocalDateTime start, LocalDateTime end
-    ) {
-        return (root, query, cb) -> cb.and(
-                cb.greaterThanOrEqualTo(root.get("createdAt"), start),
-                cb.lessThan(root.get("createdAt"), end)
-        );
-    }
-
-    private Specification<com.ssg9th2team.geharbang.domain.reservation.entity.Reservation> createdBetweenReservation(
-            LocalDateTime start, LocalDateTime end
+    private Specification<com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation> accommodationCreatedBefore(
+            LocalDateTime start
     ) {
-        return (root, query, cb) -> cb.and(
-                cb.greaterThanOrEqualTo(root.get("createdAt"), start),
-                cb.lessThan(root.get("createdAt"), end)
-        );
+        return (root, query, cb) -> cb.or(cb.lessThan(root.get("createdAt"), start), cb.isNull(root.get("createdAt")));
     }
 
-    private Specification<com.ssg9th2team.geharbang.domain.reservation.entity.Reservation> paymentStatusBetween(
-            Integer status, LocalDateTime start, LocalDateTime end
-    ) {
-        return (root, query, cb) -> cb.and(
-                cb.equal(root.get("paymentStatus"), status),
-                cb.greaterThanOrEqualTo(root.get("createdAt"), start),
-                cb.lessThan(root.get("createdAt"), end)
-        );
-    }
-
-    private Specification<com.ssg9th2team.geharbang.domain.reservation.entity.Reservation> paymentStatusInBetween(
-            List<Integer> statuses, LocalDateTime start, LocalDateTime end
-    ) {
-        return (root, query, cb) -> cb.and(
-                root.get("paymentStatus").in(statuses),
-                cb.greaterThanOrEqualTo(root.get("createdAt"), start),
-                cb.lessThan(root.get("createdAt"), end)
-        );
+    private Specification<com.ssg9th2team.geharbang.domain.report.entity.ReviewReport> reportStateEquals(String state) {
+        return (root, query, cb) -> cb.equal(root.get("state"), state);
     }
 
-    private Specification<com.ssg9th2team.geharbang.domain.reservation.entity.Reservation> reservationStatusBetween(
-            Integer status, LocalDateTime start, LocalDateTime end
-    ) {
-        return (root, query, cb) -> cb.and(
-                cb.equal(root.get("reservationStatus"), status),
-                cb.greaterThanOrEqualTo(root.get("createdAt"), start),
-                cb.lessThan(root.get("createdAt"), end)
-        );
+    private Map<LocalDate, Long> countByDate(List<PlatformDailyCountRow> rows) {
+        return rows.stream()
+                .collect(Collectors.toMap(PlatformDailyCountRow::statDate, row -> valueOf(row.count())));
     }
 
-    private Specification<com.ssg9th2team.geharbang.domain.report.entity.ReviewReport> reportStateEquals(String state) {
-        return (root, query, cb) -> cb.equal(root.get("state"), state);
+    private Map<LocalDate, PlatformDailyAmountRow> amountByDate(List<PlatformDailyAmountRow> rows) {
+        return rows.stream()
+                .collect(Collectors.toMap(PlatformDailyAmountRow::statDate, Function.identity()));
     }
 
-    private boolean isBetween(LocalDateTime value, LocalDateTime start, LocalDateTime end) {
-        if (value == null) {
-            return false;
-        }
-        return !value.isBefore(start) && value.isBefore(end);
+    private long valueOf(Long value) {
+        return value != null ? value : 0L;
     }
 }
@@ -0,0 +1,48 @@
+package com.ssg9th2team.geharbang.domain.admin.support;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 관리자 목록 keyset 커서 (정렬 기준 시각 + PK)
+ * - 클라이언트에는 "시각|PK" 를 URL-safe Base64 로 감싼 값을 준다.
+ * - 커서가 있으면 OFFSET 없이 (정렬 시각, PK) 다음 행부터 읽는다.
+ */
+public record AdminKeysetCursor(LocalDateTime sortValue, Long id) {
+
+    public static AdminKeysetCursor of(LocalDateTime sortValue, Long id) {
+        if (sortValue == null || id == null) {
+            return null;
+        }
+        return new AdminKeysetCursor(sortValue, id);
+    }
+
+    /**
+     * 비어 있으면 null, 형식이 잘못되면 400
+     */
+    public static AdminKeysetCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new AdminKeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sortValue + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -12,6 +12,7 @@ import com.ssg9th2team.geharbang.domain.ai_agent.entity.AgentChatRoom;
 import com.ssg9th2team.geharbang.domain.ai_agent.repository.AgentChatMessageRepository;
 import com.ssg9th2team.geharbang.domain.ai_agent.repository.AgentChatRoomRepository;
 import com.ssg9th2team.geharbang.domain.auth.entity.User;
+import com.ssg9th2team.geharbang.global.storage.ImageVariants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -419,7 +420,7 @@ public class AiAgentService {
                     .selectMainImagesByAccommodationIds(accommodationIds);
 
             for (var img : images) {
-                imageMap.put(img.getAccommodationsId(), img.getImageUrl());
+                imageMap.put(img.getAccommodationsId(), ImageVariants.thumbnail(img.getImageUrl()));
             }
         } catch (Exception e) {
             log.warn("이미지 일괄 조회 실패", e);
@@ -18,6 +18,7 @@ import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserSocialRepository;
 import com.ssg9th2team.geharbang.domain.theme.entity.Theme;
 import com.ssg9th2team.geharbang.domain.theme.repository.ThemeRepository;
+import com.ssg9th2team.geharbang.global.security.CustomUserDetails;
 import com.ssg9th2team.geharbang.global.security.JwtTokenProvider;
 import com.ssg9th2team.geharbang.global.service.EmailService;
 import com.ssg9th2team.geharbang.global.util.VerificationCodeService;
@@ -40,6 +41,7 @@ import com.ssg9th2team.geharbang.domain.auth.entity.Admin;
 import com.ssg9th2team.geharbang.domain.auth.repository.AdminRepository;
 import com.ssg9th2team.geharbang.domain.coupon.entity.CouponTriggerType;
 import com.ssg9th2team.geharbang.domain.coupon.service.UserCouponService;
+import com.ssg9th2team.geharbang.domain.recommendation.service.RecommendationEngine;
 
 import java.util.Optional;
 
@@ -57,6 +59,7 @@ public class AuthServiceImpl implements AuthService {
     private final EmailService emailService; // 이메일 서비스
     private final VerificationCodeService verificationCodeService; // 인증 코드 관리 서비스
     private final UserCouponService userCouponService; // 쿠폰 서비스
+    private final RecommendationEngine recommendationEngine; // 관심 테마 변경 시 추천 갱신
 
     @Override
     @Transactional
@@ -210,10 +213,12 @@ public class AuthServiceImpl implements AuthService {
 
     // 사용자 토큰 생성
     private TokenResponse createUserToken(User user) {
+        // principal 에 사용자 정보를 담아 토큰에 사용자 ID 가 포함되도록 한다.
+        CustomUserDetails principal = new CustomUserDetails(user);
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user.getEmail(),
+                principal,
                 null,
-                Collections.singleton(new SimpleGrantedAuthority(user.getRole().getKey())));
+                principal.getAuthorities());
 
         String accessToken = jwtTokenProvider.generateAccessToken(authentication);
         String refreshToken = jwtTokenProvider.generateRefreshToken(authentication);
@@ -326,6 +331,7 @@ public class AuthServiceImpl implements AuthService {
         user.completeSocialSignup(request.getMarketingAgreed(), themes);
 
         User savedUser = userRepository.save(user);
+        recommendationEngine.refreshUser(savedUser.getId());
 
         // 회원가입 축하 쿠폰 발급
         userCouponService.issueByTrigger(savedUser.getId(), CouponTriggerType.SIGNUP);
@@ -3,6 +3,7 @@ package com.ssg9th2team.geharbang.domain.booking.host.support;
 import com.ssg9th2team.geharbang.domain.auth.entity.User;
 import com.ssg9th2team.geharbang.domain.auth.entity.UserRole;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
@@ -19,6 +20,11 @@ public class HostIdentityResolver {
         if (authentication == null) {
             throw new AccessDeniedException("HOST role required");
         }
+        // 사용자 ID 가 있는 인증의 권한은 토큰 클레임이 아닌 사용자의 현재 권한이다. (JwtTokenProvider, UserAuthStateCache)
+        Long userId = SecurityUtils.findUserId(authentication).orElse(null);
+        if (userId != null && hasHostAuthority(authentication)) {
+            return userId;
+        }
         String email = authentication.getName();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
@@ -30,12 +36,16 @@ public class HostIdentityResolver {
     }
 
     private boolean hasHostRole(Authentication authentication, User user) {
-        if (authentication.getAuthorities() != null) {
-            boolean allowed = authentication.getAuthorities().stream()
-                    .map(GrantedAuthority::getAuthority)
-                    .anyMatch(role -> "ROLE_HOST".equals(role) || "HOST".equals(role));
-            if (allowed) return true;
-        }
+        if (hasHostAuthority(authentication)) return true;
         return user.getRole() == UserRole.HOST;
     }
+
+    private boolean hasHostAuthority(Authentication authentication) {
+        if (authentication.getAuthorities() == null) {
+            return false;
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(role -> "ROLE_HOST".equals(role) || "HOST".equals(role));
+    }
 }
@@ -0,0 +1,68 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅 메시지/알림을 모든 노드의 구독자에게 전달한다.
+ *
+ * <p>Simple broker 를 쓰는 경우 채팅방/사용자별 Redis 채널(chatroom:{roomId}, chatuser:{userId})로 발행하고,
+ * 각 노드의 {@link RedisSubscriber} 가 로컬 구독이 있을 때만 WebSocket 으로 전달한다.
+ * 외부 STOMP 브로커(relay)를 쓰는 경우 브로커가 노드 간 전달을 맡으므로 바로 전송한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatBroadcaster {
+
+    public static final String ROOM_CHANNEL_PREFIX = "chatroom:";
+    public static final String USER_CHANNEL_PREFIX = "chatuser:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatPresenceRegistry chatPresenceRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.broker.relay.enabled:false}")
+    private boolean relayEnabled;
+
+    /**
+     * 채팅방 구독자에게 전달 (/topic/chatroom/{roomId})
+     */
+    public void broadcastToRoom(Long roomId, Object message) {
+        if (relayEnabled) {
+            messagingTemplate.convertAndSend(ChatPresenceRegistry.roomDestination(roomId), message);
+            return;
+        }
+        publish(ROOM_CHANNEL_PREFIX + roomId, message);
+    }
+
+    /**
+     * 사용자 알림 구독자에게 전달 (/topic/user/{userId}/notifications). 접속하지 않은 사용자는 건너뛴다.
+     */
+    public void notifyUser(Long userId, Object message) {
+        if (!chatPresenceRegistry.isUserOnline(userId)) {
+            log.debug("Skip notification for offline user {}", userId);
+            return;
+        }
+        if (relayEnabled) {
+            messagingTemplate.convertAndSend(ChatPresenceRegistry.userNotificationDestination(userId), message);
+            return;
+        }
+        publish(USER_CHANNEL_PREFIX + userId, message);
+    }
+
+    private void publish(String channel, Object message) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize chat message", e);
+        }
+    }
+}
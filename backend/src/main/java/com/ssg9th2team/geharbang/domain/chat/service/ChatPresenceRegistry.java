@@ -0,0 +1,225 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 채팅 접속 현황 (presence)
+ *
+ * <p>STOMP 구독 이벤트로 이 노드의 채팅방/사용자 알림 구독 수를 관리한다.
+ * <ul>
+ *   <li>로컬: 채팅방/사용자별 구독 수 - Redis 로 받은 메시지를 이 노드에서 전달할지 판단 (구독이 없으면 파싱 없이 버림)</li>
+ *   <li>클러스터: chat:presence:user:{userId} (Hash - nodeId: 만료 시각(ms)) - 어느 노드에든 접속 중인지 판단</li>
+ * </ul>
+ * 노드가 비정상 종료되어 남은 항목은 만료 시각이 지나면 무시되고, 키는 TTL 로 정리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceRegistry {
+
+    static final String ROOM_DESTINATION_PREFIX = "/topic/chatroom/";
+    static final String USER_DESTINATION_PREFIX = "/topic/user/";
+    static final String USER_DESTINATION_SUFFIX = "/notifications";
+    private static final String USER_PRESENCE_KEY = "chat:presence:user:%d";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /** sessionId → (subscriptionId → 구독 대상) */
+    private final ConcurrentMap<String, Map<String, Target>> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Integer> roomSubscribers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Integer> userSubscribers = new ConcurrentHashMap<>();
+
+    @Value("${chat.presence.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    public static String roomDestination(Long roomId) {
+        return ROOM_DESTINATION_PREFIX + roomId;
+    }
+
+    public static String userNotificationDestination(Long userId) {
+        return USER_DESTINATION_PREFIX + userId + USER_DESTINATION_SUFFIX;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Target target = Target.parse(accessor.getDestination());
+        if (target == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Target previous = sessions.computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), target);
+        if (previous != null) {
+            release(previous);
+        }
+        if (target.room()) {
+            roomSubscribers.merge(target.id(), 1, Integer::sum);
+        } else if (userSubscribers.merge(target.id(), 1, Integer::sum) == 1) {
+            markOnline(target.id());
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Target> subscriptions = accessor.getSessionId() != null
+                ? sessions.get(accessor.getSessionId()) : null;
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Target target = subscriptions.remove(accessor.getSubscriptionId());
+        if (target != null) {
+            release(target);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Target> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    /**
+     * 이 노드에 채팅방 구독이 있는지
+     */
+    public boolean hasLocalRoomSubscribers(Long roomId) {
+        return roomSubscribers.containsKey(roomId);
+    }
+
+    /**
+     * 이 노드에 사용자 알림 구독이 있는지
+     */
+    public boolean hasLocalUserSubscribers(Long userId) {
+        return userSubscribers.containsKey(userId);
+    }
+
+    /**
+     * 어느 노드에든 접속 중인지. 확인할 수 없으면 접속 중으로 본다. (알림 누락 방지)
+     */
+    public boolean isUserOnline(Long userId) {
+        if (hasLocalUserSubscribers(userId)) {
+            return true;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            return stringRedisTemplate.opsForHash().values(userPresenceKey(userId)).stream()
+                    .anyMatch(expiresAt -> Long.parseLong(expiresAt.toString()) > now);
+        } catch (Exception e) {
+            log.warn("Failed to read chat presence. User: {}, {}", userId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 이 노드에 접속 중인 사용자의 만료 시각을 연장한다.
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.refresh-ms:20000}")
+    public void refreshPresence() {
+        Set<Long> userIds = Set.copyOf(userSubscribers.keySet());
+        if (userIds.isEmpty()) {
+            return;
+        }
+        byte[] field = nodeId.getBytes(StandardCharsets.UTF_8);
+        byte[] expiresAt = String.valueOf(System.currentTimeMillis() + ttlSeconds * 1000)
+                .getBytes(StandardCharsets.UTF_8);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : userIds) {
+                    writePresence(connection, userPresenceKey(userId).getBytes(StandardCharsets.UTF_8), field, expiresAt);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to refresh chat presence: {}", e.getMessage());
+        }
+    }
+
+    private void release(Target target) {
+        if (target.room()) {
+            roomSubscribers.computeIfPresent(target.id(), (id, count) -> count > 1 ? count - 1 : null);
+            return;
+        }
+        Integer remaining = userSubscribers.computeIfPresent(target.id(), (id, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            markOffline(target.id());
+        }
+    }
+
+    private void markOnline(Long userId) {
+        byte[] expiresAt = String.valueOf(System.currentTimeMillis() + ttlSeconds * 1000)
+                .getBytes(StandardCharsets.UTF_8);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                writePresence(connection, userPresenceKey(userId).getBytes(StandardCharsets.UTF_8),
+                        nodeId.getBytes(StandardCharsets.UTF_8), expiresAt);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to register chat presence. User: {}, {}", userId, e.getMessage());
+        }
+    }
+
+    private void markOffline(Long userId) {
+        try {
+            stringRedisTemplate.opsForHash().delete(userPresenceKey(userId), nodeId);
+        } catch (Exception e) {
+            // 지우지 못해도 만료 시각이 지나면 접속 종료로 본다.
+            log.warn("Failed to remove chat presence. User: {}, {}", userId, e.getMessage());
+        }
+    }
+
+    private void writePresence(RedisConnection connection, byte[] key, byte[] field, byte[] expiresAt) {
+        connection.hashCommands().hSet(key, field, expiresAt);
+        connection.keyCommands().expire(key, ttlSeconds);
+    }
+
+    private static String userPresenceKey(Long userId) {
+        return String.format(USER_PRESENCE_KEY, userId);
+    }
+
+    /**
+     * 구독 대상 - 채팅방(/topic/chatroom/{roomId}) 또는 사용자 알림(/topic/user/{userId}/notifications)
+     */
+    record Target(boolean room, Long id) {
+
+        static Target parse(String destination) {
+            if (destination == null) {
+                return null;
+            }
+            try {
+                if (destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+                    return new Target(true, Long.valueOf(destination.substring(ROOM_DESTINATION_PREFIX.length())));
+                }
+                if (destination.startsWith(USER_DESTINATION_PREFIX) && destination.endsWith(USER_DESTINATION_SUFFIX)) {
+                    return new Target(false, Long.valueOf(destination.substring(USER_DESTINATION_PREFIX.length(),
+                            destination.length() - USER_DESTINATION_SUFFIX.length())));
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            return null;
+        }
+    }
+}
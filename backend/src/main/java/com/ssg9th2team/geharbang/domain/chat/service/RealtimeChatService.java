@@ -7,14 +7,12 @@ import com.ssg9th2team.geharbang.domain.chat.dto.ChatRoomDto;
 import com.ssg9th2team.geharbang.domain.chat.repository.RealtimeChatRoomRepository;
 import com.ssg9th2team.geharbang.domain.auth.entity.User;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.storage.ImageVariants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collections;
@@ -34,9 +32,7 @@ public class RealtimeChatService {
     private final RedisChatMessageService redisChatMessageService; // Redis로 변경
     private final UserRepository userRepository;
     private final AccommodationMapper accommodationMapper;
-    private final RedisPublisher redisPublisher;
-    private final ChannelTopic channelTopic;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatBroadcaster chatBroadcaster;
 
     // 유저의 채팅방 목록 조회
     @Transactional(readOnly = true)
@@ -68,7 +64,7 @@ public class RealtimeChatService {
                 .stream()
                 .collect(Collectors.toMap(
                         img -> img.getAccommodationsId(),
-                        img -> img.getImageUrl(),
+                        img -> ImageVariants.thumbnail(img.getImageUrl()),
                         (existing, replacement) -> existing // 중복 시 첫 번째 값 유지
                 ));
         log.info("숙소 대표 이미지 {}건을 일괄 조회했습니다.", imageMap.size());
@@ -131,8 +127,8 @@ public class RealtimeChatService {
         return chatRoomDtos;
     }
 
-    // 특정 채팅방의 메시지 조회 (Redis에서 조회)
-    public List<ChatMessageDto> getRoomMessages(Long roomId, Long currentUserId) {
+    // 특정 채팅방의 메시지 조회 (Redis에서 조회, before 이전 메시지를 최신 순으로 limit 개)
+    public List<ChatMessageDto> getRoomMessages(Long roomId, Long currentUserId, Long before, Integer limit) {
         RealtimeChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("Chat room not found"));
 
@@ -142,7 +138,7 @@ public class RealtimeChatService {
         }
 
         // Redis에서 메시지 조회
-        return redisChatMessageService.getMessages(roomId);
+        return redisChatMessageService.getMessages(roomId, before, limit);
     }
 
     // 메시지 저장 (Redis에 저장)
@@ -188,7 +184,7 @@ public class RealtimeChatService {
             notification.put("senderName", sender.getNickname());
 
             log.info("Sending notification to user {}: {}", recipientUserId, notification);
-            messagingTemplate.convertAndSend("/topic/user/" + recipientUserId + "/notifications", notification);
+            chatBroadcaster.notifyUser(recipientUserId, notification);
         }
 
         return savedMessage;
@@ -205,8 +201,8 @@ public class RealtimeChatService {
             throw new SecurityException("User is not a participant of this chat room");
         }
 
-        // Redis에서 읽음 처리
-        redisChatMessageService.markMessagesAsRead(roomId, readerUserId);
+        // Redis에서 읽음 처리 (읽음 위치를 마지막 메시지로 이동)
+        Long lastReadMessageId = redisChatMessageService.markMessagesAsRead(roomId, readerUserId);
 
         // 채팅방의 unreadCount를 0으로 초기화
         if (chatRoom.getHostUserId().equals(readerUserId)) {
@@ -218,13 +214,11 @@ public class RealtimeChatService {
 
         // 채팅방 전체에 읽음 알림 브로드캐스트 (해당 방을 구독 중인 모든 사용자가 수신)
         log.info("Broadcasting read receipt to room {} by user {}", roomId, readerUserId);
-        redisPublisher.publish(
-                channelTopic,
-                Map.of(
-                        "type", "MESSAGES_READ",
-                        "roomId", roomId,
-                        "readerId", readerUserId
-                )
-        );
+        Map<String, Object> readReceipt = new HashMap<>();
+        readReceipt.put("type", "MESSAGES_READ");
+        readReceipt.put("roomId", roomId);
+        readReceipt.put("readerId", readerUserId);
+        readReceipt.put("lastReadMessageId", lastReadMessageId);
+        chatBroadcaster.broadcastToRoom(roomId, readReceipt);
     }
 }
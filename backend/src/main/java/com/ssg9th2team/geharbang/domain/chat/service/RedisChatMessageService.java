@@ -1,171 +1,307 @@
 package com.ssg9th2team.geharbang.domain.chat.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
+/**
+ * 채팅 메시지 저장소 (Redis Stream)
+ *
+ * <p>채팅방마다 Stream 하나에 메시지를 쌓고, 읽음 상태는 사용자별 "마지막으로 읽은 메시지 ID" 하나로 관리한다.
+ * <ul>
+ *   <li>메시지: chat:room:{roomId}:stream (필드 s: 보낸 사람, n: 이름, c: 내용)</li>
+ *   <li>읽음 위치: chat:room:{roomId}:read (Hash - userId: 마지막으로 읽은 메시지 ID)</li>
+ *   <li>메시지 ID 는 Stream ID(ms-seq)를 ms * 1000 + seq 로 바꾼 값이며, 생성 시각은 ID 의 ms 에서 얻는다.
+ *       (브라우저에서 정확히 다룰 수 있는 2^53 안에 두기 위한 형식이다. 저장 스크립트가 같은 ms 의 1000번째 메시지부터는
+ *       다음 ms 로 넘겨 seq 가 1000 을 넘지 않으므로 ID 가 겹치지 않는다.)</li>
+ *   <li>메시지는 7일이 지나면 저장 시 함께 잘라내고, 키는 마지막 메시지 이후 7일 뒤 만료된다.</li>
+ * </ul>
+ * 저장/읽음 처리는 스크립트 한 번, 조회는 메시지 범위 조회와 읽음 위치 조회 두 번으로 끝난다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisChatMessageService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate stringRedisTemplate;
 
-    private static final String CHAT_MESSAGES_KEY = "chat:room:%d:messages";
-    private static final String CHAT_READ_STATUS_KEY = "chat:room:%d:read:%d"; // roomId:messageId
+    private static final String CHAT_STREAM_KEY = "chat:room:%d:stream";
+    private static final String CHAT_READ_KEY = "chat:room:%d:read";
+    /** 이전 저장 방식(메시지 JSON 을 멤버로 둔 Sorted Set) 키 - 기동 시 Stream 으로 옮긴다. */
+    private static final String LEGACY_MESSAGES_KEY_PATTERN = "chat:room:*:messages";
     private static final long MESSAGE_TTL_DAYS = 7; // 메시지 보관 기간 (7일)
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 200;
+    /** 메시지 ID 한 ms 에 담을 수 있는 Stream seq 개수 */
+    private static final long SEQUENCE_PER_MS = 1000;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
     /**
-     * 메시지 저장 (Sorted Set 사용 - 시간순 정렬)
+     * KEYS: Stream, 읽음 위치 / ARGV: 보낸 사람, 이름, 내용, 보관 시작 Stream ID, TTL(초), ms 당 seq 개수
+     * Stream ID 는 '*' 와 같은 규칙(현재 시각, 같은 ms 면 seq + 1)으로 만들되 seq 가 한도에 닿으면 다음 ms 로 넘긴다.
+     * 반환: 저장된 Stream ID
+     */
+    private static final RedisScript<String> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local ms = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local seq = 0
+            local last = redis.call('XREVRANGE', KEYS[1], '+', '-', 'COUNT', 1)
+            if #last > 0 then
+                local separator = string.find(last[1][1], '-', 1, true)
+                local lastMs = tonumber(string.sub(last[1][1], 1, separator - 1))
+                if lastMs >= ms then
+                    ms = lastMs
+                    seq = tonumber(string.sub(last[1][1], separator + 1)) + 1
+                    if seq >= tonumber(ARGV[6]) then
+                        ms = ms + 1
+                        seq = 0
+                    end
+                end
+            end
+            local id = redis.call('XADD', KEYS[1], string.format('%d-%d', ms, seq),
+                    's', ARGV[1], 'n', ARGV[2], 'c', ARGV[3])
+            redis.call('XTRIM', KEYS[1], 'MINID', '~', ARGV[4])
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            redis.call('EXPIRE', KEYS[2], ARGV[5])
+            return id
+            """, String.class);
+
+    /**
+     * KEYS: Stream, 읽음 위치 / ARGV: 읽은 사용자, TTL(초)
+     * Stream 이 append-only 이므로 마지막 메시지 ID 로 덮어쓰면 읽음 위치는 줄어들지 않는다.
+     * 반환: 읽음 위치 Stream ID (메시지가 없으면 false)
+     */
+    private static final RedisScript<String> MARK_READ_SCRIPT = new DefaultRedisScript<>("""
+            local last = redis.call('XREVRANGE', KEYS[1], '+', '-', 'COUNT', 1)
+            if #last == 0 then
+                return false
+            end
+            redis.call('HSET', KEYS[2], ARGV[1], last[1][1])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return last[1][1]
+            """, String.class);
+
+    /**
+     * KEYS: 이전 Sorted Set, Stream / ARGV: TTL(초)
+     * 이전 메시지 ID(ms * 1000 + 난수)를 그대로 Stream ID 로 옮기고, 순서가 어긋나는 ID 는 1씩 올린다.
+     * 반환: 옮긴 메시지 수 (Stream 이 이미 있으면 옮기지 않음)
+     */
+    private static final RedisScript<Long> MIGRATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                return 0
+            end
+            local members = redis.call('ZRANGE', KEYS[1], 0, -1)
+            local last = 0
+            local moved = 0
+            for _, raw in ipairs(members) do
+                local ok, message = pcall(cjson.decode, raw)
+                if ok and type(message) == 'string' then
+                    ok, message = pcall(cjson.decode, message)
+                end
+                if ok and type(message) == 'table' and type(message.id) == 'number' then
+                    local id = math.max(message.id, last + 1)
+                    local sender = type(message.senderUserId) == 'number' and string.format('%d', message.senderUserId) or ''
+                    local name = type(message.senderName) == 'string' and message.senderName or ''
+                    local content = type(message.messageContent) == 'string' and message.messageContent or ''
+                    redis.call('XADD', KEYS[2], string.format('%d-%d', math.floor(id / 1000), id % 1000),
+                            's', sender, 'n', name, 'c', content)
+                    last = id
+                    moved = moved + 1
+                end
+            end
+            redis.call('DEL', KEYS[1])
+            if moved > 0 then
+                redis.call('EXPIRE', KEYS[2], ARGV[1])
+            end
+            return moved
+            """, Long.class);
+
+    /**
+     * 메시지 저장
      */
     public ChatMessageDto saveMessage(Long roomId, Long senderUserId, String senderName, String content) {
-        String key = String.format(CHAT_MESSAGES_KEY, roomId);
-
-        // 메시지 ID 생성 (timestamp + random)
-        long messageId = System.currentTimeMillis() * 1000 + (long)(Math.random() * 1000);
-        
-        // 서버 시간대와 관계없이 한국 시간(KST)으로 저장
-        ZoneId kstZoneId = ZoneId.of("Asia/Seoul");
-        LocalDateTime now = LocalDateTime.now(kstZoneId);
-        
-        // Score는 KST 기준의 타임스탬프로 설정
-        double score = now.atZone(kstZoneId).toInstant().toEpochMilli();
-
-        ChatMessageDto message = ChatMessageDto.builder()
+        long retainFrom = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(MESSAGE_TTL_DAYS);
+        String streamId = stringRedisTemplate.execute(SAVE_SCRIPT,
+                List.of(streamKey(roomId), readKey(roomId)),
+                String.valueOf(senderUserId),
+                senderName != null ? senderName : "",
+                content,
+                retainFrom + "-0",
+                String.valueOf(TimeUnit.DAYS.toSeconds(MESSAGE_TTL_DAYS)),
+                String.valueOf(SEQUENCE_PER_MS));
+        if (streamId == null) {
+            throw new IllegalStateException("Failed to save message");
+        }
+
+        long messageId = toMessageId(streamId);
+        log.info("Message saved to Redis. Room: {}, MessageId: {}", roomId, messageId);
+        return ChatMessageDto.builder()
                 .id(messageId)
                 .chatRoomId(roomId)
                 .senderUserId(senderUserId)
                 .senderName(senderName)
                 .messageContent(content)
-                .createdAt(now)
+                .createdAt(createdAt(messageId))
                 .isRead(false)
                 .build();
-
-        try {
-            String messageJson = objectMapper.writeValueAsString(message);
-            redisTemplate.opsForZSet().add(key, messageJson, score);
-
-            // TTL 갱신 (새 메시지가 올 때마다 7일로 연장)
-            redisTemplate.expire(key, MESSAGE_TTL_DAYS, TimeUnit.DAYS);
-
-            log.info("Message saved to Redis. Room: {}, MessageId: {}", roomId, messageId);
-            return message;
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize message: {}", e.getMessage());
-            throw new RuntimeException("Failed to save message", e);
-        }
     }
 
     /**
-     * 채팅방의 모든 메시지 조회 (시간순)
+     * 채팅방 메시지를 최신 순으로 limit 개 조회해 시간순으로 반환한다.
+     *
+     * @param beforeMessageId 이 ID 보다 이전 메시지만 조회 (null 이면 최신부터)
+     * @param limit           조회 개수 (null 이면 기본값, 최대 200)
      */
-    public List<ChatMessageDto> getMessages(Long roomId) {
-        String key = String.format(CHAT_MESSAGES_KEY, roomId);
+    public List<ChatMessageDto> getMessages(Long roomId, Long beforeMessageId, Integer limit) {
+        int size = limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        Range<String> range = beforeMessageId == null
+                ? Range.<String>unbounded()
+                : Range.of(Range.Bound.unbounded(), Range.Bound.exclusive(toStreamId(beforeMessageId)));
 
-        Set<Object> messagesJson = redisTemplate.opsForZSet().range(key, 0, -1);
-
-        if (messagesJson == null || messagesJson.isEmpty()) {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .reverseRange(streamKey(roomId), range, Limit.limit().count(size));
+        if (records == null || records.isEmpty()) {
             return Collections.emptyList();
         }
+        Map<Long, Long> lastReadByUser = getLastReadMessageIds(roomId);
 
-        return messagesJson.stream()
-                .map(json -> {
-                    try {
-                        return objectMapper.readValue(json.toString(), ChatMessageDto.class);
-                    } catch (JsonProcessingException e) {
-                        log.error("Failed to deserialize message: {}", e.getMessage());
-                        return null;
-                    }
-                })
-                .filter(msg -> msg != null)
-                .collect(Collectors.toList());
+        List<ChatMessageDto> messages = new ArrayList<>(records.size());
+        for (int i = records.size() - 1; i >= 0; i--) {
+            MapRecord<String, Object, Object> record = records.get(i);
+            long messageId = toMessageId(record.getId().getValue());
+            Long senderUserId = parseUserId(record.getValue().get("s"));
+            messages.add(ChatMessageDto.builder()
+                    .id(messageId)
+                    .chatRoomId(roomId)
+                    .senderUserId(senderUserId)
+                    .senderName((String) record.getValue().get("n"))
+                    .messageContent((String) record.getValue().get("c"))
+                    .createdAt(createdAt(messageId))
+                    .isRead(isReadByOthers(lastReadByUser, senderUserId, messageId))
+                    .build());
+        }
+        return messages;
     }
 
     /**
-     * 메시지 읽음 처리 - 해당 채팅방에서 특정 사용자가 보낸 메시지 제외하고 모두 읽음 처리
+     * 사용자별 마지막으로 읽은 메시지 ID
      */
-    public void markMessagesAsRead(Long roomId, Long readerUserId) {
-        String key = String.format(CHAT_MESSAGES_KEY, roomId);
-
-        Set<Object> messagesJson = redisTemplate.opsForZSet().range(key, 0, -1);
-
-        if (messagesJson == null || messagesJson.isEmpty()) {
-            return;
-        }
-
-        for (Object json : messagesJson) {
-            try {
-                ChatMessageDto message = objectMapper.readValue(json.toString(), ChatMessageDto.class);
-
-                // 내가 보낸 메시지가 아니고 아직 읽지 않은 경우
-                if (!message.getSenderUserId().equals(readerUserId) && !Boolean.TRUE.equals(message.getIsRead())) {
-                    // 기존 메시지 삭제
-                    redisTemplate.opsForZSet().remove(key, json.toString());
-
-                    // 읽음 처리된 메시지로 다시 저장
-                    ChatMessageDto updatedMessage = ChatMessageDto.builder()
-                            .id(message.getId())
-                            .chatRoomId(message.getChatRoomId())
-                            .senderUserId(message.getSenderUserId())
-                            .senderName(message.getSenderName())
-                            .messageContent(message.getMessageContent())
-                            .createdAt(message.getCreatedAt())
-                            .isRead(true)
-                            .build();
-
-                    ZoneId kstZoneId = ZoneId.of("Asia/Seoul");
-                    double score = message.getCreatedAt().atZone(kstZoneId).toInstant().toEpochMilli();
-                    String updatedJson = objectMapper.writeValueAsString(updatedMessage);
-                    redisTemplate.opsForZSet().add(key, updatedJson, score);
-                }
-            } catch (JsonProcessingException e) {
-                log.error("Failed to process message for read status: {}", e.getMessage());
-            }
-        }
+    public Map<Long, Long> getLastReadMessageIds(Long roomId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(readKey(roomId));
+        Map<Long, Long> lastReadByUser = new HashMap<>();
+        entries.forEach((userId, streamId) ->
+                lastReadByUser.put(Long.valueOf(userId.toString()), toMessageId(streamId.toString())));
+        return lastReadByUser;
+    }
 
+    /**
+     * 읽음 처리 - 사용자의 읽음 위치를 채팅방의 마지막 메시지로 옮긴다.
+     *
+     * @return 마지막으로 읽은 메시지 ID (메시지가 없으면 null)
+     */
+    public Long markMessagesAsRead(Long roomId, Long readerUserId) {
+        String streamId = stringRedisTemplate.execute(MARK_READ_SCRIPT,
+                List.of(streamKey(roomId), readKey(roomId)),
+                String.valueOf(readerUserId),
+                String.valueOf(TimeUnit.DAYS.toSeconds(MESSAGE_TTL_DAYS)));
         log.info("Messages marked as read. Room: {}, Reader: {}", roomId, readerUserId);
+        return streamId != null ? toMessageId(streamId) : null;
     }
 
     /**
      * 채팅방의 모든 메시지 삭제
      */
     public void deleteAllMessages(Long roomId) {
-        String key = String.format(CHAT_MESSAGES_KEY, roomId);
-        redisTemplate.delete(key);
+        stringRedisTemplate.delete(List.of(streamKey(roomId), readKey(roomId)));
         log.info("All messages deleted for room: {}", roomId);
     }
 
     /**
-     * 오래된 메시지 정리 (스케줄러에서 호출)
+     * 이전 저장 방식(Sorted Set)의 메시지를 Stream 으로 옮긴다. 이미 옮긴 채팅방은 건너뛴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyMessages() {
+        ScanOptions options = ScanOptions.scanOptions().match(LEGACY_MESSAGES_KEY_PATTERN).count(500).build();
+        int rooms = 0;
+        try (Cursor<String> keys = stringRedisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                String legacyKey = keys.next();
+                String streamKey = legacyKey.substring(0, legacyKey.length() - "messages".length()) + "stream";
+                Long moved = stringRedisTemplate.execute(MIGRATE_SCRIPT, List.of(legacyKey, streamKey),
+                        String.valueOf(TimeUnit.DAYS.toSeconds(MESSAGE_TTL_DAYS)));
+                log.info("Legacy chat messages migrated. Key: {}, Messages: {}", legacyKey, moved);
+                rooms++;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to migrate legacy chat messages (will retry on next startup): {}", e.getMessage());
+        }
+        if (rooms > 0) {
+            log.info("Legacy chat message migration finished. Rooms: {}", rooms);
+        }
+    }
+
+    /**
+     * 보낸 사람이 아닌 참여자 중 한 명이라도 이 메시지까지 읽었으면 읽음
      */
-    public void cleanupOldMessages(Long roomId, int daysToKeep) {
-        String key = String.format(CHAT_MESSAGES_KEY, roomId);
-        ZoneId kstZoneId = ZoneId.of("Asia/Seoul");
-        long cutoffTime = LocalDateTime.now(kstZoneId)
-                .minusDays(daysToKeep)
-                .atZone(kstZoneId)
-                .toInstant()
-                .toEpochMilli();
-
-        Long removedCount = redisTemplate.opsForZSet().removeRangeByScore(key, 0, cutoffTime);
-        if (removedCount != null && removedCount > 0) {
-            log.info("Removed {} old messages from room {}", removedCount, roomId);
+    static boolean isReadByOthers(Map<Long, Long> lastReadByUser, Long senderUserId, long messageId) {
+        for (Map.Entry<Long, Long> entry : lastReadByUser.entrySet()) {
+            if (!entry.getKey().equals(senderUserId) && entry.getValue() >= messageId) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    /**
+     * 저장 스크립트 이전에 '*' 로 만든 ID 는 seq 가 한도를 넘을 수 있다. 이런 ID 는 같은 ms 의 마지막 자리로 모아
+     * 다른 ms 의 메시지와 겹치거나 순서가 바뀌지 않게 한다. (같은 ms 안에서만 같은 ID 가 될 수 있음)
+     */
+    static long toMessageId(String streamId) {
+        int separator = streamId.indexOf('-');
+        long seq = Long.parseLong(streamId.substring(separator + 1));
+        return Long.parseLong(streamId.substring(0, separator)) * SEQUENCE_PER_MS
+                + Math.min(seq, SEQUENCE_PER_MS - 1);
+    }
+
+    static String toStreamId(long messageId) {
+        return (messageId / SEQUENCE_PER_MS) + "-" + (messageId % SEQUENCE_PER_MS);
+    }
+
+    private static LocalDateTime createdAt(long messageId) {
+        // 서버 시간대와 관계없이 한국 시간(KST)으로 반환
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(messageId / 1000), KST);
+    }
+
+    private static Long parseUserId(Object value) {
+        return value == null || value.toString().isEmpty() ? null : Long.valueOf(value.toString());
+    }
+
+    private static String streamKey(Long roomId) {
+        return String.format(CHAT_STREAM_KEY, roomId);
+    }
+
+    private static String readKey(Long roomId) {
+        return String.format(CHAT_READ_KEY, roomId);
     }
 }
@@ -1,16 +0,0 @@
-package com.ssg9th2team.geharbang.domain.chat.service;
-
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.stereotype.Service;
-
-@Service
-@RequiredArgsConstructor
-public class RedisPublisher {
-    private final RedisTemplate<String, Object> redisTemplate;
-
-    public void publish(ChannelTopic topic, Object message) {
-        redisTemplate.convertAndSend(topic.getTopic(), message);
-    }
-}
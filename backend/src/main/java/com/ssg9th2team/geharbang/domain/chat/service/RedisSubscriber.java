@@ -1,57 +1,58 @@
 package com.ssg9th2team.geharbang.domain.chat.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
 
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class RedisSubscriber {
+public class RedisSubscriber implements MessageListener {
 
-    private final ObjectMapper objectMapper;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatPresenceRegistry chatPresenceRegistry;
 
     /**
-     * Redis에서 메시지가 발행(publish)되면 대기하고 있던 onMessage가 해당 메시지를 받아 처리한다.
+     * chatroom:* / chatuser:* 채널의 메시지를 이 노드의 WebSocket 구독자에게 전달한다.
+     * 대상은 채널 이름으로 판단하고, 로컬 구독이 없으면 본문을 읽지 않고 버린다.
+     * 본문은 발행한 JSON 그대로 전달한다.
      */
-    public void sendMessage(String publishMessage) {
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
         try {
-            log.info("Redis received message: {}", publishMessage);
-            JsonNode jsonNode = objectMapper.readTree(publishMessage);
-            Long roomId = null;
-            Object messageToSend = null;
-
-            if (jsonNode.has("type") && "MESSAGES_READ".equals(jsonNode.get("type").asText())) {
-                // 읽음 처리 알림 (Map)
-                roomId = jsonNode.get("roomId").asLong();
-                messageToSend = objectMapper.treeToValue(jsonNode, Map.class);
-            } else {
-                // 일반 채팅 메시지 (ChatMessageDto)
-                // ChatMessageDto에는 type 필드가 없으므로 이를 기본값으로 간주
-                if (jsonNode.has("chatRoomId")) {
-                    roomId = jsonNode.get("chatRoomId").asLong();
-                    messageToSend = objectMapper.treeToValue(jsonNode, ChatMessageDto.class);
+            String destination = null;
+            if (channel.startsWith(ChatBroadcaster.ROOM_CHANNEL_PREFIX)) {
+                Long roomId = Long.valueOf(channel.substring(ChatBroadcaster.ROOM_CHANNEL_PREFIX.length()));
+                if (chatPresenceRegistry.hasLocalRoomSubscribers(roomId)) {
+                    destination = ChatPresenceRegistry.roomDestination(roomId);
+                }
+            } else if (channel.startsWith(ChatBroadcaster.USER_CHANNEL_PREFIX)) {
+                Long userId = Long.valueOf(channel.substring(ChatBroadcaster.USER_CHANNEL_PREFIX.length()));
+                if (chatPresenceRegistry.hasLocalUserSubscribers(userId)) {
+                    destination = ChatPresenceRegistry.userNotificationDestination(userId);
                 }
             }
-
-            if (roomId != null && messageToSend != null) {
-                // WebSocket 구독자에게 채팅방별로 메시지 전송
-                log.info("Sending message to WS topic /topic/chatroom/{}: {}", roomId, messageToSend);
-                messagingTemplate.convertAndSend("/topic/chatroom/" + roomId, messageToSend);
-                log.info("Message sent successfully to /topic/chatroom/{}", roomId);
-            } else {
-                log.warn("Invalid message format received from Redis. RoomId or Message is null. Raw: {}", publishMessage);
+            if (destination == null) {
+                return;
             }
 
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+            messagingTemplate.send(destination, MessageBuilder.createMessage(message.getBody(), accessor.getMessageHeaders()));
+            log.debug("Message sent to WS topic {}", destination);
         } catch (Exception e) {
-            log.error("Exception in RedisSubscriber while processing message: {}. Error: {}", publishMessage, e.getMessage(), e);
+            log.error("Exception in RedisSubscriber while processing message on channel {}: {}", channel, e.getMessage(), e);
         }
     }
 }
@@ -1,10 +1,9 @@
 package com.ssg9th2team.geharbang.domain.coupon.controller;
 
-import com.ssg9th2team.geharbang.domain.auth.entity.User;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.coupon.dto.CouponResponseDto;
 import com.ssg9th2team.geharbang.domain.coupon.dto.UserCouponResponseDto;
 import com.ssg9th2team.geharbang.domain.coupon.service.UserCouponService;
+import com.ssg9th2team.geharbang.global.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -20,7 +19,6 @@ public class CouponController {
 
     private final com.ssg9th2team.geharbang.domain.coupon.service.CouponService couponService;
     private final UserCouponService userCouponService;
-    private final UserRepository userRepository;
 
     // 숙소 상세페이지에서 다운로드 가능한 쿠폰 목록 조회
     @GetMapping("/accommodation/{accommodationId}")
@@ -39,11 +37,10 @@ public class CouponController {
             Authentication authentication,
             @RequestParam(defaultValue = "ISSUED") String status) {
 
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
+        Long userId = SecurityUtils.findUserId(authentication)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
-        List<UserCouponResponseDto> coupons = userCouponService.getMyCouponsByStatus(user.getId(), status);
+        List<UserCouponResponseDto> coupons = userCouponService.getMyCouponsByStatus(userId, status);
         return ResponseEntity.ok(coupons);
     }
 
@@ -53,11 +50,10 @@ public class CouponController {
             Authentication authentication,
             @RequestParam Long couponId) {
 
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
+        Long userId = SecurityUtils.findUserId(authentication)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
-        userCouponService.issueCoupon(user.getId(), couponId);
+        userCouponService.issueCoupon(userId, couponId);
         return ResponseEntity.ok("쿠폰이 발급되었습니다");
     }
 
@@ -68,11 +64,10 @@ public class CouponController {
             Authentication authentication,
             @PathVariable Long userCouponId) {
 
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
+        Long userId = SecurityUtils.findUserId(authentication)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
-        userCouponService.useCoupon(user.getId(), userCouponId);
+        userCouponService.useCoupon(userId, userCouponId);
         return ResponseEntity.ok("쿠폰이 사용되었습니다");
     }
 
@@ -80,9 +75,8 @@ public class CouponController {
 
     @GetMapping("/my/ids")
     public ResponseEntity<List<Long>> getMyCouponIds(Authentication authentication) {
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
+        Long userId = SecurityUtils.findUserId(authentication)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-        return ResponseEntity.ok(new ArrayList<>(userCouponService.getMyCouponIds(user.getId())));
+        return ResponseEntity.ok(new ArrayList<>(userCouponService.getMyCouponIds(userId)));
     }
 }
@@ -52,6 +52,13 @@ public interface CouponInventoryRepository extends JpaRepository<CouponInventory
             + "where ci.couponId = :couponId and ci.availableToday > 0")
     int decrementAvailable(@Param("couponId") Long couponId);
 
+    // 일괄 발급분 차감 (count 번 decrementAvailable 한 것과 같이 0 미만으로 내려가지 않음)
+    @Modifying(clearAutomatically = true)
+    @Query("update CouponInventory ci set ci.availableToday = "
+            + "case when ci.availableToday > :count then ci.availableToday - :count else 0 end "
+            + "where ci.couponId = :couponId and ci.availableToday > 0")
+    int decrementAvailableBy(@Param("couponId") Long couponId, @Param("count") int count);
+
     // 선착순 쿠폰 여부 확인
     boolean existsByCouponId(Long couponId);
 }
@@ -61,6 +61,23 @@ public interface UserCouponJpaRepository extends JpaRepository<UserCoupon, Long>
     @Query("delete from UserCoupon uc where uc.couponId in :couponIds")
     int deleteByCouponIds(@Param("couponIds") List<Long> couponIds);
 
+    /**
+     * 결제 승인 시 쿠폰 선점
+     * 발급(ISSUED) 상태이고 만료 전인 경우에만 사용(USED)으로 바꾼다.
+     * 같은 쿠폰을 건 대기 예약이 여러 개여도 한 건만 1을 돌려받는다.
+     *
+     * @return 변경된 행 수 (0 이면 이미 사용/만료/회수된 쿠폰)
+     */
+    @Modifying
+    @Query("update UserCoupon uc set uc.status = :used, uc.usedAt = :now "
+            + "where uc.id = :userCouponId and uc.userId = :userId and uc.status = :issued "
+            + "and (uc.expiredAt is null or uc.expiredAt > :now)")
+    int claimIssued(@Param("userCouponId") Long userCouponId,
+                    @Param("userId") Long userId,
+                    @Param("issued") UserCouponStatus issued,
+                    @Param("used") UserCouponStatus used,
+                    @Param("now") LocalDateTime now);
+
     /**
      * N+1 쿼리 방지를 위한 JOIN 쿼리
      * 사용자 ID, 상태, 트리거 타입으로 쿠폰 조회
@@ -1,6 +1,7 @@
 package com.ssg9th2team.geharbang.domain.coupon.repository.mybatis;
 
 import com.ssg9th2team.geharbang.domain.coupon.dto.UserCouponResponseDto;
+import com.ssg9th2team.geharbang.domain.coupon.entity.UserCoupon;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -12,4 +13,7 @@ public interface UserCouponMapper {
     // 상태별 쿠폰 조회 (ISSUED / USED / EXPIRED)
     List<UserCouponResponseDto> selectMyCouponsByStatus(@Param("userId") Long userId,
                                                         @Param("status") String status);
+
+    // 비동기 발급 요청 일괄 저장 (multi-row INSERT 한 번)
+    int insertUserCoupons(@Param("userCoupons") List<UserCoupon> userCoupons);
 }
@@ -6,11 +6,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 @Slf4j
@@ -20,6 +29,7 @@ public class CouponInventoryService {
 
     private final CouponInventoryRepository couponInventoryRepository;
     private final StringRedisTemplate redisTemplate;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${coupon.issue.skip-db-finalize:false}")
     private boolean skipDbFinalize;
@@ -28,6 +38,157 @@ public class CouponInventoryService {
     private boolean asyncEnabled;
     
     private static final String COUPON_STOCK_KEY_PREFIX = "coupon:stock:";
+    static final String COUPON_ISSUED_KEY_PREFIX = "coupon:issued:";
+
+    /**
+     * 선착순 쿠폰 발급 (중복 확인 + 재고 차감 + 발급 큐 적재)을 한 번에 처리한다.
+     * KEYS: 발급 이력 Set, 재고 키, (발급 큐) / ARGV: userId, 중복 확인 여부(1/0), (발급 요청 payload)
+     * 반환: 0 발급, 1 중복, 2 소진, 3 재고 키 없음
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local checkDuplicate = ARGV[2] == '1'
+            if checkDuplicate and redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                return 1
+            end
+            local stock = redis.call('GET', KEYS[2])
+            if not stock then
+                return 3
+            end
+            if tonumber(stock) <= 0 then
+                return 2
+            end
+            redis.call('DECR', KEYS[2])
+            if checkDuplicate then
+                redis.call('SADD', KEYS[1], ARGV[1])
+            end
+            if #KEYS > 2 then
+                redis.call('LPUSH', KEYS[3], ARGV[3])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 재고 키가 없을 때만 채운다. 여러 요청이 동시에 채우려 해도 처음 한 번만 반영되어 그사이의 DECR 을 덮어쓰지 않는다.
+     * 큐/재시도 큐/처리 중 목록에 남은 이 쿠폰의 요청은 DB 재고에 아직 반영되지 않았으므로 빼고 채운다.
+     * (DB 반영 후 ack 전인 요청은 두 번 빠지지만 적게 채우는 쪽이라 초과 발급은 없다)
+     * KEYS: 재고 키, 발급 큐, 재시도 큐, 처리 중 목록 / ARGV: DB 재고, 쿠폰 ID 구분자("|couponId|")
+     * 반환: 채운 재고, 이미 있으면 -1
+     */
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return -1
+            end
+            local inflight = 0
+            local function count(items)
+                for _, item in ipairs(items) do
+                    if string.find(item, ARGV[2], 1, true) then
+                        inflight = inflight + 1
+                    end
+                end
+            end
+            count(redis.call('LRANGE', KEYS[2], 0, -1))
+            count(redis.call('LRANGE', KEYS[3], 0, -1))
+            count(redis.call('ZRANGE', KEYS[4], 0, -1))
+            local stock = math.max(tonumber(ARGV[1]) - inflight, 0)
+            redis.call('SET', KEYS[1], stock)
+            return stock
+            """, Long.class);
+
+    /**
+     * 선착순 쿠폰 ID (CouponInventory 가 있는 쿠폰). null 이면 아직 적재 전이라 DB 에서 확인한다.
+     * 재고 행은 운영 데이터로만 추가되므로 주기적 재적재로 충분하다.
+     */
+    private volatile Set<Long> limitedCouponIds;
+
+    public enum ClaimResult {
+        CLAIMED,
+        DUPLICATED,
+        SOLD_OUT,
+        /** Redis 를 사용할 수 없음 → 호출부는 DB 락 방식으로 처리 */
+        UNAVAILABLE
+    }
+
+    /**
+     * 선착순 제한이 있는 쿠폰인지 확인한다. (발급 요청마다 DB 조회하지 않도록 메모리에서 판단)
+     */
+    public boolean isLimited(Long couponId) {
+        Set<Long> couponIds = limitedCouponIds;
+        if (couponIds == null) {
+            return couponInventoryRepository.existsByCouponId(couponId);
+        }
+        return couponIds.contains(couponId);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.inventory.limited-ids-refresh-ms:60000}",
+            initialDelayString = "${coupon.inventory.limited-ids-refresh-ms:60000}")
+    public void refreshLimitedCouponIds() {
+        try {
+            limitedCouponIds = Set.copyOf(couponInventoryRepository.findAllCouponIds());
+        } catch (Exception e) {
+            log.warn("선착순 쿠폰 ID 목록 갱신 실패 (이전 목록 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 선착순 쿠폰 1장을 Redis 에서 원자적으로 확보한다.
+     * 
+     * <p>중복 확인(SISMEMBER/SADD), 재고 차감(DECR), 비동기 발급 큐 적재(LPUSH)를 스크립트 한 번으로 처리하므로
+     * 중간 실패에 대한 보상(INCR, SREM)이 필요 없다. 재고 키가 없으면 {@link #seedRedisStock} 으로 채운 뒤 한 번 더 시도한다.
+     * 
+     * @param queuePayload 비동기 발급 요청 (null 이면 큐에 적재하지 않음 - 동기 저장)
+     */
+    public ClaimResult claimSlot(Long couponId, Long userId, String queuePayload, boolean checkDuplicate) {
+        List<String> keys = new ArrayList<>(List.of(COUPON_ISSUED_KEY_PREFIX + couponId, COUPON_STOCK_KEY_PREFIX + couponId));
+        List<String> args = new ArrayList<>(List.of(userId.toString(), checkDuplicate ? "1" : "0"));
+        if (queuePayload != null) {
+            keys.add(CouponIssueQueueService.QUEUE_KEY);
+            args.add(queuePayload);
+        }
+        try {
+            Long code = redisTemplate.execute(CLAIM_SCRIPT, keys, args.toArray());
+            if (code != null && code == 3) {
+                seedRedisStock(couponId);
+                code = redisTemplate.execute(CLAIM_SCRIPT, keys, args.toArray());
+            }
+            if (code == null || code == 3) {
+                return ClaimResult.UNAVAILABLE;
+            }
+            if (code == 1) {
+                log.debug("쿠폰 {} 중복 발급 차단 - userId: {}", couponId, userId);
+                return ClaimResult.DUPLICATED;
+            }
+            if (code == 2) {
+                log.debug("쿠폰 {} Redis 재고 부족", couponId);
+                return ClaimResult.SOLD_OUT;
+            }
+            return ClaimResult.CLAIMED;
+        } catch (Exception e) {
+            log.error("Redis 오류 발생. DB 락으로 폴백: couponId={}", couponId, e);
+            return ClaimResult.UNAVAILABLE;
+        }
+    }
+
+    /**
+     * 동기 발급 모드에서 Redis 로 확보한 1장을 DB 재고에서 최종 차감한다.
+     * DB 재고가 없으면 Redis 재고를 0으로 맞춘다.
+     */
+    @Transactional
+    public boolean consumeDbSlot(Long couponId) {
+        return couponInventoryRepository.findWithLockByCouponId(couponId)
+                .map(inventory -> {
+                    inventory.resetIfNeeded(LocalDate.now());
+
+                    if (!inventory.hasAvailable()) {
+                        log.warn("쿠폰 {} Redis-DB 불일치 감지. Redis 0으로 초기화", couponId);
+                        redisTemplate.opsForValue().set(COUPON_STOCK_KEY_PREFIX + couponId, "0");
+                        return false;
+                    }
+
+                    inventory.consumeOne();
+                    return true;
+                })
+                .orElse(true);
+    }
 
     /**
      * 선착순 제한이 있는 쿠폰이면 하루 수량을 확인하고 1장 차감한다.
@@ -38,7 +199,7 @@ public class CouponInventoryService {
     @Transactional
     public boolean consumeSlotIfLimited(Long couponId) {
         // 선착순 쿠폰이 아니면 바로 통과
-        if (!couponInventoryRepository.existsByCouponId(couponId)) {
+        if (!isLimited(couponId)) {
             return true;
         }
 
@@ -58,30 +219,13 @@ public class CouponInventoryService {
                 return false;
             }
 
-            // Redis 통과 여부와 관계없이 skip 설정에 따라 DB 검증 수행
-            if (skipDbFinalize) {
+            // 비동기 모드에서는 발급 처리기가 DB 재고를 차감하므로 락을 잡지 않는다.
+            if (skipDbFinalize || asyncEnabled) {
                 return true;
             }
 
-            // Redis 통과 - 2단계: DB <- 최종 확정 (비동기 모드에서도 수행)
-            return couponInventoryRepository.findWithLockByCouponId(couponId)
-                    .map(inventory -> {
-                        inventory.resetIfNeeded(LocalDate.now());
-
-                        if (!inventory.hasAvailable()) {
-                            // DB와 Redis 불일치 발견 - Redis 동기화
-                            log.warn("쿠폰 {} Redis-DB 불일치 감지. Redis 0으로 초기화", couponId);
-                            redisTemplate.opsForValue().set(redisKey, "0");
-                            return false;
-                        }
-
-                        // DB에서 차감 성공
-                        inventory.consumeOne();
-                        log.debug("쿠폰 {} 발급 성공 - DB 재고: {}, Redis 재고: {}",
-                                couponId, inventory.getAvailableToday(), remaining);
-                        return true;
-                    })
-                    .orElse(true); // 선착순 제한이 없는 쿠폰
+            // Redis 통과 - 2단계: DB <- 최종 확정
+            return consumeDbSlot(couponId);
                     
         } catch (Exception e) {
             log.error("Redis 오류 발생. DB 락으로 폴백: couponId={}", couponId, e);
@@ -133,8 +277,10 @@ public class CouponInventoryService {
      */
     @Transactional
     public void initializeAllRedisStock() {
+        Set<Long> couponIds = new HashSet<>();
         try (Stream<CouponInventory> stream = couponInventoryRepository.streamAll()) {
             stream.forEach(inventory -> {
+                couponIds.add(inventory.getCouponId());
                 // 필요 시 DB 상태 업데이트 (Dirty Checking)
                 inventory.resetIfNeeded(LocalDate.now());
                 
@@ -145,12 +291,36 @@ public class CouponInventoryService {
                         inventory.getCouponId(), inventory.getAvailableToday());
             });
         }
+        limitedCouponIds = Set.copyOf(couponIds);
         
         log.info("Redis 쿠폰 재고 초기화 완료 (Stream 처리)");
     }
 
     /**
-     * 특정 쿠폰의 Redis 재고를 DB와 동기화
+     * 재고 키가 없을 때 DB 재고에서 처리 대기 중인 발급 요청을 뺀 값으로 채운다. (이미 있으면 그대로 둔다)
+     *
+     * <p>DB 재고 행을 잠근 채 읽고 채우므로, 그사이 발급 처리기가 차감을 커밋하고 ack 해서
+     * DB 에도 큐에도 보이지 않는 요청이 생기지 않는다. 발급 트랜잭션과 분리해 채운 즉시 잠금을 푼다.
+     */
+    void seedRedisStock(Long couponId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.executeWithoutResult(status ->
+                couponInventoryRepository.findWithLockByCouponId(couponId).ifPresent(inventory -> {
+                    inventory.resetIfNeeded(LocalDate.now());
+                    Long seeded = redisTemplate.execute(SEED_SCRIPT,
+                            List.of(COUPON_STOCK_KEY_PREFIX + couponId, CouponIssueQueueService.QUEUE_KEY,
+                                    CouponIssueQueueService.RETRY_KEY, CouponIssueQueueService.PROCESSING_KEY),
+                            String.valueOf(inventory.getAvailableToday()), "|" + couponId + "|");
+                    if (seeded != null && seeded >= 0) {
+                        log.info("쿠폰 {} Redis 재고 채움: {} (DB {})", couponId, seeded, inventory.getAvailableToday());
+                    }
+                }));
+    }
+
+    /**
+     * 특정 쿠폰의 Redis 재고를 DB 값으로 덮어쓴다.
+     * 진행 중인 차감을 덮어쓰므로 발급이 멈춘 상태(운영 점검, 테스트)에서만 사용하고, 발급 경로는 {@link #seedRedisStock} 을 쓴다.
      */
     public void syncRedisStock(Long couponId) {
         couponInventoryRepository.findByCouponId(couponId).ifPresent(inventory -> {
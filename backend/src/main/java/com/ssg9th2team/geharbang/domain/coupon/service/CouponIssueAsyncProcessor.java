@@ -2,15 +2,20 @@ package com.ssg9th2team.geharbang.domain.coupon.service;
 
 import com.ssg9th2team.geharbang.domain.coupon.entity.UserCoupon;
 import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.CouponInventoryRepository;
-import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.UserCouponJpaRepository;
+import com.ssg9th2team.geharbang.domain.coupon.repository.mybatis.UserCouponMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 쿠폰 발급 비동기 처리기
@@ -22,6 +27,9 @@ import org.springframework.transaction.annotation.Transactional;
  *   <li>DB 저장은 비동기 배치 처리 → 락 경합 최소화</li>
  *   <li>실패 시 재시도 큐로 분리 → eventual consistency 보장</li>
  * </ul>
+ * 
+ * <p>한 주기에 꺼낸 요청은 한 트랜잭션에서 multi-row INSERT 한 번과 쿠폰별 재고 UPDATE 한 번으로 저장한다.
+ * 배치가 실패하면 요청별 트랜잭션으로 나누어 실패한 요청만 재시도 큐로 보낸다.
  */
 @Slf4j
 @Component
@@ -29,9 +37,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class CouponIssueAsyncProcessor {
 
     private final CouponIssueQueueService couponIssueQueueService;
-    private final UserCouponJpaRepository userCouponJpaRepository;
+    private final UserCouponMapper userCouponMapper;
     private final CouponInventoryRepository couponInventoryRepository;
     private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${coupon.issue.async-enabled:true}")
     private boolean asyncEnabled;
@@ -39,6 +48,9 @@ public class CouponIssueAsyncProcessor {
     @Value("${coupon.issue.async-processor.batch-size:200}")
     private int batchSize;
 
+    @Value("${coupon.issue.async-processor.processing-timeout-ms:60000}")
+    private long processingTimeoutMs;
+
     /**
      * Redis 큐에서 쿠폰 발급 요청을 가져와 DB에 저장한다.
      * 
@@ -47,54 +59,98 @@ public class CouponIssueAsyncProcessor {
      * 
      * <p>처리 순서:
      * <ol>
-     *   <li>메인 큐(coupon:issue:queue)에서 요청 꺼내기</li>
+     *   <li>메인 큐(coupon:issue:queue)에서 요청을 한 번에 꺼내기</li>
      *   <li>메인 큐가 비었으면 재시도 큐(coupon:issue:retry)에서 꺼내기</li>
-     *   <li>둘 다 비었으면 종료</li>
+     *   <li>한 트랜잭션으로 일괄 저장, 실패 시 요청별로 다시 저장</li>
+     *   <li>처리한 요청을 ack 하여 처리 중 목록에서 제거</li>
      * </ol>
      */
     @Scheduled(fixedDelayString = "${coupon.issue.async-processor.delay-ms:200}")
-    @Transactional
     public void drainQueue() {
         if (!asyncEnabled) {
             return;
         }
-        for (int i = 0; i < batchSize; i++) {
-            CouponIssueQueueService.IssueRequest request = couponIssueQueueService.pollIssue();
-            if (request == null) {
-                request = couponIssueQueueService.pollRetry();
-                if (request == null) {
-                    return;
-                }
-            }
-            processRequest(request);
+        List<CouponIssueQueueService.IssueRequest> polled = couponIssueQueueService.pollIssues(batchSize);
+        List<CouponIssueQueueService.IssueRequest> requests = polled.isEmpty()
+                ? couponIssueQueueService.pollRetries(batchSize)
+                : polled;
+        if (requests.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveBatch(requests));
+            requests.stream()
+                    .map(CouponIssueQueueService.IssueRequest::getUserId)
+                    .distinct()
+                    .forEach(userId -> evictUserCouponCache(userId, "ISSUED"));
+        } catch (Exception ex) {
+            log.warn("쿠폰 발급 일괄 저장 실패, 요청별로 재처리합니다. size={}, {}", requests.size(), ex.getMessage());
+            requests.forEach(this::processRequest);
         }
+        couponIssueQueueService.acknowledge(requests.stream()
+                .map(CouponIssueQueueService.IssueRequest::getPayload)
+                .toList());
+    }
+
+    /**
+     * 처리 도중 서버가 종료되어 ack 되지 않은 요청을 재시도 큐로 되돌린다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.async-processor.recover-delay-ms:30000}")
+    public void recoverStaleRequests() {
+        if (!asyncEnabled) {
+            return;
+        }
+        long recovered = couponIssueQueueService.recoverStaleProcessing(processingTimeoutMs);
+        if (recovered > 0) {
+            log.warn("처리 중 상태로 남은 쿠폰 발급 요청 {}건을 재시도 큐로 이동", recovered);
+        }
+    }
+
+    /**
+     * 꺼낸 요청 전체를 저장하고 쿠폰별 발급 수만큼 재고를 한 번에 차감한다.
+     */
+    private void saveBatch(List<CouponIssueQueueService.IssueRequest> requests) {
+        Map<Long, Integer> issuedCountByCoupon = new LinkedHashMap<>();
+        List<UserCoupon> userCoupons = requests.stream()
+                .map(request -> {
+                    issuedCountByCoupon.merge(request.getCouponId(), 1, Integer::sum);
+                    return UserCoupon.issue(request.getUserId(), request.getCouponId(), request.getExpiresAt());
+                })
+                .toList();
+        userCouponMapper.insertUserCoupons(userCoupons);
+        issuedCountByCoupon.forEach(couponInventoryRepository::decrementAvailableBy);
     }
 
     /**
-     * 개별 쿠폰 발급 요청을 DB에 저장한다.
+     * 개별 쿠폰 발급 요청을 DB에 저장한다. (일괄 저장 실패 시)
      * 
      * <p>처리 단계:
      * <ol>
-     *   <li>UserCoupon 엔티티 생성 및 저장</li>
+     *   <li>UserCoupon 저장 (일괄 저장과 같은 MyBatis INSERT)</li>
      *   <li>CouponInventory의 잔여 수량 차감</li>
      *   <li>사용자 쿠폰 캐시 무효화 (최신 데이터 조회 보장)</li>
      * </ol>
      * 
-     * <p>실패 시 재시도 큐(coupon:issue:retry)에 적재하여
-     * 다음 스케줄 주기에 재처리 시도한다.
+     * <p>이미 발급된 쿠폰(유니크 키 중복, {@link DuplicateKeyException})만 버린다.
+     * FK/NOT NULL/길이 초과 같은 다른 무결성 오류를 포함한 그 외 실패는 에러 로그를 남기고
+     * 재시도 큐(coupon:issue:retry)에 적재하여 다음 스케줄 주기에 재처리 시도한다.
      * 
      * @param request Redis 큐에서 가져온 발급 요청 (userId, couponId, expiresAt 포함)
      */
     private void processRequest(CouponIssueQueueService.IssueRequest request) {
         try {
-            UserCoupon userCoupon = UserCoupon.issue(
-                    request.getUserId(),
-                    request.getCouponId(),
-                    request.getExpiresAt()
-            );
-            userCouponJpaRepository.save(userCoupon);
-            couponInventoryRepository.decrementAvailable(request.getCouponId());
+            transactionTemplate.executeWithoutResult(status -> {
+                UserCoupon userCoupon = UserCoupon.issue(
+                        request.getUserId(),
+                        request.getCouponId(),
+                        request.getExpiresAt()
+                );
+                userCouponMapper.insertUserCoupons(List.of(userCoupon));
+                couponInventoryRepository.decrementAvailable(request.getCouponId());
+            });
             evictUserCouponCache(request.getUserId(), "ISSUED");
+        } catch (DuplicateKeyException ex) {
+            log.warn("이미 발급된 쿠폰 요청 폐기. payload={}", request.getPayload());
         } catch (Exception ex) {
             log.error("쿠폰 발급 비동기 처리 실패. payload={}", request.getPayload(), ex);
             couponIssueQueueService.enqueueRetry(request.getPayload());
@@ -1,9 +1,15 @@
 package com.ssg9th2team.geharbang.domain.coupon.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 /**
@@ -14,6 +20,7 @@ import org.springframework.stereotype.Service;
  * <ul>
  *   <li>메인 큐(coupon:issue:queue): 신규 발급 요청을 적재</li>
  *   <li>재시도 큐(coupon:issue:retry): 처리 실패 시 재시도 대상을 적재</li>
+ *   <li>처리 중 목록(coupon:issue:processing): 꺼낸 뒤 DB 반영 완료(ack) 전까지 보관하는 Sorted Set (score: 꺼낸 시각)</li>
  * </ul>
  * 
  * <p>Redis List 연산:
@@ -21,15 +28,48 @@ import org.springframework.stereotype.Service;
  *   <li>LPUSH: 큐의 왼쪽(머리)에 추가</li>
  *   <li>RPOP: 큐의 오른쪽(꼬리)에서 꺼내기 → FIFO 구조</li>
  * </ul>
+ *
+ * <p>비동기 처리기는 여러 건을 한 번에 꺼내 처리 중 목록으로 옮기고, DB 반영 후 ack 한다.
+ * ack 되지 않은 채 오래된 요청(처리 중 장애)은 재시도 큐로 되돌린다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CouponIssueQueueService {
 
-    private static final String QUEUE_KEY = "coupon:issue:queue";
-    private static final String RETRY_KEY = "coupon:issue:retry";
+    static final String QUEUE_KEY = "coupon:issue:queue";
+    static final String RETRY_KEY = "coupon:issue:retry";
+    static final String PROCESSING_KEY = "coupon:issue:processing";
     private static final String DELIMITER = "|";
 
+    /**
+     * KEYS: 꺼낼 큐, 처리 중 목록 / ARGV: 최대 개수, 현재 시각(ms)
+     */
+    private static final RedisScript<List> POLL_SCRIPT = new DefaultRedisScript<>("""
+            local items = {}
+            for i = 1, tonumber(ARGV[1]) do
+                local item = redis.call('RPOP', KEYS[1])
+                if not item then
+                    break
+                end
+                redis.call('ZADD', KEYS[2], ARGV[2], item)
+                items[i] = item
+            end
+            return items
+            """, List.class);
+
+    /**
+     * KEYS: 처리 중 목록, 재시도 큐 / ARGV: 기준 시각(ms)
+     */
+    private static final RedisScript<Long> RECOVER_SCRIPT = new DefaultRedisScript<>("""
+            local items = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+            for _, item in ipairs(items) do
+                redis.call('LPUSH', KEYS[2], item)
+                redis.call('ZREM', KEYS[1], item)
+            end
+            return #items
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
 
     /**
@@ -49,34 +89,78 @@ public class CouponIssueQueueService {
     }
 
     /**
-     * 메인 큐에서 쿠폰 발급 요청을 하나 꺼낸다 (FIFO).
+     * 메인 큐에서 쿠폰 발급 요청을 최대 maxItems 개 꺼낸다 (FIFO).
      * 
-     * <p>비동기 처리기(CouponIssueAsyncProcessor)가 주기적으로 호출하여
-     * 큐에 쌓인 요청을 순차적으로 처리한다.
+     * <p>비동기 처리기(CouponIssueAsyncProcessor)가 주기적으로 호출하며,
+     * 꺼낸 요청은 DB 반영 후 {@link #acknowledge}로 처리 중 목록에서 제거해야 한다.
      * 
-     * @return 큐에서 꺼낸 발급 요청 (큐가 비었으면 null)
+     * @param maxItems 한 번에 꺼낼 최대 개수
+     * @return 꺼낸 발급 요청 (큐가 비었으면 빈 목록)
      */
-    public IssueRequest pollIssue() {
-        String payload = redisTemplate.opsForList().rightPop(QUEUE_KEY);
-        if (payload == null) {
-            return null;
-        }
-        return decode(payload);
+    public List<IssueRequest> pollIssues(int maxItems) {
+        return poll(QUEUE_KEY, maxItems);
     }
 
     /**
-     * 재시도 큐에서 쿠폰 발급 요청을 하나 꺼낸다 (FIFO).
+     * 재시도 큐에서 쿠폰 발급 요청을 최대 maxItems 개 꺼낸다 (FIFO).
      * 
      * <p>메인 큐가 비었을 때 호출되며, 이전에 실패했던 요청을 재처리한다.
      * 
-     * @return 큐에서 꺼낸 재시도 요청 (큐가 비었으면 null)
+     * @param maxItems 한 번에 꺼낼 최대 개수
+     * @return 꺼낸 재시도 요청 (큐가 비었으면 빈 목록)
      */
-    public IssueRequest pollRetry() {
-        String payload = redisTemplate.opsForList().rightPop(RETRY_KEY);
-        if (payload == null) {
-            return null;
+    public List<IssueRequest> pollRetries(int maxItems) {
+        return poll(RETRY_KEY, maxItems);
+    }
+
+    /**
+     * 큐에서 여러 건을 한 번의 스크립트 호출로 꺼내 처리 중 목록으로 옮긴다.
+     * 형식이 잘못된 요청은 처리할 수 없으므로 로그만 남기고 버린다.
+     */
+    private List<IssueRequest> poll(String key, int maxItems) {
+        List<?> payloads = redisTemplate.execute(POLL_SCRIPT, List.of(key, PROCESSING_KEY),
+                String.valueOf(maxItems), String.valueOf(System.currentTimeMillis()));
+        List<IssueRequest> requests = new ArrayList<>();
+        if (payloads == null) {
+            return requests;
+        }
+        List<String> invalid = new ArrayList<>();
+        for (Object payload : payloads) {
+            try {
+                requests.add(decode(payload.toString()));
+            } catch (RuntimeException e) {
+                log.error("잘못된 쿠폰 발급 요청 폐기: payload={}", payload);
+                invalid.add(payload.toString());
+            }
         }
-        return decode(payload);
+        acknowledge(invalid);
+        return requests;
+    }
+
+    /**
+     * DB 반영(또는 재시도 큐 이동)이 끝난 요청을 처리 중 목록에서 제거한다.
+     * 
+     * @param payloads 처리 완료된 요청의 직렬화된 문자열
+     */
+    public void acknowledge(Collection<String> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(PROCESSING_KEY, payloads.toArray());
+    }
+
+    /**
+     * 꺼낸 지 timeoutMs 가 지나도록 ack 되지 않은 요청을 재시도 큐로 되돌린다.
+     * 
+     * <p>처리 도중 서버가 종료되어 유실될 뻔한 요청을 복구한다.
+     * 
+     * @param timeoutMs 처리 중으로 간주할 최대 시간
+     * @return 되돌린 개수
+     */
+    public long recoverStaleProcessing(long timeoutMs) {
+        Long recovered = redisTemplate.execute(RECOVER_SCRIPT, List.of(PROCESSING_KEY, RETRY_KEY),
+                String.valueOf(System.currentTimeMillis() - timeoutMs));
+        return recovered == null ? 0L : recovered;
     }
 
     /**
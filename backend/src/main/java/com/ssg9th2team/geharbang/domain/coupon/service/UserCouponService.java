@@ -20,6 +20,9 @@ public interface UserCouponService {
     // 쿠폰 사용
     void useCoupon(Long userId, Long userCouponId);
 
+    // 결제 승인 시 쿠폰 선점 (결제 승인 트랜잭션 안에서 호출, 사용할 수 없으면 예외)
+    void claimCoupon(Long userId, Long userCouponId);
+
     // 쿠폰 복구 (예약 취소 시 호출)
     void restoreCoupon(Long userId, Long userCouponId);
 
@@ -39,7 +39,6 @@ public class UserCouponServiceImpl implements UserCouponService {
     private final ReviewJpaRepository reviewJpaRepository;
     private final StringRedisTemplate redisTemplate;
     private final CacheManager cacheManager;
-    private final CouponIssueQueueService couponIssueQueueService;
 
     @Value("${coupon.issue.skip-duplicate-check:false}")
     private boolean skipDuplicateCheck;
@@ -47,8 +46,11 @@ public class UserCouponServiceImpl implements UserCouponService {
     @Value("${coupon.issue.async-enabled:true}")
     private boolean asyncEnabled;
 
+    @Value("${coupon.issue.skip-db-finalize:false}")
+    private boolean skipDbFinalize;
+
     
-    private static final String COUPON_ISSUED_KEY_PREFIX = "coupon:issued:";
+    private static final String COUPON_ISSUED_KEY_PREFIX = CouponInventoryService.COUPON_ISSUED_KEY_PREFIX;
 
     // 쿠폰 발급 (수동 - 숙소 상세페이지에서 쿠폰 받기 등)
     @Override
@@ -139,58 +141,44 @@ public class UserCouponServiceImpl implements UserCouponService {
     public CouponIssueResult issueToUser(Long userId, Coupon coupon) {
         Long couponId = coupon.getCouponId();
         
-        // ✅ 선착순 쿠폰 여부 확인 (CouponInventory 존재 여부)
-        boolean isLimited = couponInventoryRepository.existsByCouponId(couponId);
+        // ✅ 선착순 쿠폰 여부 확인 (CouponInventory 존재 여부 - 메모리 캐시)
+        boolean isLimited = couponInventoryService.isLimited(couponId);
         
         if (isLimited) {
-            // 📌 선착순 쿠폰 → Redis 사용
-            if (!skipDuplicateCheck) {
-                // 1. Redis Set으로 중복 체크 (O(1))
-                String redisKey = COUPON_ISSUED_KEY_PREFIX + couponId;
-                Long addCount = redisTemplate.opsForSet().add(redisKey, userId.toString());
-
-                if (addCount != null && addCount == 0) {
-                    // Redis에 이미 존재 → 중복 발급
-                    log.debug("쿠폰 {} 중복 발급 차단 - userId: {}", couponId, userId);
-                    return CouponIssueResult.DUPLICATED;
-                }
-
-                if (!asyncEnabled) {
-                    // DB에도 확인 (Redis 장애 대비 이중 체크)
-                    if (userCouponJpaRepository.existsByUserIdAndCouponId(userId, couponId)) {
-                        // Redis에는 없었지만 DB에 있음 → Redis 동기화 필요
-                        log.warn("쿠폰 {} Redis-DB 불일치 감지 - userId: {}", couponId, userId);
-                        // Redis에서 제거 (동기화)
-                        redisTemplate.opsForSet().remove(redisKey, userId.toString());
-                        return CouponIssueResult.DUPLICATED;
-                    }
-                }
-            }
-
-            // 2. 선착순 재고 확인
-            boolean slotAvailable = couponInventoryService.consumeSlotIfLimited(couponId);
-            if (!slotAvailable) {
-                String redisKey = COUPON_ISSUED_KEY_PREFIX + couponId;
-                redisTemplate.opsForSet().remove(redisKey, userId.toString());
-                return CouponIssueResult.SOLD_OUT;
+            // 📌 선착순 쿠폰 → Redis 스크립트 한 번으로 중복 확인 + 재고 차감 + 큐 적재
+            if (!asyncEnabled && !skipDuplicateCheck
+                    && userCouponJpaRepository.existsByUserIdAndCouponId(userId, couponId)) {
+                // 동기 모드: DB에도 확인 (Redis 장애 대비 이중 체크)
+                log.debug("쿠폰 {} 중복 발급 차단 (DB) - userId: {}", couponId, userId);
+                return CouponIssueResult.DUPLICATED;
             }
 
-            // 3. 만료일 계산
             LocalDateTime expiresAt = coupon.calculateExpiryDate();
+            String payload = asyncEnabled ? CouponIssueQueueService.encode(userId, couponId, expiresAt) : null;
+            CouponInventoryService.ClaimResult claim =
+                    couponInventoryService.claimSlot(couponId, userId, payload, !skipDuplicateCheck);
+
+            switch (claim) {
+                case DUPLICATED:
+                    return CouponIssueResult.DUPLICATED;
+                case SOLD_OUT:
+                    return CouponIssueResult.SOLD_OUT;
+                case UNAVAILABLE:
+                    return issueWithDbLock(userId, couponId, expiresAt);
+                default:
+                    break;
+            }
 
             if (asyncEnabled) {
-                // 비동기 큐에 추가
-                boolean enqueued = couponIssueQueueService.enqueueIssue(userId, couponId, expiresAt);
-                if (!enqueued) {
-                    String redisKey = COUPON_ISSUED_KEY_PREFIX + couponId;
-                    redisTemplate.opsForSet().remove(redisKey, userId.toString());
-                    couponInventoryService.restoreRedisSlot(couponId);
-                    return CouponIssueResult.FAILED;
-                }
+                // 비동기 큐에 이미 적재됨
                 return CouponIssueResult.SUCCESS;
             }
 
-            // 동기 저장
+            // 동기 저장: DB 재고 최종 차감
+            if (!skipDbFinalize && !couponInventoryService.consumeDbSlot(couponId)) {
+                redisTemplate.opsForSet().remove(COUPON_ISSUED_KEY_PREFIX + couponId, userId.toString());
+                return CouponIssueResult.SOLD_OUT;
+            }
             CouponIssueResult result = saveUserCoupon(userId, couponId, expiresAt);
             if (result == CouponIssueResult.DUPLICATED) {
                 couponInventoryService.restoreRedisSlot(couponId);
@@ -261,6 +249,21 @@ public class UserCouponServiceImpl implements UserCouponService {
     }
 
 
+    // 결제 승인 시 쿠폰 선점
+    // 조회 후 변경이 아니라 조건부 UPDATE 한 번으로 처리해서 같은 쿠폰을 건 예약 두 건이 동시에 승인되어도 한 건만 성공
+    @Override
+    @Transactional
+    public void claimCoupon(Long userId, Long userCouponId) {
+        int claimed = userCouponJpaRepository.claimIssued(
+                userCouponId, userId, UserCouponStatus.ISSUED, UserCouponStatus.USED, LocalDateTime.now());
+        if (claimed != 1) {
+            throw new IllegalStateException("사용할 수 없는 쿠폰입니다. (이미 사용되었거나 만료된 쿠폰)");
+        }
+        evictUserCouponCache(userId, "ISSUED");
+        evictUserCouponCache(userId, "USED");
+    }
+
+
     // 쿠폰 복구 처리 (예약 취소 시 호출)
     @Override
     @Transactional
@@ -303,6 +306,19 @@ public class UserCouponServiceImpl implements UserCouponService {
         cache.evict(userId + "_" + status);
     }
 
+    /**
+     * Redis 장애 시 DB 중복 확인 + 비관적 락 재고 차감 후 동기 저장한다.
+     */
+    private CouponIssueResult issueWithDbLock(Long userId, Long couponId, LocalDateTime expiresAt) {
+        if (userCouponJpaRepository.existsByUserIdAndCouponId(userId, couponId)) {
+            return CouponIssueResult.DUPLICATED;
+        }
+        if (!couponInventoryService.fallbackToDbLock(couponId)) {
+            return CouponIssueResult.SOLD_OUT;
+        }
+        return saveUserCoupon(userId, couponId, expiresAt);
+    }
+
     private CouponIssueResult saveUserCoupon(Long userId, Long couponId, LocalDateTime expiresAt) {
         try {
             UserCoupon userCoupon = UserCoupon.issue(userId, couponId, expiresAt);
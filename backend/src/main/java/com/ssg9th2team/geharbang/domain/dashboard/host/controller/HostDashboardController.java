@@ -1,10 +1,9 @@
 package com.ssg9th2team.geharbang.domain.dashboard.host.controller;
 
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.dashboard.host.dto.HostDashboardSummaryResponse;
 import com.ssg9th2team.geharbang.domain.dashboard.host.dto.TodayScheduleItemResponse;
 import com.ssg9th2team.geharbang.domain.dashboard.host.service.HostDashboardService;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,7 +21,6 @@ import java.util.List;
 public class HostDashboardController {
 
     private final HostDashboardService hostDashboardService;
-    private final UserRepository userRepository;
 
     @GetMapping("/dashboard/summary")
     public HostDashboardSummaryResponse summary(
@@ -31,10 +29,8 @@ public class HostDashboardController {
             @RequestParam(required = false) String range,
             Authentication authentication
     ) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
+        Long hostId = SecurityUtils.findUserId(authentication)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
         if (range != null && !range.isBlank()) {
             LocalDate today = LocalDate.now();
             RangeWindow window = RangeWindow.from(range.trim(), today);
@@ -51,10 +47,8 @@ public class HostDashboardController {
             @RequestParam LocalDate date,
             Authentication authentication
     ) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
+        Long hostId = SecurityUtils.findUserId(authentication)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
         return hostDashboardService.getTodaySchedule(hostId, date);
     }
 
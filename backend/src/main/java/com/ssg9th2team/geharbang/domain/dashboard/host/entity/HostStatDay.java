@@ -0,0 +1,12 @@
+package com.ssg9th2team.geharbang.domain.dashboard.host.entity;
+
+import java.time.LocalDate;
+
+/**
+ * host_daily_stats 한 행의 키 (호스트, 체크아웃 일자)
+ */
+public record HostStatDay(
+        Long hostId,
+        LocalDate statDate
+) {
+}
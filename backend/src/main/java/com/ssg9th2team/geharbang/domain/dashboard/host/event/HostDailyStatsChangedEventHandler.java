@@ -0,0 +1,44 @@
+package com.ssg9th2team.geharbang.domain.dashboard.host.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssg9th2team.geharbang.domain.dashboard.host.service.HostDailyStatsService;
+import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.global.outbox.OutboxEvent;
+import com.ssg9th2team.geharbang.global.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 결제 승인/환불/취소 이후 호스트 일별 통계 갱신 (아웃박스)
+ * - 예약 체크아웃 일자의 호스트 행을 원천 테이블에서 다시 계산하므로 중복 실행되어도 결과가 같다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HostDailyStatsChangedEventHandler implements OutboxEventHandler {
+
+    public static final String EVENT_TYPE = "HOST_DAILY_STATS_CHANGED";
+
+    private final HostDailyStatsService hostDailyStatsService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        Payload payload = objectMapper.readValue(event.getPayload(), Payload.class);
+        hostDailyStatsService.refreshDay(payload.accommodationId(), payload.statDate());
+    }
+
+    public record Payload(Long accommodationId, LocalDate statDate) {
+
+        public static Payload of(Reservation reservation) {
+            return new Payload(reservation.getAccommodationsId(),
+                    reservation.getCheckout() != null ? reservation.getCheckout().toLocalDate() : null);
+        }
+    }
+}
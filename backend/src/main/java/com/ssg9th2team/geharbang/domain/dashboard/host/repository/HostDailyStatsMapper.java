@@ -0,0 +1,51 @@
+package com.ssg9th2team.geharbang.domain.dashboard.host.repository;
+
+import com.ssg9th2team.geharbang.domain.dashboard.host.entity.HostStatDay;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 호스트 일별 통계 (host_daily_stats)
+ * - 호스트 묶음 + 체크아웃 기간 단위로 삭제 후 reservation 원천 테이블에서 다시 채운다. (같은 입력이면 결과가 같다)
+ * - [start, end) 닫힘-열림, 체크아웃 일자 기준
+ */
+@Mapper
+public interface HostDailyStatsMapper {
+
+    int deleteRange(
+            @Param("hostIds") Collection<Long> hostIds,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
+    int upsertRange(
+            @Param("hostIds") Collection<Long> hostIds,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
+    Long selectHostIdByAccommodationId(@Param("accommodationId") Long accommodationId);
+
+    /** 숙소를 가진 호스트 ID (PK 순) */
+    List<Long> selectHostIds();
+
+    /** updated_at 이 [start, end) 인 예약이 걸린 (호스트, 체크아웃 일자) */
+    List<HostStatDay> selectChangedHostDays(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    LocalDate selectMinCheckoutDate();
+
+    LocalDate selectMaxCheckoutDate();
+
+    /** 검증된 체크아웃 범위의 시작일 (없으면 아직 한 번도 채우지 않음) */
+    LocalDate selectCoveredFrom();
+
+    int upsertCoveredFrom(@Param("coveredFrom") LocalDate coveredFrom);
+}
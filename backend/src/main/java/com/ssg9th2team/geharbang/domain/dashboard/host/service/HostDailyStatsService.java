@@ -0,0 +1,234 @@
+package com.ssg9th2team.geharbang.domain.dashboard.host.service;
+
+import com.ssg9th2team.geharbang.domain.dashboard.host.entity.HostStatDay;
+import com.ssg9th2team.geharbang.domain.dashboard.host.repository.HostDailyStatsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 호스트 일별 통계 (host_daily_stats)
+ *
+ * <p>호스트/체크아웃 일자당 한 행으로, 호스트 대시보드와 매출 화면은 이 테이블만 읽는다.
+ * <ul>
+ *   <li>결제 승인/환불/취소 시 아웃박스 이벤트로 해당 숙소 호스트의 체크아웃 일자 행을 다시 계산</li>
+ *   <li>매일 새벽 전날 바뀐 예약이 걸린 행과 전날 체크아웃 행을 다시 계산해서 누락을 바로잡는다.</li>
+ *   <li>기간 backfill 은 호스트를 hosts-per-task 개씩 나눠 묶음마다 별도 트랜잭션으로 병렬 실행</li>
+ *   <li>검증 범위 시작일(host_daily_stats_coverage)보다 이른 체크아웃 예약이 있으면 기동 시 그 구간을
+ *       최근 쪽부터 backfill-max-days 씩 다시 계산하고, 구간마다 시작일을 당긴다.</li>
+ *   <li>조회 화면은 기간 시작일이 검증 범위 안일 때만 통계를 읽고, 아니면 원천 테이블로 계산한다.</li>
+ * </ul>
+ * 모든 갱신은 삭제 후 원천 테이블에서 다시 채우는 방식이라 재시도/중복 실행에 안전하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HostDailyStatsService {
+
+    private final HostDailyStatsMapper statsMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    private final AtomicBoolean backfillRunning = new AtomicBoolean();
+    private volatile LocalDate coveredFrom;
+
+    @Value("${host.stats.enabled:true}")
+    private boolean enabled;
+
+    @Value("${host.stats.backfill-max-days:366}")
+    private int backfillMaxDays;
+
+    @Value("${host.stats.backfill-parallelism:4}")
+    private int backfillParallelism;
+
+    @Value("${host.stats.backfill-hosts-per-task:100}")
+    private int hostsPerTask;
+
+    /**
+     * start 이후 체크아웃 통계가 검증되어 reservation 원천 테이블 fallback 없이 읽어도 되는지
+     */
+    public boolean isCovered(LocalDate start) {
+        LocalDate from = coveredFrom;
+        return enabled && from != null && start != null && !start.isBefore(from);
+    }
+
+    /**
+     * 숙소 호스트의 statDate 행을 다시 계산한다. (호출한 트랜잭션 안에서 실행)
+     */
+    public void refreshDay(Long accommodationId, LocalDate statDate) {
+        if (!enabled || accommodationId == null || statDate == null) {
+            return;
+        }
+        Long hostId = statsMapper.selectHostIdByAccommodationId(accommodationId);
+        if (hostId == null) {
+            return;
+        }
+        rebuild(List.of(hostId), statDate, statDate);
+    }
+
+    @Scheduled(cron = "${host.stats.reconcile-cron:0 20 0 * * *}")
+    public void reconcileYesterday() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reconcile(LocalDate.now(clock).minusDays(1));
+            // 다른 노드가 넓힌 검증 범위도 반영한다.
+            coveredFrom = statsMapper.selectCoveredFrom();
+        } catch (RuntimeException e) {
+            log.warn("Host daily stats reconcile failed", e);
+        }
+    }
+
+    /**
+     * day 에 바뀐 예약이 걸린 (호스트, 체크아웃 일자) 행과 day 체크아웃 행 전체를 다시 계산한다.
+     *
+     * @return 다시 계산한 (호스트, 일자) 수 (day 체크아웃 행 제외)
+     */
+    public int reconcile(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        List<HostStatDay> changed = statsMapper.selectChangedHostDays(start, start.plusDays(1));
+        Map<LocalDate, List<Long>> hostsByDate = changed.stream()
+                .filter(row -> !day.equals(row.statDate()))
+                .collect(Collectors.groupingBy(HostStatDay::statDate, TreeMap::new,
+                        Collectors.mapping(HostStatDay::hostId, Collectors.toList())));
+        hostsByDate.forEach((date, hostIds) -> {
+            for (List<Long> chunk : partition(hostIds)) {
+                transactionTemplate.executeWithoutResult(status -> rebuild(chunk, date, date));
+            }
+        });
+        runBackfill(day, day);
+        log.info("Host daily stats reconciled: day={}, changedRows={}", day, changed.size());
+        return changed.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            coveredFrom = statsMapper.selectCoveredFrom();
+            LocalDate min = statsMapper.selectMinCheckoutDate();
+            LocalDate end;
+            if (coveredFrom != null) {
+                end = coveredFrom.minusDays(1);
+            } else if (min != null) {
+                // 처음이면 기존 행(수동 스크립트로 일부만 채운 통계 포함)을 믿지 않고 전체 기간을 다시 계산한다.
+                end = statsMapper.selectMaxCheckoutDate();
+            } else {
+                // 예약이 없으면 이후 예약은 모두 결제 이벤트로 채워진다.
+                markCovered(LocalDate.now(clock));
+                return;
+            }
+            // 최근 구간부터 채워서 중간에 실패해도 채운 구간은 바로 통계로 읽는다.
+            while (min != null && !end.isBefore(min)) {
+                LocalDate start = end.minusDays(Math.max(backfillMaxDays, 1) - 1L);
+                if (start.isBefore(min)) {
+                    start = min;
+                }
+                runBackfill(start, end);
+                markCovered(start);
+                end = start.minusDays(1);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Host daily stats bootstrap failed (coveredFrom={})", coveredFrom, e);
+        }
+    }
+
+    /**
+     * [from, to] 체크아웃 기간(양 끝 포함)을 전체 호스트에 대해 다시 계산한다.
+     *
+     * @return 다시 계산한 호스트 수
+     */
+    public int backfill(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid stats range: " + from + " ~ " + to);
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > backfillMaxDays) {
+            throw new IllegalArgumentException("Stats range must be within " + backfillMaxDays + " days");
+        }
+        int hosts = runBackfill(from, to);
+        // 검증 범위와 맞닿은 구간이면 범위를 넓힌다.
+        LocalDate covered = coveredFrom;
+        if (covered != null && from.isBefore(covered) && !to.plusDays(1).isBefore(covered)) {
+            markCovered(from);
+        }
+        return hosts;
+    }
+
+    private void markCovered(LocalDate from) {
+        statsMapper.upsertCoveredFrom(from);
+        LocalDate covered = coveredFrom;
+        if (covered == null || from.isBefore(covered)) {
+            coveredFrom = from;
+        }
+    }
+
+    private int runBackfill(LocalDate from, LocalDate to) {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            throw new IllegalStateException("Host daily stats backfill is already running");
+        }
+        try {
+            List<List<Long>> partitions = partition(statsMapper.selectHostIds());
+            if (partitions.isEmpty()) {
+                return 0;
+            }
+            int threads = Math.max(1, Math.min(backfillParallelism, partitions.size()));
+            ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "host-stats-backfill");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                CompletableFuture<?>[] tasks = partitions.stream()
+                        .map(chunk -> CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                                status -> rebuild(chunk, from, to)), executor))
+                        .toArray(CompletableFuture[]::new);
+                CompletableFuture.allOf(tasks).join();
+            } finally {
+                executor.shutdown();
+            }
+            int hosts = partitions.stream().mapToInt(List::size).sum();
+            log.info("Host daily stats backfilled: {} ~ {} ({} hosts, {} tasks)", from, to, hosts, partitions.size());
+            return hosts;
+        } finally {
+            backfillRunning.set(false);
+        }
+    }
+
+    private void rebuild(List<Long> hostIds, LocalDate from, LocalDate to) {
+        LocalDate end = to.plusDays(1);
+        statsMapper.deleteRange(hostIds, from, end);
+        statsMapper.upsertRange(hostIds, from, end);
+    }
+
+    private List<List<Long>> partition(List<Long> hostIds) {
+        int size = Math.max(hostsPerTask, 1);
+        List<List<Long>> partitions = new ArrayList<>();
+        for (int i = 0; i < hostIds.size(); i += size) {
+            partitions.add(List.copyOf(hostIds.subList(i, Math.min(i + size, hostIds.size()))));
+        }
+        return partitions;
+    }
+}
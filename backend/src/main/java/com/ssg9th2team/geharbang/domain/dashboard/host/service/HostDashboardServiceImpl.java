@@ -17,6 +17,7 @@ import java.util.List;
 public class HostDashboardServiceImpl implements HostDashboardService {
 
     private final HostDashboardMapper hostDashboardMapper;
+    private final HostDailyStatsService hostDailyStatsService;
 
     @Override
     public HostDashboardSummaryResponse getSummary(Long hostId, int year, int month) {
@@ -39,17 +40,16 @@ public class HostDashboardServiceImpl implements HostDashboardService {
     }
 
     private HostDashboardSummaryResponse resolveSummary(Long hostId, LocalDate start, LocalDate end) {
-        var statsRow = hostDashboardMapper.selectHostSummary(hostId, start, end);
-        if (statsRow == null) {
-            return HostDashboardSummaryResponse.from(
-                    hostDashboardMapper.selectHostSummaryFallback(hostId, start, end)
-            );
+        // 검증된 통계 범위 안이면 해당 기간에 행이 없어도 (예약 0건) 원천 테이블을 다시 읽지 않는다.
+        // 범위 밖의 행은 일부만 채워졌을 수 있으므로 행이 있어도 원천 테이블로 계산한다.
+        if (hostDailyStatsService.isCovered(start)) {
+            var statsRow = hostDashboardMapper.selectHostSummary(hostId, start, end);
+            if (statsRow != null) {
+                return HostDashboardSummaryResponse.from(statsRow);
+            }
         }
-        if (statsRow.getStatsCount() == 0) {
-            return HostDashboardSummaryResponse.from(
-                    hostDashboardMapper.selectHostSummaryFallback(hostId, start, end)
-            );
-        }
-        return HostDashboardSummaryResponse.from(statsRow);
+        return HostDashboardSummaryResponse.from(
+                hostDashboardMapper.selectHostSummaryFallback(hostId, start, end)
+        );
     }
 }
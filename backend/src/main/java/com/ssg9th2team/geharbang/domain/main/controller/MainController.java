@@ -1,12 +1,12 @@
 package com.ssg9th2team.geharbang.domain.main.controller;
 
 import com.ssg9th2team.geharbang.domain.accommodation.service.AccommodationService;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.main.dto.AvailableRoomResponse;
 import com.ssg9th2team.geharbang.domain.main.dto.AccommodationDetailDto;
 import com.ssg9th2team.geharbang.domain.main.dto.MainAccommodationListResponse;
 import com.ssg9th2team.geharbang.domain.main.service.MainService;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomJpaRepository;
+import com.ssg9th2team.geharbang.global.security.SecurityUtils;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -32,7 +32,6 @@ public class MainController {
 
     private final MainService mainService;
     private final AccommodationService accommodationService;
-    private final UserRepository userRepository; // Inject UserRepository
 
     private final RoomJpaRepository roomJpaRepository;
 
@@ -42,13 +41,8 @@ public class MainController {
             @RequestParam(name = "themeIds", required = false) List<Long> themeIds,
             @RequestParam(name = "keyword", required = false) String keyword) {
 
-        Long userId = null;
-        if (authentication != null && authentication.isAuthenticated()) {
-            String userEmail = authentication.getName();
-            userId = userRepository.findByEmail(userEmail)
-                    .map(com.ssg9th2team.geharbang.domain.auth.entity.User::getId)
-                    .orElse(null); // If user not found, userId remains null
-        }
+        // 비로그인 사용자는 null
+        Long userId = SecurityUtils.findUserId(authentication).orElse(null);
         return mainService.getMainAccommodationList(userId, themeIds, keyword);
     }
 
@@ -57,13 +51,8 @@ public class MainController {
             Authentication authentication,
             @RequestParam(name = "themeIds") List<Long> themeIds,
             @RequestParam(name = "keyword", required = false) String keyword) {
-        Long userId = null;
-        if (authentication != null && authentication.isAuthenticated()) {
-            String userEmail = authentication.getName();
-            userId = userRepository.findByEmail(userEmail)
-                    .map(com.ssg9th2team.geharbang.domain.auth.entity.User::getId)
-                    .orElse(null);
-        }
+        // 비로그인 사용자는 null
+        Long userId = SecurityUtils.findUserId(authentication).orElse(null);
 
         if (themeIds == null || themeIds.isEmpty()) {
             return new LinkedHashMap<>();
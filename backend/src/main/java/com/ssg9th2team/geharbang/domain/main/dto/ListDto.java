@@ -1,6 +1,8 @@
 package com.ssg9th2team.geharbang.domain.main.dto;
 
 
+import com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation;
+import com.ssg9th2team.geharbang.global.storage.ImageVariants;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -21,4 +23,21 @@ public class ListDto {
     private Integer maxGuests;
     private String imageUrl;
 
+    public static ListDto from(Accommodation accommodation, String imageUrl, Integer maxGuests) {
+        return ListDto.builder()
+                .accommodationsId(accommodation.getAccommodationsId())
+                .accommodationsName(accommodation.getAccommodationsName())
+                .shortDescription(accommodation.getShortDescription())
+                .city(accommodation.getCity())
+                .district(accommodation.getDistrict())
+                .township(accommodation.getTownship())
+                .latitude(accommodation.getLatitude() != null ? accommodation.getLatitude().doubleValue() : null)
+                .longitude(accommodation.getLongitude() != null ? accommodation.getLongitude().doubleValue() : null)
+                .minPrice(accommodation.getMinPrice() != null ? accommodation.getMinPrice().longValue() : null)
+                .rating(accommodation.getRating() != null ? accommodation.getRating().doubleValue() : 0.0)
+                .reviewCount(accommodation.getReviewCount())
+                .maxGuests(maxGuests != null ? maxGuests : 0)
+                .imageUrl(ImageVariants.card(imageUrl))
+                .build();
+    }
 }
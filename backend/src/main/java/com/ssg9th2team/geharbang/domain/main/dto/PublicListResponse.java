@@ -8,7 +8,7 @@ public record PublicListResponse(
         List<ListDto> items,
         PublicPageMeta page
 ) {
-    public static PublicListResponse of(List<ListDto> items, Page<?> page) {
+    public static PublicListResponse of(List<ListDto> items, Page<?> page, String nextCursor) {
         return new PublicListResponse(
                 items,
                 new PublicPageMeta(
@@ -16,8 +16,22 @@ public record PublicListResponse(
                         page.getSize(),
                         page.getTotalElements(),
                         page.getTotalPages(),
-                        page.hasNext()
+                        page.hasNext(),
+                        page.hasNext() ? nextCursor : null
                 )
         );
     }
+
+    /**
+     * 커서(Slice) 응답. count 쿼리 없이 다음 페이지 존재 여부만 판단한다.
+     */
+    public static PublicListResponse ofCursor(List<ListDto> items, int size, boolean hasNext,
+                                              String nextCursor, Long estimatedTotal) {
+        long total = estimatedTotal != null ? estimatedTotal : -1L;
+        int totalPages = estimatedTotal != null ? (int) Math.ceil((double) estimatedTotal / size) : -1;
+        return new PublicListResponse(
+                items,
+                new PublicPageMeta(-1, size, total, totalPages, hasNext, hasNext ? nextCursor : null)
+        );
+    }
 }
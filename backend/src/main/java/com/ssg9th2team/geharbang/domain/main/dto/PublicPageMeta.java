@@ -1,10 +1,15 @@
 package com.ssg9th2team.geharbang.domain.main.dto;
 
+/**
+ * 공개 목록 페이지 정보.
+ * 커서 모드에서는 number 가 -1 이고, totalElements/totalPages 는 캐시된 추정치(없으면 -1)다.
+ */
 public record PublicPageMeta(
         int number,
         int size,
         long totalElements,
         int totalPages,
-        boolean hasNext
+        boolean hasNext,
+        String nextCursor
 ) {
 }
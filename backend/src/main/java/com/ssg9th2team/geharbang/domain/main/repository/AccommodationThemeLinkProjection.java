@@ -0,0 +1,6 @@
+package com.ssg9th2team.geharbang.domain.main.repository;
+
+public interface AccommodationThemeLinkProjection {
+    Long getAccommodationsId();
+    Long getThemeId();
+}
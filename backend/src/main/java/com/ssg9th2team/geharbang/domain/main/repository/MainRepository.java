@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface MainRepository extends JpaRepository<Accommodation, Long> {
@@ -45,6 +46,38 @@ public interface MainRepository extends JpaRepository<Accommodation, Long> {
             @Param("keyword") String keyword
     );
 
+    /**
+     * 키워드 역색인 후보 ID 로 범위를 좁힌 키워드 검색
+     */
+    @Query(value = """
+            SELECT a.*
+            FROM accommodation a
+            WHERE a.accommodations_id IN (:accommodationIds)
+              AND a.accommodation_status = 1
+              AND a.approval_status = 'APPROVED'
+              AND LOWER(CONCAT_WS(' ', a.accommodations_name, a.city, a.district, a.township)) LIKE CONCAT('%', LOWER(:keyword), '%')
+            """, nativeQuery = true)
+    List<Accommodation> findApprovedByKeywordInIds(
+            @Param("keyword") String keyword,
+            @Param("accommodationIds") Collection<Long> accommodationIds
+    );
+
+    @Query(value = """
+            SELECT DISTINCT a.*
+            FROM accommodation a
+            JOIN accommodation_theme at ON at.accommodations_id = a.accommodations_id
+            WHERE at.theme_id IN (:themeIds)
+              AND a.accommodations_id IN (:accommodationIds)
+              AND a.accommodation_status = 1
+              AND a.approval_status = 'APPROVED'
+              AND LOWER(CONCAT_WS(' ', a.accommodations_name, a.city, a.district, a.township)) LIKE CONCAT('%', LOWER(:keyword), '%')
+            """, nativeQuery = true)
+    List<Accommodation> findByThemeIdsAndKeywordInIds(
+            @Param("themeIds") List<Long> themeIds,
+            @Param("keyword") String keyword,
+            @Param("accommodationIds") Collection<Long> accommodationIds
+    );
+
     @Query(value = """
             SELECT
                 ai.accommodations_id AS accommodationsId,
@@ -57,4 +90,15 @@ public interface MainRepository extends JpaRepository<Accommodation, Long> {
     List<AccommodationImageProjection> findRepresentativeImages(
             @Param("accommodationIds") List<Long> accommodationIds
     );
+
+    @Query(value = """
+            SELECT
+                at.accommodations_id AS accommodationsId,
+                at.theme_id AS themeId
+            FROM accommodation_theme at
+            WHERE at.accommodations_id IN (:accommodationIds)
+            """, nativeQuery = true)
+    List<AccommodationThemeLinkProjection> findThemeLinks(
+            @Param("accommodationIds") List<Long> accommodationIds
+    );
 }
@@ -12,12 +12,14 @@ import com.ssg9th2team.geharbang.domain.main.repository.AccommodationImageProjec
 import com.ssg9th2team.geharbang.domain.main.repository.MainRepository;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.AccommodationGuestStats;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomJpaRepository;
+import com.ssg9th2team.geharbang.domain.search.service.KeywordSearchIndex;
 import com.ssg9th2team.geharbang.domain.theme.entity.Theme;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,6 +31,8 @@ public class BaseMainService implements MainService {
     private final UserRepository userRepository;
     private final AccommodationThemeRepository accommodationThemeRepository;
     private final RoomJpaRepository roomJpaRepository;
+    private final KeywordSearchIndex keywordSearchIndex;
+    private final PublicListingSnapshot publicListingSnapshot;
 
     private static final int RECOMMENDATION_LIMIT = 5; // 최대 추천 숙소 개수
 
@@ -41,23 +45,24 @@ public class BaseMainService implements MainService {
         Set<Long> userThemeIds = getUserThemeIds(userId);
         String normalizedKeyword = normalizeKeyword(keyword);
 
+        // 키워드 검색은 DB 콜레이션 기준 LIKE 판정을 유지하기 위해 스냅샷을 쓰지 않는다.
+        PublicListingSnapshot.Snapshot snapshot = normalizedKeyword == null ? publicListingSnapshot.current() : null;
+        if (snapshot != null) {
+            return getMainAccommodationListFromSnapshot(snapshot, userThemeIds, filterThemeIds);
+        }
+
         if (filterThemeIds != null && !filterThemeIds.isEmpty()) {
             List<Accommodation> filteredAccommodations = loadApprovedAccommodationsByTheme(filterThemeIds,
                     normalizedKeyword);
             generalAccommodations = toListDtos(filteredAccommodations);
         } else if (!userThemeIds.isEmpty()) {
             List<Accommodation> approvedAccommodations = loadApprovedAccommodations(normalizedKeyword);
+            List<ListDto> approvedCards = toListDtos(approvedAccommodations);
+            Map<Long, Set<Long>> themeIdsById = loadThemeIds(approvedAccommodations);
             // 사용자 테마 기반 추천 로직 (필터 테마 ID가 없을 때만 적용)
-            recommendedAccommodations = getRecommendedAccommodations(approvedAccommodations, userThemeIds);
-            Set<Long> recommendedAccommodationIds = recommendedAccommodations.stream()
-                    .map(ListDto::getAccommodationsId)
-                    .collect(Collectors.toSet());
-
-            // 추천 숙소를 제외한 나머지 숙소를 일반 목록에 추가
-            List<Accommodation> remainingAccommodations = approvedAccommodations.stream()
-                    .filter(acc -> !recommendedAccommodationIds.contains(acc.getAccommodationsId()))
-                    .toList();
-            generalAccommodations = toListDtos(remainingAccommodations);
+            recommendedAccommodations = getRecommendedAccommodations(approvedCards,
+                    id -> themeIdsById.getOrDefault(id, Collections.emptySet()), userThemeIds);
+            generalAccommodations = excludeRecommended(approvedCards, recommendedAccommodations);
         } else {
             // 테마가 없거나 비로그인 상태일 경우 모든 승인된 숙소를 일반 목록에 추가
             List<Accommodation> approvedAccommodations = loadApprovedAccommodations(normalizedKeyword);
@@ -70,6 +75,29 @@ public class BaseMainService implements MainService {
                 .build();
     }
 
+    /**
+     * 스냅샷에서 잘라낸 목록. 응답 목록은 스냅샷과 분리된 복사본이다.
+     */
+    private MainAccommodationListResponse getMainAccommodationListFromSnapshot(PublicListingSnapshot.Snapshot snapshot,
+            Set<Long> userThemeIds, List<Long> filterThemeIds) {
+        List<ListDto> recommendedAccommodations = new ArrayList<>();
+        List<ListDto> generalAccommodations;
+        if (filterThemeIds != null && !filterThemeIds.isEmpty()) {
+            generalAccommodations = new ArrayList<>(snapshot.cardsOfThemes(filterThemeIds));
+        } else if (!userThemeIds.isEmpty()) {
+            // 추천/일반 목록이 같은 시점의 카드에서 나오도록 한 번만 읽는다.
+            List<ListDto> cards = snapshot.cards();
+            recommendedAccommodations = getRecommendedAccommodations(cards, snapshot::themeIdsOf, userThemeIds);
+            generalAccommodations = excludeRecommended(cards, recommendedAccommodations);
+        } else {
+            generalAccommodations = new ArrayList<>(snapshot.cards());
+        }
+        return MainAccommodationListResponse.builder()
+                .recommendedAccommodations(recommendedAccommodations)
+                .generalAccommodations(generalAccommodations)
+                .build();
+    }
+
     @Override
     public Map<Long, MainAccommodationListResponse> getMainAccommodationListBulk(Long userId, List<Long> themeIds,
             String keyword) {
@@ -77,6 +105,20 @@ public class BaseMainService implements MainService {
             return Collections.emptyMap();
         }
         String normalizedKeyword = normalizeKeyword(keyword);
+        PublicListingSnapshot.Snapshot snapshot = normalizedKeyword == null ? publicListingSnapshot.current() : null;
+        if (snapshot != null) {
+            Map<Long, MainAccommodationListResponse> result = new LinkedHashMap<>();
+            for (Long themeId : themeIds) {
+                // 테마별 숙소 순서를 랜덤하게 섞어 같은 숙소가 여러 테마에서 항상 첫번째로 나오지 않도록 함
+                List<ListDto> shuffledList = new ArrayList<>(snapshot.cardsOfTheme(themeId));
+                Collections.shuffle(shuffledList);
+                result.put(themeId, MainAccommodationListResponse.builder()
+                        .recommendedAccommodations(Collections.emptyList())
+                        .generalAccommodations(shuffledList)
+                        .build());
+            }
+            return result;
+        }
         List<Accommodation> accommodations = loadApprovedAccommodationsByTheme(themeIds, normalizedKeyword);
         if (accommodations.isEmpty()) {
             return buildEmptyThemeMap(themeIds);
@@ -130,14 +172,26 @@ public class BaseMainService implements MainService {
         if (keyword == null) {
             return mainRepository.findByAccommodationStatusAndApprovalStatus(1, ApprovalStatus.APPROVED);
         }
-        return mainRepository.findApprovedByKeyword(keyword);
+        Set<Long> candidateIds = keywordSearchIndex.matchListing(keyword);
+        if (candidateIds == null) {
+            return mainRepository.findApprovedByKeyword(keyword);
+        }
+        return candidateIds.isEmpty()
+                ? Collections.emptyList()
+                : mainRepository.findApprovedByKeywordInIds(keyword, candidateIds);
     }
 
     private List<Accommodation> loadApprovedAccommodationsByTheme(List<Long> themeIds, String keyword) {
         if (keyword == null) {
             return mainRepository.findByThemeIds(themeIds);
         }
-        return mainRepository.findByThemeIdsAndKeyword(themeIds, keyword);
+        Set<Long> candidateIds = keywordSearchIndex.matchListing(keyword);
+        if (candidateIds == null) {
+            return mainRepository.findByThemeIdsAndKeyword(themeIds, keyword);
+        }
+        return candidateIds.isEmpty()
+                ? Collections.emptyList()
+                : mainRepository.findByThemeIdsAndKeywordInIds(themeIds, keyword, candidateIds);
     }
 
     private List<ListDto> toListDtos(List<Accommodation> accommodations) {
@@ -183,65 +237,74 @@ public class BaseMainService implements MainService {
                 .collect(Collectors.toSet());
     }
 
-    private List<ListDto> getRecommendedAccommodations(List<Accommodation> allApprovedAccommodations,
-            Set<Long> userThemeIds) {
-        if (userThemeIds.isEmpty()) {
-            return Collections.emptyList();
-        }
-        if (allApprovedAccommodations.isEmpty()) {
-            return Collections.emptyList();
+    private Map<Long, Set<Long>> loadThemeIds(List<Accommodation> accommodations) {
+        if (accommodations.isEmpty()) {
+            return Map.of();
         }
-
-        // 모든 승인된 숙소의 테마 정보 한 번에 가져오기
-        List<Long> allAccommodationIds = allApprovedAccommodations.stream()
+        List<Long> ids = accommodations.stream()
                 .map(Accommodation::getAccommodationsId)
                 .toList();
-        List<AccommodationTheme> allAccommodationThemes = accommodationThemeRepository
-                .findByAccommodationIds(allAccommodationIds);
-
-        // 숙소별 테마 매칭 점수 계산
-        Map<Long, Integer> accommodationScores = new HashMap<>();
         Map<Long, Set<Long>> accommodationToThemes = new HashMap<>();
-
-        for (AccommodationTheme at : allAccommodationThemes) {
+        for (AccommodationTheme at : accommodationThemeRepository.findByAccommodationIds(ids)) {
             accommodationToThemes.computeIfAbsent(at.getAccommodation().getAccommodationsId(), k -> new HashSet<>())
                     .add(at.getTheme().getId());
         }
+        return accommodationToThemes;
+    }
+
+    private List<ListDto> excludeRecommended(List<ListDto> cards, List<ListDto> recommended) {
+        // 추천 숙소를 제외한 나머지 숙소를 일반 목록에 추가
+        Set<Long> recommendedAccommodationIds = recommended.stream()
+                .map(ListDto::getAccommodationsId)
+                .collect(Collectors.toSet());
+        return cards.stream()
+                .filter(card -> !recommendedAccommodationIds.contains(card.getAccommodationsId()))
+                .collect(Collectors.toList());
+    }
+
+    private List<ListDto> getRecommendedAccommodations(List<ListDto> approvedCards,
+            Function<Long, Set<Long>> themeIdsOf, Set<Long> userThemeIds) {
+        if (userThemeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (approvedCards.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        for (Accommodation acc : allApprovedAccommodations) {
-            Set<Long> themesOfAccommodation = accommodationToThemes.getOrDefault(acc.getAccommodationsId(),
-                    Collections.emptySet());
+        // 숙소별 테마 매칭 점수 계산
+        Map<Long, Integer> accommodationScores = new HashMap<>();
+        for (ListDto card : approvedCards) {
+            Set<Long> themesOfAccommodation = themeIdsOf.apply(card.getAccommodationsId());
             int score = 0;
             for (Long userThemeId : userThemeIds) {
                 if (themesOfAccommodation.contains(userThemeId)) {
                     score++;
                 }
             }
-            accommodationScores.put(acc.getAccommodationsId(), score);
+            accommodationScores.put(card.getAccommodationsId(), score);
         }
 
         // 점수 기준으로 정렬 및 상위 N개 선택
-        List<Accommodation> recommended = allApprovedAccommodations.stream()
-                .filter(acc -> accommodationScores.getOrDefault(acc.getAccommodationsId(), 0) > 0) // 점수가 0보다 큰 숙소만 추천
-                .sorted((acc1, acc2) -> {
-                    int score1 = accommodationScores.getOrDefault(acc1.getAccommodationsId(), 0);
-                    int score2 = accommodationScores.getOrDefault(acc2.getAccommodationsId(), 0);
+        return approvedCards.stream()
+                .filter(card -> accommodationScores.getOrDefault(card.getAccommodationsId(), 0) > 0) // 점수가 0보다 큰 숙소만 추천
+                .sorted((card1, card2) -> {
+                    int score1 = accommodationScores.getOrDefault(card1.getAccommodationsId(), 0);
+                    int score2 = accommodationScores.getOrDefault(card2.getAccommodationsId(), 0);
                     if (score1 != score2) {
                         return Integer.compare(score2, score1); // 점수 내림차순
                     }
                     // 2차 정렬 기준: 평점 내림차순, 리뷰 수 내림차순
-                    double rating1 = acc1.getRating() != null ? acc1.getRating() : 0.0;
-                    double rating2 = acc2.getRating() != null ? acc2.getRating() : 0.0;
+                    double rating1 = card1.getRating() != null ? card1.getRating() : 0.0;
+                    double rating2 = card2.getRating() != null ? card2.getRating() : 0.0;
                     if (rating1 != rating2) {
                         return Double.compare(rating2, rating1);
                     }
-                    int reviewCount1 = acc1.getReviewCount() != null ? acc1.getReviewCount() : 0;
-                    int reviewCount2 = acc2.getReviewCount() != null ? acc2.getReviewCount() : 0;
+                    int reviewCount1 = card1.getReviewCount() != null ? card1.getReviewCount() : 0;
+                    int reviewCount2 = card2.getReviewCount() != null ? card2.getReviewCount() : 0;
                     return Integer.compare(reviewCount2, reviewCount1);
                 })
                 .limit(RECOMMENDATION_LIMIT)
-                .toList();
-        return toListDtos(recommended);
+                .collect(Collectors.toList());
     }
 
     private Map<Long, Integer> loadMaxGuests(List<Accommodation> accommodations) {
@@ -276,20 +339,7 @@ public class BaseMainService implements MainService {
 
     private ListDto toListDto(Accommodation accommodation, Map<Long, String> imageById,
             Map<Long, Integer> maxGuestsById) {
-        return ListDto.builder()
-                .accommodationsId(accommodation.getAccommodationsId())
-                .accommodationsName(accommodation.getAccommodationsName())
-                .shortDescription(accommodation.getShortDescription())
-                .city(accommodation.getCity())
-                .district(accommodation.getDistrict())
-                .township(accommodation.getTownship())
-                .latitude(accommodation.getLatitude() != null ? accommodation.getLatitude().doubleValue() : null)
-                .longitude(accommodation.getLongitude() != null ? accommodation.getLongitude().doubleValue() : null)
-                .minPrice(accommodation.getMinPrice() != null ? accommodation.getMinPrice().longValue() : null)
-                .rating(accommodation.getRating() != null ? accommodation.getRating().doubleValue() : 0.0)
-                .reviewCount(accommodation.getReviewCount())
-                .maxGuests(maxGuestsById.getOrDefault(accommodation.getAccommodationsId(), 0))
-                .imageUrl(imageById.get(accommodation.getAccommodationsId()))
-                .build();
+        return ListDto.from(accommodation, imageById.get(accommodation.getAccommodationsId()),
+                maxGuestsById.getOrDefault(accommodation.getAccommodationsId(), 0));
     }
 }
@@ -0,0 +1,256 @@
+package com.ssg9th2team.geharbang.domain.main.service;
+
+import com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation;
+import com.ssg9th2team.geharbang.domain.accommodation.entity.ApprovalStatus;
+import com.ssg9th2team.geharbang.domain.main.dto.ListDto;
+import com.ssg9th2team.geharbang.domain.main.repository.AccommodationImageProjection;
+import com.ssg9th2team.geharbang.domain.main.repository.AccommodationThemeLinkProjection;
+import com.ssg9th2team.geharbang.domain.main.repository.MainRepository;
+import com.ssg9th2team.geharbang.domain.room.repository.jpa.AccommodationGuestStats;
+import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomJpaRepository;
+import com.ssg9th2team.geharbang.global.snapshot.SnapshotRebuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 메인 목록(/api/public/list, /list/bulk)용 승인 숙소 카드 스냅샷
+ *
+ * <p>승인/운영 중인 숙소의 {@link ListDto} 와 테마 소속을 숙소 ID 순 {@link ConcurrentSkipListMap} 으로 들고 있고,
+ * 요청은 스냅샷을 잘라 응답한다. 숙소/객실/이미지/테마가 바뀌면 커밋 이후 해당 숙소만 다시 읽어
+ * 그 자리에서 교체한다. (숙소 하나 변경에 O(log n), 전체 복사 없음)
+ * 주기 재적재는 새 세대의 스냅샷을 만들어 통째로 바꾼다.
+ *
+ * <p>{@link #current()} 가 null 이면 스냅샷을 쓸 수 없는 경우(비활성, 미적재)이므로 호출부는 DB 에서 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicListingSnapshot {
+
+    private final MainRepository mainRepository;
+    private final RoomJpaRepository roomJpaRepository;
+
+    @Value("${main.listing-snapshot.enabled:true}")
+    private boolean enabled;
+
+    private volatile Snapshot snapshot;
+    private final SnapshotRebuilder<Long> rebuilder = new SnapshotRebuilder<>("메인 목록 스냅샷", this::reloadAccommodation);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 다른 노드에서 발생한 변경과 리뷰 평점 등 훅이 없는 변경을 반영하기 위해 주기적으로 재적재한다.
+     */
+    @Scheduled(fixedDelayString = "${main.listing-snapshot.refresh-ms:300000}",
+            initialDelayString = "${main.listing-snapshot.refresh-ms:300000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            if (rebuilder.rebuild(this::load, next -> snapshot = next)) {
+                Snapshot current = snapshot;
+                log.info("메인 목록 스냅샷 적재 완료: version={}, accommodations={}, {}ms",
+                        current.version(), current.cards().size(), System.currentTimeMillis() - startedAt);
+            }
+        } catch (Exception e) {
+            log.error("메인 목록 스냅샷 적재 실패 (메인 목록은 DB 조회로 동작)", e);
+        }
+    }
+
+    /**
+     * 재적재는 한 번에 하나만 실행되므로 세대 번호를 적재 시작 시점의 스냅샷 기준으로 매긴다.
+     */
+    private Snapshot load() {
+        long version = snapshot != null ? snapshot.version() + 1 : 1;
+        List<Accommodation> accommodations = mainRepository
+                .findByAccommodationStatusAndApprovalStatus(1, ApprovalStatus.APPROVED);
+        Map<Long, Entry> entries = new TreeMap<>();
+        for (Entry entry : loadEntries(accommodations)) {
+            entries.put(entry.card().getAccommodationsId(), entry);
+        }
+        return new Snapshot(version, entries);
+    }
+
+    /**
+     * 현재 스냅샷. 개별 숙소 변경은 읽는 중에도 반영될 수 있으므로 (weakly consistent)
+     * 한 요청 안에서 같은 목록이 필요하면 {@link Snapshot#cards()} 결과를 한 번만 받아 쓴다.
+     */
+    public Snapshot current() {
+        return enabled ? snapshot : null;
+    }
+
+    /**
+     * 숙소 정보/승인 상태/객실/이미지/테마 변경 후 DB 기준으로 다시 읽는다. (커밋 이후)
+     */
+    public void refreshAccommodation(Long accommodationsId) {
+        if (!enabled || accommodationsId == null) {
+            return;
+        }
+        rebuilder.applyAfterCommit(accommodationsId);
+    }
+
+    public void refreshAccommodations(List<Long> accommodationIds) {
+        for (Long accommodationsId : accommodationIds) {
+            refreshAccommodation(accommodationsId);
+        }
+    }
+
+    private void reloadAccommodation(Long accommodationsId) {
+        if (snapshot == null) {
+            return;
+        }
+        Optional<Accommodation> accommodation = mainRepository.findById(accommodationsId)
+                .filter(acc -> Integer.valueOf(1).equals(acc.getAccommodationStatus())
+                        && acc.getApprovalStatus() == ApprovalStatus.APPROVED);
+        Entry entry = accommodation.map(acc -> loadEntries(List.of(acc)).get(0)).orElse(null);
+        // 쓰기끼리만 직렬화한다. (같은 숙소의 테마 색인을 엇갈리게 고치지 않도록) 읽기는 락 없이 진행된다.
+        synchronized (this) {
+            Snapshot current = snapshot;
+            if (entry == null) {
+                current.remove(accommodationsId);
+            } else {
+                current.put(accommodationsId, entry);
+            }
+        }
+    }
+
+    private List<Entry> loadEntries(List<Accommodation> accommodations) {
+        if (accommodations.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> ids = accommodations.stream()
+                .map(Accommodation::getAccommodationsId)
+                .toList();
+        Map<Long, String> imageById = new HashMap<>();
+        for (AccommodationImageProjection image : mainRepository.findRepresentativeImages(ids)) {
+            imageById.putIfAbsent(image.getAccommodationsId(), image.getImageUrl());
+        }
+        Map<Long, Integer> maxGuestsById = new HashMap<>();
+        for (AccommodationGuestStats stats : roomJpaRepository.findMaxGuestsByAccommodationIds(ids)) {
+            maxGuestsById.putIfAbsent(stats.getAccommodationsId(), stats.getMaxGuests());
+        }
+        Map<Long, Set<Long>> themeIdsById = new HashMap<>();
+        for (AccommodationThemeLinkProjection link : mainRepository.findThemeLinks(ids)) {
+            themeIdsById.computeIfAbsent(link.getAccommodationsId(), key -> new HashSet<>())
+                    .add(link.getThemeId());
+        }
+
+        List<Entry> entries = new ArrayList<>(accommodations.size());
+        for (Accommodation accommodation : accommodations) {
+            Long id = accommodation.getAccommodationsId();
+            ListDto card = ListDto.from(accommodation, imageById.get(id), maxGuestsById.get(id));
+            entries.add(new Entry(card, Set.copyOf(themeIdsById.getOrDefault(id, Collections.emptySet()))));
+        }
+        return entries;
+    }
+
+    record Entry(ListDto card, Set<Long> themeIds) {
+    }
+
+    /**
+     * 한 세대(전체 재적재 단위)의 스냅샷. 카드 순서는 숙소 ID 오름차순이다.
+     * 변경은 {@link PublicListingSnapshot} 안에서 직렬화되어 put/remove 로만 들어온다.
+     */
+    public static final class Snapshot {
+        private final long version;
+        private final ConcurrentSkipListMap<Long, Entry> entries = new ConcurrentSkipListMap<>();
+        private final Map<Long, ConcurrentSkipListMap<Long, ListDto>> cardsByTheme = new ConcurrentHashMap<>();
+
+        Snapshot(long version, Map<Long, Entry> entries) {
+            this.version = version;
+            entries.forEach(this::put);
+        }
+
+        private void put(Long accommodationsId, Entry entry) {
+            Entry previous = entries.put(accommodationsId, entry);
+            if (previous != null) {
+                for (Long themeId : previous.themeIds()) {
+                    if (!entry.themeIds().contains(themeId)) {
+                        removeFromTheme(themeId, accommodationsId);
+                    }
+                }
+            }
+            for (Long themeId : entry.themeIds()) {
+                cardsByTheme.computeIfAbsent(themeId, key -> new ConcurrentSkipListMap<>())
+                        .put(accommodationsId, entry.card());
+            }
+        }
+
+        private void remove(Long accommodationsId) {
+            Entry previous = entries.remove(accommodationsId);
+            if (previous != null) {
+                for (Long themeId : previous.themeIds()) {
+                    removeFromTheme(themeId, accommodationsId);
+                }
+            }
+        }
+
+        private void removeFromTheme(Long themeId, Long accommodationsId) {
+            ConcurrentSkipListMap<Long, ListDto> cards = cardsByTheme.get(themeId);
+            if (cards != null) {
+                cards.remove(accommodationsId);
+            }
+        }
+
+        public long version() {
+            return version;
+        }
+
+        /**
+         * 호출 시점의 카드 목록 (복사본)
+         */
+        public List<ListDto> cards() {
+            return entries.values().stream()
+                    .map(Entry::card)
+                    .toList();
+        }
+
+        public List<ListDto> cardsOfTheme(Long themeId) {
+            ConcurrentSkipListMap<Long, ListDto> cards = cardsByTheme.get(themeId);
+            return cards != null ? List.copyOf(cards.values()) : Collections.emptyList();
+        }
+
+        /**
+         * 테마 중 하나라도 속한 숙소 (스냅샷 순서 유지)
+         */
+        public List<ListDto> cardsOfThemes(Collection<Long> themeIds) {
+            Set<Long> themeIdSet = new HashSet<>(themeIds);
+            return entries.values().stream()
+                    .filter(entry -> entry.themeIds().stream().anyMatch(themeIdSet::contains))
+                    .map(Entry::card)
+                    .toList();
+        }
+
+        public Set<Long> themeIdsOf(Long accommodationsId) {
+            Entry entry = entries.get(accommodationsId);
+            return entry != null ? entry.themeIds() : Collections.emptySet();
+        }
+    }
+}
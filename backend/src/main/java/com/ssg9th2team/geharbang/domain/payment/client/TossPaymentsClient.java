@@ -0,0 +1,113 @@
+package com.ssg9th2team.geharbang.domain.payment.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 토스페이먼츠 API 클라이언트
+ * - 요청마다 RestTemplate 을 만들지 않고 keep-alive 연결을 재사용하는 공유 HttpClient 를 사용한다.
+ * - 연결/응답 타임아웃으로 PG 지연이 호출 스레드를 오래 붙잡지 않게 한다.
+ * - 승인/취소 요청에 Idempotency-Key 를 보내 재시도해도 PG 에서 한 번만 처리된다.
+ */
+@Slf4j
+@Component
+public class TossPaymentsClient {
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String authorization;
+
+    public TossPaymentsClient(
+            @Value("${tosspayments.secret-key}") String secretKey,
+            @Value("${tosspayments.base-url:https://api.tosspayments.com}") String baseUrl,
+            @Value("${tosspayments.connect-timeout-ms:3000}") int connectTimeoutMs,
+            @Value("${tosspayments.read-timeout-ms:10000}") int readTimeoutMs,
+            ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl.replaceAll("/$", "");
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        this.restTemplate = new RestTemplate(factory);
+        // UTF-8 인코딩 설정
+        this.restTemplate.getMessageConverters().add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 결제 승인 (POST /v1/payments/confirm)
+     */
+    public ConfirmResult confirm(String paymentKey, String orderId, Integer amount, String idempotencyKey) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("paymentKey", paymentKey);
+        body.put("orderId", orderId);
+        body.put("amount", amount);
+
+        ResponseEntity<String> response = post("/v1/payments/confirm", body, idempotencyKey);
+        log.info("토스페이먼츠 응답: status={}", response.getStatusCode());
+
+        try {
+            JsonNode responseJson = objectMapper.readTree(response.getBody());
+            String paymentMethod = responseJson.has("method") ? responseJson.get("method").asText() : "CARD";
+            String approvedAtStr = responseJson.has("approvedAt") ? responseJson.get("approvedAt").asText() : null;
+            LocalDateTime approvedAt = approvedAtStr != null ? LocalDateTime.parse(approvedAtStr.substring(0, 19))
+                    : LocalDateTime.now();
+            return new ConfirmResult(paymentMethod, approvedAt);
+        } catch (Exception e) {
+            throw new IllegalStateException("토스페이먼츠 승인 응답을 해석할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 결제 취소 (POST /v1/payments/{paymentKey}/cancel)
+     *
+     * @param cancelAmount 부분 취소 금액 (null 이면 전액 취소)
+     */
+    public void cancel(String paymentKey, String cancelReason, Integer cancelAmount, String idempotencyKey) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("cancelReason", cancelReason);
+        if (cancelAmount != null) {
+            body.put("cancelAmount", cancelAmount);
+        }
+
+        ResponseEntity<String> response = post("/v1/payments/" + paymentKey + "/cancel", body, idempotencyKey);
+        log.info("토스페이먼츠 취소 응답: status={}", response.getStatusCode());
+    }
+
+    private ResponseEntity<String> post(String path, Map<String, Object> body, String idempotencyKey) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
+        headers.setAcceptCharset(java.util.Collections.singletonList(StandardCharsets.UTF_8));
+        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        if (idempotencyKey != null) {
+            headers.set("Idempotency-Key", idempotencyKey);
+        }
+        return restTemplate.exchange(baseUrl + path, HttpMethod.POST, new HttpEntity<>(body, headers), String.class);
+    }
+
+    public record ConfirmResult(String paymentMethod, LocalDateTime approvedAt) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.ssg9th2team.geharbang.domain.payment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 승인 요청 (멱등성 키: orderId)
+ * - PG 승인 호출 전 PROCESSING 으로 기록하고, 확정/실패 후 상태를 바꾼다.
+ * - 같은 주문의 재시도/중복 승인은 이 기록으로 판단한다.
+ */
+@Entity
+@Table(name = "payment_confirm_request")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentConfirmRequest {
+
+    @Id
+    @Column(name = "order_id", length = 50)
+    private String orderId;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name = "pg_payment_key", nullable = false, length = 100)
+    private String pgPaymentKey;
+
+    @Column(name = "amount", nullable = false)
+    private Integer amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PaymentConfirmStatus status;
+
+    /** 실패 후 다시 승인한 횟수 (PG 멱등성 키를 시도마다 구분) */
+    @Column(name = "attempt", nullable = false)
+    private Integer attempt;
+
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    @Column(name = "failure_message", length = 255)
+    private String failureMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public PaymentConfirmRequest(String orderId, Long reservationId, String pgPaymentKey, Integer amount) {
+        this.orderId = orderId;
+        this.reservationId = reservationId;
+        this.pgPaymentKey = pgPaymentKey;
+        this.amount = amount;
+        this.status = PaymentConfirmStatus.PROCESSING;
+        this.attempt = 0;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 처리 중 멈춘 요청(서버 종료 등)이나 실패한 요청을 다시 승인 중으로 잡는다.
+     * 실패한 요청은 이전 승인/취소 응답이 재사용되지 않도록 새 멱등성 키로 승인한다.
+     */
+    public void restart() {
+        if (this.status == PaymentConfirmStatus.FAILED) {
+            this.attempt++;
+            this.failureMessage = null;
+        }
+        this.status = PaymentConfirmStatus.PROCESSING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * PG 승인 Idempotency-Key (첫 시도는 orderId, 실패 후 재시도는 orderId-시도횟수)
+     */
+    public String idempotencyKey() {
+        return attempt == 0 ? orderId : orderId + "-" + attempt;
+    }
+
+    public void succeed(Long paymentId) {
+        this.status = PaymentConfirmStatus.SUCCEEDED;
+        this.paymentId = paymentId;
+    }
+
+    public void fail(String failureMessage) {
+        this.status = PaymentConfirmStatus.FAILED;
+        this.failureMessage = failureMessage != null && failureMessage.length() > 255
+                ? failureMessage.substring(0, 255)
+                : failureMessage;
+    }
+
+    public boolean matches(String pgPaymentKey, Integer amount) {
+        return this.pgPaymentKey.equals(pgPaymentKey) && this.amount.equals(amount);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ssg9th2team.geharbang.domain.payment.entity;
+
+public enum PaymentConfirmStatus {
+    PROCESSING, // PG 승인 호출 중
+    SUCCEEDED,  // 승인 및 예약 확정 완료
+    FAILED      // 승인 실패 (자동 취소 시도됨)
+}
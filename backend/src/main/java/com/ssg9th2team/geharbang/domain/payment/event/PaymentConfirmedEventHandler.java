@@ -0,0 +1,46 @@
+package com.ssg9th2team.geharbang.domain.payment.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssg9th2team.geharbang.domain.coupon.entity.CouponTriggerType;
+import com.ssg9th2team.geharbang.domain.coupon.service.UserCouponService;
+import com.ssg9th2team.geharbang.global.outbox.OutboxEvent;
+import com.ssg9th2team.geharbang.global.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 승인 이후 쿠폰 처리 (아웃박스)
+ * - 첫 예약이면 첫 예약 완료 쿠폰 발급 (첫 예약 여부는 결제 승인 시점에 판단)
+ * - 예약에 적용한 쿠폰은 결제 승인 트랜잭션 안에서 이미 선점(USED)되었으므로 여기서는 다루지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentConfirmedEventHandler implements OutboxEventHandler {
+
+    public static final String EVENT_TYPE = "PAYMENT_CONFIRMED";
+
+    private final UserCouponService userCouponService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        Payload payload = objectMapper.readValue(event.getPayload(), Payload.class);
+
+        if (payload.firstReservation()
+                && userCouponService.issueByTrigger(payload.userId(), CouponTriggerType.FIRST_RESERVATION)) {
+            log.info("첫 예약 쿠폰 발급 완료: userId={}", payload.userId());
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Payload(Long userId, boolean firstReservation) {
+    }
+}
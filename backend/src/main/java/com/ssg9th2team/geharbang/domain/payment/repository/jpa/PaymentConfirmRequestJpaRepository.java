@@ -0,0 +1,12 @@
+package com.ssg9th2team.geharbang.domain.payment.repository.jpa;
+
+import com.ssg9th2team.geharbang.domain.payment.entity.PaymentConfirmRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 같은 주문의 동시 승인 요청은 예약 행 락(ReservationJpaRepository#findByIdWithLock)으로 직렬화한다.
+ */
+@Repository
+public interface PaymentConfirmRequestJpaRepository extends JpaRepository<PaymentConfirmRequest, String> {
+}
@@ -1,34 +1,41 @@
 package com.ssg9th2team.geharbang.domain.payment.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssg9th2team.geharbang.domain.admin.service.AdminMetricRollupService;
+import com.ssg9th2team.geharbang.domain.dashboard.host.event.HostDailyStatsChangedEventHandler;
+import com.ssg9th2team.geharbang.domain.payment.client.TossPaymentsClient;
 import com.ssg9th2team.geharbang.domain.payment.dto.PaymentConfirmRequestDto;
 import com.ssg9th2team.geharbang.domain.payment.dto.PaymentConfirmResponseDto;
 import com.ssg9th2team.geharbang.domain.payment.dto.PaymentResponseDto;
 import com.ssg9th2team.geharbang.domain.payment.dto.RefundPolicyResult;
 import com.ssg9th2team.geharbang.domain.payment.entity.Payment;
+import com.ssg9th2team.geharbang.domain.payment.entity.PaymentConfirmRequest;
+import com.ssg9th2team.geharbang.domain.payment.entity.PaymentConfirmStatus;
 import com.ssg9th2team.geharbang.domain.payment.entity.PaymentRefund;
+import com.ssg9th2team.geharbang.domain.payment.event.PaymentConfirmedEventHandler;
+import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentConfirmRequestJpaRepository;
 import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentJpaRepository;
 import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentRefundJpaRepository;
 import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
 import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import com.ssg9th2team.geharbang.domain.coupon.entity.UserCouponStatus;
+import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.UserCouponJpaRepository;
 import com.ssg9th2team.geharbang.domain.coupon.service.UserCouponService;
-import com.ssg9th2team.geharbang.domain.reservation.service.WaitlistService;
+import com.ssg9th2team.geharbang.domain.reservation.service.RoomCapacityLedger;
+import com.ssg9th2team.geharbang.domain.reservation.service.RoomOccupancyIndex;
+import com.ssg9th2team.geharbang.domain.reservation.event.WaitlistSlotReleasedEventHandler;
+import com.ssg9th2team.geharbang.global.outbox.OutboxEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
-import org.springframework.web.client.RestTemplate;
 
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.Base64;
-import java.util.HashMap;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -41,106 +48,59 @@ public class PaymentServiceImpl implements PaymentService {
     private final RefundPolicyService refundPolicyService;
     private final ReservationJpaRepository reservationRepository;
     private final UserCouponService userCouponService;
-    private final ObjectMapper objectMapper;
-    private final WaitlistService waitlistService;
-
-    @Value("${tosspayments.secret-key}")
-    private String secretKey;
-
-    private static final String TOSS_CONFIRM_URL = "https://api.tosspayments.com/v1/payments/confirm";
-
+    private final UserCouponJpaRepository userCouponJpaRepository;
+    private final RoomOccupancyIndex roomOccupancyIndex;
+    private final RoomCapacityLedger roomCapacityLedger;
+    private final PaymentConfirmRequestJpaRepository paymentConfirmRequestRepository;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final AdminMetricRollupService metricRollupService;
+
+    @Value("${payment.confirm.lease-seconds:60}")
+    private long confirmLeaseSeconds;
+
+    /**
+     * 결제 승인은 세 단계로 나누어 PG 호출 동안 DB 커넥션을 잡고 있지 않는다.
+     * <ol>
+     *   <li>짧은 트랜잭션: 예약/금액 검증 후 승인 요청을 PROCESSING 으로 기록 (orderId 멱등성 키)</li>
+     *   <li>트랜잭션 밖: 토스페이먼츠 승인 호출 (공유 HttpClient, 타임아웃, Idempotency-Key)</li>
+     *   <li>짧은 트랜잭션: 쿠폰 선점, 결제 저장, 예약 확정 후 SUCCEEDED 로 기록</li>
+     * </ol>
+     * 이미 완료된 주문을 다시 승인하면 저장된 결과를 돌려주고, 처리 중이거나 방금 실패한 주문은 409 로 거절한다.
+     * 멈춘 요청과 실패한 요청은 lease 가 지나면 다시 승인할 수 있다.
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentConfirmResponseDto confirmPayment(PaymentConfirmRequestDto requestDto) {
         log.info("결제 승인 요청: orderId={}, amount={}", requestDto.orderId(), requestDto.amount());
 
         // orderId에서 reservationId 추출 (형식: ORDER_예약ID_타임스탬프)
         Long reservationId = extractReservationId(requestDto.orderId());
 
-        // 예약 조회 및 검증
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다: " + reservationId));
-
-        // 금액 검증
-        if (!reservation.getFinalPaymentAmount().equals(requestDto.amount())) {
-            throw new IllegalArgumentException("결제 금액이 일치하지 않습니다");
+        // 1단계: 검증 및 승인 중 기록
+        PaymentConfirmRequest confirmRequest;
+        try {
+            confirmRequest = transactionTemplate.execute(status -> beginConfirm(requestDto, reservationId));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 주문의 승인 요청이 동시에 들어옴
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "결제 승인이 진행 중입니다.");
+        }
+        if (confirmRequest.getStatus() == PaymentConfirmStatus.SUCCEEDED) {
+            Long completedPaymentId = confirmRequest.getPaymentId();
+            log.info("이미 승인된 주문 재요청: orderId={}, paymentId={}", requestDto.orderId(), completedPaymentId);
+            Payment payment = paymentRepository.findById(completedPaymentId)
+                    .orElseThrow(() -> new IllegalStateException("결제 정보를 찾을 수 없습니다: " + completedPaymentId));
+            return PaymentConfirmResponseDto.of(PaymentResponseDto.from(payment), false);
         }
 
-        // 토스페이먼츠 결제 승인 API 호출
         try {
-            RestTemplate restTemplate = new RestTemplate();
-
-            // UTF-8 인코딩 설정
-            restTemplate.getMessageConverters()
-                    .add(0, new org.springframework.http.converter.StringHttpMessageConverter(StandardCharsets.UTF_8));
-
-            // Basic 인증 헤더 생성
-            String encodedSecretKey = Base64.getEncoder()
-                    .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
-            headers.setAcceptCharset(java.util.Collections.singletonList(StandardCharsets.UTF_8));
-            headers.set("Authorization", "Basic " + encodedSecretKey);
-
-            // 요청 바디
-            Map<String, Object> body = new HashMap<>();
-            body.put("paymentKey", requestDto.paymentKey());
-            body.put("orderId", requestDto.orderId());
-            body.put("amount", requestDto.amount());
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    TOSS_CONFIRM_URL,
-                    HttpMethod.POST,
-                    entity,
-                    String.class);
-
-            log.info("토스페이먼츠 응답: status={}", response.getStatusCode());
-
-            // 응답 파싱
-            JsonNode responseJson = objectMapper.readTree(response.getBody());
-            String paymentMethod = responseJson.has("method") ? responseJson.get("method").asText() : "CARD";
-            String approvedAtStr = responseJson.has("approvedAt") ? responseJson.get("approvedAt").asText() : null;
-            LocalDateTime approvedAt = approvedAtStr != null ? LocalDateTime.parse(approvedAtStr.substring(0, 19))
-                    : LocalDateTime.now();
-
-            // Payment 저장
-            Payment payment = Payment.builder()
-                    .reservationId(reservationId)
-                    .pgProviderCode("TOSS")
-                    .paymentMethod(paymentMethod)
-                    .orderId(requestDto.orderId())
-                    .pgPaymentKey(requestDto.paymentKey())
-                    .requestAmount(requestDto.amount())
-                    .approvedAmount(requestDto.amount())
-                    .paymentStatus(1) // 성공
-                    .approvedAt(approvedAt)
-                    .build();
-
-            Payment savedPayment = paymentRepository.save(payment);
-
-            // 예약 상태 업데이트 (예약확정, 결제완료)
-            reservation.updatePaymentCompleted();
-            reservationRepository.save(reservation);
-
-            // 쿠폰 사용 처리
-            if (reservation.getUserCouponId() != null) {
-                userCouponService.useCoupon(reservation.getUserId(), reservation.getUserCouponId());
-                log.info("쿠폰 사용 처리 완료: userCouponId={}", reservation.getUserCouponId());
-            }
-
-            // 첫 예약 완료 쿠폰 발급
-            boolean firstReservationCouponIssued = userCouponService
-                    .issueFirstReservationCoupon(reservation.getUserId());
-            if (firstReservationCouponIssued) {
-                log.info("첫 예약 쿠폰 발급 완료: userId={}", reservation.getUserId());
-            }
+            // 2단계: 토스페이먼츠 결제 승인 API 호출 (트랜잭션 밖)
+            TossPaymentsClient.ConfirmResult confirmResult = tossPaymentsClient.confirm(
+                    requestDto.paymentKey(), requestDto.orderId(), requestDto.amount(), confirmRequest.idempotencyKey());
 
-            log.info("결제 승인 완료: paymentId={}, reservationId={}", savedPayment.getId(), reservationId);
-
-            return PaymentConfirmResponseDto.of(PaymentResponseDto.from(savedPayment), firstReservationCouponIssued);
+            // 3단계: 결제 저장 및 예약 확정
+            return transactionTemplate.execute(status -> completeConfirm(requestDto, reservationId, confirmResult));
 
         } catch (Exception e) {
             log.error("결제 승인 중 오류 발생 (결제 취소 진행)", e);
@@ -148,53 +108,149 @@ public class PaymentServiceImpl implements PaymentService {
             // 1. 이미 승인된 결제가 있다면 취소 (돈 환불)
             try {
                 if (requestDto.paymentKey() != null) {
-                    RestTemplate restTemplate = new RestTemplate();
-
-                    String encodedSecretKey = Base64.getEncoder()
-                            .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
-
-                    HttpHeaders headers = new HttpHeaders();
-                    headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
-                    headers.set("Authorization", "Basic " + encodedSecretKey);
-
-                    Map<String, Object> body = new HashMap<>();
-                    body.put("cancelReason", "시스템 오류로 인한 자동 취소: " + e.getMessage());
-
-                    HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-
-                    String cancelUrl = "https://api.tosspayments.com/v1/payments/" + requestDto.paymentKey()
-                            + "/cancel";
-
-                    restTemplate.exchange(cancelUrl, HttpMethod.POST, entity, String.class);
+                    tossPaymentsClient.cancel(requestDto.paymentKey(), "시스템 오류로 인한 자동 취소: " + e.getMessage(),
+                            null, "CANCEL_" + confirmRequest.idempotencyKey());
                     log.info("결제 자동 취소 성공: paymentKey={}", requestDto.paymentKey());
                 }
             } catch (Exception cancelEx) {
                 log.error("결제 자동 취소 실패! (수동 환불 필요) paymentKey={}", requestDto.paymentKey(), cancelEx);
             }
 
-            // 2. DB 상태 업데이트 시도 (트랜잭션 롤백 상태면 실패할 수 있음 - 무시)
+            // 2. 실패 내역 저장
             try {
-                Payment failedPayment = Payment.builder()
-                        .reservationId(reservationId)
-                        .pgProviderCode("TOSS")
-                        .paymentMethod("UNKNOWN")
-                        .orderId(requestDto.orderId())
-                        .requestAmount(requestDto.amount())
-                        .paymentStatus(2) // 실패
-                        .failureMessage(e.getMessage())
-                        .build();
-                paymentRepository.save(failedPayment);
-
-                reservation.updatePaymentFailed();
-                reservationRepository.save(reservation);
+                transactionTemplate.executeWithoutResult(status -> failConfirm(requestDto, reservationId, e.getMessage()));
             } catch (Exception dbEx) {
-                log.warn("실패 내역 DB 저장 불가 (트랜잭션 롤백됨): {}", dbEx.getMessage());
+                log.warn("실패 내역 DB 저장 불가: {}", dbEx.getMessage());
             }
 
             throw new RuntimeException(e.getMessage());
         }
     }
 
+    /**
+     * @return 승인 요청 (이미 승인 완료된 주문이면 SUCCEEDED, 새로 승인을 진행해야 하면 PROCESSING)
+     */
+    private PaymentConfirmRequest beginConfirm(PaymentConfirmRequestDto requestDto, Long reservationId) {
+        // 같은 주문(= 같은 예약)의 동시 승인 요청은 예약 행 락으로 직렬화한다.
+        // 아직 없는 승인 요청 행을 잠그면 갭 락끼리 교착되므로 이미 존재하는 예약 행을 잠근다.
+        Reservation reservation = reservationRepository.findByIdWithLock(reservationId)
+                .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다: " + reservationId));
+
+        PaymentConfirmRequest confirmRequest = paymentConfirmRequestRepository
+                .findById(requestDto.orderId())
+                .orElse(null);
+        if (confirmRequest != null) {
+            if (!confirmRequest.matches(requestDto.paymentKey(), requestDto.amount())) {
+                throw new IllegalArgumentException("주문 정보가 이전 승인 요청과 일치하지 않습니다");
+            }
+            if (confirmRequest.getStatus() == PaymentConfirmStatus.SUCCEEDED) {
+                return confirmRequest;
+            }
+            if (confirmRequest.getUpdatedAt().isAfter(LocalDateTime.now().minusSeconds(confirmLeaseSeconds))) {
+                // 실패 직후의 재요청은 자동 취소와 겹치지 않도록 lease 동안 거절한다.
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        confirmRequest.getStatus() == PaymentConfirmStatus.FAILED
+                                ? "결제 승인에 실패했습니다. 잠시 후 다시 시도해 주세요."
+                                : "결제 승인이 진행 중입니다.");
+            }
+        }
+
+        // 금액 검증
+        if (!reservation.getFinalPaymentAmount().equals(requestDto.amount())) {
+            throw new IllegalArgumentException("결제 금액이 일치하지 않습니다");
+        }
+
+        // 쿠폰이 이미 다른 예약에 쓰였거나 만료되었으면 PG 승인 전에 거절 (최종 선점은 3단계에서 원자적으로)
+        if (reservation.getUserCouponId() != null) {
+            userCouponJpaRepository.findById(reservation.getUserCouponId())
+                    .filter(coupon -> coupon.getStatus() == UserCouponStatus.ISSUED
+                            && (coupon.getExpiredAt() == null || coupon.getExpiredAt().isAfter(LocalDateTime.now())))
+                    .orElseThrow(() -> new IllegalArgumentException("사용할 수 없는 쿠폰입니다. (이미 사용되었거나 만료된 쿠폰)"));
+        }
+
+        if (confirmRequest != null) {
+            // 멈춘 요청은 같은 Idempotency-Key 로 재시도 (PG 는 한 번만 승인), 실패한 요청은 새 키로 재승인
+            confirmRequest.restart();
+            return confirmRequest;
+        }
+        return paymentConfirmRequestRepository.saveAndFlush(PaymentConfirmRequest.builder()
+                .orderId(requestDto.orderId())
+                .reservationId(reservationId)
+                .pgPaymentKey(requestDto.paymentKey())
+                .amount(requestDto.amount())
+                .build());
+    }
+
+    private PaymentConfirmResponseDto completeConfirm(PaymentConfirmRequestDto requestDto, Long reservationId,
+            TossPaymentsClient.ConfirmResult confirmResult) {
+        // 승인 호출 사이에 대기 예약이 정리되었을 수 있으므로 다시 조회
+        Reservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new IllegalStateException("예약을 찾을 수 없습니다: " + reservationId));
+
+        // 쿠폰 선점: 승인 트랜잭션 안에서 ISSUED → USED 조건부 UPDATE
+        // 실패하면(다른 예약이 먼저 사용, 그사이 만료) 트랜잭션이 롤백되고 PG 승인은 자동 취소(환불)된다.
+        if (reservation.getUserCouponId() != null) {
+            userCouponService.claimCoupon(reservation.getUserId(), reservation.getUserCouponId());
+        }
+
+        // Payment 저장
+        Payment payment = Payment.builder()
+                .reservationId(reservationId)
+                .pgProviderCode("TOSS")
+                .paymentMethod(confirmResult.paymentMethod())
+                .orderId(requestDto.orderId())
+                .pgPaymentKey(requestDto.paymentKey())
+                .requestAmount(requestDto.amount())
+                .approvedAmount(requestDto.amount())
+                .paymentStatus(1) // 성공
+                .approvedAt(confirmResult.approvedAt())
+                .build();
+
+        Payment savedPayment = paymentRepository.save(payment);
+        metricRollupService.markDirty(savedPayment.getCreatedAt());
+
+        // 예약 상태 업데이트 (예약확정, 결제완료)
+        reservation.updatePaymentCompleted();
+        reservationRepository.save(reservation);
+        roomOccupancyIndex.record(reservation);
+
+        // 첫 예약 쿠폰 발급은 커밋 이후 아웃박스에서 처리 (실패해도 결제 승인은 유지)
+        boolean firstReservation = reservationRepository
+                .countByUserIdAndReservationStatus(reservation.getUserId(), 2) == 1;
+        outboxEventPublisher.publish(PaymentConfirmedEventHandler.EVENT_TYPE, reservationId,
+                new PaymentConfirmedEventHandler.Payload(reservation.getUserId(), firstReservation));
+        outboxEventPublisher.publish(HostDailyStatsChangedEventHandler.EVENT_TYPE, reservationId,
+                HostDailyStatsChangedEventHandler.Payload.of(reservation));
+
+        paymentConfirmRequestRepository.findById(requestDto.orderId())
+                .ifPresent(confirmRequest -> confirmRequest.succeed(savedPayment.getId()));
+
+        log.info("결제 승인 완료: paymentId={}, reservationId={}", savedPayment.getId(), reservationId);
+
+        return PaymentConfirmResponseDto.of(PaymentResponseDto.from(savedPayment), firstReservation);
+    }
+
+    private void failConfirm(PaymentConfirmRequestDto requestDto, Long reservationId, String failureMessage) {
+        Payment failedPayment = Payment.builder()
+                .reservationId(reservationId)
+                .pgProviderCode("TOSS")
+                .paymentMethod("UNKNOWN")
+                .orderId(requestDto.orderId())
+                .requestAmount(requestDto.amount())
+                .paymentStatus(2) // 실패
+                .failureMessage(failureMessage)
+                .build();
+        reservationRepository.findById(reservationId).ifPresent(reservation -> {
+            paymentRepository.save(failedPayment);
+            metricRollupService.markDirty(failedPayment.getCreatedAt());
+            reservation.updatePaymentFailed();
+            reservationRepository.save(reservation);
+        });
+
+        paymentConfirmRequestRepository.findById(requestDto.orderId())
+                .ifPresent(confirmRequest -> confirmRequest.fail(failureMessage));
+    }
+
     @Override
     public PaymentResponseDto getPaymentByOrderId(String orderId) {
         Payment payment = paymentRepository.findByOrderId(orderId)
@@ -301,6 +357,8 @@ public class PaymentServiceImpl implements PaymentService {
             paymentRefundRepository.save(paymentRefund);
             reservation.updateRefunded();
             reservationRepository.save(reservation);
+            roomOccupancyIndex.release(reservation.getId());
+            roomCapacityLedger.release(reservation);
 
             // 환불 금액이 0이어도 쿠폰은 복구
             if (reservation.getUserCouponId() != null) {
@@ -312,35 +370,8 @@ public class PaymentServiceImpl implements PaymentService {
         } else {
             // 토스페이먼츠 결제 취소 API 호출
             try {
-                RestTemplate restTemplate = new RestTemplate();
-                restTemplate.getMessageConverters()
-                        .add(0, new org.springframework.http.converter.StringHttpMessageConverter(
-                                StandardCharsets.UTF_8));
-
-                String encodedSecretKey = Base64.getEncoder()
-                        .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
-
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
-                headers.set("Authorization", "Basic " + encodedSecretKey);
-
-                Map<String, Object> body = new HashMap<>();
-                body.put("cancelReason", reason);
-                if (actualRefundAmount < approvedAmount) {
-                    body.put("cancelAmount", actualRefundAmount); // 부분 취소
-                }
-
-                HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-
-                String cancelUrl = "https://api.tosspayments.com/v1/payments/" + payment.getPgPaymentKey() + "/cancel";
-
-                ResponseEntity<String> response = restTemplate.exchange(
-                        cancelUrl,
-                        HttpMethod.POST,
-                        entity,
-                        String.class);
-
-                log.info("토스페이먼츠 취소 응답: status={}", response.getStatusCode());
+                Integer cancelAmount = actualRefundAmount < approvedAmount ? actualRefundAmount : null; // 부분 취소
+                tossPaymentsClient.cancel(payment.getPgPaymentKey(), reason, cancelAmount, null);
 
                 // 환불 성공 - payment_refund 테이블 업데이트
                 paymentRefund.updateRefundSuccess(payment.getPgPaymentKey(), LocalDateTime.now());
@@ -349,6 +380,8 @@ public class PaymentServiceImpl implements PaymentService {
                 // 예약 상태 업데이트 (취소/환불)
                 reservation.updateRefunded();
                 reservationRepository.save(reservation);
+                roomOccupancyIndex.release(reservation.getId());
+                roomCapacityLedger.release(reservation);
 
                 // 쿠폰 복구 처리
                 if (reservation.getUserCouponId() != null) {
@@ -372,14 +405,16 @@ public class PaymentServiceImpl implements PaymentService {
         // 첫 예약 쿠폰 회수 (예약 취소로 인해 첫 예약이 아니게 됨) - 공통 처리
         userCouponService.revokeFirstReservationCoupon(reservation.getUserId());
 
-        // 대기자에게 알림 발송 (빈자리 발생)
-        try {
-            waitlistService.notifyWaitingUsers(reservation.getRoomId(), reservation.getCheckin(),
-                    reservation.getCheckout());
-            log.info("취소/환불로 인한 대기자 알림 발송 요청 완료: roomId={}", reservation.getRoomId());
-        } catch (Exception e) {
-            log.warn("대기자 알림 발송 중 오류 (결제 취소는 성공): {}", e.getMessage());
-        }
+        // 대시보드 롤업: 환불 요청일 버킷과 예약 생성일 버킷(취소 건수)을 다시 계산
+        metricRollupService.markDirty(paymentRefund.getRequestedAt());
+        metricRollupService.markDirty(reservation.getCreatedAt());
+
+        // 대기자에게 알림 발송 (빈자리 발생, 커밋 이후 아웃박스에서 처리)
+        outboxEventPublisher.publish(WaitlistSlotReleasedEventHandler.EVENT_TYPE, reservation.getId(),
+                WaitlistSlotReleasedEventHandler.Payload.of(reservation));
+        // 호스트 일별 통계: 체크아웃 일자 행을 다시 계산 (커밋 이후 아웃박스에서 처리)
+        outboxEventPublisher.publish(HostDailyStatsChangedEventHandler.EVENT_TYPE, reservation.getId(),
+                HostDailyStatsChangedEventHandler.Payload.of(reservation));
 
         return PaymentResponseDto.from(payment);
     }
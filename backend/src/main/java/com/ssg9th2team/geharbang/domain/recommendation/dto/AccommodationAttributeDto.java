@@ -0,0 +1,22 @@
+package com.ssg9th2team.geharbang.domain.recommendation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 숙소별 테마/리뷰 태그 (추천 엔진 특징 벡터 적재용)
+ * - 테마: attributeId = theme_id, count = 1
+ * - 태그: attributeId = review_tag_id, count = 해당 태그가 달린 리뷰 수
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccommodationAttributeDto {
+    private Long accommodationId;
+    private Long attributeId;
+    private String name;
+    private Integer count;
+}
@@ -0,0 +1,18 @@
+package com.ssg9th2team.geharbang.domain.recommendation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 숙소별 테마명/태그명 (추천 결과 일괄 조회용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccommodationLabelDto {
+    private Long accommodationId;
+    private String name;
+}
@@ -1,9 +1,12 @@
 package com.ssg9th2team.geharbang.domain.recommendation.repository;
 
+import com.ssg9th2team.geharbang.domain.recommendation.dto.AccommodationAttributeDto;
+import com.ssg9th2team.geharbang.domain.recommendation.dto.AccommodationLabelDto;
 import com.ssg9th2team.geharbang.domain.recommendation.dto.AccommodationScoreDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -42,14 +45,16 @@ public interface RecommendationMapper {
         Set<Long> findReservedAccommodationIds(@Param("userId") Long userId);
 
         /**
-         * 테마명 조회
+         * 숙소별 테마명 일괄 조회 (숙소 ID, 테마 ID 순)
          */
-        List<String> findThemeNamesByAccommodationId(@Param("accommodationId") Long accommodationId);
+        List<AccommodationLabelDto> findThemeNamesByAccommodationIds(
+                        @Param("accommodationIds") Collection<Long> accommodationIds);
 
         /**
-         * 숙소의 인기 태그 조회
+         * 숙소별 리뷰 태그명 일괄 조회 (숙소 ID 순, 숙소 안에서는 많이 달린 태그 순)
          */
-        List<String> findTopTagNamesByAccommodationId(@Param("accommodationId") Long accommodationId);
+        List<AccommodationLabelDto> findTagNamesByAccommodationIds(
+                        @Param("accommodationIds") Collection<Long> accommodationIds);
 
         /**
          * [Fallback] 인기 숙소 추천 (선호 테마/태그 없는 신규 사용자용)
@@ -58,4 +63,19 @@ public interface RecommendationMapper {
         List<AccommodationScoreDto> findPopularAccommodations(
                         @Param("excludeIds") Set<Long> excludeIds,
                         @Param("limit") int limit);
+
+        /**
+         * [추천 엔진] 추천 대상 숙소 전체의 카드 정보/평점/리뷰 수/테마 수/확정 예약 수 (인기순)
+         */
+        List<AccommodationScoreDto> findAccommodationFeatures();
+
+        /**
+         * [추천 엔진] 숙소별 테마 (숙소 ID, 테마 ID 순)
+         */
+        List<AccommodationAttributeDto> findAccommodationThemes();
+
+        /**
+         * [추천 엔진] 숙소별 리뷰 태그 수 (숙소 ID 순, 숙소 안에서는 많이 달린 태그 순)
+         */
+        List<AccommodationAttributeDto> findAccommodationTagCounts();
 }
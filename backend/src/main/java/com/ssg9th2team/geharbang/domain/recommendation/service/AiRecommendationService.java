@@ -12,7 +12,9 @@ import com.ssg9th2team.geharbang.domain.accommodation_theme.entity.Accommodation
 import com.ssg9th2team.geharbang.domain.accommodation_theme.repository.AccommodationThemeRepository;
 import com.ssg9th2team.geharbang.domain.recommendation.dto.AiRecommendationResponse;
 import com.ssg9th2team.geharbang.domain.review.repository.jpa.ReviewJpaRepository;
+import com.ssg9th2team.geharbang.domain.search.service.KeywordSearchIndex;
 import com.ssg9th2team.geharbang.domain.theme.entity.ThemeCategory;
+import com.ssg9th2team.geharbang.global.storage.ImageVariants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -41,6 +43,7 @@ public class AiRecommendationService {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final Executor executor;
+    private final KeywordSearchIndex keywordSearchIndex;
 
     public AiRecommendationService(
             AccommodationJpaRepository accommodationRepository,
@@ -50,7 +53,8 @@ public class AiRecommendationService {
             AiSearchLogService searchLogService,
             RestTemplate restTemplate,
             ObjectMapper objectMapper,
-            @Qualifier("taskExecutor") Executor executor) {
+            @Qualifier("taskExecutor") Executor executor,
+            KeywordSearchIndex keywordSearchIndex) {
         this.accommodationRepository = accommodationRepository;
         this.accommodationMapper = accommodationMapper;
         this.accommodationThemeRepository = accommodationThemeRepository;
@@ -59,6 +63,7 @@ public class AiRecommendationService {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.executor = executor;
+        this.keywordSearchIndex = keywordSearchIndex;
     }
 
     @Value("${GEMINI_API_KEY:}")
@@ -170,10 +175,36 @@ public class AiRecommendationService {
                 .filter(img -> img.getAccommodationsId() != null && img.getImageUrl() != null)
                 .collect(Collectors.toMap(
                         AccommodationImageDto::getAccommodationsId,
-                        AccommodationImageDto::getImageUrl,
+                        img -> ImageVariants.thumbnail(img.getImageUrl()),
                         (first, second) -> first));
     }
 
+    /**
+     * 키워드 설명 검색 (역색인 후보가 있으면 PK 범위로 좁혀서 조회)
+     */
+    private List<Accommodation> findByKeywordInDescription(String keyword) {
+        Set<Long> candidateIds = keywordSearchIndex.matchDescription(keyword);
+        if (candidateIds == null) {
+            return accommodationRepository.findByKeywordInDescription(keyword);
+        }
+        return candidateIds.isEmpty()
+                ? List.of()
+                : accommodationRepository.findByKeywordInDescriptionInIds(keyword, candidateIds);
+    }
+
+    /**
+     * 키워드 리뷰 검색 (역색인 후보가 있으면 리뷰 PK 범위로 좁혀서 조회)
+     */
+    private List<Long> findAccommodationIdsByReviewKeyword(String keyword) {
+        Set<Long> candidateReviewIds = keywordSearchIndex.matchReviews(keyword);
+        if (candidateReviewIds == null) {
+            return reviewRepository.findAccommodationIdsByKeywordInContent(keyword);
+        }
+        return candidateReviewIds.isEmpty()
+                ? List.of()
+                : reviewRepository.findAccommodationIdsByKeywordInContentInReviewIds(keyword, candidateReviewIds);
+    }
+
     /**
      * 병렬 검색 실행
      */
@@ -208,7 +239,7 @@ public class AiRecommendationService {
         // 2. 키워드 기반 검색 - 설명 (비동기)
         for (String keyword : analysisResult.keywords()) {
             futures.add(CompletableFuture.runAsync(() -> {
-                List<Accommodation> keywordMatched = accommodationRepository.findByKeywordInDescription(keyword);
+                List<Accommodation> keywordMatched = findByKeywordInDescription(keyword);
                 keywordMatched.stream()
                         .limit(QUERY_LIMIT / 2)
                         .forEach(acc -> contentMatchedIds.add(acc.getAccommodationsId()));
@@ -218,7 +249,7 @@ public class AiRecommendationService {
         // 3. 키워드 기반 검색 - 리뷰 (비동기)
         for (String keyword : analysisResult.keywords()) {
             futures.add(CompletableFuture.runAsync(() -> {
-                List<Long> reviewMatchedIds = reviewRepository.findAccommodationIdsByKeywordInContent(keyword);
+                List<Long> reviewMatchedIds = findAccommodationIdsByReviewKeyword(keyword);
                 reviewMatchedIds.stream()
                         .limit(QUERY_LIMIT / 2)
                         .forEach(contentMatchedIds::add);
@@ -0,0 +1,392 @@
+package com.ssg9th2team.geharbang.domain.recommendation.service;
+
+import com.ssg9th2team.geharbang.domain.recommendation.dto.AccommodationAttributeDto;
+import com.ssg9th2team.geharbang.domain.recommendation.dto.AccommodationScoreDto;
+import com.ssg9th2team.geharbang.domain.recommendation.dto.RecommendationResponse;
+import com.ssg9th2team.geharbang.domain.recommendation.repository.RecommendationMapper;
+import com.ssg9th2team.geharbang.global.snapshot.SnapshotRebuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 추천 사전 계산 엔진
+ *
+ * <p>추천 대상 숙소 전체의 특징 벡터(테마 비트셋, 리뷰 태그 히스토그램, 베이지안 평점)를 주기적으로 메모리에
+ * 적재하고, 사용자별 상위 top-k 추천 결과를 Redis 에 TTL 과 함께 저장한다.
+ * <ul>
+ *   <li>키: recommendation:user:{userId} (값: "숙소ID:점수,숙소ID:점수,...")</li>
+ *   <li>조회는 Redis 키 하나만 읽고, 카드 정보/테마명/태그명은 메모리 스냅샷에서 채운다.</li>
+ *   <li>키가 없으면 사용자 선호(테마, 선호 태그, 예약 숙소)만 조회해서 스냅샷으로 계산한 뒤 저장한다.</li>
+ *   <li>리뷰/예약/선호 테마가 바뀌면 커밋 이후 해당 사용자의 저장된 결과를 다시 계산한다.</li>
+ *   <li>선호 테마/태그가 없는 사용자는 스냅샷의 인기순 목록을 쓴다.</li>
+ * </ul>
+ *
+ * <p>반환값이 비어 있으면 엔진을 쓸 수 없는 경우(비활성, 미적재, Redis 오류)이므로 호출부가 직접 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationEngine {
+
+    private static final String KEY_PREFIX = "recommendation:user:";
+
+    // 추천 카드에 보여줄 테마/태그 수
+    private static final int LABEL_LIMIT = 3;
+
+    private final RecommendationMapper recommendationMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${recommendation.engine.enabled:true}")
+    private boolean enabled;
+
+    /** 사용자별로 저장하는 추천 수 (이보다 큰 limit 요청은 직접 계산) */
+    @Value("${recommendation.engine.top-k:50}")
+    private int topK;
+
+    @Value("${recommendation.engine.user-ttl-minutes:60}")
+    private long userTtlMinutes;
+
+    private volatile Snapshot snapshot;
+    /** 선호가 바뀌어 다시 계산할 사용자 (커밋 이후 추가) */
+    private final Set<Long> changedUserIds = ConcurrentHashMap.newKeySet();
+    /** 재적재 중 표시된 사용자는 새 스냅샷 기준으로 한 번 더 계산되도록 다시 표시한다. */
+    private final SnapshotRebuilder<Long> rebuilder = new SnapshotRebuilder<>("추천 엔진", changedUserIds::add);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 숙소 승인/평점/리뷰 태그/예약 수 변경을 반영하기 위해 주기적으로 재적재한다.
+     */
+    @Scheduled(fixedDelayString = "${recommendation.engine.refresh-ms:600000}",
+            initialDelayString = "${recommendation.engine.refresh-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            boolean loaded = rebuilder.rebuild(() -> Snapshot.load(
+                    recommendationMapper.findAccommodationFeatures(),
+                    recommendationMapper.findAccommodationThemes(),
+                    recommendationMapper.findAccommodationTagCounts()), next -> snapshot = next);
+            if (loaded) {
+                Snapshot current = snapshot;
+                log.info("추천 엔진 특징 벡터 적재 완료: accommodations={}, themes={}, tags={}, {}ms",
+                        current.cards.length, current.themeBitById.size(), current.tagIndexById.size(),
+                        System.currentTimeMillis() - startedAt);
+            }
+        } catch (Exception e) {
+            log.error("추천 엔진 적재 실패 (추천은 요청 시 계산으로 동작)", e);
+        }
+    }
+
+    /**
+     * 저장된 사용자별 추천 결과 (없으면 계산해서 저장)
+     */
+    public Optional<List<RecommendationResponse>> recommend(Long userId, int limit) {
+        Snapshot current = snapshot;
+        if (!enabled || current == null || userId == null || limit <= 0 || limit > topK) {
+            return Optional.empty();
+        }
+        try {
+            String key = KEY_PREFIX + userId;
+            String stored = stringRedisTemplate.opsForValue().get(key);
+            List<RankedItem> ranking;
+            if (stored != null) {
+                ranking = decode(stored);
+            } else {
+                ranking = computeRanking(current, userId);
+                store(key, ranking);
+            }
+            return Optional.of(current.toResponses(ranking, limit));
+        } catch (Exception e) {
+            log.warn("추천 엔진 조회 실패 (요청 시 계산으로 대체): userId={}, {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 리뷰/예약/선호 테마 변경 후 해당 사용자의 추천을 다시 계산하도록 표시한다. (커밋 이후)
+     */
+    public void refreshUser(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        rebuilder.applyAfterCommit(userId);
+    }
+
+    /**
+     * 표시된 사용자 중 저장된 결과가 있는 사용자만 다시 계산한다. (없으면 다음 조회 때 계산)
+     */
+    @Scheduled(fixedDelayString = "${recommendation.engine.user-refresh-ms:30000}")
+    public void refreshChangedUsers() {
+        if (changedUserIds.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = new ArrayList<>(changedUserIds);
+        changedUserIds.removeAll(userIds);
+        Snapshot current = snapshot;
+        for (Long userId : userIds) {
+            String key = KEY_PREFIX + userId;
+            try {
+                if (current == null) {
+                    stringRedisTemplate.delete(key);
+                } else if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+                    store(key, computeRanking(current, userId));
+                }
+            } catch (Exception e) {
+                log.warn("사용자 추천 갱신 실패 (TTL 만료 후 다시 계산): userId={}, {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    private List<RankedItem> computeRanking(Snapshot current, Long userId) {
+        Set<Long> themeIds = nullToEmpty(recommendationMapper.findUserThemeIds(userId));
+        Set<Long> tagIds = nullToEmpty(recommendationMapper.findPreferredTagIds(userId));
+        Set<Long> reservedIds = nullToEmpty(recommendationMapper.findReservedAccommodationIds(userId));
+        if (themeIds.isEmpty() && tagIds.isEmpty()) {
+            return current.popular(reservedIds, topK);
+        }
+        return current.personalized(themeIds, tagIds, reservedIds, topK);
+    }
+
+    private void store(String key, List<RankedItem> ranking) {
+        stringRedisTemplate.opsForValue().set(key, encode(ranking), Duration.ofMinutes(userTtlMinutes));
+    }
+
+    static String encode(List<RankedItem> ranking) {
+        StringBuilder value = new StringBuilder();
+        for (RankedItem item : ranking) {
+            if (!value.isEmpty()) {
+                value.append(',');
+            }
+            value.append(item.accommodationId()).append(':').append(item.score());
+        }
+        return value.toString();
+    }
+
+    static List<RankedItem> decode(String value) {
+        List<RankedItem> ranking = new ArrayList<>();
+        if (value.isEmpty()) {
+            return ranking;
+        }
+        for (String entry : value.split(",")) {
+            int separator = entry.indexOf(':');
+            ranking.add(new RankedItem(Long.parseLong(entry.substring(0, separator)),
+                    Double.parseDouble(entry.substring(separator + 1))));
+        }
+        return ranking;
+    }
+
+    private Set<Long> nullToEmpty(Set<Long> ids) {
+        return ids != null ? ids : Set.of();
+    }
+
+    record RankedItem(Long accommodationId, double score) {
+    }
+
+    /**
+     * 추천 대상 숙소 특징 벡터 (인기순 배열, 숙소 인덱스 기준)
+     */
+    static final class Snapshot {
+
+        private final AccommodationScoreDto[] cards;
+        private final Map<Long, Integer> indexById;
+        private final Map<Long, Integer> themeBitById;
+        private final Map<Long, Integer> tagIndexById;
+        /** [숙소][word] 테마 비트셋 */
+        private final long[][] themeBits;
+        private final int[] themeCounts;
+        /** [숙소][태그] 태그가 달린 리뷰 수 */
+        private final int[][] tagCounts;
+        /** 0~1 로 정규화한 베이지안 평점 */
+        private final double[] ratingScores;
+        private final double[] popularityScores;
+        private final List<List<String>> themeNames;
+        private final List<List<String>> tagNames;
+
+        private Snapshot(AccommodationScoreDto[] cards, Map<Long, Integer> indexById,
+                         Map<Long, Integer> themeBitById, Map<Long, Integer> tagIndexById) {
+            int size = cards.length;
+            this.cards = cards;
+            this.indexById = indexById;
+            this.themeBitById = themeBitById;
+            this.tagIndexById = tagIndexById;
+            this.themeBits = new long[size][(themeBitById.size() + 63) >>> 6];
+            this.themeCounts = new int[size];
+            this.tagCounts = new int[size][tagIndexById.size()];
+            this.ratingScores = new double[size];
+            this.popularityScores = new double[size];
+            this.themeNames = new ArrayList<>(size);
+            this.tagNames = new ArrayList<>(size);
+        }
+
+        static Snapshot load(List<AccommodationScoreDto> features,
+                             List<AccommodationAttributeDto> themes,
+                             List<AccommodationAttributeDto> tags) {
+            AccommodationScoreDto[] cards = features.toArray(new AccommodationScoreDto[0]);
+            Map<Long, Integer> indexById = new HashMap<>(cards.length * 2);
+            for (int i = 0; i < cards.length; i++) {
+                indexById.put(cards[i].getAccommodationId(), i);
+            }
+            Snapshot snapshot = new Snapshot(cards, indexById, assignIndexes(themes), assignIndexes(tags));
+
+            for (int i = 0; i < cards.length; i++) {
+                AccommodationScoreDto card = cards[i];
+                snapshot.themeCounts[i] = card.getTotalThemeCount() != null ? card.getTotalThemeCount() : 0;
+                snapshot.ratingScores[i] = RecommendationScoring.normalizedRating(card.getRating(), card.getReviewCount());
+                snapshot.popularityScores[i] = RecommendationScoring.popularity(card.getReservationCount(),
+                        snapshot.ratingScores[i]);
+                snapshot.themeNames.add(new ArrayList<>(LABEL_LIMIT));
+                snapshot.tagNames.add(new ArrayList<>(LABEL_LIMIT));
+            }
+            for (AccommodationAttributeDto theme : themes) {
+                Integer index = indexById.get(theme.getAccommodationId());
+                if (index == null) {
+                    continue;
+                }
+                int bit = snapshot.themeBitById.get(theme.getAttributeId());
+                snapshot.themeBits[index][bit >>> 6] |= 1L << (bit & 63);
+                addLabel(snapshot.themeNames.get(index), theme.getName());
+            }
+            // 숙소 안에서는 많이 달린 태그 순으로 온다.
+            for (AccommodationAttributeDto tag : tags) {
+                Integer index = indexById.get(tag.getAccommodationId());
+                if (index == null) {
+                    continue;
+                }
+                snapshot.tagCounts[index][snapshot.tagIndexById.get(tag.getAttributeId())] +=
+                        tag.getCount() != null ? tag.getCount() : 0;
+                addLabel(snapshot.tagNames.get(index), tag.getName());
+            }
+            return snapshot;
+        }
+
+        /**
+         * 테마 Jaccard + 선호 태그 매칭 + 베이지안 평점으로 전체 숙소를 채점해서 상위 k 개 (동점이면 인기순)
+         * 테마/태그가 하나도 맞지 않는 숙소는 제외한다.
+         */
+        List<RankedItem> personalized(Set<Long> themeIds, Set<Long> tagIds, Set<Long> excludeIds, int k) {
+            long[] userThemeBits = new long[(themeBitById.size() + 63) >>> 6];
+            for (Long themeId : themeIds) {
+                Integer bit = themeBitById.get(themeId);
+                if (bit != null) {
+                    userThemeBits[bit >>> 6] |= 1L << (bit & 63);
+                }
+            }
+            int[] userTags = tagIds.stream()
+                    .map(tagIndexById::get)
+                    .filter(Objects::nonNull)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            int userThemeCount = themeIds.size();
+
+            List<RankedItem> candidates = new ArrayList<>();
+            for (int i = 0; i < cards.length; i++) {
+                if (excludeIds.contains(cards[i].getAccommodationId())) {
+                    continue;
+                }
+                int themeMatch = 0;
+                for (int word = 0; word < userThemeBits.length; word++) {
+                    themeMatch += Long.bitCount(userThemeBits[word] & themeBits[i][word]);
+                }
+                int tagMatch = 0;
+                for (int tag : userTags) {
+                    if (tagCounts[i][tag] > 0) {
+                        tagMatch++;
+                    }
+                }
+                if (themeMatch == 0 && tagMatch == 0) {
+                    continue;
+                }
+                double themeJaccard = RecommendationScoring.themeJaccard(themeMatch, userThemeCount, themeCounts[i]);
+                candidates.add(new RankedItem(cards[i].getAccommodationId(),
+                        RecommendationScoring.personalized(themeJaccard, tagMatch, ratingScores[i])));
+            }
+            candidates.sort(Comparator.comparingDouble(RankedItem::score).reversed());
+            return candidates.size() > k ? new ArrayList<>(candidates.subList(0, k)) : candidates;
+        }
+
+        /**
+         * 인기순 상위 k 개 (예약한 숙소 제외)
+         */
+        List<RankedItem> popular(Set<Long> excludeIds, int k) {
+            List<RankedItem> ranking = new ArrayList<>(k);
+            for (int i = 0; i < cards.length && ranking.size() < k; i++) {
+                if (!excludeIds.contains(cards[i].getAccommodationId())) {
+                    ranking.add(new RankedItem(cards[i].getAccommodationId(), popularityScores[i]));
+                }
+            }
+            return ranking;
+        }
+
+        /**
+         * 저장된 순위를 응답으로 변환한다. 그 사이 추천 대상에서 빠진 숙소는 건너뛴다.
+         */
+        List<RecommendationResponse> toResponses(List<RankedItem> ranking, int limit) {
+            List<RecommendationResponse> recommendations = new ArrayList<>(Math.min(ranking.size(), limit));
+            for (RankedItem item : ranking) {
+                if (recommendations.size() >= limit) {
+                    break;
+                }
+                Integer index = indexById.get(item.accommodationId());
+                if (index == null) {
+                    continue;
+                }
+                AccommodationScoreDto card = cards[index];
+                recommendations.add(RecommendationResponse.builder()
+                        .accommodationId(card.getAccommodationId())
+                        .accommodationName(card.getAccommodationName())
+                        .shortDescription(card.getShortDescription())
+                        .city(card.getCity())
+                        .district(card.getDistrict())
+                        .imageUrl(card.getImageUrl())
+                        .rating(card.getRating())
+                        .minPrice(card.getMinPrice() != null ? card.getMinPrice().intValue() : 0)
+                        .score(item.score())
+                        .matchedThemes(List.copyOf(themeNames.get(index)))
+                        .matchedTags(List.copyOf(tagNames.get(index)))
+                        .build());
+            }
+            return recommendations;
+        }
+
+        private static Map<Long, Integer> assignIndexes(List<AccommodationAttributeDto> attributes) {
+            Map<Long, Integer> indexes = new HashMap<>();
+            for (AccommodationAttributeDto attribute : attributes) {
+                indexes.putIfAbsent(attribute.getAttributeId(), indexes.size());
+            }
+            return indexes;
+        }
+
+        private static void addLabel(List<String> labels, String name) {
+            if (labels.size() < LABEL_LIMIT && name != null) {
+                labels.add(name);
+            }
+        }
+    }
+}
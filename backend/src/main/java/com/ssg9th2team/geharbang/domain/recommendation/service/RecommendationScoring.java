@@ -0,0 +1,63 @@
+package com.ssg9th2team.geharbang.domain.recommendation.service;
+
+/**
+ * 추천 점수 계산식 (요청 시 계산 / 추천 엔진 사전 계산 공용)
+ */
+final class RecommendationScoring {
+
+    // 가중치 설정
+    static final double THEME_WEIGHT = 0.4;
+    static final double TAG_WEIGHT = 0.35;
+    static final double RATING_WEIGHT = 0.25;
+
+    // 베이지안 평균: C=5(가중치), m=4.0(평균)
+    private static final double PRIOR_WEIGHT = 5.0;
+    private static final double PRIOR_MEAN = 4.0;
+
+    private RecommendationScoring() {
+    }
+
+    /**
+     * 테마 Jaccard 유사도: 교집합 / 합집합(userThemeCount + totalThemeCount - 교집합)
+     */
+    static double themeJaccard(int matchCount, int userThemeCount, int totalThemeCount) {
+        int unionSize = userThemeCount + totalThemeCount - matchCount;
+        return unionSize > 0 ? matchCount / (double) unionSize : 0.0;
+    }
+
+    /**
+     * 5점 만점 베이지안 평점을 0~1 로 정규화
+     */
+    static double normalizedRating(Double rating, Integer reviewCount) {
+        double r = rating != null ? rating : 0.0;
+        int v = reviewCount != null ? reviewCount : 0;
+        double bayesianRating = (v * r + PRIOR_WEIGHT * PRIOR_MEAN) / (v + PRIOR_WEIGHT);
+        return bayesianRating / 5.0;
+    }
+
+    /**
+     * 맞춤 추천 점수 (소수 둘째 자리 반올림)
+     * - 태그 점수는 최대 5개 매칭 시 1.0
+     */
+    static double personalized(double themeJaccard, double tagMatchCount, double normalizedRating) {
+        double normalizedTag = Math.min(tagMatchCount / 5.0, 1.0);
+        double finalScore = (themeJaccard * THEME_WEIGHT) +
+                (normalizedTag * TAG_WEIGHT) +
+                (normalizedRating * RATING_WEIGHT);
+        return round(finalScore);
+    }
+
+    /**
+     * 인기도 점수 (Fallback용, 소수 둘째 자리 반올림)
+     * - 예약 수 정규화 (50건 이상이면 1.0) 50% + 베이지안 평점 50%
+     */
+    static double popularity(Integer reservationCount, double normalizedRating) {
+        int count = reservationCount != null ? reservationCount : 0;
+        double normalizedReservations = Math.min(count / 50.0, 1.0);
+        return round((normalizedReservations * 0.5) + (normalizedRating * 0.5));
+    }
+
+    private static double round(double score) {
+        return Math.round(score * 100) / 100.0;
+    }
+}
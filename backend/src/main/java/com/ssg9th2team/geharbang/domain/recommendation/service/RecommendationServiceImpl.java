@@ -1,14 +1,15 @@
 package com.ssg9th2team.geharbang.domain.recommendation.service;
 
+import com.ssg9th2team.geharbang.domain.recommendation.dto.AccommodationLabelDto;
 import com.ssg9th2team.geharbang.domain.recommendation.dto.AccommodationScoreDto;
 import com.ssg9th2team.geharbang.domain.recommendation.dto.RecommendationResponse;
 import com.ssg9th2team.geharbang.domain.recommendation.repository.RecommendationMapper;
+import com.ssg9th2team.geharbang.global.storage.ImageVariants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -16,14 +17,19 @@ import java.util.stream.Collectors;
 public class RecommendationServiceImpl implements RecommendationService {
 
     private final RecommendationMapper recommendationMapper;
+    private final RecommendationEngine recommendationEngine;
 
-    // 가중치 설정
-    private static final double THEME_WEIGHT = 0.4;
-    private static final double TAG_WEIGHT = 0.35;
-    private static final double RATING_WEIGHT = 0.25;
+    // 추천 카드에 보여줄 테마/태그 수
+    private static final int LABEL_LIMIT = 3;
 
     @Override
     public List<RecommendationResponse> getRecommendations(Long userId, int limit) {
+        // 0. 추천 엔진이 미리 계산해 둔 결과가 있으면 그대로 사용 (엔진 미적재/Redis 오류 시 아래에서 직접 계산)
+        Optional<List<RecommendationResponse>> precomputed = recommendationEngine.recommend(userId, limit);
+        if (precomputed.isPresent()) {
+            return precomputed.get();
+        }
+
         // 1. 사용자 선호 테마 조회
         Set<Long> userThemeIds = recommendationMapper.findUserThemeIds(userId);
         if (userThemeIds == null)
@@ -72,83 +78,26 @@ public class RecommendationServiceImpl implements RecommendationService {
                     .addTagScore(dto.getTagMatchCount());
         }
 
-        // 7. 최종 점수 계산 및 정렬
+        // 7. 최종 점수 계산 후 상위 limit 개만 선택
         final int userThemeCount = userThemeIds.size();
-        List<RecommendationResponse> recommendations = scoreMap.values().stream()
-                .map(acc -> toRecommendationResponse(acc, userThemeCount))
-                .sorted(Comparator.comparing(RecommendationResponse::getScore).reversed())
+        List<ScoredAccommodation> ranked = scoreMap.values().stream()
+                .map(acc -> new ScoredAccommodation(acc.dto, calculateScore(acc, userThemeCount)))
+                .sorted(Comparator.comparingDouble(ScoredAccommodation::score).reversed())
                 .limit(limit)
-                .collect(Collectors.toList());
-
-        // 8. 테마/태그 이름 추가
-        for (RecommendationResponse rec : recommendations) {
-            List<String> themeNames = recommendationMapper.findThemeNamesByAccommodationId(rec.getAccommodationId());
-            List<String> tagNames = recommendationMapper.findTopTagNamesByAccommodationId(rec.getAccommodationId());
-
-            // Builder 패턴으로 새 객체 생성 (immutable)
-            RecommendationResponse updated = RecommendationResponse.builder()
-                    .accommodationId(rec.getAccommodationId())
-                    .accommodationName(rec.getAccommodationName())
-                    .shortDescription(rec.getShortDescription())
-                    .city(rec.getCity())
-                    .district(rec.getDistrict())
-                    .imageUrl(rec.getImageUrl())
-                    .rating(rec.getRating())
-                    .minPrice(rec.getMinPrice())
-                    .score(rec.getScore())
-                    .matchedThemes(themeNames != null ? themeNames : List.of())
-                    .matchedTags(tagNames != null ? tagNames : List.of())
-                    .build();
-
-            // 리스트에서 교체
-            int idx = recommendations.indexOf(rec);
-            recommendations.set(idx, updated);
-        }
+                .toList();
 
-        return recommendations;
+        // 8. 테마/태그 이름은 선택된 숙소 전체를 한 번에 조회해서 응답 생성
+        return toResponses(ranked);
     }
 
-    private RecommendationResponse toRecommendationResponse(ScoreAccumulator acc, int userThemeCount) {
+    private double calculateScore(ScoreAccumulator acc, int userThemeCount) {
         // 1. 테마 점수: Jaccard Similarity 적용
-        // 교집합(themeScore) / 합집합(userThemeCount + totalThemeCount - themeScore)
-        double themeJaccard = 0.0;
         int totalThemeCount = acc.dto.getTotalThemeCount() != null ? acc.dto.getTotalThemeCount() : 0;
-        int unionSize = userThemeCount + totalThemeCount - (int) acc.themeScore;
+        double themeJaccard = RecommendationScoring.themeJaccard((int) acc.themeScore, userThemeCount, totalThemeCount);
 
-        if (unionSize > 0) {
-            themeJaccard = acc.themeScore / (double) unionSize;
-        }
-
-        // 2. 태그 점수 (기존 유지: 최대 5개 매칭 시 1.0)
-        double normalizedTag = Math.min(acc.tagScore / 5.0, 1.0);
-
-        // 3. 평점 점수: Bayesian Average 적용
-        // (v*R + C*m) / (v+C)
-        // v: 리뷰수, R: 평점, C=5(가중치), m=4.0(평균)
-        double rating = acc.dto.getRating() != null ? acc.dto.getRating() : 0.0;
-        int reviewCount = acc.dto.getReviewCount() != null ? acc.dto.getReviewCount() : 0;
-        double C = 5.0;
-        double m = 4.0;
-        double bayesianRating = (reviewCount * rating + C * m) / (reviewCount + C);
-        double normalizedRating = bayesianRating / 5.0; // 5점 만점을 0~1로 정규화
-
-        double finalScore = (themeJaccard * THEME_WEIGHT) +
-                (normalizedTag * TAG_WEIGHT) +
-                (normalizedRating * RATING_WEIGHT);
-
-        return RecommendationResponse.builder()
-                .accommodationId(acc.dto.getAccommodationId())
-                .accommodationName(acc.dto.getAccommodationName())
-                .shortDescription(acc.dto.getShortDescription())
-                .city(acc.dto.getCity())
-                .district(acc.dto.getDistrict())
-                .imageUrl(acc.dto.getImageUrl())
-                .rating(acc.dto.getRating())
-                .minPrice(acc.dto.getMinPrice() != null ? acc.dto.getMinPrice().intValue() : 0)
-                .score(Math.round(finalScore * 100) / 100.0) // 100점 만점이 아니라 1.0 만점 기준이면 곱하기 100 필요. 기존 로직 유지
-                .matchedThemes(List.of())
-                .matchedTags(List.of())
-                .build();
+        // 2. 태그 점수 + 3. 평점 점수(Bayesian Average)
+        double normalizedRating = RecommendationScoring.normalizedRating(acc.dto.getRating(), acc.dto.getReviewCount());
+        return RecommendationScoring.personalized(themeJaccard, acc.tagScore, normalizedRating);
     }
 
     /**
@@ -159,52 +108,76 @@ public class RecommendationServiceImpl implements RecommendationService {
         List<AccommodationScoreDto> popularAccommodations = recommendationMapper.findPopularAccommodations(excludeIds,
                 limit);
 
-        List<RecommendationResponse> recommendations = new ArrayList<>();
-        for (AccommodationScoreDto dto : popularAccommodations) {
-            // 인기도 점수 계산 (예약 수 + 평점 기반)
-            double popularityScore = calculatePopularityScore(dto);
+        // 인기도 점수 계산 (예약 수 + 평점 기반), 조회 순서(인기순) 유지
+        List<ScoredAccommodation> ranked = popularAccommodations.stream()
+                .map(dto -> new ScoredAccommodation(dto, calculatePopularityScore(dto)))
+                .toList();
 
-            List<String> themeNames = recommendationMapper.findThemeNamesByAccommodationId(dto.getAccommodationId());
-            List<String> tagNames = recommendationMapper.findTopTagNamesByAccommodationId(dto.getAccommodationId());
+        return toResponses(ranked);
+    }
 
-            RecommendationResponse response = RecommendationResponse.builder()
+    /**
+     * 추천 대상 숙소들의 테마명/인기 태그를 숙소 수와 관계없이 쿼리 두 번으로 조회해서 응답을 만든다.
+     */
+    private List<RecommendationResponse> toResponses(List<ScoredAccommodation> ranked) {
+        if (ranked.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> accommodationIds = ranked.stream()
+                .map(scored -> scored.dto().getAccommodationId())
+                .toList();
+        Map<Long, List<String>> themeNames = groupLabels(
+                recommendationMapper.findThemeNamesByAccommodationIds(accommodationIds));
+        Map<Long, List<String>> tagNames = groupLabels(
+                recommendationMapper.findTagNamesByAccommodationIds(accommodationIds));
+
+        List<RecommendationResponse> recommendations = new ArrayList<>(ranked.size());
+        for (ScoredAccommodation scored : ranked) {
+            AccommodationScoreDto dto = scored.dto();
+            recommendations.add(RecommendationResponse.builder()
                     .accommodationId(dto.getAccommodationId())
                     .accommodationName(dto.getAccommodationName())
                     .shortDescription(dto.getShortDescription())
                     .city(dto.getCity())
                     .district(dto.getDistrict())
-                    .imageUrl(dto.getImageUrl())
+                    .imageUrl(ImageVariants.card(dto.getImageUrl()))
                     .rating(dto.getRating())
                     .minPrice(dto.getMinPrice() != null ? dto.getMinPrice().intValue() : 0)
-                    .score(Math.round(popularityScore * 100) / 100.0)
-                    .matchedThemes(themeNames != null ? themeNames : List.of())
-                    .matchedTags(tagNames != null ? tagNames : List.of())
-                    .build();
-
-            recommendations.add(response);
+                    .score(scored.score())
+                    .matchedThemes(themeNames.getOrDefault(dto.getAccommodationId(), List.of()))
+                    .matchedTags(tagNames.getOrDefault(dto.getAccommodationId(), List.of()))
+                    .build());
         }
-
         return recommendations;
     }
 
+    // 숙소별로 묶고 앞에서부터 LABEL_LIMIT 개만 사용 (쿼리에서 정렬 순서 보장)
+    private Map<Long, List<String>> groupLabels(List<AccommodationLabelDto> labels) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        if (labels == null) {
+            return grouped;
+        }
+        for (AccommodationLabelDto label : labels) {
+            List<String> names = grouped.computeIfAbsent(label.getAccommodationId(), k -> new ArrayList<>(LABEL_LIMIT));
+            if (names.size() < LABEL_LIMIT) {
+                names.add(label.getName());
+            }
+        }
+        return grouped;
+    }
+
     /**
      * 인기도 점수 계산 (Fallback용)
      * - 예약 수 정규화 (최대 50건 기준)
      * - 베이지안 평점
      */
     private double calculatePopularityScore(AccommodationScoreDto dto) {
-        // 예약 수 정규화 (50건 이상이면 1.0)
-        int reservationCount = dto.getReservationCount() != null ? dto.getReservationCount() : 0;
-        double normalizedReservations = Math.min(reservationCount / 50.0, 1.0);
-
-        // 베이지안 평점
-        double rating = dto.getRating() != null ? dto.getRating() : 0.0;
-        int reviewCount = dto.getReviewCount() != null ? dto.getReviewCount() : 0;
-        double bayesianRating = (reviewCount * rating + 5.0 * 4.0) / (reviewCount + 5.0);
-        double normalizedRating = bayesianRating / 5.0;
-
-        // 예약 수 50% + 평점 50%
-        return (normalizedReservations * 0.5) + (normalizedRating * 0.5);
+        double normalizedRating = RecommendationScoring.normalizedRating(dto.getRating(), dto.getReviewCount());
+        return RecommendationScoring.popularity(dto.getReservationCount(), normalizedRating);
+    }
+
+    // 최종 점수가 매겨진 추천 후보
+    private record ScoredAccommodation(AccommodationScoreDto dto, double score) {
     }
 
     // 점수 누적용 내부 클래스
@@ -0,0 +1,69 @@
+package com.ssg9th2team.geharbang.domain.reservation.event;
+
+import com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation;
+import com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.AccommodationJpaRepository;
+import com.ssg9th2team.geharbang.domain.accommodation.repository.mybatis.AccommodationMapper;
+import com.ssg9th2team.geharbang.domain.chat.RealtimeChatRoom;
+import com.ssg9th2team.geharbang.domain.chat.repository.RealtimeChatRoomRepository;
+import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import com.ssg9th2team.geharbang.global.outbox.OutboxEvent;
+import com.ssg9th2team.geharbang.global.outbox.OutboxEventHandler;
+import com.ssg9th2team.geharbang.global.storage.ImageVariants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 생성 이후 호스트-게스트 채팅방 생성 (아웃박스)
+ * - 이미 채팅방이 있거나 예약이 정리(결제 대기 만료)된 경우 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationChatRoomEventHandler implements OutboxEventHandler {
+
+    public static final String EVENT_TYPE = "RESERVATION_CREATED";
+
+    private final ReservationJpaRepository reservationRepository;
+    private final AccommodationJpaRepository accommodationRepository;
+    private final AccommodationMapper accommodationMapper;
+    private final RealtimeChatRoomRepository realtimeChatRoomRepository;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Long reservationId = event.getAggregateId();
+        if (realtimeChatRoomRepository.findByReservationId(reservationId).isPresent()) {
+            return;
+        }
+        Reservation reservation = reservationRepository.findById(reservationId).orElse(null);
+        if (reservation == null) {
+            log.info("채팅방 생성 생략 (예약 없음): reservationId={}", reservationId);
+            return;
+        }
+        Accommodation accommodation = accommodationRepository.findById(reservation.getAccommodationsId())
+                .orElseThrow(() -> new IllegalStateException("숙소를 찾을 수 없습니다: " + reservation.getAccommodationsId()));
+        String imageUrl = accommodationMapper.selectMainImageUrl(accommodation.getAccommodationsId());
+
+        RealtimeChatRoom chatRoom = RealtimeChatRoom.builder()
+                .reservationId(reservationId)
+                .accommodationId(accommodation.getAccommodationsId())
+                .accommodationName(accommodation.getAccommodationsName())
+                .accommodationImage(ImageVariants.thumbnail(imageUrl))
+                .hostUserId(accommodation.getUserId())
+                .guestUserId(reservation.getUserId())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        realtimeChatRoomRepository.save(chatRoom);
+        log.info("채팅방 생성 완료. reservationId={}, chatRoomId={}", reservationId, chatRoom.getId());
+    }
+}
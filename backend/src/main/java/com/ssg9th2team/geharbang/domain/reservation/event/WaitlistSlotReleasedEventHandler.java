@@ -0,0 +1,42 @@
+package com.ssg9th2team.geharbang.domain.reservation.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.domain.reservation.service.WaitlistService;
+import com.ssg9th2team.geharbang.global.outbox.OutboxEvent;
+import com.ssg9th2team.geharbang.global.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 취소/환불/결제 대기 만료로 빈자리가 생기면 대기자에게 알림 (아웃박스)
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitlistSlotReleasedEventHandler implements OutboxEventHandler {
+
+    public static final String EVENT_TYPE = "WAITLIST_SLOT_RELEASED";
+
+    private final WaitlistService waitlistService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        Payload payload = objectMapper.readValue(event.getPayload(), Payload.class);
+        waitlistService.notifyWaitingUsers(payload.roomId(), payload.checkin(), payload.checkout());
+    }
+
+    public record Payload(Long roomId, LocalDateTime checkin, LocalDateTime checkout) {
+
+        public static Payload of(Reservation reservation) {
+            return new Payload(reservation.getRoomId(), reservation.getCheckin(), reservation.getCheckout());
+        }
+    }
+}
@@ -19,6 +19,14 @@ import java.util.Optional;
 public interface ReservationJpaRepository
                 extends JpaRepository<Reservation, Long>, JpaSpecificationExecutor<Reservation> {
 
+        /**
+         * 비관적 락(Pessimistic Lock)으로 예약 조회
+         * 결제 승인처럼 같은 예약에 대한 요청을 직렬화할 때 사용 (존재하는 행만 잠그므로 갭 락이 없다)
+         */
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT r FROM Reservation r WHERE r.id = :id")
+        Optional<Reservation> findByIdWithLock(@Param("id") Long id);
+
         // Soft Delete 적용: 삭제되지 않은 예약만 조회
 
         @Query("SELECT r FROM Reservation r WHERE r.userId = :userId AND r.isDeleted = false")
@@ -43,17 +51,27 @@ public interface ReservationJpaRepository
         @Query("SELECT r FROM Reservation r WHERE r.roomId = :roomId AND r.isDeleted = false")
         List<Reservation> findByRoomId(@Param("roomId") Long roomId);
 
+        /**
+         * 결제 승인(PG 호출) 중인 대기 예약은 정리 대상에서 제외 (멈춘 승인은 cutoff 이후 다시 대상이 됨)
+         */
+        String PAYMENT_NOT_CONFIRMING = "AND NOT EXISTS (SELECT c FROM PaymentConfirmRequest c "
+                        + "WHERE c.reservationId = r.id "
+                        + "AND c.status = com.ssg9th2team.geharbang.domain.payment.entity.PaymentConfirmStatus.PROCESSING "
+                        + "AND c.updatedAt >= :cutoffTime)";
+
         /**
          * 30분이 지난 대기(0) 상태 예약 조회
          */
-        @Query("SELECT r FROM Reservation r WHERE r.reservationStatus = 0 AND r.createdAt < :cutoffTime")
+        @Query("SELECT r FROM Reservation r WHERE r.reservationStatus = 0 AND r.createdAt < :cutoffTime "
+                        + PAYMENT_NOT_CONFIRMING)
         List<Reservation> findOldPendingReservations(@Param("cutoffTime") LocalDateTime cutoffTime);
 
         /**
          * 30분 이상 경과한 대기(0) 상태 예약 삭제 (물리적 삭제 유지)
          */
         @Modifying
-        @Query("DELETE FROM Reservation r WHERE r.reservationStatus = 0 AND r.createdAt < :cutoffTime")
+        @Query("DELETE FROM Reservation r WHERE r.reservationStatus = 0 AND r.createdAt < :cutoffTime "
+                        + PAYMENT_NOT_CONFIRMING)
         int deleteOldPendingReservations(@Param("cutoffTime") LocalDateTime cutoffTime);
 
         /**
@@ -112,9 +130,8 @@ public interface ReservationJpaRepository
          * [동시성 제어] 특정 객실, 특정 날짜 범위에 예약된 총 인원 수 조회
          * - 취소(9) 및 삭제된 예약 제외
          * - 날짜 겹침 조건: 새 체크인 < 기존 체크아웃 AND 새 체크아웃 > 기존 체크인
-         * - PESSIMISTIC_READ 락으로 동시 예약 시 정확한 인원 수 조회 보장
+         * - 공유 락으로는 동시 예약 두 건이 같은 합계를 보고 함께 통과하므로, 호출부가 객실 행을 먼저 FOR UPDATE 로 잠근다.
          */
-        @Lock(LockModeType.PESSIMISTIC_READ)
         @Query("SELECT COALESCE(SUM(r.guestCount), 0) FROM Reservation r " +
                         "WHERE r.roomId = :roomId " +
                         "AND r.isDeleted = false " +
@@ -125,6 +142,26 @@ public interface ReservationJpaRepository
                         @Param("checkin") LocalDateTime checkin,
                         @Param("checkout") LocalDateTime checkout);
 
+        /**
+         * 객실 정원 장부 초기값 계산용: 기간과 겹치는 유효 예약 (취소/삭제 제외, 락 없음)
+         */
+        @Query("SELECT r FROM Reservation r " +
+                        "WHERE r.roomId = :roomId " +
+                        "AND r.isDeleted = false " +
+                        "AND r.reservationStatus != 9 " +
+                        "AND r.checkin < :checkout AND r.checkout > :checkin")
+        List<Reservation> findOccupyingByRoomIdAndDateRange(
+                        @Param("roomId") Long roomId,
+                        @Param("checkin") LocalDateTime checkin,
+                        @Param("checkout") LocalDateTime checkout);
+
+        /**
+         * 객실 점유 인덱스 적재용: 지정 시각 이후 체크아웃하는 유효 예약 (취소/삭제 제외)
+         */
+        @Query("SELECT r FROM Reservation r WHERE r.isDeleted = false AND r.reservationStatus != 9 " +
+                        "AND r.roomId IS NOT NULL AND r.checkout > :from")
+        List<Reservation> findOccupyingReservations(@Param("from") LocalDateTime from);
+
         /**
          * 유저의 결제 완료된 예약 수 카운트 (reservationStatus = 2: 확정)
          */
@@ -3,8 +3,7 @@ package com.ssg9th2team.geharbang.domain.reservation.service;
 import com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.AccommodationJpaRepository;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.mybatis.AccommodationMapper;
-import com.ssg9th2team.geharbang.domain.auth.entity.User;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.domain.admin.service.AdminMetricRollupService;
 import com.ssg9th2team.geharbang.domain.coupon.entity.Coupon;
 import com.ssg9th2team.geharbang.domain.coupon.entity.UserCoupon;
 import com.ssg9th2team.geharbang.domain.coupon.entity.UserCouponStatus;
@@ -13,22 +12,24 @@ import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.UserCouponJpaRepos
 import com.ssg9th2team.geharbang.domain.payment.entity.Payment;
 import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentJpaRepository;
 import com.ssg9th2team.geharbang.domain.payment.service.PaymentService;
+import com.ssg9th2team.geharbang.domain.recommendation.service.RecommendationEngine;
 import com.ssg9th2team.geharbang.domain.reservation.dto.ReservationRequestDto;
 import com.ssg9th2team.geharbang.domain.reservation.dto.ReservationResponseDto;
 import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
 import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
 import com.ssg9th2team.geharbang.domain.review.repository.jpa.ReviewJpaRepository;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomJpaRepository;
-import com.ssg9th2team.geharbang.global.lock.DistributedLock;
-import com.ssg9th2team.geharbang.domain.chat.repository.RealtimeChatRoomRepository;
-import com.ssg9th2team.geharbang.domain.chat.RealtimeChatRoom;
+import com.ssg9th2team.geharbang.domain.reservation.event.ReservationChatRoomEventHandler;
+import com.ssg9th2team.geharbang.domain.reservation.event.WaitlistSlotReleasedEventHandler;
+import com.ssg9th2team.geharbang.global.outbox.OutboxEventPublisher;
+import com.ssg9th2team.geharbang.global.security.SecurityUtils;
+import com.ssg9th2team.geharbang.global.storage.ImageVariants;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -45,26 +46,26 @@ public class ReservationServiceImpl implements ReservationService {
         private final ReservationJpaRepository reservationRepository;
         private final AccommodationJpaRepository accommodationRepository;
         private final AccommodationMapper accommodationMapper;
-        private final UserRepository userRepository;
         private final ReviewJpaRepository reviewJpaRepository;
         private final PaymentService paymentService;
         private final RoomJpaRepository roomJpaRepository;
         private final PaymentJpaRepository paymentRepository;
-        private final WaitlistService waitlistService;
-        private final RealtimeChatRoomRepository realtimeChatRoomRepository;
         private final UserCouponJpaRepository userCouponJpaRepository;
         private final CouponJpaRepository couponJpaRepository;
+        private final RoomOccupancyIndex roomOccupancyIndex;
+        private final RoomCapacityLedger roomCapacityLedger;
+        private final OutboxEventPublisher outboxEventPublisher;
+        private final AdminMetricRollupService metricRollupService;
+        private final RecommendationEngine recommendationEngine;
 
         @Override
-        @DistributedLock(key = "'reservation:room:' + #requestDto.roomId() + ':date:' + #requestDto.checkin().toString().substring(0,10)")
         @Transactional
         public ReservationResponseDto createReservation(ReservationRequestDto requestDto) {
                 // JWT 토큰에서 인증된 사용자 정보 추출
                 Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
                 String email = authentication.getName();
-                User user = userRepository.findByEmail(email)
+                Long userId = SecurityUtils.findUserId(authentication)
                                 .orElseThrow(() -> new IllegalStateException("인증된 사용자를 찾을 수 없습니다: " + email));
-                Long userId = user.getId();
 
                 log.debug("DEBUG: createReservation called for user: {} (ID: {})", email, userId);
 
@@ -73,13 +74,12 @@ public class ReservationServiceImpl implements ReservationService {
                         throw new IllegalArgumentException("Room ID is required for reservation.");
                 }
 
-                // [동시성 제어] Redis 분산 락으로 동시성 제어 (메서드 레벨 @DistributedLock)
                 com.ssg9th2team.geharbang.domain.room.entity.Room room = roomJpaRepository
                                 .findById(requestDto.roomId())
                                 .orElseThrow(() -> new IllegalArgumentException(
                                                 "객실을 찾을 수 없습니다: " + requestDto.roomId()));
 
-                // Instant를 LocalDate로 변환 (UTC 기준 - 분산 락 키와 동일한 시간대 사용)
+                // Instant를 LocalDate로 변환 (UTC 기준)
                 java.time.LocalDate checkinDate = java.time.LocalDateTime.ofInstant(
                                 requestDto.checkin(), java.time.ZoneOffset.UTC).toLocalDate();
                 java.time.LocalDate checkoutDate = java.time.LocalDateTime.ofInstant(
@@ -94,13 +94,21 @@ public class ReservationServiceImpl implements ReservationService {
                 java.time.LocalDateTime checkinDateTime = checkinDate.atTime(15, 0);
                 java.time.LocalDateTime checkoutDateTime = checkoutDate.atTime(11, 0);
 
-                // [정원 기반 재고 관리] 날짜가 겹치는 기존 예약의 총 인원 조회
-                Integer reservedGuestCount = reservationRepository.sumGuestCountByRoomIdAndDateRange(
-                                requestDto.roomId(), checkinDateTime, checkoutDateTime);
-
-                // 잔여 정원 계산 및 검증
+                // [동시성 제어] 박 단위 정원 장부에서 숙박 기간 전체의 잔여 정원 확인과 차감을 한 번에 처리
+                // (트랜잭션 롤백 시 장부가 차감분을 되돌림)
                 int maxGuests = room.getMaxGuests() != null ? room.getMaxGuests() : 0;
-                int remainingCapacity = maxGuests - reservedGuestCount;
+                Integer remainingCapacity = roomCapacityLedger.reserve(
+                                requestDto.roomId(), checkinDate, checkoutDate, requestDto.guestCount(), maxGuests);
+                if (remainingCapacity == null) {
+                        // 장부를 쓸 수 없으면 객실 행을 FOR UPDATE 로 잠가 같은 객실의 예약을 직렬화한 뒤 기존 예약 인원을 조회
+                        // (PESSIMISTIC_READ 공유 락은 동시에 둘 다 통과해 초과 예약이 생긴다)
+                        roomJpaRepository.findByIdWithLock(requestDto.roomId());
+                        // 장부를 거치지 않은 예약이므로 커밋 이후 해당 박을 DB 기준으로 다시 채우게 한다.
+                        roomCapacityLedger.invalidateAfterCommit(requestDto.roomId(), checkinDate, checkoutDate);
+                        Integer reservedGuestCount = reservationRepository.sumGuestCountByRoomIdAndDateRange(
+                                        requestDto.roomId(), checkinDateTime, checkoutDateTime);
+                        remainingCapacity = maxGuests - reservedGuestCount;
+                }
 
                 if (requestDto.guestCount() > remainingCapacity) {
                         throw new IllegalStateException(
@@ -171,11 +179,15 @@ public class ReservationServiceImpl implements ReservationService {
                                 .build();
 
                 Reservation saved = reservationRepository.save(reservation);
+                roomOccupancyIndex.record(saved);
+                metricRollupService.markDirty(saved.getCreatedAt());
+                recommendationEngine.refreshUser(saved.getUserId());
+
+                // 채팅방 자동 생성 (커밋 이후 아웃박스에서 처리)
+                outboxEventPublisher.publish(ReservationChatRoomEventHandler.EVENT_TYPE, saved.getId(), null);
 
-                // 채팅방 자동 생성 (별도 트랜잭션으로 분리)
                 Accommodation accommodation = accommodationRepository.findById(requestDto.accommodationsId())
                                 .orElseThrow(() -> new IllegalArgumentException("숙소를 찾을 수 없습니다."));
-                createChatRoomForReservation(saved, accommodation, userId);
 
                 // Accommodation 정보 조회 (이름/주소 반환을 위해)
                 String accName = accommodation.getAccommodationsName();
@@ -185,33 +197,6 @@ public class ReservationServiceImpl implements ReservationService {
                 return ReservationResponseDto.from(saved, accName, accAddress);
         }
 
-        @Transactional(propagation = Propagation.REQUIRES_NEW)
-        public void createChatRoomForReservation(Reservation reservation, Accommodation accommodation,
-                        Long guestUserId) {
-                try {
-                        String imageUrl = accommodationMapper.selectMainImageUrl(accommodation.getAccommodationsId());
-
-                        RealtimeChatRoom chatRoom = RealtimeChatRoom.builder()
-                                        .reservationId(reservation.getId())
-                                        .accommodationId(accommodation.getAccommodationsId())
-                                        .accommodationName(accommodation.getAccommodationsName())
-                                        .accommodationImage(imageUrl)
-                                        .hostUserId(accommodation.getUserId())
-                                        .guestUserId(guestUserId)
-                                        .createdAt(LocalDateTime.now())
-                                        .updatedAt(LocalDateTime.now())
-                                        .build();
-
-                        realtimeChatRoomRepository.save(chatRoom);
-                        log.info("채팅방 생성 완료. reservationId={}, chatRoomId={}", reservation.getId(), chatRoom.getId());
-
-                } catch (Exception e) {
-                        log.error("CRITICAL: 채팅방 자동 생성에 실패했습니다. 예약은 정상적으로 완료되었습니다. reservationId={}",
-                                        reservation.getId(), e);
-                        // 필요시 알림 서비스 호출
-                }
-        }
-
         private int calculateCouponDiscount(Coupon coupon, int totalAmount) {
                 if (coupon == null || coupon.getDiscountValue() == null) {
                         return 0;
@@ -269,11 +254,9 @@ public class ReservationServiceImpl implements ReservationService {
                 // JWT 토큰에서 인증된 사용자 정보 추출
                 Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
                 String email = authentication.getName();
-                User user = userRepository.findByEmail(email)
+                Long userId = SecurityUtils.findUserId(authentication)
                                 .orElseThrow(() -> new IllegalStateException("인증된 사용자를 찾을 수 없습니다: " + email));
 
-                Long userId = user.getId();
-
                 // 사용자의 예약 목록 조회 (숙소 정보 + 이미지 + 리뷰 작성 여부 포함)
                 // DB 레벨에서 결제 완료된 예약만 조회 (reservationStatus >= 2: 확정 이상)
                 return reservationRepository.findCompletedReservationsByUserIdOrderByCreatedAtDesc(userId)
@@ -290,8 +273,8 @@ public class ReservationServiceImpl implements ReservationService {
                                                         : null;
 
                                         // 숙소 대표 이미지 조회 (sort_order = 0)
-                                        String imageUrl = accommodationMapper
-                                                        .selectMainImageUrl(reservation.getAccommodationsId());
+                                        String imageUrl = ImageVariants.card(accommodationMapper
+                                                        .selectMainImageUrl(reservation.getAccommodationsId()));
 
                                         // 해당 숙소에 리뷰 작성 여부 확인
                                         Boolean hasReview = reviewJpaRepository
@@ -307,10 +290,17 @@ public class ReservationServiceImpl implements ReservationService {
         @Override
         @Transactional
         public void deletePendingReservation(Long reservationId) {
+                Reservation pending = reservationRepository.findById(reservationId).orElse(null);
                 int deleted = reservationRepository.deletePendingReservation(reservationId);
                 if (deleted == 0) {
                         throw new IllegalArgumentException("대기 상태의 예약을 찾을 수 없습니다: " + reservationId);
                 }
+                roomOccupancyIndex.release(reservationId);
+                roomCapacityLedger.release(pending);
+                metricRollupService.markDirty(pending != null ? pending.getCreatedAt() : null);
+                if (pending != null) {
+                        recommendationEngine.refreshUser(pending.getUserId());
+                }
         }
 
         @Override
@@ -353,6 +343,10 @@ public class ReservationServiceImpl implements ReservationService {
                         // 위 검증을 통과했는데 여기서 0이면 뭔가 이상함 (동시성 문제 등)
                         throw new IllegalArgumentException("이용 완료된 예약만 삭제할 수 있습니다. (DB 삭제 0건)");
                 }
+                roomOccupancyIndex.release(reservationId);
+                roomCapacityLedger.release(r);
+                metricRollupService.markDirty(r.getCreatedAt());
+                recommendationEngine.refreshUser(r.getUserId());
         }
 
         @Override
@@ -369,6 +363,8 @@ public class ReservationServiceImpl implements ReservationService {
                 if (deleted == 0) {
                         throw new IllegalArgumentException("예약 내역 삭제에 실패했습니다.");
                 }
+                metricRollupService.markDirty(r.getCreatedAt());
+                recommendationEngine.refreshUser(r.getUserId());
         }
 
         @Override
@@ -381,11 +377,15 @@ public class ReservationServiceImpl implements ReservationService {
                 List<Reservation> toBeDeleted = reservationRepository.findOldPendingReservations(cutoffTime);
 
                 int deletedCount = reservationRepository.deleteOldPendingReservations(cutoffTime);
+                roomOccupancyIndex.releaseAll(toBeDeleted);
+                roomCapacityLedger.releaseAll(toBeDeleted);
 
-                // 대기자 알림 발송
+                // 대기자 알림 발송 (커밋 이후 아웃박스에서 처리)
                 if (deletedCount > 0 && !toBeDeleted.isEmpty()) {
                         for (Reservation r : toBeDeleted) {
-                                waitlistService.notifyWaitingUsers(r.getRoomId(), r.getCheckin(), r.getCheckout());
+                                outboxEventPublisher.publish(WaitlistSlotReleasedEventHandler.EVENT_TYPE, r.getId(),
+                                                WaitlistSlotReleasedEventHandler.Payload.of(r));
+                                metricRollupService.markDirty(r.getCreatedAt());
                         }
                 }
 
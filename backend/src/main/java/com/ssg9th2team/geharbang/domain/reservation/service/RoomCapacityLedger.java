@@ -0,0 +1,358 @@
+package com.ssg9th2team.geharbang.domain.reservation.service;
+
+import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 객실/박(night) 단위 예약 인원 장부 (Redis)
+ *
+ * <p>숙박 기간의 모든 박에 대해 잔여 정원 확인과 인원 차감을 Lua 스크립트 한 번으로 처리한다.
+ * 체크인 날짜만으로 잡던 분산 락과 PESSIMISTIC_READ 조회 없이도, 체크인 날짜가 다른 연박 예약끼리
+ * 같은 박에서 정확히 경합한다.
+ * <ul>
+ *   <li>키: capacity:room:{roomId}:{yyyy-MM-dd} (Hash - r: 예약 인원, s: 초기값 조회 시작 시각)</li>
+ *   <li>키가 없는 박은 DB 의 유효 예약(취소/삭제 제외)으로 초기값을 채운다.</li>
+ *   <li>예약 트랜잭션이 롤백되면 차감한 인원을 되돌리고, 취소/대기 만료/삭제는 커밋 이후 반환한다.</li>
+ *   <li>키는 마지막 예약 이후 idle-ttl 이 지나면 만료되어 다음 예약 때 DB 기준으로 다시 채워진다.
+ *       반환 누락 등으로 어긋난 값은 이 주기 안에 바로잡힌다.</li>
+ * </ul>
+ *
+ * <p>{@link #reserve} 가 null 이면 장부를 쓸 수 없는 경우(비활성, Redis 오류)이므로 호출부는 객실 행 락을 잡고 DB 로 판단한다.
+ * 이렇게 장부를 거치지 않은 예약은 {@link #invalidateAfterCommit} 으로 커밋 이후 해당 박의 키를 지워 DB 기준으로 다시 채운다.
+ * Redis 가 아직 복구되지 않아 지우지 못한 키는 노드 메모리에 남겨 두고 주기적으로 재시도하며,
+ * 그동안 이 노드는 해당 박에 장부를 쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomCapacityLedger {
+
+    private static final String KEY_PREFIX = "capacity:room:";
+
+    private static final long NEEDS_SEED = 0;
+    private static final long RESERVED = 1;
+
+    /**
+     * KEYS: 박별 키 / ARGV: 최대 정원, 예약 인원, 현재 시각(초), idle-ttl(초), 초기값 조회 시작 시각(ms, 0 이면 초기값 없음),
+     * 이후 박별 (초기값, 만료 시각(초)) 쌍
+     * 반환: {상태(0: 초기값 필요, 1: 차감 완료, 2: 정원 초과), 가장 적은 잔여 정원, (차감 완료 시) 박별 초기값 조회 시작 시각}
+     * 초기값을 채운 박은 정원 초과로 차감하지 않더라도 바로 만료 시각을 건다.
+     */
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local maxGuests = tonumber(ARGV[1])
+            local guests = tonumber(ARGV[2])
+            local now = tonumber(ARGV[3])
+            local idleTtl = tonumber(ARGV[4])
+            local seededAt = ARGV[5]
+            local remaining = maxGuests
+            for i, key in ipairs(KEYS) do
+                local reserved = redis.call('HGET', key, 'r')
+                if not reserved then
+                    if seededAt == '0' then
+                        return {0, 0}
+                    end
+                    reserved = ARGV[4 + i * 2]
+                    redis.call('HSET', key, 'r', reserved, 's', seededAt)
+                    redis.call('EXPIREAT', key, math.min(now + idleTtl, tonumber(ARGV[5 + i * 2])))
+                end
+                remaining = math.min(remaining, maxGuests - tonumber(reserved))
+            end
+            if guests > remaining then
+                return {2, remaining}
+            end
+            local result = {1, remaining}
+            for i, key in ipairs(KEYS) do
+                redis.call('HINCRBY', key, 'r', guests)
+                redis.call('EXPIREAT', key, math.min(now + idleTtl, tonumber(ARGV[5 + i * 2])))
+                result[2 + i] = redis.call('HGET', key, 's')
+            end
+            return result
+            """, List.class);
+
+    /**
+     * KEYS: 박별 키, 반환 표시 키 / ARGV: 반환 인원, 상태 변경 커밋 직전 시각(ms), 반환 표시 유지 시간(초)
+     * 같은 예약은 한 번만 반환하고 (여러 노드의 대기 예약 정리 중복), 커밋 이후 DB 에서 다시 채운 박은
+     * 이미 반영된 값이므로 건너뛴다.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local guests = tonumber(ARGV[1])
+            local changedAt = tonumber(ARGV[2])
+            local nights = #KEYS - 1
+            if not redis.call('SET', KEYS[#KEYS], 1, 'NX', 'EX', ARGV[3]) then
+                return 0
+            end
+            for i = 1, nights do
+                local key = KEYS[i]
+                local seededAt = redis.call('HGET', key, 's')
+                if seededAt and tonumber(seededAt) < changedAt then
+                    if redis.call('HINCRBY', key, 'r', -guests) < 0 then
+                        redis.call('HSET', key, 'r', 0)
+                    end
+                end
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: 박별 키 / ARGV: 반환 인원, 이후 박별로 차감 당시의 초기값 조회 시작 시각
+     * 롤백된 예약의 차감분을 되돌린다. 그 사이 키가 만료/무효화되어 DB 기준으로 다시 채워진 박은
+     * 롤백된 예약이 들어 있지 않으므로 건너뛴다.
+     */
+    private static final RedisScript<Long> ROLLBACK_SCRIPT = new DefaultRedisScript<>("""
+            local guests = tonumber(ARGV[1])
+            local released = 0
+            for i, key in ipairs(KEYS) do
+                if redis.call('HGET', key, 's') == ARGV[1 + i] then
+                    if redis.call('HINCRBY', key, 'r', -guests) < 0 then
+                        redis.call('HSET', key, 'r', 0)
+                    end
+                    released = released + 1
+                end
+            end
+            return released
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReservationJpaRepository reservationRepository;
+
+    /** DB 기준으로 다시 채워야 하는데 아직 지우지 못한 박 키 */
+    private final Set<String> pendingInvalidations = ConcurrentHashMap.newKeySet();
+
+    @Value("${reservation.capacity-ledger.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reservation.capacity-ledger.idle-ttl-seconds:21600}")
+    private long idleTtlSeconds;
+
+    /**
+     * 기간의 모든 박에 guestCount 만큼 여유가 있으면 차감한다.
+     *
+     * @return 차감 전 가장 적은 잔여 정원 (guestCount 보다 작으면 차감하지 않음), 장부를 쓸 수 없으면 null
+     */
+    public Integer reserve(Long roomId, LocalDate checkinDate, LocalDate checkoutDate, int guestCount, int maxGuests) {
+        if (!enabled || !checkoutDate.isAfter(checkinDate)) {
+            return null;
+        }
+        List<String> keys = nightKeys(roomId, checkinDate, checkoutDate);
+        try {
+            if (!pendingInvalidations.isEmpty()) {
+                List<String> stale = keys.stream().filter(pendingInvalidations::contains).toList();
+                if (!stale.isEmpty() && !invalidateNow(stale)) {
+                    return null;
+                }
+            }
+            List<?> result = execute(keys, guestCount, maxGuests, roomId, checkinDate, false);
+            if (((Number) result.get(0)).longValue() == NEEDS_SEED) {
+                result = execute(keys, guestCount, maxGuests, roomId, checkinDate, true);
+            }
+            int remaining = ((Number) result.get(1)).intValue();
+            if (((Number) result.get(0)).longValue() == RESERVED) {
+                compensateOnRollback(keys, guestCount, result.subList(2, result.size()));
+            }
+            return remaining;
+        } catch (Exception e) {
+            log.warn("객실 정원 장부 사용 실패 (DB 락 조회로 판단): roomId={}, {}", roomId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 취소/대기 만료/삭제된 예약의 인원을 커밋 이후 반환한다.
+     */
+    public void release(Reservation reservation) {
+        if (!enabled || reservation == null || reservation.getRoomId() == null
+                || reservation.getCheckin() == null || reservation.getCheckout() == null) {
+            return;
+        }
+        List<String> nightKeys = nightKeys(reservation.getRoomId(),
+                reservation.getCheckin().toLocalDate(), reservation.getCheckout().toLocalDate());
+        int guestCount = reservation.getGuestCount() != null ? reservation.getGuestCount() : 0;
+        if (nightKeys.isEmpty() || guestCount <= 0) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(nightKeys);
+        keys.add(KEY_PREFIX + "{" + reservation.getRoomId() + "}:released:" + reservation.getId());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseNow(keys, guestCount, System.currentTimeMillis());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long changedAt;
+
+            @Override
+            public void beforeCompletion() {
+                changedAt = System.currentTimeMillis();
+            }
+
+            @Override
+            public void afterCommit() {
+                releaseNow(keys, guestCount, changedAt);
+            }
+        });
+    }
+
+    public void releaseAll(Collection<Reservation> reservations) {
+        for (Reservation reservation : reservations) {
+            release(reservation);
+        }
+    }
+
+    /**
+     * 장부를 거치지 않고 DB 락으로 처리한 예약이 커밋되면 해당 박의 키를 지운다.
+     * 다음 예약이 DB 의 유효 예약으로 초기값을 다시 채우므로 장부에 빠진 인원이 반영된다.
+     */
+    public void invalidateAfterCommit(Long roomId, LocalDate checkinDate, LocalDate checkoutDate) {
+        if (!enabled || !checkoutDate.isAfter(checkinDate)) {
+            return;
+        }
+        List<String> keys = nightKeys(roomId, checkinDate, checkoutDate);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateNow(keys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateNow(keys);
+            }
+        });
+    }
+
+    /**
+     * Redis 장애로 지우지 못한 박 키를 다시 지운다. 한 번 실패하면 Redis 가 아직 복구되지 않은 것으로 보고 다음 주기로 넘긴다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.capacity-ledger.invalidate-retry-ms:5000}")
+    public void retryPendingInvalidations() {
+        for (String key : List.copyOf(pendingInvalidations)) {
+            if (!invalidateNow(List.of(key))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 대기 목록에서 먼저 빼고 지운다. 실패하면 다시 넣으므로 동시에 실패한 다른 호출의 키를 잃지 않는다.
+     */
+    private boolean invalidateNow(List<String> keys) {
+        keys.forEach(pendingInvalidations::remove);
+        try {
+            stringRedisTemplate.delete(keys);
+            return true;
+        } catch (Exception e) {
+            pendingInvalidations.addAll(keys);
+            log.warn("객실 정원 장부 무효화 실패 (재시도 대기): keys={}, {}", keys.get(0), e.getMessage());
+            return false;
+        }
+    }
+
+    private List<?> execute(List<String> keys, int guestCount, int maxGuests, Long roomId, LocalDate checkinDate,
+                            boolean seed) {
+        int nights = keys.size();
+        int[] seeds = new int[nights];
+        // 초기값 조회 시작 시각: 이보다 먼저 커밋된 취소는 초기값에 이미 반영되어 있다.
+        long seededAt = 0;
+        if (seed) {
+            seededAt = System.currentTimeMillis();
+            seeds = nightlyGuests(reservationRepository.findOccupyingByRoomIdAndDateRange(roomId,
+                    checkinDate.atStartOfDay(), checkinDate.plusDays(nights).atStartOfDay()), checkinDate, nights);
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(maxGuests));
+        args.add(String.valueOf(guestCount));
+        args.add(String.valueOf(System.currentTimeMillis() / 1000));
+        args.add(String.valueOf(idleTtlSeconds));
+        args.add(String.valueOf(seededAt));
+        for (int night = 0; night < nights; night++) {
+            args.add(String.valueOf(seeds[night]));
+            args.add(String.valueOf(expireAt(checkinDate.plusDays(night))));
+        }
+        return stringRedisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+    }
+
+    /**
+     * 차감 당시 박별 초기값 조회 시작 시각과 같을 때만 되돌린다. (그 사이 다시 채운 박 제외)
+     */
+    private void compensateOnRollback(List<String> keys, int guestCount, List<?> seededAts) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(guestCount));
+        seededAts.forEach(seededAt -> args.add(String.valueOf(seededAt)));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    try {
+                        stringRedisTemplate.execute(ROLLBACK_SCRIPT, keys, args.toArray());
+                    } catch (Exception e) {
+                        log.warn("객실 정원 장부 롤백 보상 실패 (idle-ttl 이후 DB 기준으로 재적재): keys={}, {}",
+                                keys.get(0), e.getMessage());
+                    }
+                }
+            }
+        });
+    }
+
+    private void releaseNow(List<String> keys, int guestCount, long changedAt) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, keys,
+                    String.valueOf(guestCount), String.valueOf(changedAt), String.valueOf(idleTtlSeconds));
+        } catch (Exception e) {
+            log.warn("객실 정원 장부 반환 실패 (idle-ttl 이후 DB 기준으로 재적재): keys={}, {}", keys.get(0), e.getMessage());
+        }
+    }
+
+    /**
+     * 박별 예약 인원. 체크인 날짜의 박부터 체크아웃 전날의 박까지 점유한다.
+     */
+    static int[] nightlyGuests(List<Reservation> reservations, LocalDate from, int nights) {
+        int[] guests = new int[nights];
+        long fromDay = from.toEpochDay();
+        for (Reservation reservation : reservations) {
+            int guestCount = reservation.getGuestCount() != null ? reservation.getGuestCount() : 0;
+            long start = Math.max(reservation.getCheckin().toLocalDate().toEpochDay() - fromDay, 0);
+            long end = Math.min(reservation.getCheckout().toLocalDate().toEpochDay() - fromDay, nights);
+            for (long night = start; night < end; night++) {
+                guests[(int) night] += guestCount;
+            }
+        }
+        return guests;
+    }
+
+    /**
+     * 같은 객실의 키는 해시 태그로 같은 슬롯에 둔다. (클러스터에서 여러 키 스크립트 실행)
+     */
+    static List<String> nightKeys(Long roomId, LocalDate checkinDate, LocalDate checkoutDate) {
+        List<String> keys = new ArrayList<>();
+        for (LocalDate night = checkinDate; night.isBefore(checkoutDate); night = night.plusDays(1)) {
+            keys.add(KEY_PREFIX + "{" + roomId + "}:" + night);
+        }
+        return keys;
+    }
+
+    /**
+     * 해당 박이 끝난 다음 날 자정(UTC)
+     */
+    private static long expireAt(LocalDate night) {
+        return night.plusDays(2).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,266 @@
+package com.ssg9th2team.geharbang.domain.reservation.service;
+
+import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import com.ssg9th2team.geharbang.global.snapshot.SnapshotRebuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 객실/박(night) 단위 점유 인원 인덱스
+ *
+ * <p>검색의 날짜 필터가 reservation 테이블을 박 단위로 재집계(stay_dates CTE)하지 않도록
+ * 객실마다 예약 가능 기간(오늘 기준 약 1년) 만큼의 인원 배열을 메모리에 유지한다.
+ * <ul>
+ *   <li>confirmed: 확정(2)/체크인완료(3) 예약 인원 - 검색 가용성 판단에 사용</li>
+ *   <li>pending: 결제 대기(0)/요청(1) 예약 인원</li>
+ * </ul>
+ *
+ * <p>예약 생성/결제 확정/취소/대기 정리 시 커밋 이후 증분 반영하고,
+ * 다른 노드에서 발생한 변경은 주기적인 전체 재적재로 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomOccupancyIndex {
+
+    /** 체크인 365일 제한 + 장기 숙박 여유분 */
+    private static final int WINDOW_DAYS = 400;
+
+    private final ReservationJpaRepository reservationRepository;
+
+    @Value("${search.occupancy-index.enabled:true}")
+    private boolean enabled;
+
+    private volatile Snapshot snapshot;
+    /** 변경은 예약의 현재 상태를 담은 upsert/remove 라서 반영 순서가 곧 결과다. (순서 보장은 rebuilder 락) */
+    private final SnapshotRebuilder<Mutation> rebuilder = new SnapshotRebuilder<>("객실 점유 인덱스", this::applyToCurrent);
+
+    /**
+     * 애플리케이션 시작 시 인덱스 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 주기적으로 DB 기준으로 재적재한다. (날짜 윈도우 이동 + 타 노드 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${search.occupancy-index.refresh-ms:300000}",
+            initialDelayString = "${search.occupancy-index.refresh-ms:300000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            if (rebuilder.rebuild(this::load, next -> snapshot = next)) {
+                Snapshot current = snapshot;
+                log.info("객실 점유 인덱스 적재 완료: reservations={}, rooms={}, {}ms",
+                        current.entries.size(), current.rooms.size(), System.currentTimeMillis() - startedAt);
+            }
+        } catch (Exception e) {
+            log.error("객실 점유 인덱스 적재 실패 (검색은 DB 집계로 동작)", e);
+        }
+    }
+
+    private Snapshot load() {
+        long baseDay = LocalDate.now().minusDays(1).toEpochDay();
+        List<Reservation> reservations = reservationRepository.findOccupyingReservations(
+                LocalDate.ofEpochDay(baseDay).atStartOfDay());
+        Snapshot next = new Snapshot(baseDay);
+        for (Reservation reservation : reservations) {
+            next.apply(Mutation.upsert(reservation));
+        }
+        return next;
+    }
+
+    /**
+     * 인덱스로 해당 기간을 판단할 수 있는지 여부
+     */
+    public boolean covers(LocalDate checkinDate, LocalDate checkoutDate) {
+        Snapshot current = snapshot;
+        if (!enabled || current == null || checkinDate == null || checkoutDate == null) {
+            return false;
+        }
+        return checkinDate.toEpochDay() >= current.baseDay
+                && checkoutDate.toEpochDay() <= current.baseDay + WINDOW_DAYS
+                && checkoutDate.isAfter(checkinDate);
+    }
+
+    /**
+     * 기간 내 확정 예약 인원이 가장 많은 박의 인원을 객실별로 반환한다.
+     * 예약이 없는 객실은 포함하지 않는다.
+     */
+    public Map<Long, Integer> findPeakConfirmedGuests(LocalDate checkinDate, LocalDate checkoutDate) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Map.of();
+        }
+        int from = (int) (checkinDate.toEpochDay() - current.baseDay);
+        int to = (int) (checkoutDate.toEpochDay() - current.baseDay);
+        Map<Long, Integer> peaks = new LinkedHashMap<>();
+        current.rooms.forEach((roomId, nights) -> {
+            int peak = nights.peakConfirmed(from, to);
+            if (peak > 0) {
+                peaks.put(roomId, peak);
+            }
+        });
+        return peaks;
+    }
+
+    /**
+     * 예약 생성/결제 확정 반영 (현재 상태 기준 upsert)
+     */
+    public void record(Reservation reservation) {
+        if (reservation == null || reservation.getId() == null) {
+            return;
+        }
+        afterCommit(Mutation.upsert(reservation));
+    }
+
+    /**
+     * 취소/삭제된 예약 제거
+     */
+    public void release(Long reservationId) {
+        if (reservationId == null) {
+            return;
+        }
+        afterCommit(Mutation.remove(reservationId));
+    }
+
+    public void releaseAll(Collection<Reservation> reservations) {
+        for (Reservation reservation : reservations) {
+            release(reservation.getId());
+        }
+    }
+
+    private void afterCommit(Mutation mutation) {
+        if (!enabled) {
+            return;
+        }
+        rebuilder.applyAfterCommit(mutation);
+    }
+
+    private void applyToCurrent(Mutation mutation) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            current.apply(mutation);
+        }
+    }
+
+    private static final class Snapshot {
+        private final long baseDay;
+        private final Map<Long, RoomNights> rooms = new ConcurrentHashMap<>();
+        private final Map<Long, Mutation> entries = new HashMap<>();
+
+        private Snapshot(long baseDay) {
+            this.baseDay = baseDay;
+        }
+
+        private void apply(Mutation mutation) {
+            Mutation previous = entries.remove(mutation.reservationId);
+            if (previous != null) {
+                add(previous, -1);
+            }
+            if (mutation.occupying) {
+                entries.put(mutation.reservationId, mutation);
+                add(mutation, 1);
+            }
+        }
+
+        private void add(Mutation mutation, int sign) {
+            int from = (int) Math.max(mutation.startDay - baseDay, 0);
+            int to = (int) Math.min(mutation.endDay - baseDay, WINDOW_DAYS);
+            if (from >= to) {
+                return;
+            }
+            RoomNights nights = rooms.computeIfAbsent(mutation.roomId, id -> new RoomNights());
+            nights.add(from, to, sign * mutation.guestCount, mutation.confirmed);
+        }
+    }
+
+    private static final class RoomNights {
+        private final int[] confirmed = new int[WINDOW_DAYS];
+        private final int[] pending = new int[WINDOW_DAYS];
+
+        private synchronized void add(int from, int to, int delta, boolean isConfirmed) {
+            int[] target = isConfirmed ? confirmed : pending;
+            for (int day = from; day < to; day++) {
+                target[day] += delta;
+            }
+        }
+
+        private synchronized int peakConfirmed(int from, int to) {
+            int peak = 0;
+            for (int day = Math.max(from, 0); day < Math.min(to, WINDOW_DAYS); day++) {
+                peak = Math.max(peak, confirmed[day]);
+            }
+            return peak;
+        }
+    }
+
+    private static final class Mutation {
+        private final Long reservationId;
+        private final boolean occupying;
+        private final Long roomId;
+        private final long startDay;
+        private final long endDay;
+        private final int guestCount;
+        private final boolean confirmed;
+
+        private Mutation(Long reservationId, boolean occupying, Long roomId, long startDay, long endDay,
+                         int guestCount, boolean confirmed) {
+            this.reservationId = reservationId;
+            this.occupying = occupying;
+            this.roomId = roomId;
+            this.startDay = startDay;
+            this.endDay = endDay;
+            this.guestCount = guestCount;
+            this.confirmed = confirmed;
+        }
+
+        private static Mutation upsert(Reservation reservation) {
+            Integer status = reservation.getReservationStatus();
+            boolean occupying = reservation.getRoomId() != null
+                    && !Boolean.TRUE.equals(reservation.getIsDeleted())
+                    && status != null && status != 9;
+            if (!occupying) {
+                return remove(reservation.getId());
+            }
+            LocalDateTime checkin = reservation.getCheckin();
+            LocalDateTime checkout = reservation.getCheckout();
+            return new Mutation(
+                    reservation.getId(),
+                    true,
+                    reservation.getRoomId(),
+                    checkin.toLocalDate().toEpochDay(),
+                    checkout.toLocalDate().toEpochDay(),
+                    reservation.getGuestCount() != null ? reservation.getGuestCount() : 0,
+                    status == 2 || status == 3);
+        }
+
+        private static Mutation remove(Long reservationId) {
+            return new Mutation(reservationId, false, null, 0, 0, 0, false);
+        }
+    }
+}
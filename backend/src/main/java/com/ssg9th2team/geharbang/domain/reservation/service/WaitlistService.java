@@ -2,12 +2,12 @@ package com.ssg9th2team.geharbang.domain.reservation.service;
 
 import com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation;
 import com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.AccommodationJpaRepository;
-import com.ssg9th2team.geharbang.domain.auth.entity.User;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.reservation.entity.Waitlist;
 import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.WaitlistJpaRepository;
 import com.ssg9th2team.geharbang.domain.room.entity.Room;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomJpaRepository;
+import com.ssg9th2team.geharbang.global.security.SecurityUtils;
 import com.ssg9th2team.geharbang.global.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,7 +45,7 @@ public class WaitlistService {
         // 현재 로그인 사용자 정보 추출
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
+        Long userId = SecurityUtils.findUserId(authentication)
                 .orElseThrow(() -> new IllegalStateException("인증된 사용자를 찾을 수 없습니다: " + email));
 
         // accommodationId가 null이면 roomId로 Room을 조회하여 가져오기
@@ -57,7 +57,7 @@ public class WaitlistService {
         }
 
         // 1인당 대기 등록 개수 제한 확인
-        int currentWaitlistCount = waitlistRepository.countByUserIdAndIsNotifiedFalse(user.getId());
+        int currentWaitlistCount = waitlistRepository.countByUserIdAndIsNotifiedFalse(userId);
         if (currentWaitlistCount >= Waitlist.MAX_WAITLIST_PER_USER) {
             throw new IllegalStateException(
                     "대기 등록은 최대 " + Waitlist.MAX_WAITLIST_PER_USER + "개까지만 가능합니다. " +
@@ -66,12 +66,12 @@ public class WaitlistService {
 
         // 중복 대기 등록 확인
         if (waitlistRepository.existsByUserIdAndRoomIdAndCheckinAndCheckoutAndIsNotifiedFalse(
-                user.getId(), roomId, checkin, checkout)) {
+                userId, roomId, checkin, checkout)) {
             throw new IllegalStateException("이미 대기 등록되어 있습니다.");
         }
 
         Waitlist waitlist = Waitlist.builder()
-                .userId(user.getId())
+                .userId(userId)
                 .roomId(roomId)
                 .accommodationsId(resolvedAccommodationId)
                 .checkin(checkin)
@@ -81,7 +81,7 @@ public class WaitlistService {
 
         Waitlist saved = waitlistRepository.save(waitlist);
         log.info("대기 목록 등록: userId={}, roomId={}, date={} ~ {}, 현재 대기 수: {}",
-                user.getId(), roomId, checkin, checkout, currentWaitlistCount + 1);
+                userId, roomId, checkin, checkout, currentWaitlistCount + 1);
         return saved.getId();
     }
 
@@ -96,10 +96,10 @@ public class WaitlistService {
         // 본인 확인
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
+        Long userId = SecurityUtils.findUserId(authentication)
                 .orElseThrow(() -> new IllegalStateException("인증된 사용자를 찾을 수 없습니다: " + email));
 
-        if (!waitlist.getUserId().equals(user.getId())) {
+        if (!waitlist.getUserId().equals(userId)) {
             throw new IllegalStateException("본인의 대기 목록만 취소할 수 있습니다.");
         }
 
@@ -1,11 +1,10 @@
 package com.ssg9th2team.geharbang.domain.revenue.host.controller;
 
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.revenue.host.dto.HostRevenueDetailResponse;
 import com.ssg9th2team.geharbang.domain.revenue.host.dto.HostRevenueSummaryResponse;
 import com.ssg9th2team.geharbang.domain.revenue.host.dto.HostRevenueTrendResponse;
 import com.ssg9th2team.geharbang.domain.revenue.host.service.HostRevenueService;
-import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.global.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
@@ -23,7 +22,6 @@ import java.util.List;
 public class HostRevenueController {
 
     private final HostRevenueService hostRevenueService;
-    private final UserRepository userRepository;
 
     @GetMapping("/summary")
     public HostRevenueSummaryResponse summary(
@@ -31,10 +29,8 @@ public class HostRevenueController {
             @RequestParam int month,
             Authentication authentication
     ) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
+        Long hostId = SecurityUtils.findUserId(authentication)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
         return hostRevenueService.getSummary(hostId, year, month);
     }
 
@@ -43,10 +39,8 @@ public class HostRevenueController {
             @RequestParam int year,
             Authentication authentication
     ) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
+        Long hostId = SecurityUtils.findUserId(authentication)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
         return hostRevenueService.getTrend(hostId, year);
     }
 
@@ -57,10 +51,8 @@ public class HostRevenueController {
             @RequestParam(required = false) String granularity,
             Authentication authentication
     ) {
-        String email = authentication.getName();
-        Long hostId = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"))
-                .getId();
+        Long hostId = SecurityUtils.findUserId(authentication)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
         return hostRevenueService.getDetails(hostId, from, to, granularity);
     }
 }
@@ -24,6 +24,18 @@ public interface HostRevenueMapper {
             @Param("end") LocalDate end
     );
 
+    HostRevenueSummaryRow selectMonthlyRevenueSummaryFromStats(
+            @Param("hostId") Long hostId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
+    Long selectExpectedNextMonthRevenueFromStats(
+            @Param("hostId") Long hostId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
     List<HostRevenueTrendResponse> selectRevenueTrend(
             @Param("hostId") Long hostId,
             @Param("start") LocalDate start,
@@ -1,5 +1,6 @@
 package com.ssg9th2team.geharbang.domain.revenue.host.service;
 
+import com.ssg9th2team.geharbang.domain.dashboard.host.service.HostDailyStatsService;
 import com.ssg9th2team.geharbang.domain.revenue.host.dto.HostRevenueDetailResponse;
 import com.ssg9th2team.geharbang.domain.revenue.host.dto.HostRevenueSummaryResponse;
 import com.ssg9th2team.geharbang.domain.revenue.host.dto.HostRevenueTrendResponse;
@@ -26,6 +27,7 @@ import java.util.stream.Collectors;
 public class HostRevenueServiceImpl implements HostRevenueService {
 
     private final HostRevenueMapper hostRevenueMapper;
+    private final HostDailyStatsService hostDailyStatsService;
 
     @Value("${host.platform.fee-rate:0.04}")
     private double platformFeeRate;
@@ -34,8 +36,11 @@ public class HostRevenueServiceImpl implements HostRevenueService {
     public HostRevenueSummaryResponse getSummary(Long hostId, int year, int month) {
         LocalDate start = LocalDate.of(year, month, 1);
         LocalDate end = start.plusMonths(1);
-        // Summary uses checkout-based confirmed reservations for revenue totals.
-        HostRevenueSummaryRow row = hostRevenueMapper.selectMonthlyRevenueSummary(hostId, start, end);
+        // Summary uses checkout-based confirmed reservations (host_daily_stats inside its verified range) for revenue totals.
+        boolean statsCovered = hostDailyStatsService.isCovered(start);
+        HostRevenueSummaryRow row = statsCovered
+                ? hostRevenueMapper.selectMonthlyRevenueSummaryFromStats(hostId, start, end)
+                : hostRevenueMapper.selectMonthlyRevenueSummary(hostId, start, end);
 
         long totalRevenue = row == null ? 0L : row.getTotalRevenue();
         int reservationCount = row == null ? 0 : row.getReservationCount();
@@ -43,7 +48,9 @@ public class HostRevenueServiceImpl implements HostRevenueService {
         LocalDate nextStart = end;
         LocalDate nextEnd = nextStart.plusMonths(1);
         // Expected revenue uses next month's checkout window.
-        Long expectedNextMonthRevenue = hostRevenueMapper.selectExpectedNextMonthRevenue(hostId, nextStart, nextEnd);
+        Long expectedNextMonthRevenue = statsCovered
+                ? hostRevenueMapper.selectExpectedNextMonthRevenueFromStats(hostId, nextStart, nextEnd)
+                : hostRevenueMapper.selectExpectedNextMonthRevenue(hostId, nextStart, nextEnd);
 
         // Fee uses a configurable platform rate (default 4%).
         long platformFeeAmount = calculatePlatformFee(totalRevenue, platformFeeRate);
@@ -63,11 +70,10 @@ public class HostRevenueServiceImpl implements HostRevenueService {
     public List<HostRevenueTrendResponse> getTrend(Long hostId, int year) {
         LocalDate start = LocalDate.of(year, 1, 1);
         LocalDate end = start.plusYears(1);
-        // Monthly trend is sourced from host_daily_stats for performance.
-        List<HostRevenueTrendResponse> raw = hostRevenueMapper.selectRevenueTrend(hostId, start, end);
-        if (raw == null || raw.isEmpty() || !hasNonZeroTrend(raw)) {
-            raw = hostRevenueMapper.selectRevenueTrendFromReservations(hostId, start, end);
-        }
+        // Monthly trend is sourced from host_daily_stats; reservations are scanned when the year is outside its verified range.
+        List<HostRevenueTrendResponse> raw = hostDailyStatsService.isCovered(start)
+                ? hostRevenueMapper.selectRevenueTrend(hostId, start, end)
+                : hostRevenueMapper.selectRevenueTrendFromReservations(hostId, start, end);
         Map<Integer, HostRevenueTrendResponse> byMonth = raw.stream()
                 .collect(Collectors.toMap(HostRevenueTrendResponse::getMonth, item -> item));
 
@@ -79,12 +85,12 @@ public class HostRevenueServiceImpl implements HostRevenueService {
     public List<HostRevenueDetailResponse> getDetails(Long hostId, LocalDate from, LocalDate to, String granularity) {
         LocalDate end = to.plusDays(1);
         String normalized = granularity == null ? "month" : granularity.toLowerCase();
+        boolean statsCovered = hostDailyStatsService.isCovered(from);
 
         if ("day".equals(normalized)) {
-            List<HostRevenueDetailResponse> raw = hostRevenueMapper.selectRevenueDailyDetails(hostId, from, end);
-            if (raw == null || raw.isEmpty() || !hasNonZeroDetails(raw)) {
-                raw = hostRevenueMapper.selectRevenueDailyDetailsFromReservations(hostId, from, end);
-            }
+            List<HostRevenueDetailResponse> raw = statsCovered
+                    ? hostRevenueMapper.selectRevenueDailyDetails(hostId, from, end)
+                    : hostRevenueMapper.selectRevenueDailyDetailsFromReservations(hostId, from, end);
             Map<String, HostRevenueDetailResponse> byPeriod = new HashMap<>();
             for (HostRevenueDetailResponse item : raw) {
                 byPeriod.put(item.getPeriod(), item);
@@ -92,10 +98,9 @@ public class HostRevenueServiceImpl implements HostRevenueService {
             return buildDailyDetails(from, to, byPeriod);
         }
 
-        List<HostRevenueDetailResponse> raw = hostRevenueMapper.selectRevenueDetails(hostId, from, end);
-        if (raw == null || raw.isEmpty() || !hasNonZeroDetails(raw)) {
-            raw = hostRevenueMapper.selectRevenueDetailsFromReservations(hostId, from, end);
-        }
+        List<HostRevenueDetailResponse> raw = statsCovered
+                ? hostRevenueMapper.selectRevenueDetails(hostId, from, end)
+                : hostRevenueMapper.selectRevenueDetailsFromReservations(hostId, from, end);
         Map<String, HostRevenueDetailResponse> byPeriod = new HashMap<>();
         for (HostRevenueDetailResponse item : raw) {
             byPeriod.put(item.getPeriod(), item);
@@ -162,13 +167,4 @@ public class HostRevenueServiceImpl implements HostRevenueService {
         }
         return result;
     }
-
-    private boolean hasNonZeroTrend(List<HostRevenueTrendResponse> rows) {
-        return rows.stream().anyMatch(item ->
-                item.getRevenue() > 0 || item.getReservationCount() > 0);
-    }
-
-    private boolean hasNonZeroDetails(List<HostRevenueDetailResponse> rows) {
-        return rows.stream().anyMatch(item -> item.getRevenue() > 0);
-    }
 }
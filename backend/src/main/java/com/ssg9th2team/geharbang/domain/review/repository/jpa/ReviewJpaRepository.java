@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +41,17 @@ public interface ReviewJpaRepository extends JpaRepository<ReviewEntity, Long> {
       """)
   List<Long> findAccommodationIdsByKeywordInContent(@Param("keyword") String keyword);
 
+  // 키워드 역색인 후보 리뷰 ID 로 범위를 좁힌 리뷰 내용 검색
+  @Query("""
+      SELECT DISTINCT r.accommodationsId FROM ReviewEntity r
+      WHERE r.reviewId IN :reviewIds
+      AND r.isDeleted = false
+      AND LOWER(r.content) LIKE LOWER(CONCAT('%', :keyword, '%'))
+      """)
+  List<Long> findAccommodationIdsByKeywordInContentInReviewIds(
+      @Param("keyword") String keyword,
+      @Param("reviewIds") Collection<Long> reviewIds);
+
   // 숙소별 최신 리뷰 조회
   List<ReviewEntity> findByAccommodationsIdAndIsDeletedFalse(Long accommodationsId, Pageable pageable);
 
@@ -0,0 +1,63 @@
+package com.ssg9th2team.geharbang.domain.review.repository.mybatis;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 숙소별 리뷰 집계 (accommodation_review_stats / _daily / _tag_stats)
+ * - upsert*Delta: 리뷰 작성/수정/삭제 시 증감 반영 (행이 없으면 생성)
+ * - rebuild*: 숙소 ID 묶음 단위로 review 원천 테이블에서 다시 계산 (삭제 후 INSERT ... SELECT)
+ * - syncAccommodationRatings: 집계를 accommodation.rating/review_count 에 반영
+ */
+@Mapper
+public interface ReviewAggregateMapper {
+
+    /** bucket: 1~5 평점 구간, bucketDelta 만큼 해당 구간 리뷰 수 증감 */
+    int upsertStatsDelta(
+            @Param("accommodationId") Long accommodationId,
+            @Param("countDelta") int countDelta,
+            @Param("ratingDelta") BigDecimal ratingDelta,
+            @Param("bucket") int bucket,
+            @Param("bucketDelta") int bucketDelta
+    );
+
+    int upsertDailyDelta(
+            @Param("accommodationId") Long accommodationId,
+            @Param("statDate") LocalDate statDate,
+            @Param("countDelta") int countDelta,
+            @Param("ratingDelta") BigDecimal ratingDelta
+    );
+
+    int upsertTagDeltas(
+            @Param("accommodationId") Long accommodationId,
+            @Param("tagIds") Collection<Long> tagIds,
+            @Param("delta") int delta
+    );
+
+    int syncAccommodationRatings(@Param("ids") Collection<Long> accommodationIds);
+
+    /** 재계산 대상 숙소 ID (afterId 다음부터 PK 순) */
+    List<Long> selectAccommodationIdsAfter(
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    long countStats();
+
+    int deleteStats(@Param("ids") Collection<Long> accommodationIds);
+
+    int deleteDaily(@Param("ids") Collection<Long> accommodationIds);
+
+    int deleteTagStats(@Param("ids") Collection<Long> accommodationIds);
+
+    int rebuildStats(@Param("ids") Collection<Long> accommodationIds);
+
+    int rebuildDaily(@Param("ids") Collection<Long> accommodationIds);
+
+    int rebuildTagStats(@Param("ids") Collection<Long> accommodationIds);
+}
@@ -33,4 +33,7 @@ public interface ReviewMapper {
 
     // 숙소별 상위 3개 태그 조회
     List<String> selectTop3TagsByAccommodationId(@Param("accommodationId") Long accommodationId);
+
+    // 리뷰에 달린 태그 ID 조회 (review_tag_map)
+    List<Long> selectTagIdsByReviewId(@Param("reviewId") Long reviewId);
 }
@@ -0,0 +1,183 @@
+package com.ssg9th2team.geharbang.domain.review.service;
+
+import com.ssg9th2team.geharbang.domain.review.repository.mybatis.ReviewAggregateMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 숙소별 리뷰 집계 (accommodation_review_stats / _daily / _tag_stats)
+ *
+ * <p>리뷰 작성/수정/삭제 트랜잭션 안에서 평점 합·리뷰 수·평점 구간·태그 수를 증감하고,
+ * 같은 트랜잭션에서 accommodation.rating/review_count 를 집계 값으로 맞춘다.
+ * <ul>
+ *   <li>평점 구간은 ROUND(rating) 을 1~5 로 제한한 값 (0점은 1점 구간)</li>
+ *   <li>일별 집계는 리뷰 작성일 기준 (호스트 대시보드 기간 평점/리뷰 수)</li>
+ *   <li>숙소 ID 순으로 batch-size 개씩 review 원천 테이블에서 다시 계산하는 재계산 작업이 누락을 바로잡는다.</li>
+ *   <li>집계가 비어 있으면 기동 시 한 번 전체 재계산한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewAggregateService {
+
+    private final ReviewAggregateMapper aggregateMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${review.aggregate.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    public void reviewCreated(Long accommodationId, BigDecimal rating, LocalDateTime createdAt,
+                              Collection<Long> tagIds) {
+        if (accommodationId == null || rating == null) {
+            return;
+        }
+        applyReview(accommodationId, rating, statDate(createdAt), 1);
+        applyTags(accommodationId, tagIds, 1);
+        aggregateMapper.syncAccommodationRatings(List.of(accommodationId));
+    }
+
+    /**
+     * newTagIds 가 null 이면 태그는 바뀌지 않은 것으로 본다.
+     */
+    public void reviewUpdated(Long accommodationId, LocalDateTime createdAt,
+                              BigDecimal oldRating, BigDecimal newRating,
+                              Collection<Long> oldTagIds, Collection<Long> newTagIds) {
+        if (accommodationId == null) {
+            return;
+        }
+        boolean ratingChanged = oldRating != null && newRating != null && oldRating.compareTo(newRating) != 0;
+        if (ratingChanged) {
+            LocalDate date = statDate(createdAt);
+            applyReview(accommodationId, oldRating, date, -1);
+            applyReview(accommodationId, newRating, date, 1);
+        }
+        if (newTagIds != null) {
+            Set<Long> removed = new HashSet<>(oldTagIds != null ? oldTagIds : List.of());
+            Set<Long> added = new HashSet<>(newTagIds);
+            removed.removeAll(newTagIds);
+            if (oldTagIds != null) {
+                added.removeAll(oldTagIds);
+            }
+            applyTags(accommodationId, removed, -1);
+            applyTags(accommodationId, added, 1);
+        }
+        if (ratingChanged) {
+            aggregateMapper.syncAccommodationRatings(List.of(accommodationId));
+        }
+    }
+
+    public void reviewDeleted(Long accommodationId, BigDecimal rating, LocalDateTime createdAt,
+                              Collection<Long> tagIds) {
+        if (accommodationId == null || rating == null) {
+            return;
+        }
+        applyReview(accommodationId, rating, statDate(createdAt), -1);
+        applyTags(accommodationId, tagIds, -1);
+        aggregateMapper.syncAccommodationRatings(List.of(accommodationId));
+    }
+
+    @Scheduled(cron = "${review.aggregate.reconcile-cron:0 40 4 * * *}")
+    public void scheduledReconcile() {
+        try {
+            reconcileAll();
+        } catch (RuntimeException e) {
+            log.warn("Review aggregate reconcile failed", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        try {
+            if (aggregateMapper.countStats() > 0) {
+                return;
+            }
+            reconcileAll();
+        } catch (RuntimeException e) {
+            log.warn("Review aggregate bootstrap failed", e);
+        }
+    }
+
+    /**
+     * 전체 숙소를 PK 순으로 batch-size 개씩 나눠 review 원천 테이블에서 다시 계산한다.
+     * 묶음마다 별도 트랜잭션이라 한 번에 잡는 잠금과 메모리는 묶음 크기에 비례한다.
+     *
+     * @return 재계산한 숙소 수
+     */
+    public int reconcileAll() {
+        int batchSize = Math.max(reconcileBatchSize, 1);
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            List<Long> ids = aggregateMapper.selectAccommodationIdsAfter(lastId, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            reconcile(ids);
+            total += ids.size();
+            lastId = ids.get(ids.size() - 1);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        log.info("Review aggregate reconciled: {} accommodations", total);
+        return total;
+    }
+
+    /**
+     * 주어진 숙소들의 집계를 삭제 후 다시 채우고 accommodation 컬럼까지 한 트랜잭션으로 맞춘다.
+     */
+    public void reconcile(Collection<Long> accommodationIds) {
+        if (accommodationIds == null || accommodationIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(accommodationIds);
+        transactionTemplate.executeWithoutResult(status -> {
+            aggregateMapper.deleteStats(ids);
+            aggregateMapper.deleteDaily(ids);
+            aggregateMapper.deleteTagStats(ids);
+            aggregateMapper.rebuildStats(ids);
+            aggregateMapper.rebuildDaily(ids);
+            aggregateMapper.rebuildTagStats(ids);
+            aggregateMapper.syncAccommodationRatings(ids);
+        });
+    }
+
+    static int bucketOf(BigDecimal rating) {
+        int rounded = rating.setScale(0, RoundingMode.HALF_UP).intValue();
+        return Math.max(1, Math.min(5, rounded));
+    }
+
+    private void applyReview(Long accommodationId, BigDecimal rating, LocalDate date, int sign) {
+        BigDecimal ratingDelta = sign > 0 ? rating : rating.negate();
+        aggregateMapper.upsertStatsDelta(accommodationId, sign, ratingDelta, bucketOf(rating), sign);
+        aggregateMapper.upsertDailyDelta(accommodationId, date, sign, ratingDelta);
+    }
+
+    private void applyTags(Long accommodationId, Collection<Long> tagIds, int delta) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return;
+        }
+        aggregateMapper.upsertTagDeltas(accommodationId, new HashSet<>(tagIds), delta);
+    }
+
+    private LocalDate statDate(LocalDateTime createdAt) {
+        return createdAt != null ? createdAt.toLocalDate() : LocalDate.now();
+    }
+}
@@ -5,6 +5,7 @@ import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.coupon.service.UserCouponService;
 import com.ssg9th2team.geharbang.domain.coupon.service.UserCouponServiceImpl;
 import com.ssg9th2team.geharbang.domain.profanity.service.ProfanityFilterService;
+import com.ssg9th2team.geharbang.domain.recommendation.service.RecommendationEngine;
 import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
 import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
 import com.ssg9th2team.geharbang.domain.review.dto.ReviewCreateDto;
@@ -15,11 +16,14 @@ import com.ssg9th2team.geharbang.domain.review.entity.ReviewEntity;
 import com.ssg9th2team.geharbang.domain.review.entity.ReviewImageEntity;
 import com.ssg9th2team.geharbang.domain.review.repository.jpa.ReviewJpaRepository;
 import com.ssg9th2team.geharbang.domain.review.repository.mybatis.ReviewMapper;
-import com.ssg9th2team.geharbang.global.storage.ObjectStorageService;
+import com.ssg9th2team.geharbang.global.storage.ImageUploadResult;
+import com.ssg9th2team.geharbang.global.storage.ImageUploadService;
+import com.ssg9th2team.geharbang.domain.search.service.KeywordSearchIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -32,16 +36,20 @@ public class ReviewServiceImpl implements ReviewService {
 
     private final ReviewMapper reviewMapper;
     private final ReviewJpaRepository reviewJpaRepository;
-    private final ObjectStorageService objectStorageService;
+    private final ImageUploadService imageUploadService;
+    private final TransactionTemplate transactionTemplate;
     private final ReservationJpaRepository reservationJpaRepository;
     private final UserRepository userRepository;
     private final UserCouponService userCouponService;
     private final ProfanityFilterService profanityFilterService;
+    private final KeywordSearchIndex keywordSearchIndex;
+    private final RecommendationEngine recommendationEngine;
+    private final ReviewAggregateService reviewAggregateService;
 
 
     // 리뷰 등록 (쿠폰 발급 여부 반환)
+    // 검증 → 이미지 병렬 업로드(트랜잭션 밖) → 저장(트랜잭션) 순서로 처리
     @Override
-    @Transactional
     public boolean createReview(Long userId, ReviewCreateDto reviewCreateDto) {
        // 해당 숙소 예약 내역 조회 (확정된 예약 + 체크아웃 완료된 것 중 가장 최근 1개)
         Reservation reservation = reservationJpaRepository.findFirstByUserIdAndAccommodationsIdAndReservationStatusAndCheckoutBeforeOrderByCheckoutDesc(
@@ -65,6 +73,16 @@ public class ReviewServiceImpl implements ReviewService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
+        // 이미지 업로드 (Base64 이미지면 업로드, URL이면 그대로 사용)
+        ImageUploadResult images = imageUploadService.uploadAll(reviewCreateDto.getImageUrls(), "reviews");
+
+        return transactionTemplate.execute(status -> {
+            imageUploadService.deleteOnRollback(images.ownedUrls());
+            return saveReview(userId, user, reviewCreateDto, images);
+        });
+    }
+
+    private boolean saveReview(Long userId, User user, ReviewCreateDto reviewCreateDto, ImageUploadResult images) {
         // 리뷰 엔티티 생성
         ReviewEntity reviewEntity = ReviewEntity.builder()
                 .accommodationsId(reviewCreateDto.getAccommodationsId())
@@ -75,24 +93,25 @@ public class ReviewServiceImpl implements ReviewService {
                 .visitDate(reviewCreateDto.getVisitDate())
                 .build();
 
-        // 이미지 업로드 → ReviewImageEntity 추가
-        if (reviewCreateDto.getImageUrls() != null && !reviewCreateDto.getImageUrls().isEmpty()) {
-            for (int i = 0; i < reviewCreateDto.getImageUrls().size(); i++) {
-                // Base64 이미지면 업로드, URL이면 그대로 사용
-                String imageUrl = objectStorageService.uploadBase64Image(
-                        reviewCreateDto.getImageUrls().get(i), "reviews");
-                reviewEntity.addImage(ReviewImageEntity.of(imageUrl, i));
-            }
+        // 업로드된 이미지 → ReviewImageEntity 추가
+        for (int i = 0; i < images.urls().size(); i++) {
+            reviewEntity.addImage(ReviewImageEntity.of(images.url(i), i));
         }
 
         // 리뷰 저장 (cascade로 이미지도 같이 저장됨)
         ReviewEntity savedReview = reviewJpaRepository.save(reviewEntity);
+        keywordSearchIndex.refreshReview(savedReview.getReviewId());
+        recommendationEngine.refreshUser(userId);
 
         // 태그 저장 (review_tag_map 테이블)
         if (reviewCreateDto.getTagIds() != null && !reviewCreateDto.getTagIds().isEmpty()) {
             reviewMapper.insertReviewTags(savedReview.getReviewId(), reviewCreateDto.getTagIds());
         }
 
+        // 숙소 평점/리뷰 수/태그 집계 반영
+        reviewAggregateService.reviewCreated(savedReview.getAccommodationsId(), savedReview.getRating(),
+                savedReview.getCreatedAt(), reviewCreateDto.getTagIds());
+
         // 리뷰 등록시 쿠폰 서비스 호출 (쿠폰 발급 여부 반환)
         return userCouponService.issueReviewRewardCoupon(userId);
     }
@@ -100,13 +119,26 @@ public class ReviewServiceImpl implements ReviewService {
 
 
     // 리뷰 수정
+    // 검증 → 이미지 병렬 업로드(트랜잭션 밖) → 저장(트랜잭션) 순서로 처리
     @Override
-    @Transactional
     public void updateReview(Long userId, Long reviewId, ReviewUpdateDto reviewUpdateDto) {
-        // 내가 쓴 리뷰 내용 조회
-        ReviewEntity reviewEntity = reviewJpaRepository.findByReviewIdAndIsDeletedFalse(reviewId)
+        // 권한/금칙어 검사를 업로드 전에 끝내서 거절될 요청의 이미지는 올리지 않음
+        validateReviewUpdate(userId, loadReview(reviewId), reviewUpdateDto);
+
+        ImageUploadResult images = imageUploadService.uploadAll(reviewUpdateDto.getImageUrls(), "reviews");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            imageUploadService.deleteOnRollback(images.ownedUrls());
+            applyReviewUpdate(userId, reviewId, reviewUpdateDto, images);
+        });
+    }
+
+    private ReviewEntity loadReview(Long reviewId) {
+        return reviewJpaRepository.findByReviewIdAndIsDeletedFalse(reviewId)
                 .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
+    }
 
+    private void validateReviewUpdate(Long userId, ReviewEntity reviewEntity, ReviewUpdateDto reviewUpdateDto) {
         // 권환 확인 ( 본인인지 )
         // ReviewEntity안에 있는(DB에 리뷰번호, 유저아이디 저장되어있으니까) 유저 아이디와 파라미터로 받은 유저 아이디가 같은지 검사해서 권한 확인
         if(!reviewEntity.getUserId().equals(userId)) {
@@ -117,37 +149,43 @@ public class ReviewServiceImpl implements ReviewService {
         if (reviewUpdateDto.getContent() != null) {
             profanityFilterService.validateNoProfanity(reviewUpdateDto.getContent(), "리뷰 내용");
         }
+    }
+
+    private void applyReviewUpdate(Long userId, Long reviewId, ReviewUpdateDto reviewUpdateDto, ImageUploadResult images) {
+        // 내가 쓴 리뷰 내용 조회 (트랜잭션 안에서 다시 읽어 변경 감지 대상으로)
+        ReviewEntity reviewEntity = loadReview(reviewId);
 
         // 이미지 리스트 구성
         List<ReviewImageEntity> newImages = new ArrayList<>();
-        if(reviewUpdateDto.getImageUrls() != null && !reviewUpdateDto.getImageUrls().isEmpty()) {
-            for(int i = 0; i < reviewUpdateDto.getImageUrls().size(); i++) {
-                String url = reviewUpdateDto.getImageUrls().get(i);
-
-                String savedUrl = url;
-                if (url != null && !url.startsWith("http")) {
-                    savedUrl = objectStorageService.uploadBase64Image(url, "reviews");
-                }
-                if (savedUrl != null) {
-                    newImages.add(ReviewImageEntity.of(savedUrl, i));
-                }
+        for (int i = 0; i < images.urls().size(); i++) {
+            if (images.url(i) != null) {
+                newImages.add(ReviewImageEntity.of(images.url(i), i));
             }
         }
         // 4. 엔티티 수정
         // ReviewUpdateDto.rating -> BigDecimal 변환
         BigDecimal rating = reviewUpdateDto.getRating() != null ?
                 BigDecimal.valueOf(reviewUpdateDto.getRating()) : null;
+        BigDecimal oldRating = reviewEntity.getRating();
 
         reviewEntity.updateReview(reviewUpdateDto.getContent(), rating, newImages);
+        keywordSearchIndex.refreshReview(reviewId);
+        recommendationEngine.refreshUser(userId);
 
         // 5. 태그 업데이트 (전체 삭제 후 재등록)
         // dto는 사용자가 입력한 값을 받는 거 -> getTagIds() != null : 태그를 변경 했다면 전체 삭제 후 재등록
+        List<Long> oldTagIds = null;
         if (reviewUpdateDto.getTagIds() != null) {
+            oldTagIds = reviewMapper.selectTagIdsByReviewId(reviewId);
             reviewMapper.deleteReviewTags(reviewId);
             if (!reviewUpdateDto.getTagIds().isEmpty()) {
                 reviewMapper.insertReviewTags(reviewId, reviewUpdateDto.getTagIds());
             }
         }
+
+        // 숙소 평점/태그 집계 반영
+        reviewAggregateService.reviewUpdated(reviewEntity.getAccommodationsId(), reviewEntity.getCreatedAt(),
+                oldRating, reviewEntity.getRating(), oldTagIds, reviewUpdateDto.getTagIds());
     }
 
 
@@ -162,6 +200,10 @@ public class ReviewServiceImpl implements ReviewService {
             throw new IllegalArgumentException("리뷰 삭제 권한이 없습니다");
         }
         reviewEntity.softDelete();
+        keywordSearchIndex.refreshReview(reviewId);
+        recommendationEngine.refreshUser(userId);
+        reviewAggregateService.reviewDeleted(reviewEntity.getAccommodationsId(), reviewEntity.getRating(),
+                reviewEntity.getCreatedAt(), reviewMapper.selectTagIdsByReviewId(reviewId));
     }
 
 
@@ -1,6 +1,7 @@
 package com.ssg9th2team.geharbang.domain.room.service;
 
 import com.ssg9th2team.geharbang.domain.accommodation.repository.mybatis.AccommodationMapper;
+import com.ssg9th2team.geharbang.domain.main.service.PublicListingSnapshot;
 import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
 import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
 import com.ssg9th2team.geharbang.domain.room.dto.RoomCreateDto;
@@ -22,6 +23,7 @@ public class RoomServiceImpl implements RoomService {
     private final RoomMapper roomMapper;
     private final AccommodationMapper accommodationMapper;
     private final ReservationJpaRepository reservationJpaRepository;
+    private final PublicListingSnapshot publicListingSnapshot;
 
     // 추가 객실 등록
     @Override
@@ -47,6 +49,7 @@ public class RoomServiceImpl implements RoomService {
 
         // 객실 등록 후 숙소의 최소 가격 업데이트
         accommodationMapper.updateMinPrice(accommodationsId);
+        publicListingSnapshot.refreshAccommodation(accommodationsId);
 
         return room.getRoomId();
     }
@@ -73,6 +76,7 @@ public class RoomServiceImpl implements RoomService {
 
         // 객실 수정 후 숙소의 최소 가격 업데이트
         accommodationMapper.updateMinPrice(accommodationsId);
+        publicListingSnapshot.refreshAccommodation(accommodationsId);
     }
 
     // 객실 삭제
@@ -95,6 +99,7 @@ public class RoomServiceImpl implements RoomService {
         roomMapper.deleteRoom(accommodationsId, roomId);
         // 객실 최소금액 업데이트
         accommodationMapper.updateMinPrice(accommodationsId);
+        publicListingSnapshot.refreshAccommodation(accommodationsId);
     }
 
     // 객실 상세 조회
@@ -1,6 +1,7 @@
 package com.ssg9th2team.geharbang.domain.search.controller;
 
 import com.ssg9th2team.geharbang.domain.main.dto.PublicListResponse;
+import com.ssg9th2team.geharbang.domain.search.dto.SearchClusterResponse;
 import com.ssg9th2team.geharbang.domain.search.dto.SearchResolveResponse;
 import com.ssg9th2team.geharbang.domain.search.dto.SearchSuggestionResponse;
 import com.ssg9th2team.geharbang.domain.search.service.SearchService;
@@ -41,7 +42,8 @@ public class SearchController {
             @RequestParam(name = "minPrice", required = false) Integer minPrice,
             @RequestParam(name = "maxPrice", required = false) Integer maxPrice,
             @RequestParam(name = "includeUnavailable", defaultValue = "false") boolean includeUnavailable,
-            @RequestParam(name = "sort", required = false) String sort) {
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "cursor", required = false) String cursor) {
         // 체크인/체크아웃 날짜 검증
         if (checkin != null && checkout != null && !checkout.isAfter(checkin)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "체크아웃 날짜는 체크인 날짜 이후여야 합니다.");
@@ -63,7 +65,45 @@ public class SearchController {
                 minPrice,
                 maxPrice,
                 includeUnavailable,
-                sort);
+                sort,
+                cursor);
+    }
+
+    /**
+     * 지도 영역 클러스터. level 은 카카오맵 지도 레벨(1~14)이며 클수록 넓은 격자로 묶는다.
+     */
+    @GetMapping("/search/clusters")
+    public SearchClusterResponse clusters(
+            @RequestParam(name = "themeIds", required = false) List<Long> themeIds,
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "minLat") double minLat,
+            @RequestParam(name = "maxLat") double maxLat,
+            @RequestParam(name = "minLng") double minLng,
+            @RequestParam(name = "maxLng") double maxLng,
+            @RequestParam(name = "level", defaultValue = "7") int level,
+            @RequestParam(name = "checkin", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkin,
+            @RequestParam(name = "checkout", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkout,
+            @RequestParam(name = "guestCount", required = false) Integer guestCount,
+            @RequestParam(name = "minPrice", required = false) Integer minPrice,
+            @RequestParam(name = "maxPrice", required = false) Integer maxPrice,
+            @RequestParam(name = "includeUnavailable", defaultValue = "false") boolean includeUnavailable) {
+        if (checkin != null && checkout != null && !checkout.isAfter(checkin)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "체크아웃 날짜는 체크인 날짜 이후여야 합니다.");
+        }
+        return searchService.searchPublicClusters(
+                themeIds,
+                keyword,
+                minLat,
+                maxLat,
+                minLng,
+                maxLng,
+                level,
+                checkin != null ? checkin.atTime(15, 0) : null,
+                checkout != null ? checkout.atTime(11, 0) : null,
+                guestCount,
+                minPrice,
+                maxPrice,
+                includeUnavailable);
     }
 
     @GetMapping("/search/suggest")
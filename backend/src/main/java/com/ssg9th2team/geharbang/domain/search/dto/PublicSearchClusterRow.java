@@ -0,0 +1,21 @@
+package com.ssg9th2team.geharbang.domain.search.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 지도 클러스터 집계 행 (격자 셀 단위)
+ */
+@Getter
+@Setter
+public class PublicSearchClusterRow {
+    private Long cellLat;
+    private Long cellLng;
+    private Long accommodationCount;
+    /** 셀에 포함된 숙소 좌표 평균 */
+    private Double latitude;
+    private Double longitude;
+    private Long minPrice;
+    /** 셀의 숙소가 하나면 해당 숙소 ID */
+    private Long accommodationsId;
+}
@@ -0,0 +1,104 @@
+package com.ssg9th2team.geharbang.domain.search.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 공개 검색 조건.
+ * SearchMapper.xml 은 아래 플래그로 필요한 CTE/JOIN/조건만 조립한다.
+ */
+@Getter
+@Builder
+public class PublicSearchCondition {
+    private final List<Long> themeIds;
+    private final String keyword;
+    /** 키워드 역색인 후보 숙소 ID, 미사용 시 null */
+    private final Collection<Long> keywordIds;
+    private final Double south;
+    private final Double north;
+    private final Double west;
+    private final Double east;
+    /** 지도 격자 색인 결과 (영역 안 숙소 ID), 미사용 시 null */
+    private final Collection<Long> boundsIds;
+    private final LocalDateTime checkin;
+    private final LocalDateTime checkout;
+    private final Integer guestCount;
+    private final Integer minPrice;
+    private final Integer maxPrice;
+    private final boolean includeUnavailable;
+    private final String sort;
+    /** 점유 인덱스 사용 시 기간 내 예약이 있는 객실별 최대 점유 인원, 미사용 시 null */
+    private final List<RoomOccupancyLoad> roomLoads;
+    private final int size;
+    private final int offset;
+    /** 커서 페이지네이션: 직전 페이지 마지막 행의 정렬 키/숙소 ID */
+    private final BigDecimal cursorValue;
+    private final Long cursorId;
+    /** 지도 클러스터 격자 크기 (도), 클러스터 조회에서만 사용 */
+    private final Double clusterCellDegrees;
+
+    public boolean isThemeFilter() {
+        return themeIds != null && !themeIds.isEmpty();
+    }
+
+    public boolean isBoundsFilter() {
+        return south != null && north != null && west != null && east != null;
+    }
+
+    public boolean isStayDateFilter() {
+        return checkin != null && checkout != null;
+    }
+
+    /**
+     * 커서가 있으면 OFFSET 대신 (정렬 키, 숙소 ID) 이후 행부터 조회한다.
+     */
+    public boolean isKeyset() {
+        return cursorId != null && ("LATEST".equals(sort) || cursorValue != null);
+    }
+
+    public boolean isGuestFilter() {
+        return guestCount != null && guestCount > 0;
+    }
+
+    /**
+     * 날짜 검색의 가용 객실을 reservation 재집계 대신 점유 인덱스 결과로 판단한다.
+     */
+    public boolean isOccupancyIndexed() {
+        return isStayDateFilter() && roomLoads != null;
+    }
+
+    /**
+     * 날짜 없이 2인 이상 검색하면 인원을 수용하는 객실의 최저가를 노출한다.
+     */
+    public boolean isGuestPricing() {
+        return !isStayDateFilter() && guestCount != null && guestCount >= 2;
+    }
+
+    /**
+     * includeUnavailable 이면 객실 정보가 없는 숙소도 인원/날짜 조건을 통과시킨다.
+     */
+    public boolean isUnavailableFallback() {
+        return includeUnavailable && (isGuestFilter() || isStayDateFilter());
+    }
+
+    /**
+     * room 집계(room_stats)는 인원 조건 또는 includeUnavailable 예외 처리에만 필요하다.
+     */
+    public boolean isRoomStatsRequired() {
+        return (isGuestFilter() && !isStayDateFilter()) || isUnavailableFallback();
+    }
+
+    /**
+     * 페이지/정렬과 무관한 필터 조건 키 (건수 캐시용)
+     */
+    public Object filterKey() {
+        return Arrays.asList(themeIds, keyword, south, north, west, east, checkin, checkout,
+                guestCount, minPrice, maxPrice, includeUnavailable);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ssg9th2team.geharbang.domain.search.dto;
+
+import com.ssg9th2team.geharbang.domain.main.repository.ListDtoProjection;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+public class PublicSearchRow implements ListDtoProjection {
+    private Long accommodationsId;
+    private String accommodationsName;
+    private String shortDescription;
+    private String city;
+    private String district;
+    private String township;
+    private Double latitude;
+    private Double longitude;
+    private Long minPrice;
+    private Double rating;
+    private Integer reviewCount;
+    private Integer maxGuests;
+    private String imageUrl;
+    private Double bayesianScore;
+    /** 정렬 키 값 (커서 생성용) */
+    private BigDecimal sortValue;
+}
@@ -0,0 +1,17 @@
+package com.ssg9th2team.geharbang.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 기간 중 최대 점유 인원이 같은 객실 묶음 (RoomOccupancyIndex 결과)
+ * 한 묶음의 객실 수는 SQL IN 절 크기 제한에 맞춰 나눈다.
+ */
+@Getter
+@AllArgsConstructor
+public class RoomOccupancyLoad {
+    private Integer peakGuests;
+    private List<Long> roomIds;
+}
@@ -0,0 +1,21 @@
+package com.ssg9th2team.geharbang.domain.search.dto;
+
+import java.util.List;
+
+public record SearchClusterResponse(int level, double cellDegrees, long totalCount, List<Cluster> clusters) {
+
+    /**
+     * count 가 1 이면 accommodationsId 로 단일 마커를 그린다.
+     */
+    public record Cluster(double latitude, double longitude, long count, Long minPrice, Long accommodationsId) {
+        public static Cluster from(PublicSearchClusterRow row) {
+            long count = row.getAccommodationCount() != null ? row.getAccommodationCount() : 0L;
+            return new Cluster(
+                    row.getLatitude() != null ? row.getLatitude() : 0.0,
+                    row.getLongitude() != null ? row.getLongitude() : 0.0,
+                    count,
+                    row.getMinPrice(),
+                    count == 1 ? row.getAccommodationsId() : null);
+        }
+    }
+}
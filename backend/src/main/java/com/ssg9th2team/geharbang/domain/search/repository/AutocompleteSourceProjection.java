@@ -0,0 +1,14 @@
+package com.ssg9th2team.geharbang.domain.search.repository;
+
+/**
+ * 자동완성 색인 적재용 숙소명/지역
+ */
+public interface AutocompleteSourceProjection {
+    Long getAccommodationsId();
+
+    String getAccommodationsName();
+
+    String getRegion();
+
+    Integer getReviewCount();
+}
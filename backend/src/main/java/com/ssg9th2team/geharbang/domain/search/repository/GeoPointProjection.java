@@ -0,0 +1,12 @@
+package com.ssg9th2team.geharbang.domain.search.repository;
+
+/**
+ * 지도 격자 색인 적재용 숙소 좌표
+ */
+public interface GeoPointProjection {
+    Long getAccommodationsId();
+
+    Double getLatitude();
+
+    Double getLongitude();
+}
@@ -0,0 +1,20 @@
+package com.ssg9th2team.geharbang.domain.search.repository;
+
+/**
+ * 키워드 역색인 적재용 숙소 텍스트
+ */
+public interface KeywordSourceProjection {
+    Long getAccommodationsId();
+
+    String getAccommodationsName();
+
+    String getCity();
+
+    String getDistrict();
+
+    String getTownship();
+
+    String getAccommodationsDescription();
+
+    String getShortDescription();
+}
@@ -0,0 +1,10 @@
+package com.ssg9th2team.geharbang.domain.search.repository;
+
+/**
+ * 키워드 역색인 적재용 리뷰 본문
+ */
+public interface ReviewContentProjection {
+    Long getReviewId();
+
+    String getContent();
+}
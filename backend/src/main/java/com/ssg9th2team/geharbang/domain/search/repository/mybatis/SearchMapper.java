@@ -0,0 +1,17 @@
+package com.ssg9th2team.geharbang.domain.search.repository.mybatis;
+
+import com.ssg9th2team.geharbang.domain.search.dto.PublicSearchClusterRow;
+import com.ssg9th2team.geharbang.domain.search.dto.PublicSearchCondition;
+import com.ssg9th2team.geharbang.domain.search.dto.PublicSearchRow;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+@Mapper
+public interface SearchMapper {
+    List<PublicSearchRow> selectPublicSearchList(PublicSearchCondition condition);
+
+    long countPublicSearchList(PublicSearchCondition condition);
+
+    List<PublicSearchClusterRow> selectPublicSearchClusters(PublicSearchCondition condition);
+}
@@ -0,0 +1,277 @@
+package com.ssg9th2team.geharbang.domain.search.service;
+
+import com.ssg9th2team.geharbang.domain.search.repository.GeoPointProjection;
+import com.ssg9th2team.geharbang.domain.search.repository.SearchRepository;
+import com.ssg9th2team.geharbang.global.snapshot.SnapshotChangeChannel;
+import com.ssg9th2team.geharbang.global.snapshot.SnapshotRebuilder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 지도 영역 검색용 메모리 격자 색인
+ *
+ * <p>idx_accommodation_geo(latitude, longitude) 는 위도 범위만 좁히므로, 숙소 좌표를 고정 크기 격자 셀에
+ * 나눠 담고 화면 영역과 겹치는 셀만 확인해 숙소 ID 를 구한다. 결과는 SQL 에 IN 조건으로 넘기며
+ * 기존 BETWEEN 조건도 그대로 유지한다.
+ *
+ * <p>반환값이 null 이면 색인을 쓸 수 없는 경우(미적재, 후보 과다)이므로 호출부는 범위 조건만으로 조회한다.
+ *
+ * <p>결과에 없는 숙소는 지도 검색에서 빠지므로 다른 노드의 좌표/승인 변경도 {@link SnapshotChangeChannel} 로 받아
+ * 바로 다시 색인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeoGridIndex {
+
+    private static final String TOPIC = "geo-index";
+
+    private final SearchRepository searchRepository;
+    private final SnapshotChangeChannel changeChannel;
+
+    @Value("${search.geo-index.enabled:true}")
+    private boolean enabled;
+
+    /** 격자 셀 한 변의 크기 (도). 0.05 도는 약 5km */
+    @Value("${search.geo-index.cell-degrees:0.05}")
+    private double cellDegrees;
+
+    /** 후보가 이보다 많으면 IN 조건보다 범위 스캔이 낫다고 보고 사용하지 않는다. */
+    @Value("${search.geo-index.max-candidates:2000}")
+    private int maxCandidates;
+
+    private volatile Grid grid;
+    private final SnapshotRebuilder<Long> rebuilder = new SnapshotRebuilder<>("지도 격자 색인", this::reindexAccommodation);
+
+    @PostConstruct
+    public void subscribe() {
+        changeChannel.subscribe(TOPIC, rebuilder::apply);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 변경 통지가 유실된 경우를 위한 보정 재적재
+     */
+    @Scheduled(fixedDelayString = "${search.geo-index.refresh-ms:3600000}",
+            initialDelayString = "${search.geo-index.refresh-ms:3600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            if (rebuilder.rebuild(this::load, next -> grid = next)) {
+                Grid current = grid;
+                log.info("지도 격자 색인 적재 완료: accommodations={}, cells={}, {}ms",
+                        current.size(), current.cellCount(), System.currentTimeMillis() - startedAt);
+            }
+        } catch (Exception e) {
+            log.error("지도 격자 색인 적재 실패 (지도 검색은 범위 조건으로 동작)", e);
+        }
+    }
+
+    private Grid load() {
+        Grid next = new Grid(cellDegrees);
+        for (GeoPointProjection point : searchRepository.findGeoPoints(null)) {
+            next.put(point.getAccommodationsId(), point.getLatitude(), point.getLongitude());
+        }
+        return next;
+    }
+
+    /**
+     * 영역 안에 좌표가 있는 승인 숙소 ID
+     */
+    public Set<Long> findInBounds(double south, double north, double west, double east) {
+        Grid current = grid;
+        if (!enabled || current == null) {
+            return null;
+        }
+        return current.find(south, north, west, east, maxCandidates);
+    }
+
+    /**
+     * 숙소 좌표/승인 상태 변경 후 DB 기준으로 다시 색인한다. (커밋 이후)
+     */
+    public void refreshAccommodation(Long accommodationsId) {
+        if (!enabled || accommodationsId == null) {
+            return;
+        }
+        rebuilder.applyAfterCommit(accommodationsId);
+        changeChannel.publishAfterCommit(TOPIC, accommodationsId);
+    }
+
+    public void refreshAccommodations(List<Long> accommodationIds) {
+        for (Long accommodationsId : accommodationIds) {
+            refreshAccommodation(accommodationsId);
+        }
+    }
+
+    private void reindexAccommodation(Long accommodationsId) {
+        Grid current = grid;
+        if (current == null) {
+            return;
+        }
+        List<GeoPointProjection> points = searchRepository.findGeoPoints(accommodationsId);
+        if (points.isEmpty()) {
+            current.remove(accommodationsId);
+            return;
+        }
+        GeoPointProjection point = points.get(0);
+        current.put(accommodationsId, point.getLatitude(), point.getLongitude());
+    }
+
+    /**
+     * 셀 키는 (위도 셀, 경도 셀) 을 long 하나로 합친 값이다.
+     */
+    static final class Grid {
+        private final double cellDegrees;
+        private final Map<Long, Set<Long>> cells = new HashMap<>();
+        private final Map<Long, double[]> points = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        Grid(double cellDegrees) {
+            this.cellDegrees = cellDegrees;
+        }
+
+        void put(Long accommodationsId, Double latitude, Double longitude) {
+            if (latitude == null || longitude == null) {
+                remove(accommodationsId);
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                removeLocked(accommodationsId);
+                points.put(accommodationsId, new double[]{latitude, longitude});
+                cells.computeIfAbsent(cellKey(cell(latitude), cell(longitude)), key -> new HashSet<>())
+                        .add(accommodationsId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long accommodationsId) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(accommodationsId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * 영역과 겹치는 셀의 숙소 중 실제 좌표가 영역 안인 것만 반환한다. 후보가 limit 을 넘으면 null
+         */
+        Set<Long> find(double south, double north, double west, double east, int limit) {
+            int fromLat = cell(south);
+            int toLat = cell(north);
+            int fromLng = cell(west);
+            int toLng = cell(east);
+            long rangeCells = (long) (toLat - fromLat + 1) * (toLng - fromLng + 1);
+
+            lock.readLock().lock();
+            try {
+                Set<Long> result = new HashSet<>();
+                if (rangeCells > cells.size()) {
+                    // 넓은 영역은 범위의 빈 셀까지 훑지 않고 채워진 셀만 확인한다.
+                    for (Map.Entry<Long, Set<Long>> entry : cells.entrySet()) {
+                        int latCell = (int) (entry.getKey() >> 32);
+                        int lngCell = (int) (long) entry.getKey();
+                        if (latCell >= fromLat && latCell <= toLat && lngCell >= fromLng && lngCell <= toLng
+                                && !collect(entry.getValue(), south, north, west, east, limit, result)) {
+                            return null;
+                        }
+                    }
+                    return result;
+                }
+                for (int latCell = fromLat; latCell <= toLat; latCell++) {
+                    for (int lngCell = fromLng; lngCell <= toLng; lngCell++) {
+                        Set<Long> ids = cells.get(cellKey(latCell, lngCell));
+                        if (ids != null && !collect(ids, south, north, west, east, limit, result)) {
+                            return null;
+                        }
+                    }
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return points.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int cellCount() {
+            lock.readLock().lock();
+            try {
+                return cells.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private boolean collect(Set<Long> ids, double south, double north, double west, double east,
+                                int limit, Set<Long> result) {
+            for (Long id : ids) {
+                double[] point = points.get(id);
+                if (point[0] >= south && point[0] <= north && point[1] >= west && point[1] <= east) {
+                    result.add(id);
+                    if (result.size() > limit) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void removeLocked(Long accommodationsId) {
+            double[] previous = points.remove(accommodationsId);
+            if (previous == null) {
+                return;
+            }
+            long key = cellKey(cell(previous[0]), cell(previous[1]));
+            Set<Long> ids = cells.get(key);
+            if (ids != null) {
+                ids.remove(accommodationsId);
+                if (ids.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+
+        private int cell(double degrees) {
+            return (int) Math.floor(degrees / cellDegrees);
+        }
+
+        private static long cellKey(int latCell, int lngCell) {
+            return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.ssg9th2team.geharbang.domain.search.service;
+
+import com.ssg9th2team.geharbang.domain.search.repository.KeywordSourceProjection;
+import com.ssg9th2team.geharbang.domain.search.repository.ReviewContentProjection;
+import com.ssg9th2team.geharbang.domain.search.repository.SearchRepository;
+import com.ssg9th2team.geharbang.global.snapshot.SnapshotChangeChannel;
+import com.ssg9th2team.geharbang.global.snapshot.SnapshotRebuilder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 숙소/리뷰 키워드 검색용 메모리 역색인
+ *
+ * <p>LIKE '%keyword%' 는 인덱스를 타지 못하므로, n-gram posting list 교집합으로 후보 ID 를 먼저 구해
+ * SQL 에 IN 조건으로 넘긴다. 최종 일치 여부는 기존 LIKE 조건이 그대로 판정한다.
+ * <ul>
+ *   <li>listing: 숙소명 + 시/구/동 (CONCAT_WS 와 동일한 문자열) - 공개 검색, 메인 목록, 자동완성</li>
+ *   <li>description: 숙소명, 설명, 한 줄 소개 - AI 추천 키워드 검색</li>
+ *   <li>review: 리뷰 본문 (리뷰 ID 기준) - AI 추천 리뷰 키워드 검색</li>
+ * </ul>
+ *
+ * <p>반환값이 null 이면 인덱스를 쓸 수 없는 경우(미적재, 1글자, LIKE 와일드카드, 후보 과다)이므로
+ * 호출부는 기존 전체 스캔 쿼리를 사용한다.
+ *
+ * <p>후보는 SQL 에서 IN 으로 거르므로 색인에 빠진 숙소는 검색되지 않는다. 그래서 다른 노드의 변경도
+ * {@link SnapshotChangeChannel} 로 받아 바로 다시 색인하고, 주기 재적재는 통지 유실에 대비한 보정으로만 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordSearchIndex {
+
+    private static final String ACCOMMODATION_TOPIC = "keyword-index:accommodation";
+    private static final String REVIEW_TOPIC = "keyword-index:review";
+
+    private final SearchRepository searchRepository;
+    private final SnapshotChangeChannel changeChannel;
+
+    @Value("${search.keyword-index.enabled:true}")
+    private boolean enabled;
+
+    /** 후보가 이보다 많으면 IN 조건보다 스캔이 낫다고 보고 사용하지 않는다. */
+    @Value("${search.keyword-index.max-candidates:1000}")
+    private int maxCandidates;
+
+    /** 리뷰 본문을 한 번에 읽어 올리는 개수 */
+    @Value("${search.keyword-index.review-batch-size:1000}")
+    private int reviewBatchSize;
+
+    private volatile Indexes indexes;
+    private final SnapshotRebuilder<Change> rebuilder = new SnapshotRebuilder<>("키워드 역색인", this::reindex);
+
+    @PostConstruct
+    public void subscribe() {
+        changeChannel.subscribe(ACCOMMODATION_TOPIC, id -> rebuilder.apply(new Change(false, id)));
+        changeChannel.subscribe(REVIEW_TOPIC, id -> rebuilder.apply(new Change(true, id)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 변경 통지가 유실된 경우를 위한 보정 재적재
+     */
+    @Scheduled(fixedDelayString = "${search.keyword-index.refresh-ms:3600000}",
+            initialDelayString = "${search.keyword-index.refresh-ms:3600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            if (rebuilder.rebuild(this::load, next -> indexes = next)) {
+                Indexes current = indexes;
+                log.info("키워드 역색인 적재 완료: accommodations={}, reviews={}, {}ms",
+                        current.listing.size(), current.review.size(), System.currentTimeMillis() - startedAt);
+            }
+        } catch (Exception e) {
+            log.error("키워드 역색인 적재 실패 (검색은 LIKE 스캔으로 동작)", e);
+        }
+    }
+
+    private Indexes load() {
+        Indexes next = new Indexes();
+        for (KeywordSourceProjection source : searchRepository.findKeywordSources(null)) {
+            next.putAccommodation(source);
+        }
+        long lastReviewId = 0;
+        List<ReviewContentProjection> reviews;
+        do {
+            reviews = searchRepository.findReviewContentsAfter(lastReviewId, reviewBatchSize);
+            for (ReviewContentProjection review : reviews) {
+                next.review.put(review.getReviewId(), review.getContent());
+                lastReviewId = review.getReviewId();
+            }
+        } while (reviews.size() == reviewBatchSize);
+        return next;
+    }
+
+    /**
+     * 숙소명/지역 키워드 후보 숙소 ID
+     */
+    public Set<Long> matchListing(String keyword) {
+        Indexes current = indexes;
+        return current == null ? null : match(current.listing, keyword);
+    }
+
+    /**
+     * 숙소명/설명 키워드 후보 숙소 ID
+     */
+    public Set<Long> matchDescription(String keyword) {
+        Indexes current = indexes;
+        return current == null ? null : match(current.description, keyword);
+    }
+
+    /**
+     * 리뷰 본문 키워드 후보 리뷰 ID
+     */
+    public Set<Long> matchReviews(String keyword) {
+        Indexes current = indexes;
+        return current == null ? null : match(current.review, keyword);
+    }
+
+    /**
+     * 숙소 등록/수정/승인/반려/삭제 후 DB 기준으로 다시 색인한다. (커밋 이후)
+     */
+    public void refreshAccommodation(Long accommodationsId) {
+        if (!enabled || accommodationsId == null) {
+            return;
+        }
+        rebuilder.applyAfterCommit(new Change(false, accommodationsId));
+        changeChannel.publishAfterCommit(ACCOMMODATION_TOPIC, accommodationsId);
+    }
+
+    public void refreshAccommodations(List<Long> accommodationIds) {
+        for (Long accommodationsId : accommodationIds) {
+            refreshAccommodation(accommodationsId);
+        }
+    }
+
+    /**
+     * 리뷰 작성/수정/삭제 후 DB 기준으로 다시 색인한다. (커밋 이후)
+     */
+    public void refreshReview(Long reviewId) {
+        if (!enabled || reviewId == null) {
+            return;
+        }
+        rebuilder.applyAfterCommit(new Change(true, reviewId));
+        changeChannel.publishAfterCommit(REVIEW_TOPIC, reviewId);
+    }
+
+    private void reindex(Change change) {
+        if (change.review()) {
+            reindexReview(change.id());
+        } else {
+            reindexAccommodation(change.id());
+        }
+    }
+
+    private void reindexAccommodation(Long accommodationsId) {
+        Indexes current = indexes;
+        if (current == null) {
+            return;
+        }
+        List<KeywordSourceProjection> sources = searchRepository.findKeywordSources(accommodationsId);
+        if (sources.isEmpty()) {
+            current.removeAccommodation(accommodationsId);
+            return;
+        }
+        current.putAccommodation(sources.get(0));
+    }
+
+    private void reindexReview(Long reviewId) {
+        Indexes current = indexes;
+        if (current == null) {
+            return;
+        }
+        List<ReviewContentProjection> reviews = searchRepository.findReviewContents(reviewId);
+        if (reviews.isEmpty()) {
+            current.review.remove(reviewId);
+            return;
+        }
+        current.review.put(reviewId, reviews.get(0).getContent());
+    }
+
+    private Set<Long> match(NgramIndex index, String keyword) {
+        if (!enabled || keyword == null || hasLikeWildcard(keyword)) {
+            return null;
+        }
+        return index.candidates(keyword.trim(), maxCandidates);
+    }
+
+    private boolean hasLikeWildcard(String keyword) {
+        return keyword.indexOf('%') >= 0 || keyword.indexOf('_') >= 0 || keyword.indexOf('\\') >= 0;
+    }
+
+    /**
+     * 다시 색인할 숙소 또는 리뷰 ID
+     */
+    private record Change(boolean review, Long id) {
+    }
+
+    private static final class Indexes {
+        private final NgramIndex listing = new NgramIndex();
+        private final NgramIndex description = new NgramIndex();
+        private final NgramIndex review = new NgramIndex();
+
+        private void putAccommodation(KeywordSourceProjection source) {
+            Long id = source.getAccommodationsId();
+            listing.put(id, concatWs(source.getAccommodationsName(), source.getCity(),
+                    source.getDistrict(), source.getTownship()));
+            description.put(id, source.getAccommodationsName(), source.getAccommodationsDescription(),
+                    source.getShortDescription());
+        }
+
+        private void removeAccommodation(Long accommodationsId) {
+            listing.remove(accommodationsId);
+            description.remove(accommodationsId);
+        }
+
+        /**
+         * MySQL CONCAT_WS(' ', ...) 와 동일하게 null 은 건너뛴다.
+         */
+        private static String concatWs(String... values) {
+            StringBuilder builder = new StringBuilder();
+            for (String value : values) {
+                if (value == null) {
+                    continue;
+                }
+                if (!builder.isEmpty()) {
+                    builder.append(' ');
+                }
+                builder.append(value);
+            }
+            return builder.toString();
+        }
+    }
+}
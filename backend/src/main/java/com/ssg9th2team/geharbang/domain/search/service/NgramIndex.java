@@ -0,0 +1,218 @@
+package com.ssg9th2team.geharbang.domain.search.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 2-gram/3-gram 역색인
+ *
+ * <p>문서(ID)마다 텍스트 필드의 2글자/3글자 조각을 posting list 로 유지한다.
+ * 검색어의 조각을 모두 포함하는 문서 ID 를 돌려주며, 이는 LIKE '%keyword%' 결과의 상위 집합이다.
+ * 조각이 서로 다른 위치에 흩어진 경우도 포함되므로 최종 판정은 SQL 의 LIKE 조건으로 한다.
+ *
+ * <p>조각 문자열은 사전에 한 번만 두고 문서에는 조각 ID 배열만 보관한다. (삭제 시 posting 정리용)
+ * posting 은 정렬된 long 배열이라 리뷰처럼 문서가 많아도 문서 ID 마다 박싱/해시 엔트리를 만들지 않는다.
+ * 적재는 문서 ID 순으로 하므로 대부분 배열 끝에 덧붙인다.
+ */
+final class NgramIndex {
+
+    /** 조각 -> 조각 ID (postings 의 위치) */
+    private final Map<String, Integer> gramIds = new HashMap<>();
+    /** 조각 ID -> 문서 ID 목록 (비면 null) */
+    private final List<Posting> postings = new ArrayList<>();
+    private final Map<Long, int[]> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서를 추가/교체한다. 필드 경계를 넘는 조각은 만들지 않는다.
+     */
+    void put(Long documentId, String... fields) {
+        Set<String> grams = new HashSet<>();
+        for (String field : fields) {
+            collectGrams(normalize(field), grams);
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(documentId);
+            if (grams.isEmpty()) {
+                return;
+            }
+            int[] ids = new int[grams.size()];
+            int index = 0;
+            for (String gram : grams) {
+                int gramId = gramIds.computeIfAbsent(gram, key -> {
+                    postings.add(null);
+                    return postings.size() - 1;
+                });
+                Posting posting = postings.get(gramId);
+                if (posting == null) {
+                    posting = new Posting();
+                    postings.set(gramId, posting);
+                }
+                posting.add(documentId);
+                ids[index++] = gramId;
+            }
+            documents.put(documentId, ids);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    Set<Long> candidates(String keyword) {
+        return candidates(keyword, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 검색어의 조각을 모두 가진 문서 ID. 2글자 이상 검색어만 지원하며, limit 개를 넘으면 null
+     */
+    Set<Long> candidates(String keyword, int limit) {
+        String normalized = normalize(keyword);
+        int size = normalized.length() >= 3 ? 3 : 2;
+        if (normalized.length() < size) {
+            return null;
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + size <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + size));
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Posting> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Integer gramId = gramIds.get(gram);
+                Posting posting = gramId != null ? postings.get(gramId) : null;
+                if (posting == null) {
+                    return Set.of();
+                }
+                lists.add(posting);
+            }
+            // 가장 짧은 posting list 의 문서를 나머지에서 이진 탐색
+            lists.sort(Comparator.comparingInt(posting -> posting.size));
+            Posting shortest = lists.get(0);
+            Set<Long> result = new HashSet<>();
+            for (int i = 0; i < shortest.size; i++) {
+                long documentId = shortest.ids[i];
+                if (containsAll(lists, documentId)) {
+                    result.add(documentId);
+                    if (result.size() > limit) {
+                        return null;
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * MySQL LOWER + _ai_ci 비교에 맞춰 소문자/악센트 제거. (한글은 NFC 로 다시 합쳐진다)
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{Mn}+", "");
+        return Normalizer.normalize(decomposed, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void collectGrams(String text, Set<String> grams) {
+        for (int size = 2; size <= 3; size++) {
+            for (int i = 0; i + size <= text.length(); i++) {
+                grams.add(text.substring(i, i + size));
+            }
+        }
+    }
+
+    private static boolean containsAll(List<Posting> lists, long documentId) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(documentId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removeLocked(Long documentId) {
+        int[] previous = documents.remove(documentId);
+        if (previous == null) {
+            return;
+        }
+        for (int gramId : previous) {
+            Posting posting = postings.get(gramId);
+            if (posting != null) {
+                posting.remove(documentId);
+                if (posting.size == 0) {
+                    postings.set(gramId, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * 정렬된 문서 ID 배열 (앞에서 size 개만 유효)
+     */
+    private static final class Posting {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long documentId) {
+            int index = size > 0 && ids[size - 1] < documentId ? size : Arrays.binarySearch(ids, 0, size, documentId);
+            if (index >= 0 && index < size) {
+                return;
+            }
+            int insertAt = index >= 0 ? index : -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = documentId;
+            size++;
+        }
+
+        void remove(long documentId) {
+            int index = Arrays.binarySearch(ids, 0, size, documentId);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            if (size > 4 && size < ids.length / 4) {
+                ids = Arrays.copyOf(ids, ids.length / 2);
+            }
+        }
+
+        boolean contains(long documentId) {
+            return Arrays.binarySearch(ids, 0, size, documentId) >= 0;
+        }
+    }
+}
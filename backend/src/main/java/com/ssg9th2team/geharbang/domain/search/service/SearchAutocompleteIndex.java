@@ -0,0 +1,327 @@
+package com.ssg9th2team.geharbang.domain.search.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssg9th2team.geharbang.domain.search.dto.SearchResolveResponse;
+import com.ssg9th2team.geharbang.domain.search.dto.SearchSuggestionResponse;
+import com.ssg9th2team.geharbang.domain.search.repository.AutocompleteSourceProjection;
+import com.ssg9th2team.geharbang.domain.search.repository.SearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 공개 검색 자동완성 색인
+ *
+ * <p>운영 중인 승인 숙소의 이름/지역 문자열을 정렬된 키 배열로 유지하고 이진 탐색으로 접두어를 찾는다.
+ * 단어 시작 위치마다 키를 만들어 "서귀포" 로 "제주 서귀포시" 를 찾을 수 있고,
+ * 한글은 초성 키("ㅈㅈ ㅅㄱㅍ")도 함께 색인한다.
+ *
+ * <p>접두어별 결과는 Caffeine 에 캐시하며 hit/miss 는 cache.gets{cache=searchAutocomplete} 로 노출된다.
+ * 캐시 키에 색인 버전을 넣어 이전 색인으로 계산한 결과가 새 색인의 결과로 읽히지 않게 한다.
+ *
+ * <p>숙소 승인/반려/수정/삭제 시 커밋 이후 재적재를 요청한다.
+ * 요청은 refresh-debounce-ms 동안 모아 별도 스레드에서 한 번만 적재하므로 요청 스레드를 막지 않는다.
+ */
+@Slf4j
+@Component
+public class SearchAutocompleteIndex {
+
+    private static final String CACHE_NAME = "searchAutocomplete";
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    /** 짧은 접두어가 너무 많은 키를 훑지 않도록 제한 */
+    private static final int MAX_SCAN = 5_000;
+
+    private final SearchRepository searchRepository;
+    private final Cache<String, List<SearchSuggestionResponse>> resultCache;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-autocomplete-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+
+    @Value("${search.autocomplete.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.autocomplete.refresh-debounce-ms:1000}")
+    private long refreshDebounceMs;
+
+    private volatile Snapshot snapshot;
+    private long version;
+
+    public SearchAutocompleteIndex(SearchRepository searchRepository,
+                                   ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.searchRepository = searchRepository;
+        this.resultCache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(30))
+                .recordStats()
+                .build();
+        meterRegistryProvider.ifAvailable(registry ->
+                CaffeineCacheMetrics.monitor(registry, resultCache, CACHE_NAME));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${search.autocomplete.refresh-ms:600000}",
+            initialDelayString = "${search.autocomplete.refresh-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 숙소 승인/반려/운영 상태/이름 변경 후 호출 (커밋 이후 재적재 요청)
+     */
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    requestRebuild();
+                }
+            });
+            return;
+        }
+        requestRebuild();
+    }
+
+    /**
+     * 재적재를 예약한다. 이미 대기 중인 요청이 있으면 합쳐진다.
+     * 적재 시작 시 플래그를 내리므로 적재 중에 들어온 변경은 다음 적재에 반영된다.
+     */
+    private void requestRebuild() {
+        if (!refreshRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.schedule(() -> {
+                refreshRequested.set(false);
+                rebuild();
+            }, refreshDebounceMs, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            refreshRequested.set(false);
+            log.warn("자동완성 색인 재적재 요청 실패 (다음 주기에 반영): {}", e.getMessage());
+        }
+    }
+
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            Snapshot next = Snapshot.build(++version, searchRepository.findAutocompleteSources());
+            snapshot = next;
+            // 버전이 다른 키는 더 이상 조회되지 않으므로 메모리만 비운다.
+            resultCache.invalidateAll();
+            log.info("자동완성 색인 적재 완료: entries={}, keys={}, {}ms",
+                    next.entries.length, next.keys.length, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("자동완성 색인 적재 실패 (자동완성은 DB 조회로 동작)", e);
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && snapshot != null;
+    }
+
+    /**
+     * 지역 regionLimit 개, 숙소명 accommodationLimit 개를 순서대로 반환한다.
+     * 정렬: 전체 문자열 접두어 일치 > 단어 접두어 일치, 숙소 수/리뷰 수 많은 순, 가나다순
+     */
+    public List<SearchSuggestionResponse> suggest(String keyword, int regionLimit, int accommodationLimit) {
+        Snapshot current = snapshot;
+        String prefix = NgramIndex.normalize(keyword);
+        String cacheKey = current.version + "\u0000" + prefix + '\u0000' + regionLimit + '\u0000' + accommodationLimit;
+        return resultCache.get(cacheKey, key -> current.suggest(prefix, regionLimit, accommodationLimit));
+    }
+
+    /**
+     * 이름이 정확히 일치하는 숙소가 하나뿐이면 반환한다.
+     */
+    public SearchResolveResponse resolve(String keyword) {
+        Snapshot current = snapshot;
+        List<Entry> matches = current.byName.get(NgramIndex.normalize(keyword));
+        if (matches == null || matches.size() != 1) {
+            return null;
+        }
+        Entry match = matches.get(0);
+        return SearchResolveResponse.of(match.accommodationsId, match.text);
+    }
+
+    static String chosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        boolean hangul = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '가' && c <= '힣') {
+                builder.append(CHOSUNG[(c - '가') / 588]);
+                hangul = true;
+            } else {
+                builder.append(c);
+            }
+        }
+        return hangul ? builder.toString() : null;
+    }
+
+    private static final class Entry {
+        private final String text;
+        private final boolean region;
+        private final Long accommodationsId;
+        private int weight;
+
+        private Entry(String text, boolean region, Long accommodationsId) {
+            this.text = text;
+            this.region = region;
+            this.accommodationsId = accommodationsId;
+        }
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final Entry[] entries;
+        /** 정렬된 키와 키가 가리키는 entry, 키가 문자열 처음부터인지 여부 */
+        private final String[] keys;
+        private final int[] keyEntries;
+        private final boolean[] keyLeading;
+        private final Map<String, List<Entry>> byName;
+
+        private Snapshot(long version, Entry[] entries, String[] keys, int[] keyEntries, boolean[] keyLeading,
+                         Map<String, List<Entry>> byName) {
+            this.version = version;
+            this.entries = entries;
+            this.keys = keys;
+            this.keyEntries = keyEntries;
+            this.keyLeading = keyLeading;
+            this.byName = byName;
+        }
+
+        private static Snapshot build(long version, List<AutocompleteSourceProjection> sources) {
+            Map<String, Entry> regions = new LinkedHashMap<>();
+            Map<String, Entry> names = new LinkedHashMap<>();
+            Map<String, List<Entry>> byName = new HashMap<>();
+            for (AutocompleteSourceProjection source : sources) {
+                String region = source.getRegion();
+                if (region != null && !region.isBlank()) {
+                    regions.computeIfAbsent(region, text -> new Entry(text, true, null)).weight++;
+                }
+                String name = source.getAccommodationsName();
+                if (name != null && !name.isBlank()) {
+                    Entry entry = names.computeIfAbsent(name, text -> new Entry(text, false, source.getAccommodationsId()));
+                    entry.weight += source.getReviewCount() != null ? source.getReviewCount() : 0;
+                    byName.computeIfAbsent(NgramIndex.normalize(name), key -> new ArrayList<>())
+                            .add(new Entry(name, false, source.getAccommodationsId()));
+                }
+            }
+
+            List<Entry> entries = new ArrayList<>(regions.values());
+            entries.addAll(names.values());
+            List<Key> keyList = new ArrayList<>();
+            for (int index = 0; index < entries.size(); index++) {
+                String normalized = NgramIndex.normalize(entries.get(index).text);
+                for (int start = 0; start < normalized.length(); start++) {
+                    boolean wordStart = start == 0 || normalized.charAt(start - 1) == ' ';
+                    if (!wordStart || normalized.charAt(start) == ' ') {
+                        continue;
+                    }
+                    String key = normalized.substring(start);
+                    keyList.add(new Key(key, index, start == 0));
+                    String chosungKey = chosung(key);
+                    if (chosungKey != null) {
+                        keyList.add(new Key(chosungKey, index, start == 0));
+                    }
+                }
+            }
+            keyList.sort(Comparator.comparing(Key::value));
+
+            String[] keys = new String[keyList.size()];
+            int[] keyEntries = new int[keyList.size()];
+            boolean[] keyLeading = new boolean[keyList.size()];
+            for (int i = 0; i < keyList.size(); i++) {
+                Key key = keyList.get(i);
+                keys[i] = key.value();
+                keyEntries[i] = key.entry();
+                keyLeading[i] = key.leading();
+            }
+            return new Snapshot(version, entries.toArray(new Entry[0]), keys, keyEntries, keyLeading, byName);
+        }
+
+        private List<SearchSuggestionResponse> suggest(String prefix, int regionLimit, int accommodationLimit) {
+            if (prefix.isEmpty()) {
+                return List.of();
+            }
+            // entry 별 최선의 일치 (0: 문자열 시작, 1: 단어 시작)
+            Map<Integer, Integer> ranks = new HashMap<>();
+            int from = lowerBound(prefix);
+            for (int i = from; i < keys.length && i < from + MAX_SCAN && keys[i].startsWith(prefix); i++) {
+                ranks.merge(keyEntries[i], keyLeading[i] ? 0 : 1, Math::min);
+            }
+
+            Comparator<Integer> order = Comparator.<Integer>comparingInt(ranks::get)
+                    .thenComparing(index -> -entries[index].weight)
+                    .thenComparing(index -> entries[index].text);
+            List<Integer> matched = new ArrayList<>(ranks.keySet());
+            matched.sort(order);
+
+            List<SearchSuggestionResponse> regions = new ArrayList<>();
+            List<SearchSuggestionResponse> names = new ArrayList<>();
+            for (Integer index : matched) {
+                Entry entry = entries[index];
+                if (entry.region && regions.size() < regionLimit) {
+                    regions.add(SearchSuggestionResponse.region(entry.text));
+                } else if (!entry.region && names.size() < accommodationLimit) {
+                    names.add(SearchSuggestionResponse.accommodation(entry.text));
+                }
+            }
+            regions.addAll(names);
+            return List.copyOf(regions);
+        }
+
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private record Key(String value, int entry, boolean leading) {
+    }
+}
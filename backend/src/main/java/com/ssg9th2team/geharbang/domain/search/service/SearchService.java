@@ -1,6 +1,7 @@
 package com.ssg9th2team.geharbang.domain.search.service;
 
 import com.ssg9th2team.geharbang.domain.main.dto.PublicListResponse;
+import com.ssg9th2team.geharbang.domain.search.dto.SearchClusterResponse;
 import com.ssg9th2team.geharbang.domain.search.dto.SearchResolveResponse;
 import com.ssg9th2team.geharbang.domain.search.dto.SearchSuggestionResponse;
 
@@ -23,7 +24,23 @@ public interface SearchService {
             Integer minPrice,
             Integer maxPrice,
             boolean includeUnavailable,
-            String sort);
+            String sort,
+            String cursor);
+
+    SearchClusterResponse searchPublicClusters(
+            List<Long> themeIds,
+            String keyword,
+            double minLat,
+            double maxLat,
+            double minLng,
+            double maxLng,
+            int level,
+            LocalDateTime checkin,
+            LocalDateTime checkout,
+            Integer guestCount,
+            Integer minPrice,
+            Integer maxPrice,
+            boolean includeUnavailable);
 
     List<SearchSuggestionResponse> suggestPublicSearch(String keyword, int limit);
 
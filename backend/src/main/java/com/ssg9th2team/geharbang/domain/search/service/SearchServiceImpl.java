@@ -1,23 +1,39 @@
 package com.ssg9th2team.geharbang.domain.search.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.ssg9th2team.geharbang.domain.main.dto.ListDto;
 import com.ssg9th2team.geharbang.domain.main.dto.PublicListResponse;
 import com.ssg9th2team.geharbang.domain.main.repository.ListDtoProjection;
+import com.ssg9th2team.geharbang.domain.reservation.service.RoomOccupancyIndex;
+import com.ssg9th2team.geharbang.domain.search.dto.PublicSearchCondition;
+import com.ssg9th2team.geharbang.domain.search.dto.PublicSearchRow;
+import com.ssg9th2team.geharbang.domain.search.dto.RoomOccupancyLoad;
+import com.ssg9th2team.geharbang.domain.search.dto.SearchClusterResponse;
 import com.ssg9th2team.geharbang.domain.search.dto.SearchResolveResponse;
 import com.ssg9th2team.geharbang.domain.search.dto.SearchSuggestionResponse;
 import com.ssg9th2team.geharbang.domain.search.repository.SearchRepository;
 import com.ssg9th2team.geharbang.domain.search.repository.SearchResolveProjection;
+import com.ssg9th2team.geharbang.domain.search.repository.mybatis.SearchMapper;
+import com.ssg9th2team.geharbang.global.storage.ImageVariants;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
-
-import org.springframework.data.jpa.domain.JpaSort;
-import org.springframework.data.domain.Sort;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +41,23 @@ import org.springframework.data.domain.Sort;
 public class SearchServiceImpl implements SearchService {
 
     private final SearchRepository searchRepository;
+    private final SearchMapper searchMapper;
+    private final RoomOccupancyIndex roomOccupancyIndex;
+    private final KeywordSearchIndex keywordSearchIndex;
+    private final SearchAutocompleteIndex searchAutocompleteIndex;
+    private final GeoGridIndex geoGridIndex;
+
+    /** 점유 인덱스 결과를 SQL IN 절로 넘길 때 한 묶음의 최대 객실 수 */
+    private static final int ROOM_LOAD_CHUNK_SIZE = 500;
+    private static final int MAX_MAP_LEVEL = 14;
+    /** 카카오맵 레벨 1 의 클러스터 격자 크기 (도). 레벨 7 에서 약 1.4km */
+    private static final double CLUSTER_BASE_CELL_DEGREES = 0.0002;
+
+    /** 커서 모드에서 보여줄 추정 전체 건수 (같은 조건의 마지막 count 결과) */
+    private final Cache<Object, Long> totalCountCache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .maximumSize(1_000)
+            .build();
 
     @Override
     public PublicListResponse searchPublicList(
@@ -42,153 +75,79 @@ public class SearchServiceImpl implements SearchService {
             Integer minPrice,
             Integer maxPrice,
             boolean includeUnavailable,
-            String sort) {
-        Sort sortObj = JpaSort.unsafe(Sort.Direction.DESC, "accommodationsId");
-        if (sort != null && !sort.isEmpty()) {
-            switch (sort) {
-                case "reviews":
-                    sortObj = JpaSort.unsafe(Sort.Direction.DESC, "reviewCount");
-                    break;
-                case "rating":
-                    sortObj = JpaSort.unsafe(Sort.Direction.DESC, "rating");
-                    break;
-                case "priceHigh":
-                    sortObj = JpaSort.unsafe(Sort.Direction.DESC, "minPrice");
-                    break;
-                case "priceLow":
-                    sortObj = JpaSort.unsafe(Sort.Direction.ASC, "minPrice");
-                    break;
-                case "recommended":
-                default:
-                    if ("recommended".equals(sort)) {
-                        sortObj = JpaSort.unsafe(Sort.Direction.DESC, "(bayesianScore)");
-                    } else {
-                        sortObj = JpaSort.unsafe(Sort.Direction.DESC, "accommodationsId");
-                    }
-                    break;
-            }
-        }
-        PageRequest pageable = PageRequest.of(page, size, sortObj);
-        String normalizedKeyword = normalizeKeyword(keyword);
-        Page<ListDtoProjection> resultPage;
+            String sort,
+            String cursor) {
+        PageRequest pageable = PageRequest.of(page, size);
+        String appliedSort = resolveSort(sort);
+        boolean useCursor = cursor != null;
+        CursorValue cursorValue = (useCursor && !cursor.isBlank())
+                ? parseCursor(cursor, appliedSort)
+                : new CursorValue(null, null);
 
-        boolean hasBounds = minLat != null && maxLat != null && minLng != null && maxLng != null;
-        boolean hasStayDates = checkin != null && checkout != null;
-        Double south = null;
-        Double north = null;
-        Double west = null;
-        Double east = null;
-        if (hasBounds) {
-            south = Math.min(minLat, maxLat);
-            north = Math.max(minLat, maxLat);
-            west = Math.min(minLng, maxLng);
-            east = Math.max(minLng, maxLng);
-        }
+        PublicSearchCondition condition = filterCondition(themeIds, keyword, minLat, maxLat, minLng, maxLng,
+                checkin, checkout, guestCount, minPrice, maxPrice, includeUnavailable)
+                .sort(appliedSort)
+                .size(useCursor ? size + 1 : size)
+                .offset(useCursor ? 0 : (int) pageable.getOffset())
+                .cursorValue(cursorValue.value)
+                .cursorId(cursorValue.id)
+                .build();
 
-        boolean hasThemes = themeIds != null && !themeIds.isEmpty();
-        if (hasStayDates) {
-            if (hasThemes && hasBounds) {
-                resultPage = searchRepository.searchPublicListByThemeAndBounds(
-                        themeIds,
-                        normalizedKeyword,
-                        south,
-                        north,
-                        west,
-                        east,
-                        checkin,
-                        checkout,
-                        guestCount,
-                        minPrice,
-                        maxPrice,
-                        includeUnavailable,
-                        pageable);
-            } else if (hasThemes) {
-                resultPage = searchRepository.searchPublicListByTheme(
-                        themeIds,
-                        normalizedKeyword,
-                        checkin,
-                        checkout,
-                        guestCount,
-                        minPrice,
-                        maxPrice,
-                        includeUnavailable,
-                        pageable);
-            } else if (hasBounds) {
-                resultPage = searchRepository.searchPublicListByBounds(
-                        normalizedKeyword,
-                        south,
-                        north,
-                        west,
-                        east,
-                        checkin,
-                        checkout,
-                        guestCount,
-                        minPrice,
-                        maxPrice,
-                        includeUnavailable,
-                        pageable);
-            } else {
-                resultPage = searchRepository.searchPublicList(
-                        normalizedKeyword,
-                        checkin,
-                        checkout,
-                        guestCount,
-                        minPrice,
-                        maxPrice,
-                        includeUnavailable,
-                        pageable);
-            }
-        } else {
-            if (hasThemes && hasBounds) {
-                resultPage = searchRepository.searchPublicListByThemeAndBoundsNoDates(
-                        themeIds,
-                        normalizedKeyword,
-                        south,
-                        north,
-                        west,
-                        east,
-                        guestCount,
-                        minPrice,
-                        maxPrice,
-                        includeUnavailable,
-                        pageable);
-            } else if (hasThemes) {
-                resultPage = searchRepository.searchPublicListByThemeNoDates(
-                        themeIds,
-                        normalizedKeyword,
-                        guestCount,
-                        minPrice,
-                        maxPrice,
-                        includeUnavailable,
-                        pageable);
-            } else if (hasBounds) {
-                resultPage = searchRepository.searchPublicListByBoundsNoDates(
-                        normalizedKeyword,
-                        south,
-                        north,
-                        west,
-                        east,
-                        guestCount,
-                        minPrice,
-                        maxPrice,
-                        includeUnavailable,
-                        pageable);
-            } else {
-                resultPage = searchRepository.searchPublicListNoDates(
-                        normalizedKeyword,
-                        guestCount,
-                        minPrice,
-                        maxPrice,
-                        includeUnavailable,
-                        pageable);
-            }
+        List<PublicSearchRow> rows = searchMapper.selectPublicSearchList(condition);
+        if (useCursor) {
+            // 커서 모드는 size + 1 건으로 다음 페이지 여부만 판단하고 count 쿼리를 실행하지 않는다.
+            boolean hasNext = rows.size() > size;
+            List<PublicSearchRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+            return PublicListResponse.ofCursor(
+                    pageRows.stream().map(this::toListDto).toList(),
+                    size,
+                    hasNext,
+                    hasNext ? buildCursor(pageRows.get(pageRows.size() - 1), appliedSort) : null,
+                    totalCountCache.getIfPresent(condition.filterKey()));
         }
 
-        List<ListDto> items = resultPage.getContent().stream()
+        List<ListDto> items = rows.stream()
                 .map(this::toListDto)
                 .toList();
+        // 마지막 페이지가 명확하면 count 쿼리를 생략한다.
+        Page<ListDto> resultPage = PageableExecutionUtils.getPage(
+                items,
+                pageable,
+                () -> searchMapper.countPublicSearchList(condition));
+        totalCountCache.put(condition.filterKey(), resultPage.getTotalElements());
+
+        String nextCursor = rows.isEmpty() ? null : buildCursor(rows.get(rows.size() - 1), appliedSort);
+        return PublicListResponse.of(items, resultPage, nextCursor);
+    }
 
-        return PublicListResponse.of(items, resultPage);
+    @Override
+    public SearchClusterResponse searchPublicClusters(
+            List<Long> themeIds,
+            String keyword,
+            double minLat,
+            double maxLat,
+            double minLng,
+            double maxLng,
+            int level,
+            LocalDateTime checkin,
+            LocalDateTime checkout,
+            Integer guestCount,
+            Integer minPrice,
+            Integer maxPrice,
+            boolean includeUnavailable) {
+        int safeLevel = Math.max(1, Math.min(level, MAX_MAP_LEVEL));
+        // 카카오맵 레벨이 1 올라갈 때마다 축척이 2배가 되므로 격자도 2배로 키운다.
+        double cellDegrees = CLUSTER_BASE_CELL_DEGREES * (1 << (safeLevel - 1));
+        PublicSearchCondition condition = filterCondition(themeIds, keyword, minLat, maxLat, minLng, maxLng,
+                checkin, checkout, guestCount, minPrice, maxPrice, includeUnavailable)
+                .clusterCellDegrees(cellDegrees)
+                .build();
+
+        List<SearchClusterResponse.Cluster> clusters = searchMapper.selectPublicSearchClusters(condition).stream()
+                .map(SearchClusterResponse.Cluster::from)
+                .toList();
+        long totalCount = clusters.stream().mapToLong(SearchClusterResponse.Cluster::count).sum();
+        return new SearchClusterResponse(safeLevel, cellDegrees, totalCount, clusters);
     }
 
     @Override
@@ -204,12 +163,34 @@ public class SearchServiceImpl implements SearchService {
         int regionLimit = (safeLimit + 1) / 2;
         int accommodationLimit = safeLimit / 2;
 
-        List<String> regions = regionLimit > 0
-                ? searchRepository.suggestRegions(normalizedKeyword, PageRequest.of(0, regionLimit))
-                : List.of();
-        List<String> accommodationNames = searchRepository.suggestAccommodationNames(
-                normalizedKeyword,
-                PageRequest.of(0, accommodationLimit));
+        // 자동완성 색인이 적재되어 있으면 DB 를 조회하지 않는다.
+        if (searchAutocompleteIndex.isReady()) {
+            return searchAutocompleteIndex.suggest(normalizedKeyword, regionLimit, accommodationLimit);
+        }
+
+        // 역색인 후보가 있으면 PK 범위로 좁혀서 조회하고, 후보가 없으면 DB 를 조회하지 않는다.
+        Set<Long> candidateIds = keywordSearchIndex.matchListing(normalizedKeyword);
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return List.of();
+        }
+        List<String> regions;
+        List<String> accommodationNames;
+        if (candidateIds != null) {
+            regions = regionLimit > 0
+                    ? searchRepository.suggestRegionsInIds(normalizedKeyword, candidateIds, PageRequest.of(0, regionLimit))
+                    : List.of();
+            accommodationNames = searchRepository.suggestAccommodationNamesInIds(
+                    normalizedKeyword,
+                    candidateIds,
+                    PageRequest.of(0, accommodationLimit));
+        } else {
+            regions = regionLimit > 0
+                    ? searchRepository.suggestRegions(normalizedKeyword, PageRequest.of(0, regionLimit))
+                    : List.of();
+            accommodationNames = searchRepository.suggestAccommodationNames(
+                    normalizedKeyword,
+                    PageRequest.of(0, accommodationLimit));
+        }
 
         return java.util.stream.Stream.concat(
                 regions.stream()
@@ -228,6 +209,10 @@ public class SearchServiceImpl implements SearchService {
             return null;
         }
 
+        if (searchAutocompleteIndex.isReady()) {
+            return searchAutocompleteIndex.resolve(normalizedKeyword);
+        }
+
         List<SearchResolveProjection> matches = searchRepository.resolveAccommodationByName(normalizedKeyword);
         if (matches.size() != 1) {
             return null;
@@ -237,6 +222,127 @@ public class SearchServiceImpl implements SearchService {
         return SearchResolveResponse.of(match.getAccommodationsId(), match.getAccommodationsName());
     }
 
+    /**
+     * 목록/클러스터 조회가 공유하는 필터 조건 (정렬/페이지 제외)
+     */
+    private PublicSearchCondition.PublicSearchConditionBuilder filterCondition(
+            List<Long> themeIds,
+            String keyword,
+            Double minLat,
+            Double maxLat,
+            Double minLng,
+            Double maxLng,
+            LocalDateTime checkin,
+            LocalDateTime checkout,
+            Integer guestCount,
+            Integer minPrice,
+            Integer maxPrice,
+            boolean includeUnavailable) {
+        Double south = null;
+        Double north = null;
+        Double west = null;
+        Double east = null;
+        if (minLat != null && maxLat != null && minLng != null && maxLng != null) {
+            south = Math.min(minLat, maxLat);
+            north = Math.max(minLat, maxLat);
+            west = Math.min(minLng, maxLng);
+            east = Math.max(minLng, maxLng);
+        }
+
+        String normalizedKeyword = normalizeKeyword(keyword);
+        return PublicSearchCondition.builder()
+                .themeIds(themeIds)
+                .keyword(normalizedKeyword)
+                .keywordIds(normalizedKeyword != null ? keywordSearchIndex.matchListing(normalizedKeyword) : null)
+                .south(south)
+                .north(north)
+                .west(west)
+                .east(east)
+                .boundsIds(south != null ? geoGridIndex.findInBounds(south, north, west, east) : null)
+                .checkin(checkin)
+                .checkout(checkout)
+                .guestCount(guestCount)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .includeUnavailable(includeUnavailable)
+                .roomLoads(resolveRoomLoads(checkin, checkout));
+    }
+
+    /**
+     * 점유 인덱스가 검색 기간을 커버하면 객실별 최대 점유 인원을 반환한다.
+     * null 이면 SQL 에서 reservation 을 직접 집계한다.
+     */
+    private List<RoomOccupancyLoad> resolveRoomLoads(LocalDateTime checkin, LocalDateTime checkout) {
+        if (checkin == null || checkout == null) {
+            return null;
+        }
+        LocalDate checkinDate = checkin.toLocalDate();
+        LocalDate checkoutDate = checkout.toLocalDate();
+        if (!roomOccupancyIndex.covers(checkinDate, checkoutDate)) {
+            return null;
+        }
+        // 객실 수만큼 행을 만들지 않도록 같은 점유 인원끼리 묶고, IN 절은 ROOM_LOAD_CHUNK_SIZE 단위로 나눈다.
+        Map<Integer, List<Long>> roomIdsByPeak = new TreeMap<>();
+        roomOccupancyIndex.findPeakConfirmedGuests(checkinDate, checkoutDate).forEach((roomId, peak) ->
+                roomIdsByPeak.computeIfAbsent(peak, key -> new ArrayList<>()).add(roomId));
+        List<RoomOccupancyLoad> loads = new ArrayList<>();
+        roomIdsByPeak.forEach((peak, roomIds) -> {
+            for (int from = 0; from < roomIds.size(); from += ROOM_LOAD_CHUNK_SIZE) {
+                int to = Math.min(from + ROOM_LOAD_CHUNK_SIZE, roomIds.size());
+                loads.add(new RoomOccupancyLoad(peak, List.copyOf(roomIds.subList(from, to))));
+            }
+        });
+        return loads;
+    }
+
+    /**
+     * 커서 형식: Base64("정렬|정렬 키 값|숙소 ID").
+     * 정렬이 다르거나 형식이 잘못되면 첫 페이지로 돌아가 중복 결과를 내려주지 않도록 400 으로 거절한다.
+     */
+    private CursorValue parseCursor(String cursor, String appliedSort) {
+        String[] parts;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = decoded.split("\\|");
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        if (!appliedSort.equals(parts[0])) {
+            throw new IllegalArgumentException("커서의 정렬 기준이 요청과 다릅니다.");
+        }
+        try {
+            return new CursorValue(new BigDecimal(parts[1]), Long.parseLong(parts[2]));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    private String buildCursor(PublicSearchRow row, String appliedSort) {
+        BigDecimal value = "LATEST".equals(appliedSort)
+                ? BigDecimal.valueOf(row.getAccommodationsId())
+                : row.getSortValue();
+        if (value == null || row.getAccommodationsId() == null) return null;
+        String raw = appliedSort + "|" + value.toPlainString() + "|" + row.getAccommodationsId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String resolveSort(String sort) {
+        if (sort == null) {
+            return "LATEST";
+        }
+        return switch (sort) {
+            case "recommended" -> "RECOMMENDED";
+            case "reviews" -> "REVIEWS";
+            case "rating" -> "RATING";
+            case "priceHigh" -> "PRICE_HIGH";
+            case "priceLow" -> "PRICE_LOW";
+            default -> "LATEST";
+        };
+    }
+
     private String normalizeKeyword(String keyword) {
         if (keyword == null) {
             return null;
@@ -259,7 +365,10 @@ public class SearchServiceImpl implements SearchService {
                 .rating(projection.getRating())
                 .reviewCount(projection.getReviewCount())
                 .maxGuests(projection.getMaxGuests())
-                .imageUrl(projection.getImageUrl())
+                .imageUrl(ImageVariants.card(projection.getImageUrl()))
                 .build();
     }
+
+    private record CursorValue(BigDecimal value, Long id) {
+    }
 }
@@ -18,6 +18,7 @@ import com.ssg9th2team.geharbang.domain.review.repository.jpa.ReviewJpaRepositor
 import com.ssg9th2team.geharbang.domain.user.dto.DeleteAccountRequest;
 import com.ssg9th2team.geharbang.domain.user.dto.UpdateProfileRequest;
 import com.ssg9th2team.geharbang.domain.wishlist.repository.jpa.WishlistJpaRepository;
+import com.ssg9th2team.geharbang.global.security.UserAuthStateCache;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +40,7 @@ public class UserServiceImpl implements UserService {
 
     private final JdbcTemplate jdbcTemplate;
     private final UserRepository userRepository;
+    private final UserAuthStateCache userAuthStateCache;
     private final ReservationJpaRepository reservationRepository;
     private final UserSocialRepository userSocialRepository;
     private final PaymentJpaRepository paymentJpaRepository;
@@ -176,6 +178,7 @@ public class UserServiceImpl implements UserService {
 
             // JDBC로 직접 삭제
             jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", userId);
+            userAuthStateCache.evict(userId);
             log.info("사용자 {} 탈퇴 성공", email);
 
         } catch (IllegalArgumentException | IllegalStateException e) {
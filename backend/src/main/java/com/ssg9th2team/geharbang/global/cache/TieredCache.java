@@ -0,0 +1,123 @@
+package com.ssg9th2team.geharbang.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Caffeine(L1) + Redis(L2) 2단계 캐시
+ *
+ * <p>조회는 L1 → L2 순서이며 L2 에서 찾은 값은 L1 에 채운다.
+ * 쓰기/삭제는 L2 에 먼저 반영한 뒤 L1 을 갱신하고, 다른 노드의 L1 을 비우도록 무효화 메시지를 발행한다.
+ * L1 키는 RedisCache 와 같은 문자열 표현을 사용해 노드 간에 그대로 전달한다.
+ */
+public class TieredCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final org.springframework.cache.Cache remote;
+    private final TieredCacheManager manager;
+
+    TieredCache(String name, Cache<String, Object> local, org.springframework.cache.Cache remote,
+                TieredCacheManager manager) {
+        super(true);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    Cache<String, Object> getLocalCache() {
+        return local;
+    }
+
+    org.springframework.cache.Cache getRemoteCache() {
+        return remote;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object stored = local.getIfPresent(localKey);
+        if (stored != null) {
+            return stored;
+        }
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        stored = toStoreValue(wrapper.get());
+        local.put(localKey, stored);
+        return stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        // 새 항목이므로 다른 노드에 무효화할 L1 값이 없다.
+        T value = remote.get(key, valueLoader);
+        local.put(localKey(key), toStoreValue(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = localKey(key);
+        local.put(localKey, toStoreValue(value));
+        manager.publishEvict(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        Object stored = toStoreValue(existing != null ? existing.get() : value);
+        local.put(localKey(key), stored);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        manager.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        manager.publishClear(name);
+    }
+
+    /**
+     * 다른 노드의 변경 통지를 받아 L1 만 비운다.
+     */
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,146 @@
+package com.ssg9th2team.geharbang.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * RedisCacheManager 앞에 노드별 Caffeine 캐시를 두는 CacheManager
+ *
+ * <p>캐시별 L1 설정은 cache.near.spec.{cacheName} (Caffeine spec 형식)으로 지정하고,
+ * 없으면 cache.near.spec.default 를 사용한다. L1 TTL 은 L2(Redis) TTL 보다 짧게 둔다.
+ *
+ * <p>put/evict/clear 는 {@link #INVALIDATION_CHANNEL} 로 발행되어 다른 노드의 L1 을 비운다.
+ * 통지 전 짧은 순간 다른 노드가 이전 값을 읽을 수 있으며, 최대 L1 TTL 동안 유지될 수 있다.
+ *
+ * <p>지표: cache.gets/cache.puts/cache.evictions{cache=이름, tier=l1|l2}
+ */
+@Slf4j
+public class TieredCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String SPEC_PREFIX = "cache.near.spec.";
+    private static final String DEFAULT_SPEC = "maximumSize=1000,expireAfterWrite=60s";
+
+    private final CacheManager remoteCacheManager;
+    private final Environment environment;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TieredCache> caches = new ConcurrentHashMap<>();
+
+    public TieredCacheManager(CacheManager remoteCacheManager,
+                              Environment environment,
+                              StringRedisTemplate stringRedisTemplate,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.environment = environment;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TieredCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TieredCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        String spec = environment.getProperty(SPEC_PREFIX + name,
+                environment.getProperty(SPEC_PREFIX + "default", DEFAULT_SPEC));
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.from(spec)
+                .recordStats()
+                .build();
+        TieredCache cache = new TieredCache(name, local, remote, this);
+        bindMetrics(cache);
+        return cache;
+    }
+
+    private void bindMetrics(TieredCache cache) {
+        if (meterRegistry == null) {
+            return;
+        }
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.getLocalCache(), cache.getName(), Tags.of("tier", "l1"));
+        if (cache.getRemoteCache() instanceof RedisCache redisCache) {
+            new RedisCacheMetrics(redisCache, Tags.of("tier", "l2")).bindTo(meterRegistry);
+        }
+    }
+
+    void publishEvict(String cacheName, String localKey) {
+        publish(new InvalidationMessage(nodeId, cacheName, localKey));
+    }
+
+    void publishClear(String cacheName) {
+        publish(new InvalidationMessage(nodeId, cacheName, null));
+    }
+
+    private void publish(InvalidationMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            // 통지에 실패해도 다른 노드의 L1 은 TTL 이 지나면 L2 값으로 갱신된다.
+            log.warn("캐시 무효화 메시지 발행 실패: cache={}, {}", message.cacheName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            InvalidationMessage invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), InvalidationMessage.class);
+            if (nodeId.equals(invalidation.origin())) {
+                return;
+            }
+            TieredCache cache = caches.get(invalidation.cacheName());
+            if (cache == null) {
+                return;
+            }
+            if (invalidation.key() == null) {
+                cache.clearLocal();
+            } else {
+                cache.evictLocal(invalidation.key());
+            }
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * key 가 null 이면 캐시 전체를 비운다.
+     */
+    record InvalidationMessage(String origin, String cacheName, String key) {
+    }
+}
@@ -1,9 +1,12 @@
 package com.ssg9th2team.geharbang.global.common.resolver;
 
 import com.ssg9th2team.geharbang.domain.auth.entity.User;
+import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.global.common.annotation.CurrentUser;
 import com.ssg9th2team.geharbang.global.oauth.service.CustomOAuth2User;
+import com.ssg9th2team.geharbang.global.security.AuthenticatedUser;
 import com.ssg9th2team.geharbang.global.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,8 +17,11 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
 
+    private final UserRepository userRepository;
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(CurrentUser.class) &&
@@ -36,7 +42,12 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
 
         Object principal = authentication.getPrincipal();
 
-        if (principal instanceof CustomUserDetails) {
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            // 토큰 클레임으로 인증된 경우 User 엔티티가 필요할 때만 ID 로 조회
+            return authenticatedUser.getId() != null
+                    ? userRepository.findById(authenticatedUser.getId()).orElse(null)
+                    : null;
+        } else if (principal instanceof CustomUserDetails) {
             return ((CustomUserDetails) principal).getUser();
         } else if (principal instanceof CustomOAuth2User) {
             return ((CustomOAuth2User) principal).getUser();
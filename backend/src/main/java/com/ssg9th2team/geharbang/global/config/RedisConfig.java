@@ -3,23 +3,33 @@ package com.ssg9th2team.geharbang.global.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssg9th2team.geharbang.domain.chat.service.ChatBroadcaster;
 import com.ssg9th2team.geharbang.domain.chat.service.RedisSubscriber;
+import com.ssg9th2team.geharbang.global.cache.TieredCacheManager;
+import com.ssg9th2team.geharbang.global.snapshot.SnapshotChangeChannel;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @EnableCaching
@@ -27,35 +37,30 @@ public class RedisConfig {
 
     /**
      * Redis Pub/Sub 처리를 위한 리스너 설정
+     * - 채팅: 채팅방/사용자별 채널을 패턴으로 구독 (외부 STOMP 브로커를 쓰면 브로커가 노드 간 전달을 맡으므로 구독하지 않음)
+     * - 메모리 색인: 다른 노드에서 변경된 숙소/리뷰 ID 재색인
      */
     @Bean
     public RedisMessageListenerContainer redisMessageListener(RedisConnectionFactory connectionFactory,
-                                                              MessageListenerAdapter listenerAdapter,
-                                                              ChannelTopic channelTopic) {
+                                                              RedisSubscriber subscriber,
+                                                              ObjectProvider<CacheManager> cacheManagerProvider,
+                                                              SnapshotChangeChannel snapshotChangeChannel,
+                                                              @Value("${chat.broker.relay.enabled:false}") boolean relayEnabled) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(listenerAdapter, channelTopic);
+        if (!relayEnabled) {
+            container.addMessageListener(subscriber, List.of(
+                    new PatternTopic(ChatBroadcaster.ROOM_CHANNEL_PREFIX + "*"),
+                    new PatternTopic(ChatBroadcaster.USER_CHANNEL_PREFIX + "*")));
+        }
+        // 2단계 캐시: 다른 노드의 캐시 변경 시 로컬(L1) 캐시 무효화
+        if (cacheManagerProvider.getIfUnique() instanceof TieredCacheManager tieredCacheManager) {
+            container.addMessageListener(tieredCacheManager, new ChannelTopic(TieredCacheManager.INVALIDATION_CHANNEL));
+        }
+        container.addMessageListener(snapshotChangeChannel, new ChannelTopic(SnapshotChangeChannel.CHANNEL));
         return container;
     }
 
-    /**
-     * 실제 메시지를 처리하는 Subscriber 설정
-     */
-    @Bean
-    public MessageListenerAdapter listenerAdapter(RedisSubscriber subscriber) {
-        MessageListenerAdapter adapter = new MessageListenerAdapter(subscriber, "sendMessage");
-        adapter.setSerializer(new StringRedisSerializer());
-        return adapter;
-    }
-
-    /**
-     * 사용할 Redis Topic 설정
-     */
-    @Bean
-    public ChannelTopic channelTopic() {
-        return new ChannelTopic("chatroom");
-    }
-
     /**
      * 어플리케이션에서 사용할 RedisTemplate 설정
      */
@@ -68,9 +73,17 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    /**
+     * Redis 캐시 앞에 노드별 Caffeine 캐시(L1)를 둔다. cache.near.enabled=false 면 Redis 캐시만 사용한다.
+     */
     @Bean
     @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     ObjectMapper objectMapper,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     Environment environment,
+                                     ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                     @Value("${cache.near.enabled:true}") boolean nearCacheEnabled) {
         GenericJackson2JsonRedisSerializer valueSerializer = redisValueSerializer(objectMapper);
         // 기본 설정 (10분 TTL)
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
@@ -90,16 +103,28 @@ public class RedisConfig {
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withCacheConfiguration("downloadableCoupons", couponListConfig)
                 .withCacheConfiguration("userCoupons", userCouponConfig)
+                .enableStatistics()
                 .build();
+        if (!nearCacheEnabled) {
+            return redisCacheManager;
+        }
+        // 빈으로 등록하지 않으므로 캐시별 설정을 직접 초기화한다.
+        redisCacheManager.afterPropertiesSet();
+        return new TieredCacheManager(
+                redisCacheManager,
+                environment,
+                stringRedisTemplate,
+                objectMapper,
+                meterRegistryProvider.getIfAvailable());
     }
 
     @Bean
-    public org.springframework.data.redis.core.StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
-        return new org.springframework.data.redis.core.StringRedisTemplate(connectionFactory);
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
     }
 
     private GenericJackson2JsonRedisSerializer redisValueSerializer(ObjectMapper objectMapper) {
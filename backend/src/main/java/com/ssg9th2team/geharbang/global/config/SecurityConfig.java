@@ -70,7 +70,9 @@ public class SecurityConfig {
                                                 .requestMatchers("/api/coupons/*/use").authenticated()
                                                 .requestMatchers("/api/wishlist", "/api/wishlist/**").authenticated()
                                                 .requestMatchers("/api/host/**").authenticated()
+                                                .requestMatchers("/api/images", "/api/images/**").authenticated()
                                                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                                                .requestMatchers("/actuator/metrics/**", "/actuator/caches/**").hasRole("ADMIN")
                                                 // 그 외 모든 요청은 허용 (SPA에서 프론트엔드 라우팅 처리)
                                                 .anyRequest().permitAll())
 
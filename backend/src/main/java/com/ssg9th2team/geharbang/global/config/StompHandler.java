@@ -36,11 +36,9 @@ public class StompHandler implements ChannelInterceptor {
             String authHeader = accessor.getFirstNativeHeader("Authorization");
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String token = authHeader.substring(7);
-                // 토큰 유효성 검사
-                if (jwtTokenProvider.validateToken(token)) {
-                    // 토큰으로부터 Authentication 객체 생성
-                    Authentication authentication = jwtTokenProvider.getAuthentication(token);
-
+                // 토큰 검증 및 Authentication 객체 생성 (유효하지 않으면 null)
+                Authentication authentication = jwtTokenProvider.authenticate(token);
+                if (authentication != null) {
                     // STOMP 세션에 사용자 정보 설정
                     accessor.setUser(authentication);
                     accessor.getSessionAttributes().put(AUTHENTICATION_KEY, authentication);
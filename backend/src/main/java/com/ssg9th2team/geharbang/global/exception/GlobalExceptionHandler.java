@@ -14,6 +14,7 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.web.servlet.view.RedirectView;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 
@@ -76,6 +77,17 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.CONFLICT);
     }
 
+    /**
+     * DB 락 대기 시간 초과(CannotAcquireLockException), 교착 상태로 롤백된 트랜잭션(DeadlockLoserDataAccessException) 등
+     * 동시 요청과의 경합이므로 서버 오류가 아닌 409 로 응답해 재시도하게 한다.
+     */
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handlePessimisticLockingFailureException(PessimisticLockingFailureException ex) {
+        log.warn("PessimisticLockingFailureException: {}", ex.getMessage());
+        ErrorResponse response = new ErrorResponse("다른 요청과 충돌했습니다. 잠시 후 다시 시도해 주세요.");
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public ResponseEntity<ErrorResponse> handleHttpRequestMethodNotSupportedException(
             HttpRequestMethodNotSupportedException ex) {
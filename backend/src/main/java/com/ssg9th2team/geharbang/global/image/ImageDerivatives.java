@@ -0,0 +1,12 @@
+package com.ssg9th2team.geharbang.global.image;
+
+import java.util.List;
+
+/**
+ * 표시용 이미지와 고정 폭 JPEG 변형 목록
+ */
+public record ImageDerivatives(byte[] display, List<Variant> variants) {
+
+    public record Variant(int width, byte[] bytes) {
+    }
+}
@@ -0,0 +1,198 @@
+package com.ssg9th2team.geharbang.global.outbox;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 이벤트 디스패처
+ *
+ * <p>이벤트가 커밋되면 바로 전용 스레드에서 처리하고, 놓친 이벤트와 재시도 대상은 주기적으로 다시 확인한다.
+ * <ul>
+ *   <li>한 번에 batch-size 개씩 꺼내 이벤트별 트랜잭션으로 처리 (한 이벤트 실패가 다른 이벤트에 영향 없음)</li>
+ *   <li>실패 시 지수 backoff 로 재시도하고, max-attempts 를 넘으면 FAILED 로 남긴다.</li>
+ *   <li>여러 노드가 동시에 돌아도 이벤트 선점(claim)으로 한 노드만 처리한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxEventJpaRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, OutboxEventHandler> handlers;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean dispatchRequested = new AtomicBoolean();
+
+    @Value("${outbox.dispatcher.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.dispatcher.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.dispatcher.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.dispatcher.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${outbox.dispatcher.backoff-base-ms:1000}")
+    private long backoffBaseMs;
+
+    @Value("${outbox.dispatcher.backoff-max-ms:600000}")
+    private long backoffMaxMs;
+
+    @Value("${outbox.dispatcher.retention-days:7}")
+    private long retentionDays;
+
+    public OutboxDispatcher(OutboxEventJpaRepository outboxEventRepository,
+                            TransactionTemplate transactionTemplate,
+                            List<OutboxEventHandler> handlers) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(OutboxEventHandler::eventType, Function.identity()));
+    }
+
+    /**
+     * 디스패치를 요청한다. 이미 대기 중인 요청이 있으면 합쳐진다.
+     */
+    public void requestDispatch() {
+        if (!enabled || !dispatchRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                dispatchRequested.set(false);
+                dispatchPending();
+            });
+        } catch (Exception e) {
+            dispatchRequested.set(false);
+            log.warn("아웃박스 디스패치 요청 실패 (다음 주기에 처리): {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatcher.delay-ms:5000}")
+    public void scheduledDispatch() {
+        requestDispatch();
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeDoneEvents() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteDoneBefore(LocalDateTime.now().minusDays(retentionDays)));
+        log.info("처리 완료된 아웃박스 이벤트 정리: {}건", deleted);
+    }
+
+    void dispatchPending() {
+        try {
+            while (true) {
+                LocalDateTime now = LocalDateTime.now();
+                List<Long> eventIds = outboxEventRepository.findDispatchableIds(now, PageRequest.of(0, batchSize));
+                for (Long eventId : eventIds) {
+                    if (claim(eventId, now)) {
+                        dispatch(eventId);
+                    }
+                }
+                if (eventIds.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("아웃박스 디스패치 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    private boolean claim(Long eventId, LocalDateTime now) {
+        Integer claimed = transactionTemplate.execute(status ->
+                outboxEventRepository.claim(eventId, now, now.plusSeconds(leaseSeconds)));
+        return claimed != null && claimed == 1;
+    }
+
+    private void dispatch(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findById(eventId).orElse(null);
+        if (event == null) {
+            return;
+        }
+        OutboxEventHandler handler = handlers.get(event.getEventType());
+        try {
+            if (handler == null) {
+                throw new IllegalStateException("처리기가 없는 이벤트 타입: " + event.getEventType());
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    handler.handle(event);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+                if (outboxEventRepository.markDone(eventId, LocalDateTime.now()) == 0) {
+                    // lease 가 만료되어 다른 노드가 먼저 처리함 → 이번 처리 결과는 롤백
+                    throw new AlreadyProcessedException();
+                }
+            });
+        } catch (AlreadyProcessedException e) {
+            log.debug("이미 처리된 아웃박스 이벤트: id={}", eventId);
+        } catch (Exception e) {
+            recordFailure(event, e);
+        }
+    }
+
+    private void recordFailure(OutboxEvent event, Exception cause) {
+        int attempts = event.getAttempts() + 1;
+        boolean exhausted = attempts >= maxAttempts;
+        String message = cause.getMessage() != null && cause.getMessage().length() > 500
+                ? cause.getMessage().substring(0, 500)
+                : cause.getMessage();
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusNanos(backoffMillis(attempts) * 1_000_000);
+        if (exhausted) {
+            log.error("아웃박스 이벤트 처리 포기 (수동 확인 필요): id={}, type={}, attempts={}",
+                    event.getId(), event.getEventType(), attempts, cause);
+        } else {
+            log.warn("아웃박스 이벤트 처리 실패 (재시도 예정): id={}, type={}, attempts={}, {}",
+                    event.getId(), event.getEventType(), attempts, message);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markAttemptFailed(event.getId(),
+                    exhausted ? OutboxEventStatus.FAILED : OutboxEventStatus.PENDING,
+                    attempts, nextAttemptAt, message));
+        } catch (Exception e) {
+            // 기록하지 못해도 lease 가 지나면 다시 처리된다.
+            log.warn("아웃박스 실패 기록 불가: id={}, {}", event.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * base * 2^(attempts-1), 최대 backoff-max-ms
+     */
+    long backoffMillis(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        return Math.min(backoffBaseMs << shift, backoffMaxMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class AlreadyProcessedException extends RuntimeException {
+    }
+}
@@ -0,0 +1,14 @@
+package com.ssg9th2team.geharbang.global.outbox;
+
+/**
+ * 아웃박스 이벤트 처리기
+ * - 이벤트 타입별로 하나씩 등록한다.
+ * - handle 은 이벤트 완료 기록과 같은 트랜잭션에서 실행되며, 예외를 던지면 롤백 후 backoff 로 재시도된다.
+ * - lease 만료 등으로 드물게 두 번 실행될 수 있으므로 DB 밖의 부수 효과는 중복에 안전하게 작성한다.
+ */
+public interface OutboxEventHandler {
+
+    String eventType();
+
+    void handle(OutboxEvent event) throws Exception;
+}
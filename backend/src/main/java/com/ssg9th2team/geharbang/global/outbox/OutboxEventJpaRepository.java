@@ -0,0 +1,50 @@
+package com.ssg9th2team.geharbang.global.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("SELECT e.id FROM OutboxEvent e "
+            + "WHERE e.status = com.ssg9th2team.geharbang.global.outbox.OutboxEventStatus.PENDING "
+            + "AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<Long> findDispatchableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 처리할 이벤트를 선점한다. (다른 노드가 먼저 선점했으면 0)
+     * 선점 동안 next_attempt_at 을 lease 만큼 미뤄, 처리 중 서버가 종료되면 lease 이후 다시 처리된다.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.nextAttemptAt = :leaseUntil "
+            + "WHERE e.id = :id AND e.status = com.ssg9th2team.geharbang.global.outbox.OutboxEventStatus.PENDING "
+            + "AND e.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.ssg9th2team.geharbang.global.outbox.OutboxEventStatus.DONE, "
+            + "e.processedAt = :processedAt "
+            + "WHERE e.id = :id AND e.status = com.ssg9th2team.geharbang.global.outbox.OutboxEventStatus.PENDING")
+    int markDone(@Param("id") Long id, @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.attempts = :attempts, "
+            + "e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError "
+            + "WHERE e.id = :id AND e.status = com.ssg9th2team.geharbang.global.outbox.OutboxEventStatus.PENDING")
+    int markAttemptFailed(@Param("id") Long id,
+                          @Param("status") OutboxEventStatus status,
+                          @Param("attempts") int attempts,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e "
+            + "WHERE e.status = com.ssg9th2team.geharbang.global.outbox.OutboxEventStatus.DONE "
+            + "AND e.processedAt < :cutoff")
+    int deleteDoneBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,7 @@
+package com.ssg9th2team.geharbang.global.outbox;
+
+public enum OutboxEventStatus {
+    PENDING, // 처리 대기 (재시도 포함)
+    DONE,    // 처리 완료
+    FAILED   // 최대 재시도 초과 (수동 확인 필요)
+}
@@ -13,8 +13,11 @@ public class PlatformDailyStatsScheduler {
 
     private final PlatformDailyStatsService statsService;
 
+    /**
+     * 어제까지 집계한다. 마지막 집계 이후 빠진 날이 있으면 함께 채운다.
+     */
     @Scheduled(cron = "0 10 0 * * *")
     public void refreshYesterdayStats() {
-        statsService.refreshDailyStats(LocalDate.now().minusDays(1));
+        statsService.refreshSinceLastRun(LocalDate.now().minusDays(1));
     }
 }
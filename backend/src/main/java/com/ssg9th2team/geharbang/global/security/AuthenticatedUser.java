@@ -0,0 +1,37 @@
+package com.ssg9th2team.geharbang.global.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT 클레임만으로 만든 인증 사용자 정보
+ * - 요청마다 DB 에서 User 를 조회하지 않도록 userId/이메일/권한만 담는다.
+ * - User 엔티티가 필요하면 userId 로 조회한다. (@CurrentUser 참고)
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthenticatedUser(Long id, String email, Collection<? extends GrantedAuthority> authorities) {
+        this.id = id;
+        this.email = email;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -60,10 +60,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Request Header에서 JWT 토큰 추출
         String token = resolveToken(request);
 
-        // 2. 토큰 유효성 검증
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // 3. 토큰이 유효하면 토큰에서 Authentication 객체를 가져와서 SecurityContext에 저장
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        // 2. 토큰 검증과 인증 정보 생성을 한 번에 처리 (유효하지 않으면 null)
+        Authentication authentication = token != null ? jwtTokenProvider.authenticate(token) : null;
+        if (authentication != null) {
+            // 3. 토큰이 유효하면 Authentication 객체를 SecurityContext에 저장
             SecurityContextHolder.getContext().setAuthentication(authentication);
             log.debug("Security Context에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
         } else {
@@ -1,5 +1,8 @@
 package com.ssg9th2team.geharbang.global.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -10,14 +13,22 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
 import com.ssg9th2team.geharbang.domain.auth.entity.User;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,13 +39,24 @@ public class JwtTokenProvider {
     private final long accessTokenExpiration;/// Access 토큰 유효 시간
     private final long refreshTokenExpiration;/// Refresh 토큰 유효 시간
     private final UserRepository userRepository;/// 사용자 정보 조회용
+    private final UserAuthStateCache userAuthStateCache;/// 사용자의 현재 권한/정지 여부 (요청마다 확인)
+    private final JwtParser jwtParser;/// 서명 검증용 파서 (스레드 안전하므로 재사용)
+    /// 서명 검증을 마친 토큰의 클레임 (키: 토큰의 SHA-256, 토큰 만료와 cache.ttl-seconds 중 이른 시각까지 보관)
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    private static final String AUTHORITIES_KEY = "auth";
+    private static final String USER_ID_KEY = "uid";
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
 
     /// 생성자 application.properties에 적은 설정값들을 가져와 초기화
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,/// 비밀키
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,/// 접근토큰
             @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,/// 리프래시 토큰
-            UserRepository userRepository) {/// 사용자 저장소
+            @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,/// 검증된 토큰 캐시 크기
+            @Value("${jwt.cache.ttl-seconds:300}") long cacheTtlSeconds,/// 검증된 토큰 캐시 최대 보관 시간
+            UserRepository userRepository,/// 사용자 저장소
+            UserAuthStateCache userAuthStateCache) {
 
         /// BASE 64로 인코딩된 비밀키를 디코딩해서 실제 암호화 키 객체로 만들기
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
@@ -42,6 +64,31 @@ public class JwtTokenProvider {
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
         this.userRepository = userRepository;
+        this.userAuthStateCache = userAuthStateCache;
+        long cacheTtlNanos = TimeUnit.SECONDS.toNanos(cacheTtlSeconds);
+        this.jwtParser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, VerifiedToken verified, long currentTime) {
+                        long remainingMillis = verified.expiresAtMillis() - System.currentTimeMillis();
+                        return Math.min(TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0)), cacheTtlNanos);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, VerifiedToken verified, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, VerifiedToken verified, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     /// Access Token 생성
@@ -64,20 +111,92 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration); ///현재 시간 + 유효시간 = 만료시간
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(authentication.getName()) /// 토큰
-                .claim("auth", authorities)///  토큰에 담을 권한 정보
+                .claim(AUTHORITIES_KEY, authorities)///  토큰에 담을 권한 정보
                 .issuedAt(now) ///  토큰 발행 시간
-                .expiration(expiryDate) /// 토큰 만료 시간
+                .expiration(expiryDate); /// 토큰 만료 시간
+
+        /// 사용자 ID 를 담아두면 요청마다 DB 를 조회하지 않고 인증할 수 있다. (관리자 토큰에는 없음)
+        Long userId = SecurityUtils.findUserId(authentication).orElse(null);
+        if (userId != null) {
+            builder.claim(USER_ID_KEY, userId);
+        }
+
+        return builder
                 .signWith(key, Jwts.SIG.HS512)/// 비밀키로 서명 (HS512 알고리즘 사용 )
                 .compact(); ///최종적으로 문자열로 변 환
     }
 
-    // 토큰에서 인증 정보 조회
+    /// 토큰을 한 번만 파싱해서 검증과 인증 정보 생성을 함께 처리. 유효하지 않으면 null
+    /// - 서명 검증 결과는 짧게 캐시한다. (토큰 만료와 cache.ttl-seconds 중 이른 시각까지)
+    /// - 사용자 ID 가 담긴 토큰은 권한을 클레임이 아닌 사용자의 현재 권한으로 채운다. (짧은 TTL 캐시, 변경 시 즉시 비움)
+    ///   탈퇴했거나 정지된 사용자는 인증하지 않는다.
+    /// - 관리자 토큰은 클레임만으로 인증하고, 사용자 ID 가 없는 이전에 발급된 토큰은 기존처럼 DB 에서 조회한다.
+    public Authentication authenticate(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        String tokenHash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return toAuthentication(cached);
+        }
+
+        Claims claims;
+        try {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (SecurityException | MalformedJwtException e) {
+            log.error("잘못된 JWT 서명입니다.");
+            return null;
+        } catch (ExpiredJwtException e) {
+            log.error("만료된 JWT 토큰입니다.");
+            return null;
+        } catch (UnsupportedJwtException e) {
+            log.error("지원되지 않는 JWT 토큰입니다.");
+            return null;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("JWT 토큰이 잘못되었습니다.");
+            return null;
+        }
+
+        Object auth = claims.get(AUTHORITIES_KEY);
+        if (auth == null) {
+            log.error("권한 정보가 없는 토큰입니다.");
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = Arrays.stream(auth.toString().split(","))
+                .filter(StringUtils::hasText)
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        Long userId = claims.get(USER_ID_KEY) instanceof Number number ? number.longValue() : null;
+        boolean admin = authorities.stream().anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()));
+        if (userId == null && !admin) {
+            /// 사용자 ID 가 없는 이전 토큰
+            try {
+                return getAuthentication(claims);
+            } catch (UsernameNotFoundException e) {
+                log.error("토큰의 사용자를 찾을 수 없습니다.");
+                return null;
+            }
+        }
+
+        VerifiedToken verified = new VerifiedToken(userId, claims.getSubject(), authorities,
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE);
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(tokenHash, verified);
+        }
+        return toAuthentication(verified);
+    }
+
+    // 토큰에서 인증 정보 조회 (DB 에서 최신 사용자 정보를 조회한다. 토큰 재발급 시 변경된 권한 반영)
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);///JWT안에 저장된 정보가 있는것을  Claims
+        return getAuthentication(parseClaims(token));///JWT안에 저장된 정보가 있는것을  Claims
+    }
 
-        if (claims.get("auth") == null) {/// 만약에 auth 가  null이라면
+    private Authentication getAuthentication(Claims claims) {
+        if (claims.get(AUTHORITIES_KEY) == null) {/// 만약에 auth 가  null이라면
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");///오류 던져
         }
 
@@ -86,8 +205,7 @@ public class JwtTokenProvider {
         
         /// 이메일로 실제 User 엔티티 조회
         User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new org.springframework.security.core.userdetails.UsernameNotFoundException(
-                        "사용자를 찾을 수 없습니다: " + email));
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
         /// CustomUserDetails 생성 (실제 User 엔티티 포함)
         UserDetails principal = new CustomUserDetails(user);
@@ -102,10 +220,7 @@ public class JwtTokenProvider {
     // 토큰 검증`
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
+            jwtParser.parseSignedClaims(token);
             return true;
         } catch (SecurityException | MalformedJwtException e) {
             log.error("잘못된 JWT 서명입니다.");
@@ -122,11 +237,7 @@ public class JwtTokenProvider {
     // 토큰에서 Claims 추출
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -141,4 +252,31 @@ public class JwtTokenProvider {
     public long getAccessTokenExpiration() {
         return accessTokenExpiration;
     }
+
+    /// 요청마다 새 principal/Authentication 을 만든다. 사용자 토큰의 권한은 현재 사용자 상태에서 가져온다.
+    private Authentication toAuthentication(VerifiedToken verified) {
+        List<GrantedAuthority> authorities = verified.authorities();
+        if (verified.userId() != null) {
+            UserAuthStateCache.UserAuthState state = userAuthStateCache.find(verified.userId()).orElse(null);
+            if (state == null || state.suspended()) {
+                log.warn("탈퇴했거나 정지된 사용자의 토큰입니다. userId={}", verified.userId());
+                return null;
+            }
+            authorities = state.authorities();
+        }
+        AuthenticatedUser principal = new AuthenticatedUser(verified.userId(), verified.email(), authorities);
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record VerifiedToken(Long userId, String email, List<GrantedAuthority> authorities, long expiresAtMillis) {
+    }
 }
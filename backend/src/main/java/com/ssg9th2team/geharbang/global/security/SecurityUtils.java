@@ -0,0 +1,43 @@
+package com.ssg9th2team.geharbang.global.security;
+
+import com.ssg9th2team.geharbang.global.oauth.service.CustomOAuth2User;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+/**
+ * 인증 정보에서 사용자 ID 를 꺼낸다. (이메일로 User 를 다시 조회하지 않기 위함)
+ */
+public final class SecurityUtils {
+
+    private SecurityUtils() {
+    }
+
+    /**
+     * 현재 요청의 사용자 ID
+     */
+    public static Optional<Long> findCurrentUserId() {
+        return findUserId(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    /**
+     * 인증 주체(principal)에 담긴 사용자 ID. 관리자 토큰 등 사용자 ID 가 없으면 빈 값
+     */
+    public static Optional<Long> findUserId(Authentication authentication) {
+        if (authentication == null) {
+            return Optional.empty();
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return Optional.ofNullable(authenticatedUser.getId());
+        }
+        if (principal instanceof CustomUserDetails customUserDetails) {
+            return Optional.ofNullable(customUserDetails.getId());
+        }
+        if (principal instanceof CustomOAuth2User oAuth2User) {
+            return Optional.ofNullable(oAuth2User.getUserId());
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,77 @@
+package com.ssg9th2team.geharbang.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssg9th2team.geharbang.domain.auth.entity.User;
+import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 요청 인증 시 확인하는 사용자의 현재 권한/정지 여부
+ *
+ * <p>JWT 의 권한 클레임은 발급 시점 값이라 그대로 믿으면 호스트 승인/반려, 정지, 탈퇴가 토큰 만료까지 반영되지 않는다.
+ * 사용자 ID 가 담긴 토큰은 요청마다 이 캐시로 현재 상태를 확인한다.
+ * <ul>
+ *   <li>짧은 TTL(jwt.user-state.ttl-seconds) 동안만 보관하므로 다른 노드의 변경도 TTL 안에 반영된다.</li>
+ *   <li>권한/정지/탈퇴를 바꾸는 쪽은 {@link #evict} 로 커밋 이후 바로 비운다.</li>
+ *   <li>없는 사용자(탈퇴)도 빈 값으로 캐시해 같은 토큰의 반복 요청이 DB 를 두드리지 않게 한다.</li>
+ * </ul>
+ */
+@Component
+public class UserAuthStateCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Optional<UserAuthState>> states;
+
+    public UserAuthStateCache(
+            UserRepository userRepository,
+            @Value("${jwt.user-state.ttl-seconds:30}") long ttlSeconds,
+            @Value("${jwt.user-state.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.states = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Optional<UserAuthState> find(Long userId) {
+        return states.get(userId, id -> userRepository.findById(id).map(UserAuthState::from));
+    }
+
+    /**
+     * 커밋 전에 비우면 그사이 다른 요청이 이전 상태를 다시 채울 수 있으므로 커밋 이후에도 한 번 더 비운다.
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        states.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    states.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public record UserAuthState(List<GrantedAuthority> authorities, boolean suspended) {
+
+        static UserAuthState from(User user) {
+            List<GrantedAuthority> authorities = user.getRole() == null
+                    ? List.of()
+                    : List.of(new SimpleGrantedAuthority(user.getRole().getKey()));
+            return new UserAuthState(authorities, Boolean.TRUE.equals(user.getSuspended()));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.ssg9th2team.geharbang.global.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 노드별 메모리 색인의 변경 ID 를 다른 노드에 전달하는 Redis Pub/Sub 채널
+ *
+ * <p>커밋 이후 {@link #CHANNEL} 로 (주제, ID) 를 발행하면 다른 노드는 주제에 등록된 핸들러로
+ * 해당 ID 를 DB 기준으로 다시 색인한다. 발행한 노드 자신은 무시한다.
+ * 통지가 유실되면 (Redis 장애, 구독 재연결) 각 색인의 주기 재적재 때 맞춰진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnapshotChangeChannel implements MessageListener {
+
+    public static final String CHANNEL = "snapshot:changes";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<Long>> handlers = new ConcurrentHashMap<>();
+
+    /**
+     * 다른 노드에서 발행한 topic 변경을 handler 로 반영한다.
+     */
+    public void subscribe(String topic, Consumer<Long> handler) {
+        handlers.put(topic, handler);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후, 밖이면 바로 발행한다.
+     */
+    public void publishAfterCommit(String topic, Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(topic, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(topic, id);
+            }
+        });
+    }
+
+    private void publish(String topic, Long id) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(new ChangeMessage(nodeId, topic, id)));
+        } catch (Exception e) {
+            log.warn("색인 변경 메시지 발행 실패 (다른 노드는 주기 재적재 시 반영): topic={}, id={}, {}",
+                    topic, id, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ChangeMessage change = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), ChangeMessage.class);
+            if (nodeId.equals(change.origin())) {
+                return;
+            }
+            Consumer<Long> handler = handlers.get(change.topic());
+            if (handler != null) {
+                handler.accept(change.id());
+            }
+        } catch (Exception e) {
+            log.warn("색인 변경 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    record ChangeMessage(String origin, String topic, Long id) {
+    }
+}
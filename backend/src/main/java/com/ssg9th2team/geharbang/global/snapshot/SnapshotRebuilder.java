@@ -0,0 +1,109 @@
+package com.ssg9th2team.geharbang.global.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 메모리 스냅샷/색인의 전체 재적재와 커밋 이후 증분 반영을 조율한다.
+ *
+ * <ul>
+ *   <li>재적재는 한 번에 하나만 실행한다. (시작 적재와 주기 재적재가 겹치면 나중 호출은 건너뜀)</li>
+ *   <li>재적재 중 커밋된 변경은 journal 에 모았다가 새 스냅샷으로 교체한 직후 다시 반영한다.
+ *       새 스냅샷에 이미 들어 있을 수 있으므로 반영 함수는 upsert/remove 처럼 멱등이어야 한다.</li>
+ *   <li>증분 반영과 교체/재반영은 같은 락 안에서 실행되므로 변경은 커밋된 순서대로 반영된다.
+ *       (교체 직후 도착한 변경을 그 이전 변경의 재반영이 덮어쓰지 않음)</li>
+ *   <li>증분 반영 실패는 로그만 남긴다. (다음 재적재 시 반영)</li>
+ * </ul>
+ *
+ * @param <C> 변경 단위 (숙소 ID, 예약 ID 등)
+ */
+@Slf4j
+public final class SnapshotRebuilder<C> {
+
+    private final String name;
+    private final Consumer<C> applier;
+    private boolean rebuilding;
+    /** 재적재 중 커밋된 변경 (재적재 중이 아니면 null) */
+    private List<C> journal;
+
+    /**
+     * @param name    로그에 쓸 스냅샷 이름
+     * @param applier 현재 스냅샷에 변경 하나를 반영하는 함수
+     */
+    public SnapshotRebuilder(String name, Consumer<C> applier) {
+        this.name = name;
+        this.applier = applier;
+    }
+
+    /**
+     * loader 로 새 스냅샷을 만들어 swap 으로 교체하고, 그동안 커밋된 변경을 새 스냅샷에 다시 반영한다.
+     * loader/swap 의 예외는 호출부로 그대로 던진다.
+     *
+     * @return 교체했으면 true, 다른 재적재가 진행 중이라 건너뛰었으면 false
+     */
+    public <S> boolean rebuild(Supplier<S> loader, Consumer<S> swap) {
+        synchronized (this) {
+            if (rebuilding) {
+                log.info("{} 적재가 이미 진행 중이라 건너뜀", name);
+                return false;
+            }
+            rebuilding = true;
+            journal = new ArrayList<>();
+        }
+        try {
+            S next = loader.get();
+            synchronized (this) {
+                swap.accept(next);
+                List<C> changes = journal;
+                journal = null;
+                changes.forEach(this::applyQuietly);
+            }
+            return true;
+        } finally {
+            synchronized (this) {
+                journal = null;
+                rebuilding = false;
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후, 밖이면 바로 변경을 반영한다.
+     */
+    public void applyAfterCommit(C change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    /**
+     * 변경을 바로 반영한다. 재적재 중이면 교체 후 다시 반영하도록 journal 에도 남긴다.
+     */
+    public synchronized void apply(C change) {
+        if (journal != null) {
+            journal.add(change);
+        }
+        applyQuietly(change);
+    }
+
+    private void applyQuietly(C change) {
+        try {
+            applier.accept(change);
+        } catch (Exception e) {
+            log.warn("{} 갱신 실패 (다음 재적재 시 반영): {}", name, e.getMessage());
+        }
+    }
+}
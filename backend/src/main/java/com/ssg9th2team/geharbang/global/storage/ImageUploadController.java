@@ -0,0 +1,54 @@
+package com.ssg9th2team.geharbang.global.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * multipart 이미지 업로드
+ *
+ * <p>Base64 JSON 대신 파일을 그대로 스트림으로 받아 병렬 업로드하고 URL 목록을 돌려준다.
+ * 클라이언트는 받은 URL 을 숙소/객실/리뷰 등록 요청에 그대로 넣으면 된다. (URL 은 다시 업로드하지 않음)
+ */
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+public class ImageUploadController {
+
+    private static final Set<String> FOLDERS = Set.of("accommodations", "rooms", "reviews", "business");
+    private static final int MAX_FILES = 20;
+
+    private final ImageUploadService imageUploadService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImageUploadResponse> upload(@RequestParam String folder,
+                                                      @RequestPart("files") List<MultipartFile> files) {
+        if (!FOLDERS.contains(folder)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 업로드 폴더입니다: " + folder);
+        }
+        if (files == null || files.isEmpty() || files.size() > MAX_FILES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지는 1~" + MAX_FILES + "개까지 업로드할 수 있습니다.");
+        }
+        for (MultipartFile file : files) {
+            String contentType = file.getContentType();
+            if (file.isEmpty() || contentType == null || !contentType.startsWith("image/")) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지 파일만 업로드할 수 있습니다.");
+            }
+        }
+        return ResponseEntity.ok(new ImageUploadResponse(imageUploadService.uploadFiles(files, folder).urls()));
+    }
+
+    public record ImageUploadResponse(List<String> urls) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssg9th2team.geharbang.global.storage;
+
+import java.util.List;
+
+/**
+ * 일괄 업로드 결과
+ *
+ * @param urls        입력과 같은 순서의 URL (이미 URL 이던 항목은 그대로)
+ * @param ownedUrls 이 요청만 참조하는 URL (저장 실패 시 지울 대상, 내용 해시 키는 포함하지 않음)
+ */
+public record ImageUploadResult(
+        List<String> urls,
+        List<String> ownedUrls
+) {
+
+    public static ImageUploadResult empty() {
+        return new ImageUploadResult(List.of(), List.of());
+    }
+
+    public String url(int index) {
+        return urls.get(index);
+    }
+}
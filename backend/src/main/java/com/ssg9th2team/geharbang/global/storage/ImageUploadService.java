@@ -0,0 +1,198 @@
+package com.ssg9th2team.geharbang.global.storage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 이미지 일괄 업로드
+ *
+ * <p>이미지마다 디코딩/리사이즈/업로드를 제한된 크기의 스레드 풀에서 동시에 처리하고, 모두 끝난 뒤에 URL 을 돌려준다.
+ * <ul>
+ *   <li>호출하는 쪽은 트랜잭션 밖에서 업로드한 뒤 URL 만 트랜잭션 안에서 저장한다. (업로드 동안 DB 커넥션을 잡지 않음)</li>
+ *   <li>하나라도 실패하면 이 요청이 소유한 이미지(UUID 키)만 지우고 예외를 던진다.</li>
+ *   <li>저장 트랜잭션이 롤백되면 {@link #deleteOnRollback(Collection)} 으로 소유한 이미지만 지운다.</li>
+ *   <li>내용 해시 키 이미지는 동시에 같은 내용을 올린 다른 요청이 참조할 수 있으므로 지우지 않고 남겨 둔다.
+ *       (같은 내용을 다시 올리면 그대로 재사용된다)</li>
+ *   <li>큐가 가득 차면 호출한 스레드에서 직접 처리해서 동시 요청이 몰려도 작업 수가 무한히 쌓이지 않는다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageUploadService {
+
+    private final ObjectStorageService objectStorageService;
+
+    @Value("${storage.upload.threads:8}")
+    private int threads;
+
+    @Value("${storage.upload.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${storage.upload.timeout-seconds:120}")
+    private long timeoutSeconds;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        int poolSize = Math.max(threads, 1);
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-upload-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Base64 또는 URL 목록을 업로드한다. 결과는 입력과 같은 순서이며, URL 은 그대로, 빈 값은 null 로 둔다.
+     */
+    public ImageUploadResult uploadAll(List<String> images, String folder) {
+        if (images == null || images.isEmpty()) {
+            return ImageUploadResult.empty();
+        }
+        List<Supplier<StoredImage>> tasks = new ArrayList<>(images.size());
+        for (String image : images) {
+            if (image == null || image.isEmpty() || image.startsWith("http")) {
+                tasks.add(null);
+            } else {
+                tasks.add(() -> objectStorageService.storeBase64Image(image, folder));
+            }
+        }
+        List<StoredImage> stored = run(tasks);
+        List<String> urls = new ArrayList<>(images.size());
+        for (int i = 0; i < images.size(); i++) {
+            if (tasks.get(i) == null) {
+                String image = images.get(i);
+                urls.add(image == null || image.isEmpty() ? null : image);
+            } else {
+                urls.add(stored.get(i) != null ? stored.get(i).url() : null);
+            }
+        }
+        return new ImageUploadResult(urls, ownedUrls(stored));
+    }
+
+    /**
+     * multipart 파일 목록을 스트림으로 업로드한다. 결과는 입력과 같은 순서
+     */
+    public ImageUploadResult uploadFiles(List<MultipartFile> files, String folder) {
+        if (files == null || files.isEmpty()) {
+            return ImageUploadResult.empty();
+        }
+        List<Supplier<StoredImage>> tasks = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            tasks.add(() -> {
+                try {
+                    return objectStorageService.storeImageStream(
+                            file.getInputStream(), file.getSize(), file.getContentType(), folder);
+                } catch (IOException e) {
+                    throw new IllegalStateException("업로드 파일을 읽을 수 없습니다: " + file.getOriginalFilename(), e);
+                }
+            });
+        }
+        List<StoredImage> stored = run(tasks);
+        return new ImageUploadResult(stored.stream().map(StoredImage::url).toList(), ownedUrls(stored));
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 이 요청이 소유한 이미지({@link ImageUploadResult#ownedUrls()})를 지운다.
+     */
+    public void deleteOnRollback(Collection<String> uploadedUrls) {
+        if (uploadedUrls == null || uploadedUrls.isEmpty()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        List<String> urls = List.copyOf(uploadedUrls);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    deleteAll(urls);
+                }
+            }
+        });
+    }
+
+    public void deleteAll(Collection<String> urls) {
+        for (String url : urls) {
+            objectStorageService.deleteImage(url);
+        }
+    }
+
+    private List<StoredImage> run(List<Supplier<StoredImage>> tasks) {
+        List<CompletableFuture<StoredImage>> futures = new ArrayList<>(tasks.size());
+        for (Supplier<StoredImage> task : tasks) {
+            futures.add(task == null
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.supplyAsync(task, executor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failed(futures, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw failed(futures, e);
+        }
+        List<StoredImage> stored = new ArrayList<>(futures.size());
+        for (CompletableFuture<StoredImage> future : futures) {
+            stored.add(future.join());
+        }
+        return stored;
+    }
+
+    /**
+     * 이 요청만 참조하는 객체 (내용 해시 객체는 다른 요청이 같은 키를 재사용했을 수 있음)
+     */
+    private List<String> ownedUrls(List<StoredImage> stored) {
+        return stored.stream()
+                .filter(image -> image != null && image.owned())
+                .map(StoredImage::url)
+                .toList();
+    }
+
+    private RuntimeException failed(List<CompletableFuture<StoredImage>> futures, Exception cause) {
+        // 끝난 업로드는 지우고, 아직 진행 중인 업로드는 끝나는 대로 지운다. (소유한 객체만)
+        for (CompletableFuture<StoredImage> future : futures) {
+            future.thenAccept(image -> {
+                if (image != null && image.owned()) {
+                    objectStorageService.deleteImage(image.url());
+                }
+            });
+        }
+        Throwable root = cause instanceof ExecutionException && cause.getCause() != null ? cause.getCause() : cause;
+        log.warn("Image batch upload failed: {}", root.getMessage());
+        return new RuntimeException("이미지 업로드 실패: " + root.getMessage(), root);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ssg9th2team.geharbang.global.storage;
+
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 숙소/객실 이미지의 고정 폭 변형 URL
+ *
+ * <p>숙소/객실 이미지는 {@code <folder>/<sha256>.<ext>} 키로 저장되고, 같은 이름에 {@code _w<폭>.jpg} 를 붙인 키로
+ * 320/640/1280 폭 JPEG 변형이 함께 저장된다. 변형은 원본보다 먼저 올라가므로 원본이 있으면 변형도 있다.
+ * 이 규칙을 따르지 않는 기존 URL(UUID 키, 외부 URL)은 그대로 돌려준다.
+ */
+public final class ImageVariants {
+
+    public static final int THUMBNAIL_WIDTH = 320;
+    public static final int CARD_WIDTH = 640;
+    public static final int LARGE_WIDTH = 1280;
+
+    static final int[] WIDTHS = {LARGE_WIDTH, CARD_WIDTH, THUMBNAIL_WIDTH};
+    static final Set<String> FOLDERS = Set.of("accommodations", "rooms");
+
+    private static final Pattern CONTENT_HASH_URL =
+            Pattern.compile("^(.*/(?:accommodations|rooms)/[0-9a-f]{64})\\.(?:jpg|png|gif)$");
+
+    private ImageVariants() {
+    }
+
+    /**
+     * 목록 카드용 (카드 표시 폭의 2배)
+     */
+    public static String card(String url) {
+        return resolve(url, CARD_WIDTH);
+    }
+
+    /**
+     * 지도 마커, 채팅방, 추천 썸네일용
+     */
+    public static String thumbnail(String url) {
+        return resolve(url, THUMBNAIL_WIDTH);
+    }
+
+    public static String resolve(String url, int width) {
+        if (url == null) {
+            return null;
+        }
+        Matcher matcher = CONTENT_HASH_URL.matcher(url);
+        return matcher.matches() ? variantKey(matcher.group(1), width) : url;
+    }
+
+    static String variantKey(String base, int width) {
+        return base + "_w" + width + ".jpg";
+    }
+
+    /**
+     * 원본 URL 에 딸린 변형 URL 목록 (변형이 없는 URL 이면 빈 배열)
+     */
+    static String[] variantsOf(String url) {
+        Matcher matcher = url != null ? CONTENT_HASH_URL.matcher(url) : null;
+        if (matcher == null || !matcher.matches()) {
+            return new String[0];
+        }
+        String[] variants = new String[WIDTHS.length];
+        for (int i = 0; i < WIDTHS.length; i++) {
+            variants[i] = variantKey(matcher.group(1), WIDTHS[i]);
+        }
+        return variants;
+    }
+}
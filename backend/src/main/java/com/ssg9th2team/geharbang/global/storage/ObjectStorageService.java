@@ -1,26 +1,46 @@
 package com.ssg9th2team.geharbang.global.storage;
 
+import com.ssg9th2team.geharbang.global.image.ImageDerivatives;
 import com.ssg9th2team.geharbang.global.image.ImageResizeProcessor;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Service
@@ -42,6 +62,17 @@ public class ObjectStorageService {
     @Value("${ncloud.storage.secret-key:}")
     private String secretKey;
 
+    // 로컬 S3 호환 스토리지(MinIO 등)는 path-style 주소만 지원
+    @Value("${ncloud.storage.path-style-access:false}")
+    private boolean pathStyleAccess;
+
+    // 이 크기 이상이면 part 단위 멀티파트 업로드 (part 는 비동기로 동시에 전송)
+    @Value("${ncloud.storage.multipart-threshold-bytes:8388608}")
+    private long multipartThresholdBytes;
+
+    @Value("${ncloud.storage.multipart-part-size-bytes:5242880}")
+    private int multipartPartSizeBytes;
+
     private static final int DISPLAY_MAX_WIDTH = 1600;
     private static final int DISPLAY_MAX_HEIGHT = 1600;
     private static final Set<String> RESIZE_TARGET_FOLDERS = Set.of("accommodations", "rooms");
@@ -54,7 +85,7 @@ public class ObjectStorageService {
 
     private final ImageResizeProcessor imageResizeProcessor;
 
-    private S3Client s3Client;
+    private S3AsyncClient s3Client;
 
     @PostConstruct
     public void init() {
@@ -68,30 +99,53 @@ public class ObjectStorageService {
         }
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
 
-        this.s3Client = S3Client.builder()
+        this.s3Client = S3AsyncClient.builder()
                 .endpointOverride(URI.create(endpoint))
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(pathStyleAccess)
+                        .build())
                 .build();
 
         log.info("Naver Cloud Object Storage initialized - bucket: {}", bucket);
     }
 
+    @PreDestroy
+    public void shutdown() {
+        if (s3Client != null) {
+            s3Client.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return s3Client != null;
+    }
+
     /**
      * Base64 이미지를 업로드하고 공개 URL 반환
      */
     public String uploadBase64Image(String base64Image, String folder) {
+        StoredImage stored = storeBase64Image(base64Image, folder);
+        return stored != null ? stored.url() : null;
+    }
+
+    /**
+     * Base64 이미지를 내용 해시 키로 업로드한다. 같은 내용이 이미 있으면 업로드하지 않고 기존 URL 을 돌려준다.
+     * 내용 해시 객체는 공유될 수 있으므로 새로 올렸더라도 소유하지 않은 것으로 돌려준다.
+     */
+    public StoredImage storeBase64Image(String base64Image, String folder) {
         if (base64Image == null || base64Image.isEmpty()) {
             return null;
         }
         if (s3Client == null) {
             log.warn("Object storage not configured; returning original image payload.");
-            return base64Image;
+            return new StoredImage(base64Image, false);
         }
 
         // 이미 URL인 경우 그대로 반환
         if (base64Image.startsWith("http")) {
-            return base64Image;
+            return new StoredImage(base64Image, false);
         }
 
         try {
@@ -103,50 +157,187 @@ public class ObjectStorageService {
             log.info("Base64 header: {}", header);
 
             byte[] imageBytes = Base64.getDecoder().decode(data);
+            return storeBytes(folder, detectExtension(header), imageBytes);
+
+        } catch (Exception e) {
+            log.error("Failed to upload image", e);
+            throw new RuntimeException("이미지 업로드 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * multipart 요청의 이미지 스트림을 업로드한다.
+     * - 멀티파트 임계값 미만이거나 리사이즈 대상 폴더면 메모리로 읽어 Base64 와 같은 경로(내용 해시 키, 변형 생성)로 처리한다.
+     * - 그 외 큰 파일은 해시를 미리 알 수 없으므로 UUID 키로 스트림에서 part 단위로 바로 전송한다. (이 요청이 소유)
+     */
+    public StoredImage storeImageStream(InputStream inputStream, long size, String contentType, String folder) {
+        if (s3Client == null) {
+            throw new IllegalStateException("Object storage not configured");
+        }
+        try (InputStream in = inputStream) {
+            String extension = detectExtension(contentType);
+            if (shouldResize(folder) || size < multipartThresholdBytes) {
+                return storeBytes(folder, extension, in.readAllBytes());
+            }
+            String normalizedExtension = imageResizeProcessor.normalizeFormat(extension);
+            String key = folder + "/" + UUID.randomUUID() + "." + (normalizedExtension != null ? normalizedExtension : extension);
+            putObject(key, in, size).join();
+            return new StoredImage(publicUrl(key), true);
+        } catch (Exception e) {
+            log.error("Failed to upload image stream", e);
+            throw new RuntimeException("이미지 업로드 실패: " + e.getMessage());
+        }
+    }
+
+    private StoredImage storeBytes(String folder, String detectedExtension, byte[] imageBytes) throws IOException {
+        String normalizedExtension = imageResizeProcessor.normalizeFormat(detectedExtension);
+        String extension = normalizedExtension != null ? normalizedExtension : detectedExtension;
+        if (extension == null) {
+            extension = "jpg";
+        }
+        log.info("Detected extension: {}", extension);
+
+        // 원본 바이트 기준 내용 해시 키 (같은 이미지를 다시 올리면 같은 키)
+        String baseKey = folder + "/" + sha256Hex(imageBytes);
+        String key = baseKey + "." + extension;
+        if (exists(key)) {
+            log.info("Image already stored, skipping upload: key={}", key);
+            return new StoredImage(publicUrl(key), false);
+        }
+        // HEAD 이후 같은 내용을 올린 다른 요청이 이 키를 재사용할 수 있으므로 새로 올려도 소유하지 않는다.
+
+        if (shouldResize(folder) && normalizedExtension != null) {
+            ImageDerivatives derivatives = imageResizeProcessor.derive(
+                    imageBytes,
+                    normalizedExtension,
+                    DISPLAY_MAX_WIDTH,
+                    DISPLAY_MAX_HEIGHT,
+                    ImageVariants.WIDTHS
+            );
+            imageBytes = derivatives.display();
+            if (ImageVariants.FOLDERS.contains(folder)) {
+                putVariants(baseKey, extension, imageBytes, derivatives.variants());
+            }
+        }
+
+        putObject(key, new ByteArrayInputStream(imageBytes), imageBytes.length).join();
+        return new StoredImage(publicUrl(key), false);
+    }
 
-            String detectedExtension = detectExtension(header);
-            String normalizedExtension = imageResizeProcessor.normalizeFormat(detectedExtension);
-            if (shouldResize(folder) && normalizedExtension != null) {
-                imageBytes = imageResizeProcessor.resizeKeepingFormat(
-                        imageBytes,
-                        normalizedExtension,
-                        DISPLAY_MAX_WIDTH,
-                        DISPLAY_MAX_HEIGHT
-                );
+    /**
+     * 변형을 원본보다 먼저 올린다. (원본이 있으면 변형도 있다는 전제로 URL 만 바꿔서 내려줌)
+     * 디코딩에 실패해 변형이 없으면 표시용 이미지를 변형 키에도 올려서 변형 URL 이 깨지지 않게 한다.
+     */
+    private void putVariants(String baseKey, String extension, byte[] displayBytes,
+                             List<ImageDerivatives.Variant> variants) {
+        List<CompletableFuture<?>> uploads = new ArrayList<>();
+        if (variants.isEmpty()) {
+            for (int width : ImageVariants.WIDTHS) {
+                uploads.add(putBytes(ImageVariants.variantKey(baseKey, width),
+                        CONTENT_TYPES.getOrDefault(extension, "image/jpeg"), displayBytes));
             }
-            String extension = normalizedExtension != null ? normalizedExtension : detectedExtension;
-            if (extension == null) {
-                extension = "jpg";
+        } else {
+            for (ImageDerivatives.Variant variant : variants) {
+                uploads.add(putBytes(ImageVariants.variantKey(baseKey, variant.width()), "image/jpeg", variant.bytes()));
             }
-            log.info("Detected extension: {}", extension);
+        }
+        CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+    }
 
-            // 파일명 생성
-            String fileName = folder + "/" + UUID.randomUUID() + "." + extension;
+    private CompletableFuture<?> putObject(String key, InputStream in, long size) throws IOException {
+        String extension = key.substring(key.lastIndexOf('.') + 1);
 
-            // Content-Type 결정
-            String contentType = CONTENT_TYPES.getOrDefault(extension, "image/jpeg");
+        // Content-Type 결정
+        String contentType = CONTENT_TYPES.getOrDefault(extension, "image/jpeg");
 
-            // S3에 업로드
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(fileName)
-                    .contentType(contentType)
-                    .acl(ObjectCannedACL.PUBLIC_READ)
-                    .build();
+        log.info("Uploading image: bucket={}, key={}, size={} bytes", bucket, key, size);
+        if (size >= multipartThresholdBytes) {
+            putMultipart(key, contentType, in);
+            return CompletableFuture.completedFuture(null);
+        }
+        return putBytes(key, contentType, in.readAllBytes());
+    }
 
-            log.info("Uploading image: bucket={}, key={}, size={} bytes", bucket, fileName, imageBytes.length);
-            PutObjectResponse response = s3Client.putObject(putRequest, RequestBody.fromBytes(imageBytes));
-            log.info("Upload response: ETag={}", response.eTag());
+    private CompletableFuture<?> putBytes(String key, String contentType, byte[] bytes) {
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                // 내용 해시 키는 내용이 바뀌지 않으므로 오래 캐시해도 됨
+                .cacheControl("public, max-age=31536000, immutable")
+                .acl(ObjectCannedACL.PUBLIC_READ)
+                .build();
+        return s3Client.putObject(putRequest, AsyncRequestBody.fromBytes(bytes))
+                .thenAccept(response -> log.info("Upload response: key={}, ETag={}", key, response.eTag()));
+    }
 
-            // 공개 URL 반환
-            String publicUrl = endpoint + "/" + bucket + "/" + fileName;
-            log.info("Image uploaded successfully: {}", publicUrl);
+    private boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build()).join();
+            return true;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof S3Exception s3Exception && s3Exception.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
 
-            return publicUrl;
+    private String publicUrl(String key) {
+        // 공개 URL 반환
+        return endpoint + "/" + bucket + "/" + key;
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to upload image", e);
-            throw new RuntimeException("이미지 업로드 실패: " + e.getMessage());
+    private static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void putMultipart(String key, String contentType, InputStream in) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .acl(ObjectCannedACL.PUBLIC_READ)
+                        .build())
+                .join()
+                .uploadId();
+        try {
+            // 다음 part 를 읽는 동안 앞선 part 는 전송 중
+            List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+            byte[] chunk;
+            int partNumber = 1;
+            while ((chunk = in.readNBytes(Math.max(multipartPartSizeBytes, 5 * 1024 * 1024))).length > 0) {
+                int number = partNumber++;
+                UploadPartRequest partRequest = UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(number)
+                        .contentLength((long) chunk.length)
+                        .build();
+                parts.add(s3Client.uploadPart(partRequest, AsyncRequestBody.fromBytes(chunk))
+                        .thenApply(response -> CompletedPart.builder().partNumber(number).eTag(response.eTag()).build()));
+            }
+            List<CompletedPart> completed = parts.stream().map(CompletableFuture::join).toList();
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                            .build())
+                    .join();
+            log.info("Multipart upload completed: key={}, parts={}", key, completed.size());
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
         }
     }
 
@@ -162,15 +353,11 @@ public class ObjectStorageService {
         }
 
         try {
-            // URL에서 key 추출
-            String key = imageUrl.substring(imageUrl.indexOf(bucket + "/") + bucket.length() + 1);
-
-            DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(key)
-                    .build();
-
-            s3Client.deleteObject(deleteRequest);
+            // 변형이 있으면 같이 삭제 (원본을 마지막에 지워서 원본이 있으면 변형도 있다는 전제를 유지)
+            for (String variantUrl : ImageVariants.variantsOf(imageUrl)) {
+                deleteObject(variantUrl);
+            }
+            deleteObject(imageUrl);
             log.debug("Image deleted: {}", imageUrl);
 
         } catch (Exception e) {
@@ -178,6 +365,18 @@ public class ObjectStorageService {
         }
     }
 
+    private void deleteObject(String imageUrl) {
+        // URL에서 key 추출
+        String key = imageUrl.substring(imageUrl.indexOf(bucket + "/") + bucket.length() + 1);
+
+        DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+
+        s3Client.deleteObject(deleteRequest).join();
+    }
+
     private boolean shouldResize(String folder) {
         if (folder == null) {
             return false;
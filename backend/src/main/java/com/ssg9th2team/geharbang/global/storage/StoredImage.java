@@ -0,0 +1,9 @@
+package com.ssg9th2team.geharbang.global.storage;
+
+/**
+ * 업로드 결과 URL 과 이 요청이 객체를 단독으로 소유하는지 여부
+ * (내용 해시 키는 같은 내용을 올린 다른 요청/엔티티가 언제든 함께 참조할 수 있으므로 소유하지 않는다.
+ * 실패/롤백 시에는 소유한 객체만 지우고, 참조가 끊긴 내용 해시 객체는 남겨 둔다.)
+ */
+public record StoredImage(String url, boolean owned) {
+}
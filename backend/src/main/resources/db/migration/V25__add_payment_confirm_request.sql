@@ -0,0 +1,21 @@
+-- 결제 승인 멱등성 테이블
+-- PG 승인 호출을 트랜잭션 밖으로 분리하면서, 같은 주문의 중복/재시도 승인 요청을 orderId 로 식별한다.
+-- reservation 은 대기 예약 정리 시 물리 삭제되므로 FK 를 두지 않는다.
+
+CREATE TABLE IF NOT EXISTS payment_confirm_request
+(
+    order_id        VARCHAR(50)  NOT NULL COMMENT '우리 주문번호 (멱등성 키)',
+    reservation_id  BIGINT       NOT NULL COMMENT '예약 PK',
+    pg_payment_key  VARCHAR(100) NOT NULL COMMENT 'PG 결제키',
+    amount          INTEGER      NOT NULL COMMENT '승인 요청 금액',
+    status          VARCHAR(20)  NOT NULL COMMENT 'PROCESSING 승인 중, SUCCEEDED 완료, FAILED 실패',
+    payment_id      BIGINT       NULL COMMENT '완료된 결제 PK',
+    failure_message VARCHAR(255) NULL COMMENT '실패 사유',
+    created_at      DATETIME     NOT NULL COMMENT '생성 시각',
+    updated_at      DATETIME     NOT NULL COMMENT '수정 시각',
+    CONSTRAINT PK_PAYMENT_CONFIRM_REQUEST PRIMARY KEY (order_id)
+    ) ENGINE = InnoDB
+    DEFAULT CHARSET = utf8mb4;
+
+-- 대기 예약 정리 시 승인 중 여부 조회를 위한 인덱스
+CREATE INDEX IDX_PAYMENT_CONFIRM_REQUEST_RESERVATION ON payment_confirm_request (reservation_id, status);
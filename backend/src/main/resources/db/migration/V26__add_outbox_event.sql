@@ -0,0 +1,22 @@
+-- 트랜잭션 아웃박스 테이블
+-- 결제 승인/예약 생성/취소 트랜잭션과 함께 부수 효과(쿠폰, 채팅방, 대기자 알림) 이벤트를 저장하고,
+-- 커밋 이후 디스패처가 재시도/backoff 를 적용해 처리한다.
+
+CREATE TABLE IF NOT EXISTS outbox_event
+(
+    outbox_event_id BIGINT       NOT NULL AUTO_INCREMENT COMMENT '아웃박스 이벤트 PK',
+    event_type      VARCHAR(50)  NOT NULL COMMENT '이벤트 타입',
+    aggregate_id    BIGINT       NULL COMMENT '대상 PK (예약 등)',
+    payload         TEXT         NOT NULL COMMENT '이벤트 JSON',
+    status          VARCHAR(20)  NOT NULL COMMENT 'PENDING 대기, DONE 완료, FAILED 재시도 한도 초과',
+    attempts        INTEGER      NOT NULL DEFAULT 0 COMMENT '실패 횟수',
+    next_attempt_at DATETIME     NOT NULL COMMENT '다음 처리 가능 시각',
+    last_error      VARCHAR(500) NULL COMMENT '마지막 실패 사유',
+    created_at      DATETIME     NOT NULL COMMENT '생성 시각',
+    processed_at    DATETIME     NULL COMMENT '처리 완료 시각',
+    CONSTRAINT PK_OUTBOX_EVENT PRIMARY KEY (outbox_event_id)
+    ) ENGINE = InnoDB
+    DEFAULT CHARSET = utf8mb4;
+
+-- 처리 대상 조회를 위한 인덱스
+CREATE INDEX IDX_OUTBOX_EVENT_DISPATCH ON outbox_event (status, next_attempt_at);
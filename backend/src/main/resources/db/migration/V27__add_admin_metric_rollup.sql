@@ -0,0 +1,20 @@
+-- 관리자 대시보드 지표 롤업 테이블
+-- 결제/환불/예약 원천 테이블을 시간(HOUR)/일(DAY) 버킷으로 미리 집계해 두고,
+-- 결제·환불·예약 이벤트가 발생한 날짜의 버킷만 다시 계산한다.
+
+CREATE TABLE IF NOT EXISTS admin_metric_rollup
+(
+    granularity              VARCHAR(10) NOT NULL COMMENT '버킷 단위 (HOUR, DAY)',
+    bucket_start             DATETIME    NOT NULL COMMENT '버킷 시작 시각',
+    reservation_count        BIGINT      NOT NULL DEFAULT 0 COMMENT '생성된 예약 건수',
+    reservation_cancel_count BIGINT      NOT NULL DEFAULT 0 COMMENT '취소된 예약 건수 (예약 생성 시각 기준)',
+    payment_success_count    BIGINT      NOT NULL DEFAULT 0 COMMENT '결제 완료 건수',
+    payment_success_amount   BIGINT      NOT NULL DEFAULT 0 COMMENT '결제 완료 금액 합',
+    payment_failure_count    BIGINT      NOT NULL DEFAULT 0 COMMENT '결제 실패 건수',
+    refund_request_count     BIGINT      NOT NULL DEFAULT 0 COMMENT '환불 요청 건수',
+    refund_completed_count   BIGINT      NOT NULL DEFAULT 0 COMMENT '환불 완료 건수',
+    refund_completed_amount  BIGINT      NOT NULL DEFAULT 0 COMMENT '환불 완료 금액 합',
+    updated_at               DATETIME    NOT NULL COMMENT '마지막 집계 시각',
+    CONSTRAINT PK_ADMIN_METRIC_ROLLUP PRIMARY KEY (granularity, bucket_start)
+    ) ENGINE = InnoDB
+    DEFAULT CHARSET = utf8mb4;
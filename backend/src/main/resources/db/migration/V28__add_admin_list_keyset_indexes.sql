@@ -0,0 +1,68 @@
+-- Add keyset indexes for admin booking/accommodation lists (ORDER BY sort column, PK).
+SET @idx_exists := (
+    SELECT COUNT(1)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'reservation'
+      AND index_name = 'idx_reservation_created'
+);
+
+SET @sql := IF(@idx_exists = 0,
+    'CREATE INDEX idx_reservation_created ON reservation (created_at, reservation_id)',
+    'SELECT 1'
+);
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists := (
+    SELECT COUNT(1)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'reservation'
+      AND index_name = 'idx_reservation_checkin'
+);
+
+SET @sql := IF(@idx_exists = 0,
+    'CREATE INDEX idx_reservation_checkin ON reservation (checkin, reservation_id)',
+    'SELECT 1'
+);
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists := (
+    SELECT COUNT(1)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'accommodation'
+      AND index_name = 'idx_accommodation_approval_created'
+);
+
+SET @sql := IF(@idx_exists = 0,
+    'CREATE INDEX idx_accommodation_approval_created ON accommodation (approval_status, created_at, accommodations_id)',
+    'SELECT 1'
+);
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists := (
+    SELECT COUNT(1)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'accommodation'
+      AND index_name = 'idx_accommodation_created'
+);
+
+SET @sql := IF(@idx_exists = 0,
+    'CREATE INDEX idx_accommodation_created ON accommodation (created_at, accommodations_id)',
+    'SELECT 1'
+);
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
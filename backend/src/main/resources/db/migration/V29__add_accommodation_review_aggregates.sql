@@ -0,0 +1,37 @@
+-- 숙소별 리뷰 집계 테이블
+-- 리뷰 작성/수정/삭제 트랜잭션 안에서 증감으로 갱신하고, accommodation.rating/review_count 를 여기서 맞춘다.
+-- 누락/불일치는 주기적인 재계산 작업이 review 원천 테이블 기준으로 바로잡는다.
+
+CREATE TABLE IF NOT EXISTS accommodation_review_stats
+(
+    accommodations_id BIGINT         NOT NULL COMMENT '숙소 PK',
+    review_count      INT            NOT NULL DEFAULT 0 COMMENT '삭제되지 않은 리뷰 수',
+    rating_sum        DECIMAL(12, 1) NOT NULL DEFAULT 0 COMMENT '평점 합',
+    rating_1_count    INT            NOT NULL DEFAULT 0 COMMENT '1점(이하) 리뷰 수',
+    rating_2_count    INT            NOT NULL DEFAULT 0 COMMENT '2점 리뷰 수',
+    rating_3_count    INT            NOT NULL DEFAULT 0 COMMENT '3점 리뷰 수',
+    rating_4_count    INT            NOT NULL DEFAULT 0 COMMENT '4점 리뷰 수',
+    rating_5_count    INT            NOT NULL DEFAULT 0 COMMENT '5점 리뷰 수',
+    updated_at        DATETIME       NOT NULL COMMENT '갱신 시각',
+    CONSTRAINT PK_ACCOMMODATION_REVIEW_STATS PRIMARY KEY (accommodations_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS accommodation_review_daily
+(
+    accommodations_id BIGINT         NOT NULL COMMENT '숙소 PK',
+    stat_date         DATE           NOT NULL COMMENT '리뷰 작성 일자',
+    review_count      INT            NOT NULL DEFAULT 0 COMMENT '삭제되지 않은 리뷰 수',
+    rating_sum        DECIMAL(12, 1) NOT NULL DEFAULT 0 COMMENT '평점 합',
+    CONSTRAINT PK_ACCOMMODATION_REVIEW_DAILY PRIMARY KEY (accommodations_id, stat_date)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS accommodation_review_tag_stats
+(
+    accommodations_id BIGINT NOT NULL COMMENT '숙소 PK',
+    review_tag_id     INT    NOT NULL COMMENT '태그 PK',
+    tag_count         INT    NOT NULL DEFAULT 0 COMMENT '태그가 달린 리뷰 수',
+    CONSTRAINT PK_ACCOMMODATION_REVIEW_TAG_STATS PRIMARY KEY (accommodations_id, review_tag_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
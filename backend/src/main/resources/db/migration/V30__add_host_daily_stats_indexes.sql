@@ -0,0 +1,34 @@
+-- Add indexes for host_daily_stats aggregation (per-host checkout range, nightly reconcile by updated_at).
+SET @idx_exists := (
+    SELECT COUNT(1)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'reservation'
+      AND index_name = 'idx_reservation_accommodation_checkout'
+);
+
+SET @sql := IF(@idx_exists = 0,
+    'CREATE INDEX idx_reservation_accommodation_checkout ON reservation (accommodations_id, checkout)',
+    'SELECT 1'
+);
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists := (
+    SELECT COUNT(1)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'reservation'
+      AND index_name = 'idx_reservation_updated'
+);
+
+SET @sql := IF(@idx_exists = 0,
+    'CREATE INDEX idx_reservation_updated ON reservation (updated_at)',
+    'SELECT 1'
+);
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
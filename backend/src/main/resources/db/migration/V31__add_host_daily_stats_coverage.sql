@@ -0,0 +1,12 @@
+-- host_daily_stats 검증 범위 (워터마크)
+-- covered_from 이후 체크아웃 일자는 backfill 로 다시 계산되었고 이후 결제 이벤트/새벽 재계산으로 유지된다.
+-- 기존 수동 backfill 스크립트로 일부만 채워진 통계는 행이 없으므로 기동 시 전체 기간을 다시 계산한다.
+
+CREATE TABLE IF NOT EXISTS host_daily_stats_coverage
+(
+    id           TINYINT  NOT NULL COMMENT '단일 행 (1)',
+    covered_from DATE     NOT NULL COMMENT '이 날짜 이후 체크아웃 통계는 검증됨',
+    updated_at   DATETIME NOT NULL COMMENT '수정 시각',
+    CONSTRAINT PK_HOST_DAILY_STATS_COVERAGE PRIMARY KEY (id)
+    ) ENGINE = InnoDB
+    DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,5 @@
+-- 실패한 결제 승인 요청을 lease 이후 다시 승인할 수 있도록 시도 횟수를 둔다.
+-- 재승인은 PG Idempotency-Key 를 orderId-시도횟수 로 바꿔 이전 승인/취소 응답이 재사용되지 않게 한다.
+
+ALTER TABLE payment_confirm_request
+    ADD COLUMN attempt INTEGER NOT NULL DEFAULT 0 COMMENT '실패 후 재승인 횟수 (PG 멱등성 키 구분)' AFTER status;
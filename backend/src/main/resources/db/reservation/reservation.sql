@@ -64,4 +64,39 @@ CREATE TABLE IF NOT EXISTS payment_refund
     CONSTRAINT PK_PAYMENT_REFUND PRIMARY KEY (refund_id),
     CONSTRAINT FK_REFUND_PAYMENT FOREIGN KEY (payment_id) REFERENCES payment (payment_id)
     ) ENGINE = InnoDB
-    DEFAULT CHARSET = utf8mb4;
\ No newline at end of file
+    DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS payment_confirm_request
+(
+    order_id        VARCHAR(50)  NOT NULL COMMENT '우리 주문번호 (멱등성 키)',
+    reservation_id  BIGINT       NOT NULL COMMENT '예약 PK',
+    pg_payment_key  VARCHAR(100) NOT NULL COMMENT 'PG 결제키',
+    amount          INTEGER      NOT NULL COMMENT '승인 요청 금액',
+    status          VARCHAR(20)  NOT NULL COMMENT 'PROCESSING 승인 중, SUCCEEDED 완료, FAILED 실패',
+    attempt         INTEGER      NOT NULL DEFAULT 0 COMMENT '실패 후 재승인 횟수 (PG 멱등성 키 구분)',
+    payment_id      BIGINT       NULL COMMENT '완료된 결제 PK',
+    failure_message VARCHAR(255) NULL COMMENT '실패 사유',
+    created_at      DATETIME     NOT NULL COMMENT '생성 시각',
+    updated_at      DATETIME     NOT NULL COMMENT '수정 시각',
+    CONSTRAINT PK_PAYMENT_CONFIRM_REQUEST PRIMARY KEY (order_id),
+    INDEX IDX_PAYMENT_CONFIRM_REQUEST_RESERVATION (reservation_id, status)
+    ) ENGINE = InnoDB
+    DEFAULT CHARSET = utf8mb4;
+
+-- 트랜잭션 아웃박스 (결제 승인/예약 생성/취소 이후 부수 효과)
+CREATE TABLE IF NOT EXISTS outbox_event
+(
+    outbox_event_id BIGINT       NOT NULL AUTO_INCREMENT COMMENT '아웃박스 이벤트 PK',
+    event_type      VARCHAR(50)  NOT NULL COMMENT '이벤트 타입',
+    aggregate_id    BIGINT       NULL COMMENT '대상 PK (예약 등)',
+    payload         TEXT         NOT NULL COMMENT '이벤트 JSON',
+    status          VARCHAR(20)  NOT NULL COMMENT 'PENDING 대기, DONE 완료, FAILED 재시도 한도 초과',
+    attempts        INTEGER      NOT NULL DEFAULT 0 COMMENT '실패 횟수',
+    next_attempt_at DATETIME     NOT NULL COMMENT '다음 처리 가능 시각',
+    last_error      VARCHAR(500) NULL COMMENT '마지막 실패 사유',
+    created_at      DATETIME     NOT NULL COMMENT '생성 시각',
+    processed_at    DATETIME     NULL COMMENT '처리 완료 시각',
+    CONSTRAINT PK_OUTBOX_EVENT PRIMARY KEY (outbox_event_id),
+    INDEX IDX_OUTBOX_EVENT_DISPATCH (status, next_attempt_at)
+    ) ENGINE = InnoDB
+    DEFAULT CHARSET = utf8mb4;
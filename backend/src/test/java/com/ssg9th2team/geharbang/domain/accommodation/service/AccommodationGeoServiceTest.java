@@ -5,6 +5,8 @@ import com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.Accommodati
 import com.ssg9th2team.geharbang.domain.admin.dto.GeoBackfillResponse;
 import com.ssg9th2team.geharbang.domain.geocoding.GeoPoint;
 import com.ssg9th2team.geharbang.domain.geocoding.GeocodingClient;
+import com.ssg9th2team.geharbang.domain.main.service.PublicListingSnapshot;
+import com.ssg9th2team.geharbang.domain.search.service.GeoGridIndex;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -30,6 +32,12 @@ class AccommodationGeoServiceTest {
     @Mock
     private GeocodingClient geocodingClient;
 
+    @Mock
+    private GeoGridIndex geoGridIndex;
+
+    @Mock
+    private PublicListingSnapshot publicListingSnapshot;
+
     @InjectMocks
     private AccommodationGeoService accommodationGeoService;
 
@@ -63,6 +71,8 @@ class AccommodationGeoServiceTest {
         assertThat(acc1.getLatitude()).isEqualByComparingTo("37.5");
         assertThat(acc1.getLongitude()).isEqualByComparingTo("127.0");
 
+        verify(geoGridIndex).refreshAccommodation(1L);
+        verify(publicListingSnapshot).refreshAccommodation(1L);
         verify(accommodationRepository).flush();
     }
 }
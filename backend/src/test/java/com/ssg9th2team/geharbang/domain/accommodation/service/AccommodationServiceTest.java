@@ -6,6 +6,7 @@ import com.ssg9th2team.geharbang.domain.accommodation.dto.AccommodationResponseD
 import com.ssg9th2team.geharbang.domain.accommodation.dto.AccommodationUpdateRequestDto;
 import com.ssg9th2team.geharbang.domain.room.dto.RoomCreateDto;
 import com.ssg9th2team.geharbang.global.storage.ObjectStorageService;
+import com.ssg9th2team.geharbang.global.storage.StoredImage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,8 +41,8 @@ public class AccommodationServiceTest extends com.ssg9th2team.geharbang.config.I
     @BeforeEach
     void setUp() {
         // ObjectStorageService Mock 설정 - 실제 업로드 대신 더미 URL 반환
-        Mockito.when(objectStorageService.uploadBase64Image(Mockito.anyString(), Mockito.anyString()))
-                .thenReturn("https://test-storage.com/test-image.jpg");
+        Mockito.when(objectStorageService.storeBase64Image(Mockito.anyString(), Mockito.anyString()))
+                .thenReturn(new StoredImage("https://test-storage.com/test-image.jpg", true));
     }
 
     @Test
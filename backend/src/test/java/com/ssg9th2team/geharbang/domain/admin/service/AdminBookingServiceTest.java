@@ -0,0 +1,132 @@
+package com.ssg9th2team.geharbang.domain.admin.service;
+
+import com.ssg9th2team.geharbang.domain.accommodation.entity.Accommodation;
+import com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.AccommodationJpaRepository;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminBookingDetail;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminBookingSummary;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminPageResponse;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminBookingMapper;
+import com.ssg9th2team.geharbang.domain.admin.support.AdminKeysetCursor;
+import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentJpaRepository;
+import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentRefundJpaRepository;
+import com.ssg9th2team.geharbang.domain.payment.service.PaymentService;
+import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdminBookingServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 12, 1, 10, 0);
+
+    @Mock
+    private ReservationJpaRepository reservationRepository;
+    @Mock
+    private AdminBookingMapper adminBookingMapper;
+    @Mock
+    private AccommodationJpaRepository accommodationRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PaymentJpaRepository paymentRepository;
+    @Mock
+    private PaymentRefundJpaRepository refundRepository;
+    @Mock
+    private AdminLogService adminLogService;
+    @Mock
+    private PaymentService paymentService;
+
+    private AdminBookingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AdminBookingService(reservationRepository, adminBookingMapper, accommodationRepository,
+                userRepository, paymentRepository, refundRepository, adminLogService, paymentService);
+    }
+
+    @Test
+    @DisplayName("필터/페이징을 DB 쿼리로 넘기고 한 건 더 읽어서 다음 커서를 만든다")
+    void testGetBookingsFirstPage() {
+        LocalDateTime from = LocalDate.of(2025, 12, 1).atStartOfDay();
+        LocalDateTime to = LocalDate.of(2026, 1, 1).atStartOfDay();
+        when(adminBookingMapper.selectBookingSummaries(2, from, to, false, null, null, 20, 3)).thenReturn(List.of(
+                summary(30L, CREATED_AT.plusHours(2)),
+                summary(29L, CREATED_AT.plusHours(1)),
+                summary(28L, CREATED_AT)));
+        when(adminBookingMapper.countBookings(2, from, to)).thenReturn(5L);
+
+        AdminPageResponse<AdminBookingSummary> response = service.getBookings(
+                "confirmed", LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 31), "latest", 10, 2, null);
+
+        assertThat(response.items()).extracting(AdminBookingSummary::reservationId).containsExactly(30L, 29L);
+        assertThat(response.page().totalElements()).isEqualTo(5L);
+        assertThat(response.page().totalPages()).isEqualTo(3);
+        AdminKeysetCursor next = AdminKeysetCursor.decode(response.page().nextCursor());
+        assertThat(next).isEqualTo(new AdminKeysetCursor(CREATED_AT.plusHours(1), 29L));
+        verify(reservationRepository, never()).findAll(any(Sort.class));
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 offset 없이 커서 다음 행부터 읽고 마지막 페이지는 커서를 주지 않는다")
+    void testGetBookingsWithCursor() {
+        String cursor = new AdminKeysetCursor(CREATED_AT, 28L).encode();
+        when(adminBookingMapper.selectBookingSummaries(null, null, null, false, CREATED_AT, 28L, 0, 3))
+                .thenReturn(List.of(summary(27L, CREATED_AT.minusHours(1))));
+        when(adminBookingMapper.countBookings(null, null, null)).thenReturn(5L);
+
+        AdminPageResponse<AdminBookingSummary> response = service.getBookings(
+                null, null, null, "latest", 1, 2, cursor);
+
+        assertThat(response.items()).extracting(AdminBookingSummary::reservationId).containsExactly(27L);
+        assertThat(response.page().nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("예약 상세는 숙소를 한 번만 조회해서 숙소명과 호스트를 채운다")
+    void testGetBookingDetailLoadsAccommodationOnce() {
+        Reservation reservation = Reservation.builder()
+                .id(30L).accommodationsId(5L).userId(7L)
+                .checkin(CREATED_AT.plusDays(3)).checkout(CREATED_AT.plusDays(4))
+                .guestCount(2).reservationStatus(2).paymentStatus(1).finalPaymentAmount(80000)
+                .createdAt(CREATED_AT).updatedAt(CREATED_AT)
+                .build();
+        Accommodation accommodation = mock(Accommodation.class);
+        when(accommodation.getAccommodationsName()).thenReturn("바다 게스트하우스");
+        when(accommodation.getUserId()).thenReturn(3L);
+        when(reservationRepository.findById(30L)).thenReturn(Optional.of(reservation));
+        when(accommodationRepository.findById(5L)).thenReturn(Optional.of(accommodation));
+        when(userRepository.findById(7L)).thenReturn(Optional.empty());
+        when(paymentRepository.findByReservationId(30L)).thenReturn(Optional.empty());
+
+        AdminBookingDetail detail = service.getBookingDetail(30L);
+
+        assertThat(detail.accommodationName()).isEqualTo("바다 게스트하우스");
+        assertThat(detail.hostUserId()).isEqualTo(3L);
+        verify(accommodationRepository, times(1)).findById(5L);
+    }
+
+    private AdminBookingSummary summary(Long reservationId, LocalDateTime createdAt) {
+        return new AdminBookingSummary(reservationId, 5L, 7L, createdAt.plusDays(3), createdAt.plusDays(4),
+                2, 2, 1, 80000, createdAt);
+    }
+}
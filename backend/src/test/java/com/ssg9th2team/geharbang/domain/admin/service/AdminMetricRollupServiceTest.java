@@ -0,0 +1,126 @@
+package com.ssg9th2team.geharbang.domain.admin.service;
+
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminMetricHourlyRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.AdminMetricRollupRow;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.AdminMetricRollupMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdminMetricRollupServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 12, 1);
+
+    @Mock
+    private AdminMetricRollupMapper rollupMapper;
+
+    private AdminMetricRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(DATE.atTime(12, 0).atZone(ZoneId.of("Asia/Seoul")).toInstant(),
+                ZoneId.of("Asia/Seoul"));
+        service = new AdminMetricRollupService(rollupMapper, clock);
+        ReflectionTestUtils.setField(service, "rebuildMaxDays", 366);
+        ReflectionTestUtils.setField(service, "bootstrapDays", 90);
+    }
+
+    @Test
+    @DisplayName("결제/환불/예약 시간별 집계를 합쳐 24개 시간 버킷과 일 버킷을 저장한다")
+    void testRebuildDay() {
+        LocalDateTime start = DATE.atStartOfDay();
+        LocalDateTime end = DATE.plusDays(1).atStartOfDay();
+        when(rollupMapper.selectPaymentHourly(start, end)).thenReturn(List.of(
+                new AdminMetricHourlyRow(DATE, 9, 2L, 1L, 200000L),
+                new AdminMetricHourlyRow(DATE, 21, 1L, 0L, 50000L)));
+        when(rollupMapper.selectRefundHourly(start, end)).thenReturn(List.of(
+                new AdminMetricHourlyRow(DATE, 9, 1L, 1L, 30000L)));
+        when(rollupMapper.selectReservationHourly(start, end)).thenReturn(List.of(
+                new AdminMetricHourlyRow(DATE, 8, 4L, 1L, 0L)));
+        List<AdminMetricRollupRow> saved = new ArrayList<>();
+        when(rollupMapper.upsertRollups(any())).thenAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return 0;
+        });
+
+        int days = service.rebuild(DATE, DATE);
+
+        assertThat(days).isEqualTo(1);
+        assertThat(saved).hasSize(25);
+        AdminMetricRollupRow nine = saved.get(9);
+        assertThat(nine.granularity()).isEqualTo(AdminMetricRollupService.HOUR);
+        assertThat(nine.bucketStart()).isEqualTo(DATE.atTime(9, 0));
+        assertThat(nine.paymentSuccessAmount()).isEqualTo(200000L);
+        assertThat(nine.paymentFailureCount()).isEqualTo(1L);
+        assertThat(nine.refundCompletedAmount()).isEqualTo(30000L);
+        assertThat(saved.get(0).paymentSuccessAmount()).isZero();
+
+        AdminMetricRollupRow daily = saved.get(24);
+        assertThat(daily.granularity()).isEqualTo(AdminMetricRollupService.DAY);
+        assertThat(daily.bucketStart()).isEqualTo(DATE.atStartOfDay());
+        assertThat(daily.reservationCount()).isEqualTo(4L);
+        assertThat(daily.reservationCancelCount()).isEqualTo(1L);
+        assertThat(daily.paymentSuccessCount()).isEqualTo(3L);
+        assertThat(daily.paymentSuccessAmount()).isEqualTo(250000L);
+        assertThat(daily.refundRequestCount()).isEqualTo(1L);
+        assertThat(daily.refundCompletedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("변경된 날짜만 모아서 한 번씩 다시 계산한다")
+    void testFlushDirtyDates() {
+        when(rollupMapper.selectPaymentHourly(any(), any())).thenReturn(List.of());
+        when(rollupMapper.selectRefundHourly(any(), any())).thenReturn(List.of());
+        when(rollupMapper.selectReservationHourly(any(), any())).thenReturn(List.of());
+
+        service.markDirty(DATE.atTime(10, 0));
+        service.markDirty(DATE.atTime(11, 30));
+        service.markDirty(DATE.minusDays(3).atTime(9, 0));
+        service.flushDirty();
+        service.flushDirty();
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(rollupMapper, times(2)).selectPaymentHourly(from.capture(), any());
+        assertThat(from.getAllValues())
+                .containsExactlyInAnyOrder(DATE.atStartOfDay(), DATE.minusDays(3).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("롤업이 이미 있으면 기동 시 다시 채우지 않는다")
+    void testBootstrapSkipsWhenPresent() {
+        when(rollupMapper.countRollups(AdminMetricRollupService.DAY)).thenReturn(10L);
+
+        service.bootstrap();
+
+        verify(rollupMapper, never()).selectPaymentHourly(any(), any());
+    }
+
+    @Test
+    @DisplayName("최대 기간을 넘거나 순서가 뒤집힌 기간은 거부한다")
+    void testRebuildRejectsInvalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> service.rebuild(DATE, DATE.minusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> service.rebuild(DATE.minusDays(400), DATE));
+        verify(rollupMapper, never()).upsertRollups(any());
+    }
+}
@@ -0,0 +1,160 @@
+package com.ssg9th2team.geharbang.domain.admin.service;
+
+import com.ssg9th2team.geharbang.domain.accommodation.repository.jpa.AccommodationJpaRepository;
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyAmountRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyCountRow;
+import com.ssg9th2team.geharbang.domain.admin.dto.PlatformDailyReservationRow;
+import com.ssg9th2team.geharbang.domain.admin.entity.PlatformDailyStats;
+import com.ssg9th2team.geharbang.domain.admin.repository.PlatformDailyStatsRepository;
+import com.ssg9th2team.geharbang.domain.admin.repository.mybatis.PlatformDailyStatsMapper;
+import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import com.ssg9th2team.geharbang.domain.report.repository.jpa.ReviewReportJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PlatformDailyStatsServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 12, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 12, 3);
+
+    @Mock
+    private PlatformDailyStatsRepository statsRepository;
+    @Mock
+    private PlatformDailyStatsMapper statsMapper;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private AccommodationJpaRepository accommodationRepository;
+    @Mock
+    private ReviewReportJpaRepository reportRepository;
+
+    private PlatformDailyStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PlatformDailyStatsService(statsRepository, statsMapper, userRepository,
+                accommodationRepository, reportRepository);
+        ReflectionTestUtils.setField(service, "backfillMaxDays", 366);
+        ReflectionTestUtils.setField(service, "catchUpDays", 31);
+    }
+
+    @Test
+    @DisplayName("기간 전체를 일자별 집계 쿼리 한 번씩으로 계산하고 빈 날짜는 0으로 채운다")
+    @SuppressWarnings("unchecked")
+    void testRefreshRange() {
+        LocalDateTime start = FROM.atStartOfDay();
+        LocalDateTime end = TO.plusDays(1).atStartOfDay();
+        when(statsMapper.selectDailyNewHosts(start, end))
+                .thenReturn(List.of(new PlatformDailyCountRow(FROM, 2L), new PlatformDailyCountRow(TO, 1L)));
+        when(statsMapper.selectDailyNewAccommodations(start, end))
+                .thenReturn(List.of(new PlatformDailyCountRow(FROM.plusDays(1), 3L)));
+        when(statsMapper.selectDailyActiveHosts(start, end))
+                .thenReturn(List.of(new PlatformDailyCountRow(FROM, 1L)));
+        when(statsMapper.selectDailyReservations(start, end))
+                .thenReturn(List.of(new PlatformDailyReservationRow(FROM, 5L, 3L, 1L, 1L, 4L)));
+        when(statsMapper.selectDailyPayments(start, end))
+                .thenReturn(List.of(new PlatformDailyAmountRow(FROM, 3L, 300000L)));
+        when(statsMapper.selectDailyRefunds(start, end))
+                .thenReturn(List.of(new PlatformDailyAmountRow(TO, 2L, 50000L)));
+        when(userRepository.count(any(Specification.class))).thenReturn(10L);
+        when(accommodationRepository.count(any(Specification.class))).thenReturn(20L);
+        when(statsRepository.findByStatDateBetweenOrderByStatDateAsc(FROM, TO))
+                .thenReturn(List.of(PlatformDailyStats.builder().statDate(FROM).pendingAccommodations(4L).openReports(7L).build()));
+
+        List<PlatformDailyStats> stats = service.refreshDailyStats(FROM, TO);
+
+        assertThat(stats).extracting(PlatformDailyStats::getStatDate)
+                .containsExactly(FROM, FROM.plusDays(1), TO);
+        assertThat(stats).extracting(PlatformDailyStats::getTotalHosts).containsExactly(12L, 12L, 13L);
+        assertThat(stats).extracting(PlatformDailyStats::getTotalAccommodations).containsExactly(20L, 23L, 23L);
+
+        PlatformDailyStats first = stats.get(0);
+        assertThat(first.getTotalReservations()).isEqualTo(5L);
+        assertThat(first.getReservationsSuccess()).isEqualTo(3L);
+        assertThat(first.getTotalRevenue()).isEqualTo(300000L);
+        assertThat(first.getActiveGuests()).isEqualTo(4L);
+        assertThat(first.getActiveHosts()).isEqualTo(1L);
+        // 지난 기간 재집계는 저장된 시점 값을 유지한다.
+        assertThat(first.getPendingAccommodations()).isEqualTo(4L);
+        assertThat(first.getOpenReports()).isEqualTo(7L);
+        assertThat(stats.get(2).getPendingAccommodations()).isZero();
+        verify(reportRepository, never()).count(any(Specification.class));
+
+        PlatformDailyStats empty = stats.get(1);
+        assertThat(empty.getTotalReservations()).isZero();
+        assertThat(empty.getTotalRevenue()).isZero();
+        assertThat(empty.getRefundCount()).isZero();
+
+        assertThat(stats.get(2).getRefundCount()).isEqualTo(2L);
+        assertThat(stats.get(2).getRefundAmount()).isEqualTo(50000L);
+
+        verify(statsMapper, times(1)).selectDailyPayments(start, end);
+        verify(statsMapper, times(1)).upsertDailyStats(stats);
+    }
+
+    @Test
+    @DisplayName("마지막 집계 다음 날부터 어제까지 한 번에 집계한다")
+    @SuppressWarnings("unchecked")
+    void testRefreshSinceLastRun() {
+        LocalDate lastStatDate = LocalDate.of(2025, 11, 28);
+        when(statsRepository.findTopByOrderByStatDateDesc())
+                .thenReturn(Optional.of(PlatformDailyStats.builder().statDate(lastStatDate).build()));
+        when(userRepository.count(any(Specification.class))).thenReturn(0L);
+        when(accommodationRepository.count(any(Specification.class))).thenReturn(0L);
+
+        List<PlatformDailyStats> stats = service.refreshSinceLastRun(TO);
+
+        assertThat(stats).extracting(PlatformDailyStats::getStatDate).first().isEqualTo(lastStatDate.plusDays(1));
+        assertThat(stats).hasSize(6);
+        verify(statsMapper).selectDailyReservations(eq(lastStatDate.plusDays(1).atStartOfDay()),
+                eq(TO.plusDays(1).atStartOfDay()));
+    }
+
+    @Test
+    @DisplayName("승인 대기/미처리 신고 수는 어제까지 집계할 때 마지막 날에만 기록한다")
+    @SuppressWarnings("unchecked")
+    void testPointInTimeCountsOnlyForLastDay() {
+        LocalDate to = LocalDate.now().minusDays(1);
+        LocalDate from = to.minusDays(2);
+        when(userRepository.count(any(Specification.class))).thenReturn(0L);
+        when(accommodationRepository.count(any(Specification.class))).thenReturn(0L, 5L);
+        when(reportRepository.count(any(Specification.class))).thenReturn(3L);
+        when(statsRepository.findByStatDateBetweenOrderByStatDateAsc(from, to))
+                .thenReturn(List.of(PlatformDailyStats.builder().statDate(from).pendingAccommodations(9L).openReports(1L).build()));
+
+        List<PlatformDailyStats> stats = service.refreshDailyStats(from, to);
+
+        assertThat(stats).extracting(PlatformDailyStats::getPendingAccommodations).containsExactly(9L, 0L, 5L);
+        assertThat(stats).extracting(PlatformDailyStats::getOpenReports).containsExactly(1L, 0L, 3L);
+    }
+
+    @Test
+    @DisplayName("허용 기간을 넘는 backfill 요청은 거부한다")
+    void testRefreshRangeTooLong() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.refreshDailyStats(FROM, FROM.plusDays(366)));
+        verify(statsMapper, never()).upsertDailyStats(anyList());
+    }
+}
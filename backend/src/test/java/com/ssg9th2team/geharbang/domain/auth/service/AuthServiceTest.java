@@ -65,6 +65,8 @@ public class AuthServiceTest {
     private VerificationCodeService verificationCodeService;
     @Mock
     private com.ssg9th2team.geharbang.domain.coupon.service.UserCouponService userCouponService;
+    @Mock
+    private com.ssg9th2team.geharbang.domain.recommendation.service.RecommendationEngine recommendationEngine;
 
     private User testUser;
     private Admin testAdmin;
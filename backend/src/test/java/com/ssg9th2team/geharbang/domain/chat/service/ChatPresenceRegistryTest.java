@@ -0,0 +1,104 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatPresenceRegistryTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private ChatPresenceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChatPresenceRegistry(stringRedisTemplate);
+        ReflectionTestUtils.setField(registry, "ttlSeconds", 60L);
+    }
+
+    @Test
+    @DisplayName("채팅방 구독 수는 구독 해제와 연결 종료 시 줄어든다")
+    void testRoomSubscriptionCount() {
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("s1", "sub-1", "/topic/chatroom/7")));
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("s2", "sub-1", "/topic/chatroom/7")));
+
+        registry.onUnsubscribe(new SessionUnsubscribeEvent(this, unsubscribe("s1", "sub-1")));
+        assertThat(registry.hasLocalRoomSubscribers(7L)).isTrue();
+
+        registry.onDisconnect(new SessionDisconnectEvent(this, unsubscribe("s2", "sub-1"), "s2", CloseStatus.NORMAL));
+        assertThat(registry.hasLocalRoomSubscribers(7L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자 알림 구독은 처음 한 번만 접속 등록하고, 마지막 구독이 끝나면 접속 해제한다")
+    @SuppressWarnings("unchecked")
+    void testUserPresence() {
+        when(stringRedisTemplate.opsForHash()).thenReturn((HashOperations) hashOperations);
+
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("s1", "sub-1", "/topic/user/3/notifications")));
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("s2", "sub-1", "/topic/user/3/notifications")));
+        assertThat(registry.isUserOnline(3L)).isTrue();
+
+        registry.onDisconnect(new SessionDisconnectEvent(this, unsubscribe("s1", "sub-1"), "s1", CloseStatus.NORMAL));
+        registry.onDisconnect(new SessionDisconnectEvent(this, unsubscribe("s2", "sub-1"), "s2", CloseStatus.NORMAL));
+
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(hashOperations).delete(any(), any());
+        assertThat(registry.hasLocalUserSubscribers(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 접속 정보는 만료 시각이 지나지 않은 경우에만 접속 중으로 본다")
+    @SuppressWarnings("unchecked")
+    void testRemotePresenceExpiry() {
+        when(stringRedisTemplate.opsForHash()).thenReturn((HashOperations) hashOperations);
+        long now = System.currentTimeMillis();
+        when(hashOperations.values("chat:presence:user:5")).thenReturn(List.of(String.valueOf(now + 30_000)));
+        when(hashOperations.values("chat:presence:user:6")).thenReturn(List.of(String.valueOf(now - 1_000)));
+
+        assertThat(registry.isUserOnline(5L)).isTrue();
+        assertThat(registry.isUserOnline(6L)).isFalse();
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
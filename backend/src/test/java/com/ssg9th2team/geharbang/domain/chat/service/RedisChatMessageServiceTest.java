@@ -0,0 +1,101 @@
+package com.ssg9th2team.geharbang.domain.chat.service;
+
+import com.ssg9th2team.geharbang.domain.chat.dto.ChatMessageDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisChatMessageServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private RedisChatMessageService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RedisChatMessageService(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("메시지 ID 와 Stream ID 는 서로 변환된다")
+    void testMessageIdConversion() {
+        assertThat(RedisChatMessageService.toMessageId("1700000000123-4")).isEqualTo(1700000000123004L);
+        assertThat(RedisChatMessageService.toStreamId(1700000000123004L)).isEqualTo("1700000000123-4");
+    }
+
+    @Test
+    @DisplayName("seq 가 1000 을 넘는 이전 Stream ID 도 다음 ms 의 메시지 ID 와 겹치지 않는다")
+    void testMessageIdDoesNotOverflowIntoNextMillisecond() {
+        long overflowed = RedisChatMessageService.toMessageId("1700000000123-1005");
+
+        assertThat(overflowed).isEqualTo(1700000000123999L);
+        assertThat(overflowed).isLessThan(RedisChatMessageService.toMessageId("1700000000124-0"));
+    }
+
+    @Test
+    @DisplayName("최신 메시지부터 limit 개를 읽어 시간순으로 반환하고, 상대방 읽음 위치로 읽음 여부를 계산한다")
+    @SuppressWarnings("unchecked")
+    void testGetMessagesPageWithReadWatermark() {
+        when(stringRedisTemplate.opsForStream()).thenReturn((StreamOperations) streamOperations);
+        when(stringRedisTemplate.opsForHash()).thenReturn((HashOperations) hashOperations);
+        when(streamOperations.reverseRange(eq("chat:room:7:stream"), any(Range.class), any(Limit.class)))
+                .thenReturn(List.of(
+                        record("1700000000300-0", "2", "게스트", "세 번째"),
+                        record("1700000000200-0", "1", "호스트", "두 번째")));
+        // 호스트(1)는 세 번째까지, 게스트(2)는 두 번째 직전까지 읽음
+        when(hashOperations.entries("chat:room:7:read"))
+                .thenReturn(Map.of("1", "1700000000300-0", "2", "1700000000100-0"));
+
+        List<ChatMessageDto> messages = service.getMessages(7L, 1700000000400000L, 2);
+
+        assertThat(messages).extracting(ChatMessageDto::getMessageContent).containsExactly("두 번째", "세 번째");
+        assertThat(messages).extracting(ChatMessageDto::getIsRead).containsExactly(false, true);
+        assertThat(messages.get(0).getId()).isEqualTo(1700000000200000L);
+
+        ArgumentCaptor<Range<String>> range = ArgumentCaptor.forClass(Range.class);
+        verify(streamOperations).reverseRange(eq("chat:room:7:stream"), range.capture(), any(Limit.class));
+        assertThat(range.getValue().getUpperBound().getValue()).contains("1700000000400-0");
+        assertThat(range.getValue().getUpperBound().isInclusive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("보낸 사람 자신의 읽음 위치는 읽음 여부에 반영하지 않는다")
+    void testIsReadByOthersIgnoresSender() {
+        Map<Long, Long> lastRead = Map.of(1L, 500L);
+
+        assertThat(RedisChatMessageService.isReadByOthers(lastRead, 1L, 400L)).isFalse();
+        assertThat(RedisChatMessageService.isReadByOthers(lastRead, 2L, 400L)).isTrue();
+        assertThat(RedisChatMessageService.isReadByOthers(lastRead, 2L, 600L)).isFalse();
+    }
+
+    private MapRecord<String, Object, Object> record(String id, String sender, String name, String content) {
+        Map<Object, Object> fields = Map.of("s", sender, "n", name, "c", content);
+        return MapRecord.create("chat:room:7:stream", fields).withId(RecordId.of(id));
+    }
+}
@@ -19,6 +19,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import com.ssg9th2team.geharbang.domain.coupon.scheduler.CouponScheduler; // import 추가 확인 필요
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -145,6 +148,64 @@ class CouponInventoryConcurrencyTest {
         assertThat(redisStock).isEqualTo("0");
     }
 
+    @Test
+    @DisplayName("재고 키가 없는 상태에서 동시에 발급해도 한 번만 채워 정확히 재고만큼만 확보된다")
+    void concurrentClaimOnMissingStockKey_shouldNotOversell() throws InterruptedException {
+        redisTemplate.delete("coupon:stock:" + TEST_COUPON_ID);
+
+        int claimed = claimConcurrently(1000);
+
+        assertThat(claimed).isEqualTo(INITIAL_STOCK);
+        assertThat(redisTemplate.opsForValue().get("coupon:stock:" + TEST_COUPON_ID)).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("재고 키를 채울 때 아직 DB 에 반영되지 않은 발급 요청은 재고에서 뺀다")
+    void seedMissingStockKey_shouldExcludeInFlightRequests() throws InterruptedException {
+        String processingKey = "coupon:issue:processing";
+        List<String> inFlight = new ArrayList<>();
+        for (long userId = 1; userId <= 10; userId++) {
+            inFlight.add(CouponIssueQueueService.encode(-userId, TEST_COUPON_ID, LocalDateTime.now().plusDays(30)));
+        }
+        redisTemplate.delete("coupon:stock:" + TEST_COUPON_ID);
+        inFlight.forEach(payload ->
+                redisTemplate.opsForZSet().add(processingKey, payload, System.currentTimeMillis()));
+        try {
+            int claimed = claimConcurrently(200);
+
+            assertThat(claimed).isEqualTo(INITIAL_STOCK - inFlight.size());
+        } finally {
+            redisTemplate.opsForZSet().remove(processingKey, inFlight.toArray());
+        }
+    }
+
+    private int claimConcurrently(int threadCount) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(50);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger claimed = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    if (couponInventoryService.claimSlot(TEST_COUPON_ID, userId, null, false)
+                            == CouponInventoryService.ClaimResult.CLAIMED) {
+                        claimed.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await();
+        executorService.shutdown();
+        return claimed.get();
+    }
+
     @Test
     @DisplayName("Redis 장애 시 DB 락 폴백 테스트")
     void redisFallback_shouldWorkWithDbLock() {
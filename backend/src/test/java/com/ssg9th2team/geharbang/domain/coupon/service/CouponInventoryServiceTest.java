@@ -0,0 +1,88 @@
+package com.ssg9th2team.geharbang.domain.coupon.service;
+
+import com.ssg9th2team.geharbang.domain.coupon.entity.CouponInventory;
+import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.CouponInventoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponInventoryServiceTest {
+
+    @Mock
+    private CouponInventoryRepository couponInventoryRepository;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CouponInventoryService couponInventoryService;
+
+    @Test
+    @DisplayName("선착순 쿠폰 ID 를 적재한 뒤에는 발급마다 DB 를 조회하지 않는다")
+    void testIsLimitedUsesLoadedCouponIds() {
+        when(couponInventoryRepository.findAllCouponIds()).thenReturn(List.of(10L));
+
+        couponInventoryService.refreshLimitedCouponIds();
+
+        assertThat(couponInventoryService.isLimited(10L)).isTrue();
+        assertThat(couponInventoryService.isLimited(20L)).isFalse();
+        verify(couponInventoryRepository, never()).existsByCouponId(any());
+    }
+
+    @Test
+    @DisplayName("재고 키가 없으면 잠근 DB 재고로 키가 없을 때만 채운 뒤 한 번 더 시도하고, 비동기 요청은 같은 스크립트에서 큐에 적재한다")
+    @SuppressWarnings("unchecked")
+    void testClaimSlotSeedsMissingStock() {
+        CouponInventory inventory = CouponInventory.builder()
+                .couponId(10L).dailyLimit(5).availableToday(5).lastResetDate(LocalDate.now()).build();
+        when(couponInventoryRepository.findWithLockByCouponId(10L)).thenReturn(Optional.of(inventory));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(3L, 5L, 0L);
+
+        CouponInventoryService.ClaimResult result =
+                couponInventoryService.claimSlot(10L, 1L, "1|10|2026-12-31T23:59", true);
+
+        assertThat(result).isEqualTo(CouponInventoryService.ClaimResult.CLAIMED);
+        // 덮어쓰는 SET 은 쓰지 않는다. (동시에 진행 중인 DECR 을 지우지 않도록)
+        verify(redisTemplate, never()).opsForValue();
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate, times(3)).execute(any(RedisScript.class), keys.capture(), any(Object[].class));
+        assertThat(keys.getAllValues().get(1)).containsExactly(
+                "coupon:stock:10", "coupon:issue:queue", "coupon:issue:retry", "coupon:issue:processing");
+        assertThat(keys.getValue()).containsExactly("coupon:issued:10", "coupon:stock:10", "coupon:issue:queue");
+    }
+
+    @Test
+    @DisplayName("Redis 오류면 UNAVAILABLE 을 반환해 DB 락 방식으로 처리하게 한다")
+    @SuppressWarnings("unchecked")
+    void testClaimSlotUnavailableOnRedisError() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        assertThat(couponInventoryService.claimSlot(10L, 1L, null, true))
+                .isEqualTo(CouponInventoryService.ClaimResult.UNAVAILABLE);
+    }
+}
@@ -0,0 +1,120 @@
+package com.ssg9th2team.geharbang.domain.coupon.service;
+
+import com.ssg9th2team.geharbang.domain.coupon.entity.UserCoupon;
+import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.CouponInventoryRepository;
+import com.ssg9th2team.geharbang.domain.coupon.repository.mybatis.UserCouponMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueAsyncProcessorTest {
+
+    private static final LocalDateTime EXPIRES_AT = LocalDateTime.of(2026, 12, 31, 23, 59);
+
+    @Mock
+    private CouponIssueQueueService couponIssueQueueService;
+    @Mock
+    private UserCouponMapper userCouponMapper;
+    @Mock
+    private CouponInventoryRepository couponInventoryRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private CouponIssueAsyncProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("userCoupons");
+        processor = new CouponIssueAsyncProcessor(couponIssueQueueService, userCouponMapper,
+                couponInventoryRepository, cacheManager, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(processor, "asyncEnabled", true);
+        ReflectionTestUtils.setField(processor, "batchSize", 200);
+    }
+
+    @Test
+    @DisplayName("꺼낸 요청은 INSERT 한 번과 쿠폰별 재고 차감 한 번으로 저장하고 ack 한다")
+    @SuppressWarnings("unchecked")
+    void testDrainSavesBatch() {
+        List<CouponIssueQueueService.IssueRequest> requests = List.of(request(1L, 10L), request(2L, 10L), request(3L, 20L));
+        when(couponIssueQueueService.pollIssues(200)).thenReturn(requests);
+        cacheManager.getCache("userCoupons").put("1_ISSUED", "cached");
+
+        processor.drainQueue();
+
+        ArgumentCaptor<List<UserCoupon>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userCouponMapper).insertUserCoupons(saved.capture());
+        assertThat(saved.getValue()).extracting(UserCoupon::getUserId).containsExactly(1L, 2L, 3L);
+        verify(couponInventoryRepository).decrementAvailableBy(10L, 2);
+        verify(couponInventoryRepository).decrementAvailableBy(20L, 1);
+        verify(couponIssueQueueService, never()).pollRetries(200);
+        verify(couponIssueQueueService).acknowledge(payloads(requests));
+        assertThat(cacheManager.getCache("userCoupons").get("1_ISSUED")).isNull();
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 실패하면 요청별로 저장하고, 중복 키만 버리고 다른 무결성 오류와 그 외 실패는 재시도 큐로 보낸다")
+    void testDrainFallsBackPerRequest() {
+        CouponIssueQueueService.IssueRequest duplicate = request(1L, 10L);
+        CouponIssueQueueService.IssueRequest foreignKey = request(2L, 10L);
+        CouponIssueQueueService.IssueRequest failing = request(3L, 10L);
+        CouponIssueQueueService.IssueRequest ok = request(4L, 10L);
+        List<CouponIssueQueueService.IssueRequest> requests = List.of(duplicate, foreignKey, failing, ok);
+        when(couponIssueQueueService.pollIssues(200)).thenReturn(List.of());
+        when(couponIssueQueueService.pollRetries(200)).thenReturn(requests);
+        when(userCouponMapper.insertUserCoupons(anyList())).thenAnswer(invocation -> {
+            List<UserCoupon> userCoupons = invocation.getArgument(0);
+            if (userCoupons.size() > 1) {
+                throw new DuplicateKeyException("UQ_USER_COUPON_USER_COUPON");
+            }
+            long userId = userCoupons.get(0).getUserId();
+            if (userId == 1L) {
+                throw new DuplicateKeyException("UQ_USER_COUPON_USER_COUPON");
+            }
+            if (userId == 2L) {
+                throw new DataIntegrityViolationException("FK_USER_COUPON_COUPON");
+            }
+            if (userId == 3L) {
+                throw new IllegalStateException("connection reset");
+            }
+            return 1;
+        });
+
+        processor.drainQueue();
+
+        verify(couponIssueQueueService).enqueueRetry(foreignKey.getPayload());
+        verify(couponIssueQueueService).enqueueRetry(failing.getPayload());
+        verify(couponIssueQueueService, never()).enqueueRetry(duplicate.getPayload());
+        verify(couponIssueQueueService, never()).enqueueRetry(ok.getPayload());
+        verify(couponInventoryRepository).decrementAvailable(10L);
+        verify(couponIssueQueueService).acknowledge(payloads(requests));
+    }
+
+    private static CouponIssueQueueService.IssueRequest request(Long userId, Long couponId) {
+        return CouponIssueQueueService.decode(CouponIssueQueueService.encode(userId, couponId, EXPIRES_AT));
+    }
+
+    private static List<String> payloads(List<CouponIssueQueueService.IssueRequest> requests) {
+        return requests.stream().map(CouponIssueQueueService.IssueRequest::getPayload).toList();
+    }
+}
@@ -0,0 +1,145 @@
+package com.ssg9th2team.geharbang.domain.dashboard.host.service;
+
+import com.ssg9th2team.geharbang.domain.dashboard.host.entity.HostStatDay;
+import com.ssg9th2team.geharbang.domain.dashboard.host.repository.HostDailyStatsMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HostDailyStatsServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 12, 10);
+
+    @Mock
+    private HostDailyStatsMapper statsMapper;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private HostDailyStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(DAY.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant(),
+                ZoneId.systemDefault());
+        service = new HostDailyStatsService(statsMapper, new TransactionTemplate(transactionManager), clock);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "backfillMaxDays", 366);
+        ReflectionTestUtils.setField(service, "backfillParallelism", 2);
+        ReflectionTestUtils.setField(service, "hostsPerTask", 2);
+    }
+
+    @Test
+    @DisplayName("이벤트로 들어온 숙소의 호스트/체크아웃 일자 한 행만 다시 계산한다")
+    void testRefreshDay() {
+        when(statsMapper.selectHostIdByAccommodationId(5L)).thenReturn(3L);
+
+        service.refreshDay(5L, DAY);
+
+        verify(statsMapper).deleteRange(List.of(3L), DAY, DAY.plusDays(1));
+        verify(statsMapper).upsertRange(List.of(3L), DAY, DAY.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("기간 backfill 은 호스트를 묶음으로 나눠 묶음마다 다시 계산한다")
+    void testBackfillPartitionsHosts() {
+        when(statsMapper.selectHostIds()).thenReturn(List.of(1L, 2L, 3L));
+
+        int hosts = service.backfill(DAY.minusDays(9), DAY);
+
+        assertThat(hosts).isEqualTo(3);
+        verify(statsMapper).upsertRange(List.of(1L, 2L), DAY.minusDays(9), DAY.plusDays(1));
+        verify(statsMapper).upsertRange(List.of(3L), DAY.minusDays(9), DAY.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("backfill 기간이 최대 일수를 넘으면 거부한다")
+    void testBackfillRejectsLongRange() {
+        assertThatThrownBy(() -> service.backfill(DAY.minusDays(366), DAY))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(statsMapper, never()).selectHostIds();
+    }
+
+    @Test
+    @DisplayName("재계산은 전날 바뀐 예약이 걸린 행과 전날 체크아웃 행을 다시 계산한다")
+    void testReconcile() {
+        LocalDate future = DAY.plusDays(20);
+        when(statsMapper.selectChangedHostDays(DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(new HostStatDay(1L, future), new HostStatDay(2L, future), new HostStatDay(1L, DAY)));
+        when(statsMapper.selectHostIds()).thenReturn(List.of(1L, 2L));
+
+        int changed = service.reconcile(DAY);
+
+        assertThat(changed).isEqualTo(3);
+        verify(statsMapper).upsertRange(List.of(1L, 2L), future, future.plusDays(1));
+        verify(statsMapper).upsertRange(List.of(1L, 2L), DAY, DAY.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("검증 범위가 없으면 기존 행을 믿지 않고 최근 구간부터 전체 체크아웃 기간을 다시 계산한다")
+    void testBootstrapBackfillsWholeRangeWithoutCoverage() {
+        LocalDate min = DAY.minusDays(400);
+        LocalDate max = DAY.plusDays(30);
+        when(statsMapper.selectMinCheckoutDate()).thenReturn(min);
+        when(statsMapper.selectMaxCheckoutDate()).thenReturn(max);
+        when(statsMapper.selectHostIds()).thenReturn(List.of(1L));
+
+        assertThat(service.isCovered(DAY)).isFalse();
+        service.bootstrap();
+
+        LocalDate firstStart = max.minusDays(365);
+        verify(statsMapper).upsertRange(List.of(1L), firstStart, max.plusDays(1));
+        verify(statsMapper).upsertRange(List.of(1L), min, firstStart);
+        verify(statsMapper).upsertCoveredFrom(firstStart);
+        verify(statsMapper).upsertCoveredFrom(min);
+        assertThat(service.isCovered(min)).isTrue();
+        assertThat(service.isCovered(min.minusDays(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("검증 범위보다 이른 체크아웃 예약이 있으면 그 구간만 채우고 범위를 넓힌다")
+    void testBootstrapFillsGapBeforeCoverage() {
+        LocalDate covered = DAY.minusDays(30);
+        when(statsMapper.selectCoveredFrom()).thenReturn(covered);
+        when(statsMapper.selectMinCheckoutDate()).thenReturn(DAY.minusDays(40));
+        when(statsMapper.selectHostIds()).thenReturn(List.of(1L));
+
+        service.bootstrap();
+
+        verify(statsMapper).upsertRange(List.of(1L), DAY.minusDays(40), covered);
+        verify(statsMapper).upsertCoveredFrom(DAY.minusDays(40));
+        verify(statsMapper, never()).selectMaxCheckoutDate();
+        assertThat(service.isCovered(DAY.minusDays(40))).isTrue();
+    }
+
+    @Test
+    @DisplayName("검증 범위가 이미 가장 이른 예약을 덮으면 기동 시 다시 채우지 않는다")
+    void testBootstrapSkipsWhenCovered() {
+        when(statsMapper.selectCoveredFrom()).thenReturn(DAY.minusDays(30));
+        when(statsMapper.selectMinCheckoutDate()).thenReturn(DAY.minusDays(10));
+
+        service.bootstrap();
+
+        assertThat(service.isCovered(DAY.minusDays(30))).isTrue();
+        assertThat(service.isCovered(DAY.minusDays(31))).isFalse();
+        verify(statsMapper, never()).upsertRange(any(), any(), any());
+    }
+}
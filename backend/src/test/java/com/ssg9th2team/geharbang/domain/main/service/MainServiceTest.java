@@ -10,6 +10,7 @@ import com.ssg9th2team.geharbang.domain.main.dto.ListDto;
 import com.ssg9th2team.geharbang.domain.main.dto.MainAccommodationListResponse;
 import com.ssg9th2team.geharbang.domain.main.repository.MainRepository;
 import com.ssg9th2team.geharbang.domain.room.repository.jpa.RoomJpaRepository;
+import com.ssg9th2team.geharbang.domain.search.service.KeywordSearchIndex;
 import com.ssg9th2team.geharbang.domain.theme.entity.Theme;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,9 +25,12 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +47,10 @@ public class MainServiceTest {
     private AccommodationThemeRepository accommodationThemeRepository;
     @Mock
     private RoomJpaRepository roomJpaRepository;
+    @Mock
+    private KeywordSearchIndex keywordSearchIndex;
+    @Mock
+    private PublicListingSnapshot publicListingSnapshot;
 
     private User userWithThemes;
     private User userWithoutThemes;
@@ -190,4 +198,52 @@ public class MainServiceTest {
         assertThat(response.getRecommendedAccommodations().get(0).getAccommodationsName()).isEqualTo("오션뷰 파티하우스");
         assertThat(response.getGeneralAccommodations()).isEmpty();
     }
+
+    @Test
+    @DisplayName("스냅샷이 있으면 DB 조회 없이 스냅샷에서 추천/일반 목록을 만든다")
+    void testRecommendationFromSnapshot() {
+        when(publicListingSnapshot.current()).thenReturn(snapshot());
+
+        MainAccommodationListResponse response = mainService.getMainAccommodationList(1L, null, null);
+
+        assertThat(response.getRecommendedAccommodations()).extracting(ListDto::getAccommodationsName)
+                .containsExactly("오션뷰 파티하우스", "조용한 오션뷰 숙소");
+        assertThat(response.getGeneralAccommodations()).extracting(ListDto::getAccommodationsName)
+                .containsExactly("숲속의 조용한 집");
+        verify(mainRepository, never()).findByAccommodationStatusAndApprovalStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("스냅샷에서 테마 필터/테마별 목록을 잘라낸다")
+    void testThemeFilterFromSnapshot() {
+        when(publicListingSnapshot.current()).thenReturn(snapshot());
+
+        MainAccommodationListResponse filtered = mainService.getMainAccommodationList(null, List.of(2L, 3L), null);
+        Map<Long, MainAccommodationListResponse> bulk = mainService.getMainAccommodationListBulk(null, List.of(1L, 3L), null);
+
+        assertThat(filtered.getGeneralAccommodations()).extracting(ListDto::getAccommodationsId)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(bulk.get(1L).getGeneralAccommodations()).extracting(ListDto::getAccommodationsId)
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(bulk.get(3L).getGeneralAccommodations()).extracting(ListDto::getAccommodationsId)
+                .containsExactlyInAnyOrder(2L, 3L);
+        verify(mainRepository, never()).findByThemeIds(anyList());
+    }
+
+    @Test
+    @DisplayName("검색어가 있으면 스냅샷 대신 DB 에서 조회한다")
+    void testKeywordBypassesSnapshot() {
+        MainAccommodationListResponse response = mainService.getMainAccommodationList(2L, null, "오션뷰");
+
+        assertThat(response.getGeneralAccommodations()).hasSize(2);
+        verify(publicListingSnapshot, never()).current();
+    }
+
+    private PublicListingSnapshot.Snapshot snapshot() {
+        Map<Long, PublicListingSnapshot.Entry> entries = new TreeMap<>();
+        entries.put(1L, new PublicListingSnapshot.Entry(ListDto.from(acc1, null, 4), Set.of(1L, 2L)));
+        entries.put(2L, new PublicListingSnapshot.Entry(ListDto.from(acc2, null, 2), Set.of(1L, 3L)));
+        entries.put(3L, new PublicListingSnapshot.Entry(ListDto.from(acc3, null, 6), Set.of(3L)));
+        return new PublicListingSnapshot.Snapshot(1L, entries);
+    }
 }
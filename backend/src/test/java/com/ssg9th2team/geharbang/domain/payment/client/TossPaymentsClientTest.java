@@ -0,0 +1,84 @@
+package com.ssg9th2team.geharbang.domain.payment.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 PG 서버로 토스페이먼츠 클라이언트 검증
+ */
+class TossPaymentsClientTest {
+
+    private HttpServer server;
+    private TossPaymentsClient client;
+    private final List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/payments/confirm", exchange -> {
+            idempotencyKeys.add(exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+            String expectedAuth = "Basic dGVzdF9za19kdW1teTo="; // test_sk_dummy:
+            boolean authorized = expectedAuth.equals(exchange.getRequestHeaders().getFirst("Authorization"));
+            String body = "{\"method\":\"간편결제\",\"approvedAt\":\"2026-10-17T10:15:30+09:00\"}";
+            if ("slow".equals(exchange.getRequestHeaders().getFirst("Idempotency-Key"))) {
+                sleep(1500);
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(authorized ? 200 : 401, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        client = new TossPaymentsClient("test_sk_dummy", "http://127.0.0.1:" + server.getAddress().getPort() + "/",
+                1000, 500, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("승인 응답의 결제 수단과 승인 시각을 해석하고, 주문번호를 Idempotency-Key 로 보낸다")
+    void testConfirm() {
+        TossPaymentsClient.ConfirmResult result = client.confirm("pk_1", "ORDER_1_1", 10000, "ORDER_1_1");
+        TossPaymentsClient.ConfirmResult retried = client.confirm("pk_1", "ORDER_1_1", 10000, "ORDER_1_1");
+
+        assertThat(result.paymentMethod()).isEqualTo("간편결제");
+        assertThat(result.approvedAt()).isEqualTo(LocalDateTime.of(2026, 10, 17, 10, 15, 30));
+        assertThat(retried).isEqualTo(result);
+        assertThat(idempotencyKeys).containsExactly("ORDER_1_1", "ORDER_1_1");
+    }
+
+    @Test
+    @DisplayName("PG 응답이 read-timeout 보다 늦으면 기다리지 않고 실패한다")
+    void testConfirmTimesOut() {
+        assertThatThrownBy(() -> client.confirm("pk_2", "ORDER_2_1", 10000, "slow"))
+                .isInstanceOf(ResourceAccessException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.ssg9th2team.geharbang.domain.payment.service;
+
+import com.ssg9th2team.geharbang.domain.admin.service.AdminMetricRollupService;
+import com.ssg9th2team.geharbang.domain.coupon.repository.jpa.UserCouponJpaRepository;
+import com.ssg9th2team.geharbang.domain.coupon.service.UserCouponService;
+import com.ssg9th2team.geharbang.domain.payment.client.TossPaymentsClient;
+import com.ssg9th2team.geharbang.domain.payment.dto.PaymentConfirmRequestDto;
+import com.ssg9th2team.geharbang.domain.payment.dto.PaymentConfirmResponseDto;
+import com.ssg9th2team.geharbang.domain.payment.entity.Payment;
+import com.ssg9th2team.geharbang.domain.payment.entity.PaymentConfirmRequest;
+import com.ssg9th2team.geharbang.domain.payment.entity.PaymentConfirmStatus;
+import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentConfirmRequestJpaRepository;
+import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentJpaRepository;
+import com.ssg9th2team.geharbang.domain.payment.repository.jpa.PaymentRefundJpaRepository;
+import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import com.ssg9th2team.geharbang.domain.reservation.service.RoomCapacityLedger;
+import com.ssg9th2team.geharbang.domain.reservation.service.RoomOccupancyIndex;
+import com.ssg9th2team.geharbang.global.outbox.OutboxEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceImplTest {
+
+    private static final Long RESERVATION_ID = 11L;
+    private static final String ORDER_ID = "ORDER_11_1700000000000";
+    private static final String PAYMENT_KEY = "pay_key";
+    private static final int AMOUNT = 50000;
+
+    @Mock
+    private PaymentJpaRepository paymentRepository;
+    @Mock
+    private PaymentRefundJpaRepository paymentRefundRepository;
+    @Mock
+    private RefundPolicyService refundPolicyService;
+    @Mock
+    private ReservationJpaRepository reservationRepository;
+    @Mock
+    private UserCouponService userCouponService;
+    @Mock
+    private UserCouponJpaRepository userCouponJpaRepository;
+    @Mock
+    private RoomOccupancyIndex roomOccupancyIndex;
+    @Mock
+    private RoomCapacityLedger roomCapacityLedger;
+    @Mock
+    private PaymentConfirmRequestJpaRepository paymentConfirmRequestRepository;
+    @Mock
+    private TossPaymentsClient tossPaymentsClient;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+    @Mock
+    private AdminMetricRollupService metricRollupService;
+
+    private PaymentServiceImpl paymentService;
+
+    private final PaymentConfirmRequestDto requestDto = new PaymentConfirmRequestDto(PAYMENT_KEY, ORDER_ID, AMOUNT);
+    private final Reservation reservation = Reservation.builder()
+            .id(RESERVATION_ID)
+            .accommodationsId(3L)
+            .userId(5L)
+            .checkout(LocalDateTime.now().plusDays(3))
+            .reservationStatus(0)
+            .finalPaymentAmount(AMOUNT)
+            .paymentStatus(0)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        paymentService = new PaymentServiceImpl(paymentRepository, paymentRefundRepository, refundPolicyService,
+                reservationRepository, userCouponService, userCouponJpaRepository, roomOccupancyIndex,
+                roomCapacityLedger, paymentConfirmRequestRepository, tossPaymentsClient,
+                new TransactionTemplate(transactionManager), outboxEventPublisher, metricRollupService);
+        ReflectionTestUtils.setField(paymentService, "confirmLeaseSeconds", 60L);
+        when(reservationRepository.findByIdWithLock(RESERVATION_ID)).thenReturn(Optional.of(reservation));
+    }
+
+    @Test
+    @DisplayName("이미 승인된 주문을 다시 승인하면 PG 를 호출하지 않고 저장된 결제를 돌려준다")
+    void testDuplicateConfirmReturnsStoredPayment() {
+        PaymentConfirmRequest stored = confirmRequest(LocalDateTime.now());
+        stored.succeed(100L);
+        when(paymentConfirmRequestRepository.findById(ORDER_ID)).thenReturn(Optional.of(stored));
+        when(paymentRepository.findById(100L)).thenReturn(Optional.of(Payment.builder()
+                .id(100L)
+                .reservationId(RESERVATION_ID)
+                .orderId(ORDER_ID)
+                .pgPaymentKey(PAYMENT_KEY)
+                .approvedAmount(AMOUNT)
+                .paymentStatus(1)
+                .build()));
+
+        PaymentConfirmResponseDto response = paymentService.confirmPayment(requestDto);
+
+        assertThat(response.payment().paymentId()).isEqualTo(100L);
+        verify(tossPaymentsClient, never()).confirm(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("승인 중(lease 이내)인 주문을 다시 승인하면 409 로 거절한다")
+    void testConfirmWhileProcessingIsConflict() {
+        when(paymentConfirmRequestRepository.findById(ORDER_ID))
+                .thenReturn(Optional.of(confirmRequest(LocalDateTime.now().minusSeconds(10))));
+
+        assertThatThrownBy(() -> paymentService.confirmPayment(requestDto))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        verify(tossPaymentsClient, never()).confirm(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("실패한 주문은 lease 동안 409, lease 이후에는 새 멱등성 키로 다시 승인한다")
+    void testFailedRequestIsRetriedAfterLease() {
+        PaymentConfirmRequest failed = confirmRequest(null);
+        failed.fail("PG 타임아웃");
+        ReflectionTestUtils.setField(failed, "updatedAt", LocalDateTime.now().minusSeconds(10));
+        when(paymentConfirmRequestRepository.findById(ORDER_ID)).thenReturn(Optional.of(failed));
+
+        assertThatThrownBy(() -> paymentService.confirmPayment(requestDto))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+
+        ReflectionTestUtils.setField(failed, "updatedAt", LocalDateTime.now().minusSeconds(120));
+        when(tossPaymentsClient.confirm(PAYMENT_KEY, ORDER_ID, AMOUNT, ORDER_ID + "-1"))
+                .thenReturn(new TossPaymentsClient.ConfirmResult("카드", LocalDateTime.now()));
+        when(reservationRepository.findById(RESERVATION_ID)).thenReturn(Optional.of(reservation));
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(returnsFirstArg());
+        when(reservationRepository.countByUserIdAndReservationStatus(5L, 2)).thenReturn(1L);
+
+        PaymentConfirmResponseDto response = paymentService.confirmPayment(requestDto);
+
+        assertThat(response.payment().orderId()).isEqualTo(ORDER_ID);
+        assertThat(failed.getStatus()).isEqualTo(PaymentConfirmStatus.SUCCEEDED);
+        assertThat(failed.getFailureMessage()).isNull();
+        assertThat(reservation.getReservationStatus()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("PG 승인 이후 실패하면 CANCEL_ + orderId 멱등성 키로 자동 취소하고 실패로 기록한다")
+    void testConfirmFailureCancelsWithIdempotencyKey() {
+        PaymentConfirmRequest stored = confirmRequest(null);
+        when(paymentConfirmRequestRepository.findById(ORDER_ID)).thenReturn(Optional.empty(), Optional.of(stored));
+        when(paymentConfirmRequestRepository.saveAndFlush(any(PaymentConfirmRequest.class))).thenAnswer(returnsFirstArg());
+        when(tossPaymentsClient.confirm(PAYMENT_KEY, ORDER_ID, AMOUNT, ORDER_ID))
+                .thenThrow(new IllegalStateException("PG 응답 지연"));
+        when(reservationRepository.findById(RESERVATION_ID)).thenReturn(Optional.of(reservation));
+
+        assertThatThrownBy(() -> paymentService.confirmPayment(requestDto))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("PG 응답 지연");
+
+        verify(tossPaymentsClient).cancel(eq(PAYMENT_KEY), anyString(), isNull(), eq("CANCEL_" + ORDER_ID));
+        assertThat(stored.getStatus()).isEqualTo(PaymentConfirmStatus.FAILED);
+        assertThat(reservation.getPaymentStatus()).isEqualTo(2);
+    }
+
+    private PaymentConfirmRequest confirmRequest(LocalDateTime updatedAt) {
+        PaymentConfirmRequest confirmRequest = PaymentConfirmRequest.builder()
+                .orderId(ORDER_ID)
+                .reservationId(RESERVATION_ID)
+                .pgPaymentKey(PAYMENT_KEY)
+                .amount(AMOUNT)
+                .build();
+        ReflectionTestUtils.setField(confirmRequest, "updatedAt", updatedAt);
+        return confirmRequest;
+    }
+}
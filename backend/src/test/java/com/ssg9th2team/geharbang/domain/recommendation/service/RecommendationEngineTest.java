@@ -0,0 +1,147 @@
+package com.ssg9th2team.geharbang.domain.recommendation.service;
+
+import com.ssg9th2team.geharbang.domain.recommendation.dto.AccommodationAttributeDto;
+import com.ssg9th2team.geharbang.domain.recommendation.dto.AccommodationScoreDto;
+import com.ssg9th2team.geharbang.domain.recommendation.dto.RecommendationResponse;
+import com.ssg9th2team.geharbang.domain.recommendation.repository.RecommendationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationEngineTest {
+
+    private static final String KEY = "recommendation:user:7";
+
+    @Mock
+    private RecommendationMapper recommendationMapper;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RecommendationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new RecommendationEngine(recommendationMapper, redisTemplate);
+        ReflectionTestUtils.setField(engine, "enabled", true);
+        ReflectionTestUtils.setField(engine, "topK", 50);
+        ReflectionTestUtils.setField(engine, "userTtlMinutes", 60L);
+    }
+
+    @Test
+    @DisplayName("저장된 추천이 없으면 스냅샷으로 계산해서 TTL 과 함께 저장한다")
+    void testRecommendComputesOnMiss() {
+        loadSnapshot();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn(null);
+        when(recommendationMapper.findUserThemeIds(7L)).thenReturn(Set.of(20L));
+        when(recommendationMapper.findPreferredTagIds(7L)).thenReturn(Set.of(100L));
+        when(recommendationMapper.findReservedAccommodationIds(7L)).thenReturn(Set.of());
+
+        Optional<List<RecommendationResponse>> result = engine.recommend(7L, 10);
+
+        assertThat(result).isPresent();
+        assertThat(result.get()).extracting(RecommendationResponse::getAccommodationId).containsExactly(2L);
+        RecommendationResponse response = result.get().get(0);
+        assertThat(response.getMatchedThemes()).containsExactly("바다");
+        assertThat(response.getMatchedTags()).containsExactly("깨끗해요");
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(KEY), stored.capture(), eq(Duration.ofMinutes(60)));
+        assertThat(stored.getValue()).startsWith("2:");
+    }
+
+    @Test
+    @DisplayName("저장된 추천이 있으면 사용자 선호를 조회하지 않고 스냅샷으로 카드를 채운다")
+    void testRecommendUsesStoredRanking() {
+        loadSnapshot();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn("3:0.5,99:0.45,1:0.4");
+
+        Optional<List<RecommendationResponse>> result = engine.recommend(7L, 10);
+
+        assertThat(result).isPresent();
+        assertThat(result.get()).extracting(RecommendationResponse::getAccommodationId).containsExactly(3L, 1L);
+        assertThat(result.get()).extracting(RecommendationResponse::getScore).containsExactly(0.5, 0.4);
+        verify(recommendationMapper, never()).findUserThemeIds(anyLong());
+        verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("선호가 없는 사용자는 예약한 숙소를 뺀 인기순 목록을 받는다")
+    void testRecommendPopularFallback() {
+        loadSnapshot();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn(null);
+        when(recommendationMapper.findUserThemeIds(7L)).thenReturn(Set.of());
+        when(recommendationMapper.findPreferredTagIds(7L)).thenReturn(Set.of());
+        when(recommendationMapper.findReservedAccommodationIds(7L)).thenReturn(Set.of(1L));
+
+        Optional<List<RecommendationResponse>> result = engine.recommend(7L, 10);
+
+        assertThat(result).isPresent();
+        assertThat(result.get()).extracting(RecommendationResponse::getAccommodationId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없거나 top-k 보다 많이 요청하면 호출부가 직접 계산하도록 비워서 반환한다")
+    void testRecommendUnavailable() {
+        assertThat(engine.recommend(7L, 10)).isEmpty();
+        verifyNoInteractions(redisTemplate);
+
+        loadSnapshot();
+        assertThat(engine.recommend(7L, 51)).isEmpty();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private void loadSnapshot() {
+        when(recommendationMapper.findAccommodationFeatures()).thenReturn(List.of(
+                feature(1L, 4.8, 40, 1, 30),
+                feature(2L, 4.5, 12, 1, 10),
+                feature(3L, 4.0, 3, 0, 2)));
+        when(recommendationMapper.findAccommodationThemes()).thenReturn(List.of(
+                new AccommodationAttributeDto(1L, 10L, "산", 1),
+                new AccommodationAttributeDto(2L, 20L, "바다", 1)));
+        when(recommendationMapper.findAccommodationTagCounts()).thenReturn(List.of(
+                new AccommodationAttributeDto(2L, 100L, "깨끗해요", 5)));
+        engine.rebuild();
+    }
+
+    private AccommodationScoreDto feature(Long id, double rating, int reviewCount, int themeCount,
+                                          int reservationCount) {
+        return AccommodationScoreDto.builder()
+                .accommodationId(id)
+                .accommodationName("숙소" + id)
+                .city("제주")
+                .rating(rating)
+                .minPrice(50000.0)
+                .reviewCount(reviewCount)
+                .totalThemeCount(themeCount)
+                .reservationCount(reservationCount)
+                .build();
+    }
+}
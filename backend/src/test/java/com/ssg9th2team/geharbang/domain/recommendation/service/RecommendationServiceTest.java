@@ -1,5 +1,6 @@
 package com.ssg9th2team.geharbang.domain.recommendation.service;
 
+import com.ssg9th2team.geharbang.domain.recommendation.dto.AccommodationLabelDto;
 import com.ssg9th2team.geharbang.domain.recommendation.dto.AccommodationScoreDto;
 import com.ssg9th2team.geharbang.domain.recommendation.dto.RecommendationResponse;
 import com.ssg9th2team.geharbang.domain.recommendation.repository.RecommendationMapper;
@@ -17,6 +18,8 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -34,6 +37,9 @@ public class RecommendationServiceTest {
     @Mock
     private RecommendationMapper recommendationMapper;
 
+    @Mock
+    private RecommendationEngine recommendationEngine;
+
     @InjectMocks
     private RecommendationServiceImpl recommendationService;
 
@@ -109,10 +115,10 @@ public class RecommendationServiceTest {
                 .thenReturn(List.of(mockAccommodation3, mockAccommodation1, mockAccommodation2));
 
         // 테마/태그 이름 반환
-        when(recommendationMapper.findThemeNamesByAccommodationId(anyLong()))
-                .thenReturn(List.of("도심", "가성비"));
-        when(recommendationMapper.findTopTagNamesByAccommodationId(anyLong()))
-                .thenReturn(List.of("위치 좋음", "친절함"));
+        when(recommendationMapper.findThemeNamesByAccommodationIds(anyCollection()))
+                .thenReturn(List.of(label(3L, "도심"), label(3L, "가성비")));
+        when(recommendationMapper.findTagNamesByAccommodationIds(anyCollection()))
+                .thenReturn(List.of(label(3L, "위치 좋음"), label(3L, "친절함")));
 
         // when
         List<RecommendationResponse> recommendations = recommendationService.getRecommendations(newUserId, 5);
@@ -128,6 +134,12 @@ public class RecommendationServiceTest {
             assertThat(rec.getScore()).isNotNull();
         });
 
+        // 테마/태그 이름은 숙소 수와 관계없이 한 번씩만 조회
+        verify(recommendationMapper, times(1)).findThemeNamesByAccommodationIds(anyCollection());
+        verify(recommendationMapper, times(1)).findTagNamesByAccommodationIds(anyCollection());
+        assertThat(recommendations.get(0).getMatchedThemes()).containsExactly("도심", "가성비");
+        assertThat(recommendations.get(1).getMatchedThemes()).isEmpty();
+
         System.out.println("=== 신규 유저 Fallback 추천 테스트 통과 ===");
         System.out.println("추천 수: " + recommendations.size());
     }
@@ -148,11 +160,9 @@ public class RecommendationServiceTest {
                 .thenReturn(List.of(mockAccommodation1, mockAccommodation2));
 
         // 테마/태그 이름 반환
-        when(recommendationMapper.findThemeNamesByAccommodationId(1L))
-                .thenReturn(List.of("바다뷰", "조용한"));
-        when(recommendationMapper.findThemeNamesByAccommodationId(2L))
-                .thenReturn(List.of("조용한"));
-        when(recommendationMapper.findTopTagNamesByAccommodationId(anyLong()))
+        when(recommendationMapper.findThemeNamesByAccommodationIds(anyCollection()))
+                .thenReturn(List.of(label(1L, "바다뷰"), label(1L, "조용한"), label(2L, "조용한")));
+        when(recommendationMapper.findTagNamesByAccommodationIds(anyCollection()))
                 .thenReturn(List.of());
 
         // when
@@ -186,12 +196,11 @@ public class RecommendationServiceTest {
                 .thenReturn(List.of(mockAccommodation2, mockAccommodation3));
 
         // 테마/태그 이름 반환
-        when(recommendationMapper.findThemeNamesByAccommodationId(anyLong()))
+        when(recommendationMapper.findThemeNamesByAccommodationIds(anyCollection()))
                 .thenReturn(List.of());
-        when(recommendationMapper.findTopTagNamesByAccommodationId(2L))
-                .thenReturn(List.of("친절한 호스트", "위치 좋음", "청결함"));
-        when(recommendationMapper.findTopTagNamesByAccommodationId(3L))
-                .thenReturn(List.of("위치 좋음", "가성비"));
+        when(recommendationMapper.findTagNamesByAccommodationIds(anyCollection()))
+                .thenReturn(List.of(label(2L, "친절한 호스트"), label(2L, "위치 좋음"), label(2L, "청결함"),
+                        label(2L, "조용함"), label(3L, "위치 좋음"), label(3L, "가성비")));
 
         // when
         List<RecommendationResponse> recommendations = recommendationService.getRecommendations(userId, 5);
@@ -199,6 +208,12 @@ public class RecommendationServiceTest {
         // then
         assertThat(recommendations).isNotEmpty();
 
+        // 숙소별 태그는 많이 달린 순으로 최대 3개
+        recommendations.stream()
+                .filter(rec -> rec.getAccommodationId() == 2L)
+                .forEach(rec -> assertThat(rec.getMatchedTags())
+                        .containsExactly("친절한 호스트", "위치 좋음", "청결함"));
+
         System.out.println("=== 리뷰만 작성한 유저 추천 테스트 통과 ===");
         System.out.println("추천 수: " + recommendations.size());
     }
@@ -222,10 +237,10 @@ public class RecommendationServiceTest {
                 .thenReturn(List.of(mockAccommodation2, mockAccommodation3));
 
         // 테마/태그 이름 반환
-        when(recommendationMapper.findThemeNamesByAccommodationId(anyLong()))
-                .thenReturn(List.of("바다뷰"));
-        when(recommendationMapper.findTopTagNamesByAccommodationId(anyLong()))
-                .thenReturn(List.of("친절함", "청결함"));
+        when(recommendationMapper.findThemeNamesByAccommodationIds(anyCollection()))
+                .thenReturn(List.of(label(1L, "바다뷰")));
+        when(recommendationMapper.findTagNamesByAccommodationIds(anyCollection()))
+                .thenReturn(List.of(label(2L, "친절함"), label(3L, "청결함")));
 
         // when
         List<RecommendationResponse> recommendations = recommendationService.getRecommendations(userId, 5);
@@ -258,9 +273,9 @@ public class RecommendationServiceTest {
         when(recommendationMapper.findPopularAccommodations(eq(reservedIds), anyInt()))
                 .thenReturn(List.of(mockAccommodation3)); // 예약 안 한 숙소만 반환
 
-        when(recommendationMapper.findThemeNamesByAccommodationId(anyLong()))
+        when(recommendationMapper.findThemeNamesByAccommodationIds(anyCollection()))
                 .thenReturn(List.of());
-        when(recommendationMapper.findTopTagNamesByAccommodationId(anyLong()))
+        when(recommendationMapper.findTagNamesByAccommodationIds(anyCollection()))
                 .thenReturn(List.of());
 
         // when
@@ -288,10 +303,10 @@ public class RecommendationServiceTest {
         when(recommendationMapper.findReservedAccommodationIds(userId)).thenReturn(new HashSet<>());
         when(recommendationMapper.findPopularAccommodations(anySet(), anyInt()))
                 .thenReturn(List.of(mockAccommodation1));
-        when(recommendationMapper.findThemeNamesByAccommodationId(anyLong()))
-                .thenReturn(List.of("테마1"));
-        when(recommendationMapper.findTopTagNamesByAccommodationId(anyLong()))
-                .thenReturn(List.of("태그1"));
+        when(recommendationMapper.findThemeNamesByAccommodationIds(anyCollection()))
+                .thenReturn(List.of(label(1L, "테마1")));
+        when(recommendationMapper.findTagNamesByAccommodationIds(anyCollection()))
+                .thenReturn(List.of(label(1L, "태그1")));
 
         // when
         List<RecommendationResponse> recommendations = recommendationService.getRecommendations(userId, 3);
@@ -322,9 +337,9 @@ public class RecommendationServiceTest {
         when(recommendationMapper.findReservedAccommodationIds(userId)).thenReturn(new HashSet<>());
         when(recommendationMapper.findPopularAccommodations(anySet(), eq(limit)))
                 .thenReturn(List.of(mockAccommodation1, mockAccommodation2));
-        when(recommendationMapper.findThemeNamesByAccommodationId(anyLong()))
+        when(recommendationMapper.findThemeNamesByAccommodationIds(anyCollection()))
                 .thenReturn(List.of());
-        when(recommendationMapper.findTopTagNamesByAccommodationId(anyLong()))
+        when(recommendationMapper.findTagNamesByAccommodationIds(anyCollection()))
                 .thenReturn(List.of());
 
         // when
@@ -335,4 +350,8 @@ public class RecommendationServiceTest {
 
         System.out.println("=== Limit 파라미터 테스트 통과 ===");
     }
+
+    private AccommodationLabelDto label(Long accommodationId, String name) {
+        return new AccommodationLabelDto(accommodationId, name);
+    }
 }
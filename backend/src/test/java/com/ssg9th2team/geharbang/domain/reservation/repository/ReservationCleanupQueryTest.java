@@ -0,0 +1,103 @@
+package com.ssg9th2team.geharbang.domain.reservation.repository;
+
+import com.ssg9th2team.geharbang.domain.payment.entity.PaymentConfirmRequest;
+import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cleanuptest;MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.type.preferred_boolean_jdbc_type=TINYINT",
+        "spring.flyway.enabled=false"
+})
+class ReservationCleanupQueryTest {
+
+    @Autowired
+    private ReservationJpaRepository reservationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("대기 예약 정리는 결제 승인 중인 예약을 건너뛰고, 멈추거나 실패한 승인은 정리한다")
+    void testCleanupSkipsConfirmingReservations() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusMinutes(30);
+        Long abandoned = persistPendingReservation(now.minusHours(1));
+        Long confirming = persistPendingReservation(now.minusHours(1));
+        Long stalled = persistPendingReservation(now.minusHours(1));
+        Long failed = persistPendingReservation(now.minusHours(1));
+        Long recent = persistPendingReservation(now.minusMinutes(5));
+        persistConfirmRequest(confirming, now.minusSeconds(10), false);
+        persistConfirmRequest(stalled, now.minusHours(1), false);
+        persistConfirmRequest(failed, now.minusSeconds(10), true);
+        entityManager.clear();
+
+        assertThat(reservationRepository.findOldPendingReservations(cutoff))
+                .extracting(Reservation::getId)
+                .containsExactlyInAnyOrder(abandoned, stalled, failed);
+
+        assertThat(reservationRepository.deleteOldPendingReservations(cutoff)).isEqualTo(3);
+        assertThat(reservationRepository.findAll())
+                .extracting(Reservation::getId)
+                .containsExactlyInAnyOrder(confirming, recent);
+    }
+
+    private Long persistPendingReservation(LocalDateTime createdAt) {
+        Reservation reservation = Reservation.builder()
+                .accommodationsId(1L)
+                .roomId(1L)
+                .userId(1L)
+                .checkin(LocalDateTime.now().plusDays(7))
+                .checkout(LocalDateTime.now().plusDays(8))
+                .stayNights(1)
+                .guestCount(2)
+                .reservationStatus(0)
+                .totalAmountBeforeDc(10000)
+                .couponDiscountAmount(0)
+                .finalPaymentAmount(10000)
+                .paymentStatus(0)
+                .reserverName("테스터")
+                .reserverPhone("010-0000-0000")
+                .build();
+        entityManager.persist(reservation);
+        entityManager.flush();
+        // created_at 은 @PrePersist 가 현재 시각으로 채우므로 저장 후 되돌린다.
+        entityManager.createQuery("UPDATE Reservation r SET r.createdAt = :createdAt WHERE r.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", reservation.getId())
+                .executeUpdate();
+        return reservation.getId();
+    }
+
+    private void persistConfirmRequest(Long reservationId, LocalDateTime updatedAt, boolean failed) {
+        PaymentConfirmRequest confirmRequest = PaymentConfirmRequest.builder()
+                .orderId("ORDER_" + reservationId + "_1700000000000")
+                .reservationId(reservationId)
+                .pgPaymentKey("pay_key_" + reservationId)
+                .amount(10000)
+                .build();
+        if (failed) {
+            confirmRequest.fail("PG 오류");
+        }
+        entityManager.persist(confirmRequest);
+        entityManager.flush();
+        entityManager.createQuery("UPDATE PaymentConfirmRequest c SET c.updatedAt = :updatedAt WHERE c.orderId = :orderId")
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("orderId", confirmRequest.getOrderId())
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,168 @@
+package com.ssg9th2team.geharbang.domain.reservation.service;
+
+import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 Redis 로 정원 장부의 차감/반환/롤백 보상 스크립트를 확인한다. (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RoomCapacityLedgerRedisTest {
+
+    private static final Long ROOM_ID = 7L;
+
+    @Container
+    static GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate redis;
+    private ReservationJpaRepository reservationRepository;
+    private RoomCapacityLedger ledger;
+
+    private final LocalDate checkin = LocalDate.now().plusDays(30);
+    private final LocalDate checkout = checkin.plusDays(2);
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(redisContainer.getHost(), redisContainer.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis = new StringRedisTemplate(connectionFactory);
+        reservationRepository = mock(ReservationJpaRepository.class);
+        ledger = new RoomCapacityLedger(redis, reservationRepository);
+        ReflectionTestUtils.setField(ledger, "enabled", true);
+        ReflectionTestUtils.setField(ledger, "idleTtlSeconds", 21600L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+    }
+
+    @Test
+    @DisplayName("키가 없는 박은 DB 예약으로 초기값을 채우고 모든 박에서 차감한다")
+    void testReserveSeedsMissingNights() {
+        givenOccupying(reservation(1L, checkin, checkin.plusDays(1), 2));
+
+        assertThat(ledger.reserve(ROOM_ID, checkin, checkout, 1, 4)).isEqualTo(2);
+
+        assertThat(reserved(0)).isEqualTo("3");
+        assertThat(reserved(1)).isEqualTo("1");
+        assertThat(redis.getExpire(key(0))).isPositive();
+        assertThat(redis.getExpire(key(1))).isPositive();
+    }
+
+    @Test
+    @DisplayName("정원 초과로 차감하지 않아도 초기값을 채운 박에는 만료 시각이 걸린다")
+    void testOverCapacitySeedStillExpires() {
+        givenOccupying(reservation(1L, checkin.plusDays(1), checkout, 4));
+
+        assertThat(ledger.reserve(ROOM_ID, checkin, checkout, 1, 4)).isZero();
+
+        assertThat(reserved(0)).isEqualTo("0");
+        assertThat(reserved(1)).isEqualTo("4");
+        assertThat(redis.getExpire(key(0))).isPositive();
+        assertThat(redis.getExpire(key(1))).isPositive();
+    }
+
+    @Test
+    @DisplayName("롤백 보상은 차감 이후 다시 채워지지 않은 박만 되돌린다")
+    void testRollbackSkipsReseededNights() {
+        givenOccupying(reservation(1L, checkin, checkout, 1));
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(ledger.reserve(ROOM_ID, checkin, checkout, 2, 4)).isEqualTo(3);
+        // 커밋 전에 다른 노드가 첫 박을 무효화하고 DB 기준(롤백될 예약 미포함)으로 다시 채웠다.
+        redis.delete(key(0));
+        redis.opsForHash().putAll(key(0), Map.of("r", "1", "s", String.valueOf(System.currentTimeMillis() + 1)));
+
+        completeRolledBack();
+
+        assertThat(reserved(0)).isEqualTo("1");
+        assertThat(reserved(1)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("같은 예약을 여러 번 반환해도 인원은 한 번만 돌아온다")
+    void testDuplicateReleaseReturnsOnce() {
+        String seededAt = String.valueOf(System.currentTimeMillis() - 1000);
+        redis.opsForHash().putAll(key(0), Map.of("r", "3", "s", seededAt));
+        redis.opsForHash().putAll(key(1), Map.of("r", "3", "s", seededAt));
+        Reservation reservation = reservation(10L, checkin, checkout, 2);
+
+        ledger.release(reservation);
+        ledger.release(reservation);
+
+        assertThat(reserved(0)).isEqualTo("1");
+        assertThat(reserved(1)).isEqualTo("1");
+    }
+
+    private void completeRolledBack() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+
+    private void givenOccupying(Reservation... reservations) {
+        when(reservationRepository.findOccupyingByRoomIdAndDateRange(eq(ROOM_ID), any(), any()))
+                .thenReturn(List.of(reservations));
+    }
+
+    private String reserved(int night) {
+        return (String) redis.opsForHash().get(key(night), "r");
+    }
+
+    private String key(int night) {
+        return RoomCapacityLedger.nightKeys(ROOM_ID, checkin, checkout).get(night);
+    }
+
+    private Reservation reservation(Long id, LocalDate from, LocalDate to, int guestCount) {
+        return Reservation.builder()
+                .id(id)
+                .roomId(ROOM_ID)
+                .checkin(from.atTime(15, 0))
+                .checkout(to.atTime(11, 0))
+                .guestCount(guestCount)
+                .reservationStatus(2)
+                .build();
+    }
+}
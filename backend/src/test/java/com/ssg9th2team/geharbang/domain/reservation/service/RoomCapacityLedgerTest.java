@@ -0,0 +1,78 @@
+package com.ssg9th2team.geharbang.domain.reservation.service;
+
+import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomCapacityLedgerTest {
+
+    @Test
+    @DisplayName("체크인 날짜가 다른 연박 예약도 겹치는 박에만 인원이 잡힌다")
+    void testNightlyGuestsCountsOverlappingNights() {
+        LocalDate from = LocalDate.of(2026, 8, 1);
+        List<Reservation> reservations = List.of(
+                reservation(LocalDate.of(2026, 7, 30), LocalDate.of(2026, 8, 2), 2),
+                reservation(LocalDate.of(2026, 8, 2), LocalDate.of(2026, 8, 5), 3),
+                // 체크인 날짜 당일 체크아웃은 점유하지 않는다.
+                reservation(LocalDate.of(2026, 7, 29), LocalDate.of(2026, 8, 1), 4));
+
+        assertThat(RoomCapacityLedger.nightlyGuests(reservations, from, 3)).containsExactly(2, 3, 3);
+    }
+
+    @Test
+    @DisplayName("박별 키는 체크아웃 전날까지 만들고 같은 객실은 같은 해시 태그를 쓴다")
+    void testNightKeys() {
+        assertThat(RoomCapacityLedger.nightKeys(7L, LocalDate.of(2026, 8, 1), LocalDate.of(2026, 8, 3)))
+                .containsExactly("capacity:room:{7}:2026-08-01", "capacity:room:{7}:2026-08-02");
+    }
+
+    private Reservation reservation(LocalDate checkin, LocalDate checkout, int guestCount) {
+        return Reservation.builder()
+                .roomId(7L)
+                .checkin(checkin.atTime(15, 0))
+                .checkout(checkout.atTime(11, 0))
+                .guestCount(guestCount)
+                .reservationStatus(2)
+                .build();
+    }
+
+    @Test
+    @DisplayName("장부 무효화에 실패한 박은 재시도로 지워질 때까지 장부를 쓰지 않는다")
+    void testPendingInvalidationBlocksLedgerUntilRetried() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        RoomCapacityLedger ledger = new RoomCapacityLedger(redis, mock(ReservationJpaRepository.class));
+        ReflectionTestUtils.setField(ledger, "enabled", true);
+        LocalDate checkin = LocalDate.of(2026, 8, 1);
+        LocalDate checkout = LocalDate.of(2026, 8, 3);
+        when(redis.delete(anyCollection()))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(1L);
+
+        ledger.invalidateAfterCommit(7L, checkin, checkout);
+
+        assertThat(ledger.reserve(7L, checkin, checkout, 1, 4)).isNull();
+
+        ledger.retryPendingInvalidations();
+        ledger.retryPendingInvalidations();
+
+        // 실패 2번 + 박별 재시도 2번, 두 번째 재시도 주기에는 남은 키가 없다.
+        verify(redis).delete(List.of("capacity:room:{7}:2026-08-01"));
+        verify(redis).delete(List.of("capacity:room:{7}:2026-08-02"));
+        verify(redis, times(4)).delete(anyCollection());
+    }
+}
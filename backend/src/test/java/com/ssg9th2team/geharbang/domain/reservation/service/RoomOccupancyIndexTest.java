@@ -0,0 +1,137 @@
+package com.ssg9th2team.geharbang.domain.reservation.service;
+
+import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.domain.reservation.repository.jpa.ReservationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomOccupancyIndexTest {
+
+    private static final Long ROOM_ID = 7L;
+
+    @Mock
+    private ReservationJpaRepository reservationRepository;
+
+    private RoomOccupancyIndex index;
+
+    /** 인덱스의 첫 박 (어제) */
+    private final LocalDate baseDay = LocalDate.now().minusDays(1);
+    private final LocalDate day = LocalDate.now().plusDays(10);
+
+    @BeforeEach
+    void setUp() {
+        index = new RoomOccupancyIndex(reservationRepository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("확정 예약만 박별 인원에 더하고, 상태 변경/취소/반환 시 이전 인원을 뺀다")
+    void testRecordAndReleaseArithmetic() {
+        loadWith();
+
+        index.record(reservation(1L, day, day.plusDays(2), 2, 2));
+        index.record(reservation(2L, day.plusDays(1), day.plusDays(3), 3, 3));
+        index.record(reservation(3L, day, day.plusDays(3), 4, 0));
+        assertThat(index.findPeakConfirmedGuests(day, day.plusDays(3))).isEqualTo(Map.of(ROOM_ID, 5));
+        assertThat(index.findPeakConfirmedGuests(day.plusDays(2), day.plusDays(3))).isEqualTo(Map.of(ROOM_ID, 3));
+
+        // 결제 대기 예약이 확정되면 확정 인원으로 옮겨진다.
+        index.record(reservation(3L, day, day.plusDays(3), 4, 2));
+        assertThat(index.findPeakConfirmedGuests(day, day.plusDays(3))).isEqualTo(Map.of(ROOM_ID, 9));
+
+        index.record(reservation(1L, day, day.plusDays(2), 2, 9));
+        index.release(3L);
+        assertThat(index.findPeakConfirmedGuests(day, day.plusDays(3))).isEqualTo(Map.of(ROOM_ID, 3));
+
+        index.release(2L);
+        index.release(2L);
+        assertThat(index.findPeakConfirmedGuests(day, day.plusDays(3))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재 중 커밋된 변경은 새 스냅샷에 다시 반영한다")
+    void testChangesDuringRebuildAreReplayed() {
+        when(reservationRepository.findOccupyingReservations(any())).thenAnswer(invocation -> {
+            index.record(reservation(2L, day, day.plusDays(1), 3, 2));
+            index.release(1L);
+            // 적재 쿼리는 위 변경 이전 상태를 읽었다.
+            return List.of(reservation(1L, day, day.plusDays(1), 2, 2));
+        });
+
+        index.rebuild();
+
+        assertThat(index.findPeakConfirmedGuests(day, day.plusDays(1))).isEqualTo(Map.of(ROOM_ID, 3));
+    }
+
+    @Test
+    @DisplayName("적재 중 다시 호출된 재적재는 건너뛴다")
+    void testRebuildIsSingleFlight() {
+        when(reservationRepository.findOccupyingReservations(any())).thenAnswer(invocation -> {
+            index.rebuild();
+            return List.of(reservation(1L, day, day.plusDays(1), 2, 2));
+        });
+
+        index.rebuild();
+
+        verify(reservationRepository, times(1)).findOccupyingReservations(any());
+        assertThat(index.findPeakConfirmedGuests(day, day.plusDays(1))).isEqualTo(Map.of(ROOM_ID, 2));
+    }
+
+    @Test
+    @DisplayName("어제부터 400박 범위만 판단하고, 범위를 걸친 예약은 범위 안의 박만 센다")
+    void testWindowEdges() {
+        loadWith(
+                reservation(1L, baseDay.minusDays(3), baseDay.plusDays(1), 2, 3),
+                reservation(2L, baseDay.plusDays(399), baseDay.plusDays(405), 4, 2));
+
+        assertThat(index.covers(baseDay, baseDay.plusDays(1))).isTrue();
+        assertThat(index.covers(baseDay.minusDays(1), baseDay.plusDays(1))).isFalse();
+        assertThat(index.covers(baseDay.plusDays(399), baseDay.plusDays(400))).isTrue();
+        assertThat(index.covers(baseDay.plusDays(399), baseDay.plusDays(401))).isFalse();
+        assertThat(index.covers(day, day)).isFalse();
+
+        assertThat(index.findPeakConfirmedGuests(baseDay, baseDay.plusDays(1))).isEqualTo(Map.of(ROOM_ID, 2));
+        assertThat(index.findPeakConfirmedGuests(baseDay.plusDays(1), baseDay.plusDays(2))).isEmpty();
+        assertThat(index.findPeakConfirmedGuests(baseDay.plusDays(399), baseDay.plusDays(400))).isEqualTo(Map.of(ROOM_ID, 4));
+    }
+
+    @Test
+    @DisplayName("적재 전에는 판단하지 않는다")
+    void testNotLoaded() {
+        assertThat(index.covers(day, day.plusDays(1))).isFalse();
+        assertThat(index.findPeakConfirmedGuests(day, day.plusDays(1))).isEmpty();
+    }
+
+    private void loadWith(Reservation... reservations) {
+        when(reservationRepository.findOccupyingReservations(baseDay.atStartOfDay())).thenReturn(List.of(reservations));
+        index.rebuild();
+    }
+
+    private Reservation reservation(Long id, LocalDate checkin, LocalDate checkout, int guestCount, int status) {
+        return Reservation.builder()
+                .id(id)
+                .roomId(ROOM_ID)
+                .checkin(checkin.atTime(15, 0))
+                .checkout(checkout.atTime(11, 0))
+                .guestCount(guestCount)
+                .reservationStatus(status)
+                .isDeleted(false)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.ssg9th2team.geharbang.domain.review.service;
+
+import com.ssg9th2team.geharbang.domain.review.repository.mybatis.ReviewAggregateMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewAggregateServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 12, 1, 10, 0);
+
+    @Mock
+    private ReviewAggregateMapper aggregateMapper;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReviewAggregateService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReviewAggregateService(aggregateMapper, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(service, "reconcileBatchSize", 2);
+    }
+
+    @Test
+    @DisplayName("리뷰 작성 시 숙소/일별/태그 집계를 1 증가시키고 숙소 평점을 맞춘다")
+    void testReviewCreated() {
+        service.reviewCreated(5L, new BigDecimal("4.5"), CREATED_AT, List.of(1L, 2L));
+
+        verify(aggregateMapper).upsertStatsDelta(5L, 1, new BigDecimal("4.5"), 5, 1);
+        verify(aggregateMapper).upsertDailyDelta(5L, LocalDate.of(2025, 12, 1), 1, new BigDecimal("4.5"));
+        verify(aggregateMapper).upsertTagDeltas(5L, Set.of(1L, 2L), 1);
+        verify(aggregateMapper).syncAccommodationRatings(List.of(5L));
+    }
+
+    @Test
+    @DisplayName("평점 수정 시 이전 구간을 빼고 새 구간을 더하며, 바뀐 태그만 증감한다")
+    void testReviewUpdated() {
+        service.reviewUpdated(5L, CREATED_AT, new BigDecimal("2.0"), new BigDecimal("4.0"),
+                List.of(1L, 2L), List.of(2L, 3L));
+
+        verify(aggregateMapper).upsertStatsDelta(5L, -1, new BigDecimal("-2.0"), 2, -1);
+        verify(aggregateMapper).upsertStatsDelta(5L, 1, new BigDecimal("4.0"), 4, 1);
+        verify(aggregateMapper).upsertTagDeltas(5L, Set.of(1L), -1);
+        verify(aggregateMapper).upsertTagDeltas(5L, Set.of(3L), 1);
+        verify(aggregateMapper).syncAccommodationRatings(List.of(5L));
+    }
+
+    @Test
+    @DisplayName("평점과 태그가 그대로면 집계를 건드리지 않는다")
+    void testReviewUpdatedWithoutChange() {
+        service.reviewUpdated(5L, CREATED_AT, new BigDecimal("4.0"), new BigDecimal("4.00"), List.of(1L), null);
+
+        verify(aggregateMapper, never()).upsertStatsDelta(any(), anyInt(), any(), anyInt(), anyInt());
+        verify(aggregateMapper, never()).upsertTagDeltas(any(), any(), anyInt());
+        verify(aggregateMapper, never()).syncAccommodationRatings(any());
+    }
+
+    @Test
+    @DisplayName("재계산은 숙소 ID 순으로 batch-size 개씩 나눠 다시 계산한다")
+    void testReconcileAllWalksBatches() {
+        when(aggregateMapper.selectAccommodationIdsAfter(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(aggregateMapper.selectAccommodationIdsAfter(2L, 2)).thenReturn(List.of(3L));
+
+        int total = service.reconcileAll();
+
+        assertThat(total).isEqualTo(3);
+        verify(aggregateMapper).rebuildStats(List.of(1L, 2L));
+        verify(aggregateMapper).rebuildStats(List.of(3L));
+        verify(aggregateMapper).syncAccommodationRatings(List.of(3L));
+        verify(aggregateMapper, never()).selectAccommodationIdsAfter(eq(3L), anyInt());
+    }
+
+    @Test
+    @DisplayName("평점 구간은 반올림 후 1~5 로 제한한다")
+    void testBucketOf() {
+        assertThat(ReviewAggregateService.bucketOf(new BigDecimal("0.0"))).isEqualTo(1);
+        assertThat(ReviewAggregateService.bucketOf(new BigDecimal("3.5"))).isEqualTo(4);
+        assertThat(ReviewAggregateService.bucketOf(new BigDecimal("3.4"))).isEqualTo(3);
+        assertThat(ReviewAggregateService.bucketOf(new BigDecimal("5.0"))).isEqualTo(5);
+    }
+}
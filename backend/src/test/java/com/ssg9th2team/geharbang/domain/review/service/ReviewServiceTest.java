@@ -9,6 +9,7 @@ import com.ssg9th2team.geharbang.domain.review.entity.ReviewEntity;
 import com.ssg9th2team.geharbang.domain.review.repository.jpa.ReviewJpaRepository;
 import com.ssg9th2team.geharbang.domain.review.repository.mybatis.ReviewMapper;
 import com.ssg9th2team.geharbang.global.storage.ObjectStorageService;
+import com.ssg9th2team.geharbang.global.storage.StoredImage;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -65,8 +66,8 @@ public class ReviewServiceTest extends com.ssg9th2team.geharbang.config.Integrat
     @BeforeEach
     void setUp() {
         // ObjectStorageService Mock 설정
-        Mockito.when(objectStorageService.uploadBase64Image(anyString(), anyString()))
-                .thenReturn("https://test-storage.com/test-image.jpg");
+        Mockito.when(objectStorageService.storeBase64Image(anyString(), anyString()))
+                .thenReturn(new StoredImage("https://test-storage.com/test-image.jpg", true));
 
         // ReviewMapper Mock 설정 (태그 저장)
         Mockito.doNothing().when(reviewMapper).insertReviewTags(anyLong(), anyList());
@@ -7,6 +7,7 @@ import com.ssg9th2team.geharbang.domain.room.dto.RoomCreateDto;
 import com.ssg9th2team.geharbang.domain.room.dto.RoomResponseDto;
 import com.ssg9th2team.geharbang.domain.room.dto.RoomUpdateDto;
 import com.ssg9th2team.geharbang.global.storage.ObjectStorageService;
+import com.ssg9th2team.geharbang.global.storage.StoredImage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -47,8 +48,8 @@ public class RoomServiceTest {
     @BeforeEach
     void setUp() {
         // ObjectStorageService Mock 설정
-        Mockito.when(objectStorageService.uploadBase64Image(Mockito.anyString(), Mockito.anyString()))
-                .thenReturn("https://test-storage.com/test-image.jpg");
+        Mockito.when(objectStorageService.storeBase64Image(Mockito.anyString(), Mockito.anyString()))
+                .thenReturn(new StoredImage("https://test-storage.com/test-image.jpg", true));
         // 테스트용 숙소 먼저 생성
         Long userId = 1L;
 
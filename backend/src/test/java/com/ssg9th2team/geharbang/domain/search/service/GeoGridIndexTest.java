@@ -0,0 +1,41 @@
+package com.ssg9th2team.geharbang.domain.search.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoGridIndexTest {
+
+    @Test
+    @DisplayName("영역과 겹치는 셀에서 실제 좌표가 영역 안인 숙소만 반환한다")
+    void testFindReturnsPointsInsideBounds() {
+        GeoGridIndex.Grid grid = new GeoGridIndex.Grid(0.05);
+        grid.put(1L, 33.25, 126.55);
+        grid.put(2L, 33.27, 126.58);
+        grid.put(3L, 37.55, 126.98);
+
+        assertThat(grid.find(33.0, 33.26, 126.0, 126.8, 100)).containsExactly(1L);
+        assertThat(grid.find(33.0, 33.6, 126.0, 126.8, 100)).containsExactlyInAnyOrder(1L, 2L);
+        // 범위 셀 수가 채워진 셀보다 많으면 채워진 셀만 확인한다.
+        assertThat(grid.find(30.0, 40.0, 120.0, 130.0, 100)).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("좌표 변경/삭제를 반영하고 후보가 많으면 null 을 반환한다")
+    void testPutRemoveAndLimit() {
+        GeoGridIndex.Grid grid = new GeoGridIndex.Grid(0.05);
+        grid.put(1L, 33.25, 126.55);
+        grid.put(2L, 33.26, 126.56);
+
+        grid.put(1L, 37.55, 126.98);
+        assertThat(grid.find(33.0, 33.6, 126.0, 126.8, 100)).containsExactly(2L);
+
+        grid.remove(2L);
+        assertThat(grid.find(33.0, 33.6, 126.0, 126.8, 100)).isEmpty();
+        assertThat(grid.cellCount()).isEqualTo(1);
+
+        grid.put(3L, 37.56, 126.99);
+        assertThat(grid.find(37.0, 38.0, 126.0, 127.5, 1)).isNull();
+    }
+}
@@ -0,0 +1,79 @@
+package com.ssg9th2team.geharbang.domain.search.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    @Test
+    @DisplayName("검색어 조각을 모두 가진 문서만 후보로 반환한다")
+    void testCandidatesIntersectPostings() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "제주 서귀포 오션뷰 게스트하우스");
+        index.put(2L, "부산 해운대 오션뷰");
+        index.put(3L, "제주 애월 감성 숙소");
+
+        assertThat(index.candidates("오션뷰")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.candidates("제주")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.candidates("서울")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대소문자/악센트를 무시하고 1글자 검색어는 지원하지 않는다")
+    void testNormalizationAndShortKeyword() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "Jeju Café");
+
+        assertThat(index.candidates("CAFE")).containsExactly(1L);
+        assertThat(index.candidates("j")).isNull();
+    }
+
+    @Test
+    @DisplayName("필드 경계를 넘는 조각은 만들지 않고, 교체/삭제 시 posting 을 정리한다")
+    void testPutReplaceAndRemove() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "바다", "노을");
+
+        assertThat(index.candidates("다노")).isEmpty();
+
+        index.put(1L, "숲속 힐링");
+        assertThat(index.candidates("바다")).isEmpty();
+        assertThat(index.candidates("힐링")).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.candidates("힐링")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("모든 문서에서 빠진 조각도 다시 색인하면 찾을 수 있다")
+    void testReindexAfterPostingEmptied() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "바다 전망");
+        index.remove(1L);
+        assertThat(index.candidates("바다")).isEmpty();
+
+        index.put(2L, "바다 산책");
+        assertThat(index.candidates("바다")).containsExactly(2L);
+        assertThat(index.candidates("전망")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ID 순서와 무관하게 색인하고 후보가 limit 을 넘으면 null 을 반환한다")
+    void testUnorderedPutAndCandidateLimit() {
+        NgramIndex index = new NgramIndex();
+        index.put(30L, "오션뷰 숙소");
+        index.put(10L, "오션뷰 펜션");
+        index.put(20L, "오션뷰 호텔");
+        index.put(10L, "오션뷰 펜션");
+
+        assertThat(index.candidates("오션뷰")).containsExactlyInAnyOrder(10L, 20L, 30L);
+        assertThat(index.candidates("오션뷰", 3)).hasSize(3);
+        assertThat(index.candidates("오션뷰", 2)).isNull();
+
+        index.remove(20L);
+        assertThat(index.candidates("오션뷰", 2)).containsExactlyInAnyOrder(10L, 30L);
+    }
+}
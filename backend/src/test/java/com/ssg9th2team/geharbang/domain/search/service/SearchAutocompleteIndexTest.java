@@ -0,0 +1,126 @@
+package com.ssg9th2team.geharbang.domain.search.service;
+
+import com.ssg9th2team.geharbang.domain.search.dto.SearchResolveResponse;
+import com.ssg9th2team.geharbang.domain.search.dto.SearchSuggestionResponse;
+import com.ssg9th2team.geharbang.domain.search.repository.AutocompleteSourceProjection;
+import com.ssg9th2team.geharbang.domain.search.repository.SearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchAutocompleteIndexTest {
+
+    @Mock
+    private SearchRepository searchRepository;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private SearchAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(searchRepository.findAutocompleteSources()).thenReturn(List.of(
+                source(1L, "서귀포 오션뷰 게스트하우스", "제주 서귀포시", 30),
+                source(2L, "애월 감성 숙소", "제주 제주시 애월읍", 5),
+                source(3L, "서울 한옥 스테이", "서울 종로구", 12),
+                source(4L, "제주 바다 하우스", "제주 서귀포시", 0)
+        ));
+        index = new SearchAutocompleteIndex(searchRepository, meterRegistryProvider);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("지역을 먼저, 전체 접두어 일치와 숙소 수 순으로 정렬한다")
+    void testSuggestOrdersRegionsThenNames() {
+        assertThat(index.suggest("제주", 5, 5)).containsExactly(
+                SearchSuggestionResponse.region("제주 서귀포시"),
+                SearchSuggestionResponse.region("제주 제주시 애월읍"),
+                SearchSuggestionResponse.accommodation("제주 바다 하우스")
+        );
+    }
+
+    @Test
+    @DisplayName("단어 시작 위치와 초성으로도 찾는다")
+    void testSuggestMatchesWordStartAndChosung() {
+        assertThat(index.suggest("서귀포", 5, 5)).containsExactly(
+                SearchSuggestionResponse.region("제주 서귀포시"),
+                SearchSuggestionResponse.accommodation("서귀포 오션뷰 게스트하우스")
+        );
+        assertThat(index.suggest("ㅇㅇ", 5, 5)).containsExactly(
+                SearchSuggestionResponse.region("제주 제주시 애월읍"),
+                SearchSuggestionResponse.accommodation("애월 감성 숙소")
+        );
+    }
+
+    @Test
+    @DisplayName("같은 접두어는 캐시에서 반환하고 재적재 시 캐시를 비운다")
+    void testSuggestCachesPerPrefix() {
+        List<SearchSuggestionResponse> first = index.suggest("서울", 5, 5);
+        assertThat(index.suggest("서울", 5, 5)).isSameAs(first);
+
+        index.rebuild();
+        assertThat(index.suggest("서울", 5, 5)).isNotSameAs(first).isEqualTo(first);
+        verify(searchRepository, times(2)).findAutocompleteSources();
+    }
+
+    @Test
+    @DisplayName("연속된 재적재 요청은 합쳐서 별도 스레드에서 한 번만 적재한다")
+    void testRefreshIsDebounced() {
+        ReflectionTestUtils.setField(index, "refreshDebounceMs", 50L);
+
+        index.refresh();
+        index.refresh();
+        index.refresh();
+
+        verify(searchRepository, after(500).times(2)).findAutocompleteSources();
+    }
+
+    @Test
+    @DisplayName("이름이 정확히 하나와 일치할 때만 숙소를 확정한다")
+    void testResolveExactName() {
+        assertThat(index.resolve("서울 한옥 스테이"))
+                .isEqualTo(SearchResolveResponse.of(3L, "서울 한옥 스테이"));
+        assertThat(index.resolve("서울 한옥")).isNull();
+    }
+
+    private AutocompleteSourceProjection source(Long id, String name, String region, int reviewCount) {
+        return new AutocompleteSourceProjection() {
+            @Override
+            public Long getAccommodationsId() {
+                return id;
+            }
+
+            @Override
+            public String getAccommodationsName() {
+                return name;
+            }
+
+            @Override
+            public String getRegion() {
+                return region;
+            }
+
+            @Override
+            public Integer getReviewCount() {
+                return reviewCount;
+            }
+        };
+    }
+}
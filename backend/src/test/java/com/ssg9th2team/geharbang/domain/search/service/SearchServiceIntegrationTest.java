@@ -6,13 +6,18 @@ import com.ssg9th2team.geharbang.domain.accommodation.entity.ApprovalStatus;
 import com.ssg9th2team.geharbang.domain.accommodation_theme.entity.AccommodationTheme;
 import com.ssg9th2team.geharbang.domain.main.dto.PublicListResponse;
 import com.ssg9th2team.geharbang.domain.reservation.entity.Reservation;
+import com.ssg9th2team.geharbang.domain.reservation.service.RoomOccupancyIndex;
 import com.ssg9th2team.geharbang.domain.room.entity.Room;
+import com.ssg9th2team.geharbang.domain.search.dto.SearchClusterResponse;
 import com.ssg9th2team.geharbang.domain.theme.entity.Theme;
+import com.ssg9th2team.geharbang.global.config.MyBatisConfig;
 import jakarta.persistence.EntityManager;
+import org.mybatis.spring.boot.autoconfigure.MybatisAutoConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
@@ -27,7 +32,9 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import(SearchServiceImpl.class)
+@ImportAutoConfiguration(MybatisAutoConfiguration.class)
+@Import({SearchServiceImpl.class, RoomOccupancyIndex.class, KeywordSearchIndex.class,
+        SearchAutocompleteIndex.class, GeoGridIndex.class, MyBatisConfig.class})
 @TestPropertySource(properties = {
                 "spring.datasource.url=jdbc:h2:mem:searchtest;MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false",
                 "spring.datasource.driver-class-name=org.h2.Driver",
@@ -81,6 +88,7 @@ class SearchServiceIntegrationTest {
                                 null,
                                 null,
                                 false,
+                                null,
                                 null);
 
                 assertThat(response.items()).hasSize(1);
@@ -115,6 +123,7 @@ class SearchServiceIntegrationTest {
                                 null,
                                 null,
                                 false,
+                                null,
                                 null);
 
                 List<String> names = response.items().stream()
@@ -154,6 +163,7 @@ class SearchServiceIntegrationTest {
                                 null,
                                 null,
                                 false,
+                                null,
                                 null);
 
                 List<String> names = response.items().stream()
@@ -190,6 +200,7 @@ class SearchServiceIntegrationTest {
                                 null,
                                 null,
                                 false,
+                                null,
                                 null);
 
                 assertThat(response.items()).hasSize(1);
@@ -223,12 +234,52 @@ class SearchServiceIntegrationTest {
                                 null,
                                 null,
                                 false,
+                                null,
                                 null);
 
                 assertThat(response.items()).hasSize(1);
                 assertThat(response.items().get(0).getAccommodationsName()).isEqualTo("Bounds-In");
         }
 
+        @Test
+        @DisplayName("Cluster search groups accommodations in the same grid cell")
+        void searchClustersGroupsByGridCell() {
+                Accommodation first = persistAccommodation("Cluster-A", "Seogwipo",
+                                BigDecimal.valueOf(33.250), BigDecimal.valueOf(126.550), 30000);
+                persistAccommodation("Cluster-B", "Seogwipo",
+                                BigDecimal.valueOf(33.251), BigDecimal.valueOf(126.551), 20000);
+                Accommodation far = persistAccommodation("Cluster-C", "Aewol",
+                                BigDecimal.valueOf(33.450), BigDecimal.valueOf(126.350), 50000);
+                entityManager.clear();
+
+                SearchClusterResponse response = searchService.searchPublicClusters(
+                                Collections.emptyList(),
+                                null,
+                                33.0,
+                                33.6,
+                                126.0,
+                                126.8,
+                                7,
+                                null,
+                                null,
+                                null,
+                                null,
+                                null,
+                                false);
+
+                assertThat(response.totalCount()).isEqualTo(3);
+                assertThat(response.clusters()).hasSize(2);
+                SearchClusterResponse.Cluster grouped = response.clusters().get(0);
+                assertThat(grouped.count()).isEqualTo(2);
+                assertThat(grouped.minPrice()).isEqualTo(20000L);
+                assertThat(grouped.accommodationsId()).isNull();
+                assertThat(grouped.latitude()).isBetween(33.250, 33.251);
+                SearchClusterResponse.Cluster single = response.clusters().get(1);
+                assertThat(single.count()).isEqualTo(1);
+                assertThat(single.accommodationsId()).isEqualTo(far.getAccommodationsId());
+                assertThat(first.getAccommodationsId()).isNotNull();
+        }
+
         @Test
         @DisplayName("Theme filter returns only accommodations mapped to theme when no dates")
         void searchByThemeFiltersWithoutDates() {
@@ -259,6 +310,7 @@ class SearchServiceIntegrationTest {
                                 null,
                                 null,
                                 false,
+                                null,
                                 null);
 
                 assertThat(response.items()).hasSize(1);
@@ -293,6 +345,7 @@ class SearchServiceIntegrationTest {
                                 15000,
                                 25000,
                                 false,
+                                null,
                                 null);
 
                 assertThat(response.items()).hasSize(1);
@@ -331,6 +384,7 @@ class SearchServiceIntegrationTest {
                                 15000,
                                 25000,
                                 false,
+                                null,
                                 null);
 
                 assertThat(response.items()).extracting("accommodationsName")
@@ -1,25 +1,39 @@
 package com.ssg9th2team.geharbang.domain.search.service;
 
 import com.ssg9th2team.geharbang.domain.main.dto.PublicListResponse;
-import com.ssg9th2team.geharbang.domain.main.repository.ListDtoProjection;
+import com.ssg9th2team.geharbang.domain.reservation.service.RoomOccupancyIndex;
+import com.ssg9th2team.geharbang.domain.search.dto.PublicSearchClusterRow;
+import com.ssg9th2team.geharbang.domain.search.dto.PublicSearchCondition;
+import com.ssg9th2team.geharbang.domain.search.dto.PublicSearchRow;
+import com.ssg9th2team.geharbang.domain.search.dto.RoomOccupancyLoad;
+import com.ssg9th2team.geharbang.domain.search.dto.SearchClusterResponse;
+import com.ssg9th2team.geharbang.domain.search.dto.SearchSuggestionResponse;
 import com.ssg9th2team.geharbang.domain.search.repository.SearchRepository;
+import com.ssg9th2team.geharbang.domain.search.repository.mybatis.SearchMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,27 +46,26 @@ class SearchServiceTest {
     @Mock
     private SearchRepository searchRepository;
 
+    @Mock
+    private SearchMapper searchMapper;
+
+    @Mock
+    private RoomOccupancyIndex roomOccupancyIndex;
+
+    @Mock
+    private KeywordSearchIndex keywordSearchIndex;
+
+    @Mock
+    private SearchAutocompleteIndex searchAutocompleteIndex;
+
+    @Mock
+    private GeoGridIndex geoGridIndex;
+
     @Test
     @DisplayName("공개 검색은 페이지 응답을 매핑한다")
     void testSearchPublicListMapsPage() {
-        ListDtoProjection projection = new ListProjectionStub(
-                10L,
-                "오션뷰 숙소",
-                "설명",
-                "부산",
-                "해운대",
-                "좌동",
-                35.1,
-                129.1,
-                120000L,
-                4.7,
-                12,
-                4,
-                "https://example.com/image.jpg"
-        );
-        PageImpl<ListDtoProjection> page = new PageImpl<>(List.of(projection), PageRequest.of(0, 24), 1);
-        when(searchRepository.searchPublicListNoDates(eq("부산"), isNull(), any(PageRequest.class)))
-                .thenReturn(page);
+        when(searchMapper.selectPublicSearchList(any(PublicSearchCondition.class)))
+                .thenReturn(List.of(row(10L, "오션뷰 숙소", 120000L)));
 
         PublicListResponse response = searchService.searchPublicList(
                 Collections.emptyList(),
@@ -65,6 +78,11 @@ class SearchServiceTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                false,
+                null,
                 null
         );
 
@@ -72,29 +90,22 @@ class SearchServiceTest {
         assertThat(response.items().get(0).getAccommodationsName()).isEqualTo("오션뷰 숙소");
         assertThat(response.page().totalElements()).isEqualTo(1);
         assertThat(response.page().hasNext()).isFalse();
+        // 첫 페이지가 size 보다 작으면 count 쿼리를 실행하지 않는다.
+        verify(searchMapper, never()).countPublicSearchList(any(PublicSearchCondition.class));
+
+        PublicSearchCondition condition = captureCondition();
+        assertThat(condition.getKeyword()).isEqualTo("부산");
+        assertThat(condition.isThemeFilter()).isFalse();
+        assertThat(condition.isStayDateFilter()).isFalse();
+        assertThat(condition.isRoomStatsRequired()).isFalse();
+        assertThat(condition.getSort()).isEqualTo("LATEST");
     }
 
     @Test
-    @DisplayName("테마 검색은 테마용 쿼리를 사용한다")
-    void testSearchPublicListUsesThemeQuery() {
-        ListDtoProjection projection = new ListProjectionStub(
-                11L,
-                "테마 숙소",
-                "설명",
-                "서울",
-                "마포",
-                "연남",
-                37.5,
-                126.9,
-                90000L,
-                4.2,
-                5,
-                3,
-                "https://example.com/theme.jpg"
-        );
-        PageImpl<ListDtoProjection> page = new PageImpl<>(List.of(projection), PageRequest.of(1, 10), 11);
-        when(searchRepository.searchPublicListByThemeNoDates(eq(List.of(2L)), eq("오션뷰"), isNull(), any(PageRequest.class)))
-                .thenReturn(page);
+    @DisplayName("테마 검색은 테마 조건과 offset 을 전달한다")
+    void testSearchPublicListUsesThemeCondition() {
+        when(searchMapper.selectPublicSearchList(any(PublicSearchCondition.class)))
+                .thenReturn(List.of(row(11L, "테마 숙소", 90000L)));
 
         PublicListResponse response = searchService.searchPublicList(
                 List.of(2L),
@@ -107,91 +118,98 @@ class SearchServiceTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                false,
+                "recommended",
                 null
         );
 
         assertThat(response.items()).hasSize(1);
-        verify(searchRepository).searchPublicListByThemeNoDates(eq(List.of(2L)), eq("오션뷰"), isNull(), any(PageRequest.class));
+        assertThat(response.page().totalElements()).isEqualTo(11);
+
+        PublicSearchCondition condition = captureCondition();
+        assertThat(condition.isThemeFilter()).isTrue();
+        assertThat(condition.getThemeIds()).containsExactly(2L);
+        assertThat(condition.getOffset()).isEqualTo(10);
+        assertThat(condition.getSort()).isEqualTo("RECOMMENDED");
     }
 
     @Test
-    @DisplayName("지도 검색은 좌표 조건 쿼리를 사용한다")
-    void testSearchPublicListUsesBoundsQuery() {
-        ListDtoProjection projection = new ListProjectionStub(
-                12L,
-                "지도 숙소",
-                "설명",
-                "부산",
-                "해운대",
-                "좌동",
-                35.2,
-                129.1,
-                130000L,
-                4.1,
-                8,
-                2,
-                "https://example.com/map.jpg"
-        );
-        PageImpl<ListDtoProjection> page = new PageImpl<>(List.of(projection), PageRequest.of(0, 50), 1);
-        when(searchRepository.searchPublicListByBoundsNoDates(
-                eq("부산"),
-                eq(35.0),
-                eq(36.0),
-                eq(126.0),
-                eq(128.0),
-                isNull(),
-                any(PageRequest.class)
-        )).thenReturn(page);
+    @DisplayName("지도 검색은 좌표를 정규화해 전달한다")
+    void testSearchPublicListUsesBoundsCondition() {
+        when(searchMapper.selectPublicSearchList(any(PublicSearchCondition.class)))
+                .thenReturn(List.of(row(12L, "지도 숙소", 130000L)));
 
         PublicListResponse response = searchService.searchPublicList(
                 Collections.emptyList(),
                 "부산",
                 0,
                 50,
-                35.0,
                 36.0,
-                126.0,
+                35.0,
                 128.0,
+                126.0,
+                null,
+                null,
                 null,
                 null,
+                null,
+                false,
+                null,
                 null
         );
 
         assertThat(response.items()).hasSize(1);
-        verify(searchRepository).searchPublicListByBoundsNoDates(
-                eq("부산"),
-                eq(35.0),
-                eq(36.0),
-                eq(126.0),
-                eq(128.0),
-                isNull(),
-                any(PageRequest.class)
-        );
+        PublicSearchCondition condition = captureCondition();
+        assertThat(condition.isBoundsFilter()).isTrue();
+        assertThat(condition.getSouth()).isEqualTo(35.0);
+        assertThat(condition.getNorth()).isEqualTo(36.0);
+        assertThat(condition.getWest()).isEqualTo(126.0);
+        assertThat(condition.getEast()).isEqualTo(128.0);
+    }
+
+    @Test
+    @DisplayName("지도 검색은 격자 색인 결과를 조건으로 전달한다")
+    void testSearchPublicListPassesGridCandidates() {
+        when(geoGridIndex.findInBounds(35.0, 36.0, 126.0, 128.0)).thenReturn(Set.of(12L));
+        when(searchMapper.selectPublicSearchList(any(PublicSearchCondition.class)))
+                .thenReturn(List.of(row(12L, "지도 숙소", 130000L)));
+
+        searchService.searchPublicList(Collections.emptyList(), null, 0, 50, 36.0, 35.0, 128.0, 126.0,
+                null, null, null, null, null, false, null, null);
+
+        PublicSearchCondition condition = captureCondition();
+        assertThat(condition.getBoundsIds()).containsExactly(12L);
     }
 
     @Test
-    @DisplayName("날짜/인원 조건이 있으면 검색 쿼리에 전달된다")
+    @DisplayName("클러스터 조회는 지도 레벨로 격자 크기를 정하고 단일 숙소만 ID 를 노출한다")
+    void testSearchPublicClustersScalesCellByLevel() {
+        when(searchMapper.selectPublicSearchClusters(any(PublicSearchCondition.class)))
+                .thenReturn(List.of(clusterRow(3L, 33.25, 126.55, 20000L, 1L), clusterRow(1L, 33.45, 126.35, 50000L, 9L)));
+
+        SearchClusterResponse response = searchService.searchPublicClusters(Collections.emptyList(), null,
+                33.0, 33.6, 126.0, 126.8, 20, null, null, null, null, null, false);
+
+        assertThat(response.level()).isEqualTo(14);
+        assertThat(response.totalCount()).isEqualTo(4);
+        assertThat(response.clusters()).extracting(SearchClusterResponse.Cluster::accommodationsId)
+                .containsExactly(null, 9L);
+        ArgumentCaptor<PublicSearchCondition> captor = ArgumentCaptor.forClass(PublicSearchCondition.class);
+        verify(searchMapper).selectPublicSearchClusters(captor.capture());
+        assertThat(captor.getValue().getClusterCellDegrees()).isEqualTo(0.0002 * 8192);
+        assertThat(captor.getValue().isBoundsFilter()).isTrue();
+    }
+
+    @Test
+    @DisplayName("날짜/인원 조건이 있으면 가용 객실 CTE 만 사용한다")
     void testSearchPublicListPassesAvailabilityParams() {
-        ListDtoProjection projection = new ListProjectionStub(
-                20L,
-                "예약 가능 숙소",
-                "설명",
-                "서울",
-                "강남",
-                "역삼",
-                37.5,
-                127.0,
-                150000L,
-                4.6,
-                9,
-                4,
-                "https://example.com/available.jpg"
-        );
-        PageImpl<ListDtoProjection> page = new PageImpl<>(List.of(projection), PageRequest.of(0, 10), 1);
         LocalDateTime checkin = LocalDateTime.of(2026, 1, 10, 15, 0);
         LocalDateTime checkout = LocalDateTime.of(2026, 1, 12, 11, 0);
-        when(searchRepository.searchPublicList(isNull(), eq(checkin), eq(checkout), eq(4), any(PageRequest.class)))
-                .thenReturn(page);
+        when(searchMapper.selectPublicSearchList(any(PublicSearchCondition.class)))
+                .thenReturn(List.of(row(20L, "예약 가능 숙소", 150000L)));
 
         PublicListResponse response = searchService.searchPublicList(
                 Collections.emptyList(),
@@ -204,109 +222,252 @@ class SearchServiceTest {
                 null,
                 checkin,
                 checkout,
-                4
+                4,
+                null,
+                null,
+                false,
+                null,
+                null
         );
 
         assertThat(response.items()).hasSize(1);
-        verify(searchRepository).searchPublicList(isNull(), eq(checkin), eq(checkout), eq(4), any(PageRequest.class));
+        PublicSearchCondition condition = captureCondition();
+        assertThat(condition.isStayDateFilter()).isTrue();
+        assertThat(condition.isGuestFilter()).isTrue();
+        assertThat(condition.isGuestPricing()).isFalse();
+        assertThat(condition.isRoomStatsRequired()).isFalse();
+        assertThat(condition.getCheckin()).isEqualTo(checkin);
+        assertThat(condition.getCheckout()).isEqualTo(checkout);
+        // 점유 인덱스가 준비되지 않으면 SQL 집계로 판단한다.
+        assertThat(condition.isOccupancyIndexed()).isFalse();
     }
 
-    private static final class ListProjectionStub implements ListDtoProjection {
-        private final Long accommodationsId;
-        private final String accommodationsName;
-        private final String shortDescription;
-        private final String city;
-        private final String district;
-        private final String township;
-        private final Double latitude;
-        private final Double longitude;
-        private final Long minPrice;
-        private final Double rating;
-        private final Integer reviewCount;
-        private final Integer maxGuests;
-        private final String imageUrl;
-
-        private ListProjectionStub(Long accommodationsId, String accommodationsName, String shortDescription, String city,
-                                   String district, String township, Double latitude, Double longitude, Long minPrice,
-                                   Double rating, Integer reviewCount, Integer maxGuests, String imageUrl) {
-            this.accommodationsId = accommodationsId;
-            this.accommodationsName = accommodationsName;
-            this.shortDescription = shortDescription;
-            this.city = city;
-            this.district = district;
-            this.township = township;
-            this.latitude = latitude;
-            this.longitude = longitude;
-            this.minPrice = minPrice;
-            this.rating = rating;
-            this.reviewCount = reviewCount;
-            this.maxGuests = maxGuests;
-            this.imageUrl = imageUrl;
-        }
+    @Test
+    @DisplayName("점유 인덱스가 기간을 커버하면 객실별 점유 인원을 전달한다")
+    void testSearchPublicListUsesOccupancyIndex() {
+        LocalDateTime checkin = LocalDateTime.of(2026, 1, 10, 15, 0);
+        LocalDateTime checkout = LocalDateTime.of(2026, 1, 12, 11, 0);
+        LocalDate checkinDate = checkin.toLocalDate();
+        LocalDate checkoutDate = checkout.toLocalDate();
+        when(roomOccupancyIndex.covers(checkinDate, checkoutDate)).thenReturn(true);
+        when(roomOccupancyIndex.findPeakConfirmedGuests(checkinDate, checkoutDate))
+                .thenReturn(Map.of(7L, 3));
+        when(searchMapper.selectPublicSearchList(any(PublicSearchCondition.class)))
+                .thenReturn(List.of(row(21L, "인덱스 숙소", 110000L)));
+
+        searchService.searchPublicList(
+                Collections.emptyList(),
+                null,
+                0,
+                10,
+                null,
+                null,
+                null,
+                null,
+                checkin,
+                checkout,
+                2,
+                null,
+                null,
+                false,
+                null,
+                null
+        );
 
-        @Override
-        public Long getAccommodationsId() {
-            return accommodationsId;
-        }
+        PublicSearchCondition condition = captureCondition();
+        assertThat(condition.isOccupancyIndexed()).isTrue();
+        assertThat(condition.getRoomLoads()).hasSize(1);
+        RoomOccupancyLoad load = condition.getRoomLoads().get(0);
+        assertThat(load.getPeakGuests()).isEqualTo(3);
+        assertThat(load.getRoomIds()).containsExactly(7L);
+    }
 
-        @Override
-        public String getAccommodationsName() {
-            return accommodationsName;
+    @Test
+    @DisplayName("점유 인덱스 결과는 점유 인원별로 묶고 500개 단위로 나눠 전달한다")
+    void testSearchPublicListChunksOccupancyLoads() {
+        LocalDateTime checkin = LocalDateTime.of(2026, 1, 10, 15, 0);
+        LocalDateTime checkout = LocalDateTime.of(2026, 1, 12, 11, 0);
+        LocalDate checkinDate = checkin.toLocalDate();
+        LocalDate checkoutDate = checkout.toLocalDate();
+        Map<Long, Integer> peaks = new HashMap<>();
+        for (long roomId = 1; roomId <= 501; roomId++) {
+            peaks.put(roomId, 2);
         }
+        peaks.put(1000L, 4);
+        when(roomOccupancyIndex.covers(checkinDate, checkoutDate)).thenReturn(true);
+        when(roomOccupancyIndex.findPeakConfirmedGuests(checkinDate, checkoutDate)).thenReturn(peaks);
+        when(searchMapper.selectPublicSearchList(any(PublicSearchCondition.class)))
+                .thenReturn(List.of(row(21L, "인덱스 숙소", 110000L)));
 
-        @Override
-        public String getShortDescription() {
-            return shortDescription;
-        }
+        searchService.searchPublicList(
+                Collections.emptyList(),
+                null,
+                0,
+                10,
+                null,
+                null,
+                null,
+                null,
+                checkin,
+                checkout,
+                2,
+                null,
+                null,
+                false,
+                null,
+                null
+        );
 
-        @Override
-        public String getCity() {
-            return city;
-        }
+        List<RoomOccupancyLoad> loads = captureCondition().getRoomLoads();
+        assertThat(loads).extracting(RoomOccupancyLoad::getPeakGuests).containsExactly(2, 2, 4);
+        assertThat(loads).extracting(load -> load.getRoomIds().size()).containsExactly(500, 1, 1);
+    }
 
-        @Override
-        public String getDistrict() {
-            return district;
-        }
+    @Test
+    @DisplayName("커서 모드는 size + 1 건으로 다음 페이지를 판단하고 count 를 실행하지 않는다")
+    void testSearchPublicListCursorMode() {
+        PublicSearchRow first = row(30L, "첫번째", 100000L);
+        first.setSortValue(new BigDecimal("4.8"));
+        PublicSearchRow second = row(29L, "두번째", 90000L);
+        second.setSortValue(new BigDecimal("4.5"));
+        PublicSearchRow third = row(28L, "세번째", 80000L);
+        third.setSortValue(new BigDecimal("4.5"));
+        when(searchMapper.selectPublicSearchList(any(PublicSearchCondition.class)))
+                .thenReturn(List.of(first, second, third))
+                .thenReturn(List.of(third));
+
+        PublicListResponse response = searchPublicListWithCursor("");
+
+        assertThat(response.items()).hasSize(2);
+        assertThat(response.page().hasNext()).isTrue();
+        assertThat(response.page().nextCursor()).isNotNull();
+        assertThat(response.page().totalElements()).isEqualTo(-1);
+
+        PublicListResponse nextResponse = searchPublicListWithCursor(response.page().nextCursor());
+
+        assertThat(nextResponse.items()).hasSize(1);
+        assertThat(nextResponse.page().hasNext()).isFalse();
+        assertThat(nextResponse.page().nextCursor()).isNull();
+        verify(searchMapper, never()).countPublicSearchList(any(PublicSearchCondition.class));
+
+        ArgumentCaptor<PublicSearchCondition> captor = ArgumentCaptor.forClass(PublicSearchCondition.class);
+        verify(searchMapper, times(2)).selectPublicSearchList(captor.capture());
+        PublicSearchCondition firstCondition = captor.getAllValues().get(0);
+        assertThat(firstCondition.isKeyset()).isFalse();
+        assertThat(firstCondition.getSize()).isEqualTo(3);
+        assertThat(firstCondition.getOffset()).isZero();
+        PublicSearchCondition nextCondition = captor.getAllValues().get(1);
+        assertThat(nextCondition.isKeyset()).isTrue();
+        assertThat(nextCondition.getCursorValue()).isEqualByComparingTo("4.5");
+        assertThat(nextCondition.getCursorId()).isEqualTo(29L);
+    }
 
-        @Override
-        public String getTownship() {
-            return township;
-        }
+    @Test
+    @DisplayName("형식이 잘못되었거나 정렬이 다른 커서는 첫 페이지로 돌아가지 않고 거절한다")
+    void testSearchPublicListRejectsMalformedCursor() {
+        String otherSort = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("LATEST|10|10".getBytes(StandardCharsets.UTF_8));
+        String badValue = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("RATING|abc|10".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> searchPublicListWithCursor("%%%"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchPublicListWithCursor(otherSort))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchPublicListWithCursor(badValue))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(searchMapper, never()).selectPublicSearchList(any(PublicSearchCondition.class));
+    }
 
-        @Override
-        public Double getLatitude() {
-            return latitude;
-        }
+    @Test
+    @DisplayName("커서 모드는 같은 조건의 count 결과를 추정 전체 건수로 사용한다")
+    void testSearchPublicListCursorModeUsesCachedTotal() {
+        when(searchMapper.selectPublicSearchList(any(PublicSearchCondition.class)))
+                .thenReturn(List.of(row(40L, "숙소", 100000L)));
 
-        @Override
-        public Double getLongitude() {
-            return longitude;
-        }
+        searchService.searchPublicList(Collections.emptyList(), "부산", 0, 2, null, null, null, null,
+                null, null, null, null, null, false, "rating", null);
+        PublicListResponse response = searchService.searchPublicList(Collections.emptyList(), "부산", 0, 2,
+                null, null, null, null, null, null, null, null, null, false, "rating", "");
 
-        @Override
-        public Long getMinPrice() {
-            return minPrice;
-        }
+        assertThat(response.page().totalElements()).isEqualTo(1);
+        assertThat(response.page().totalPages()).isEqualTo(1);
+    }
 
-        @Override
-        public Double getRating() {
-            return rating;
-        }
+    @Test
+    @DisplayName("키워드 역색인 후보가 있으면 후보 ID 를 조건으로 전달한다")
+    void testSearchPublicListPassesKeywordCandidates() {
+        when(keywordSearchIndex.matchListing("서귀포")).thenReturn(Set.of(5L, 6L));
+        when(searchMapper.selectPublicSearchList(any(PublicSearchCondition.class)))
+                .thenReturn(List.of(row(5L, "서귀포 숙소", 70000L)));
 
-        @Override
-        public Integer getReviewCount() {
-            return reviewCount;
-        }
+        searchService.searchPublicList(Collections.emptyList(), "서귀포", 0, 10, null, null, null, null,
+                null, null, null, null, null, false, null, null);
 
-        @Override
-        public Integer getMaxGuests() {
-            return maxGuests;
-        }
+        PublicSearchCondition condition = captureCondition();
+        assertThat(condition.getKeywordIds()).containsExactlyInAnyOrder(5L, 6L);
+    }
 
-        @Override
-        public String getImageUrl() {
-            return imageUrl;
-        }
+    @Test
+    @DisplayName("자동완성은 역색인 후보가 없으면 DB 를 조회하지 않는다")
+    void testSuggestSkipsQueryWhenNoCandidates() {
+        when(keywordSearchIndex.matchListing("없는숙소")).thenReturn(Set.of());
+
+        assertThat(searchService.suggestPublicSearch("없는숙소", 10)).isEmpty();
+        verify(searchRepository, never()).suggestRegions(any(), any());
+        verify(searchRepository, never()).suggestAccommodationNames(any(), any());
+    }
+
+    @Test
+    @DisplayName("자동완성 색인이 적재되어 있으면 DB 를 조회하지 않는다")
+    void testSuggestUsesAutocompleteIndex() {
+        when(searchAutocompleteIndex.isReady()).thenReturn(true);
+        when(searchAutocompleteIndex.suggest("제주", 5, 5))
+                .thenReturn(List.of(SearchSuggestionResponse.region("제주 제주시")));
+
+        assertThat(searchService.suggestPublicSearch(" 제주 ", 10))
+                .containsExactly(SearchSuggestionResponse.region("제주 제주시"));
+        verify(keywordSearchIndex, never()).matchListing(any());
+        verify(searchRepository, never()).suggestRegions(any(), any());
+    }
+
+    private PublicListResponse searchPublicListWithCursor(String cursor) {
+        return searchService.searchPublicList(Collections.emptyList(), null, 0, 2, null, null, null, null,
+                null, null, null, null, null, false, "rating", cursor);
+    }
+
+    private PublicSearchCondition captureCondition() {
+        ArgumentCaptor<PublicSearchCondition> captor = ArgumentCaptor.forClass(PublicSearchCondition.class);
+        verify(searchMapper).selectPublicSearchList(captor.capture());
+        return captor.getValue();
+    }
+
+    private PublicSearchClusterRow clusterRow(Long count, Double latitude, Double longitude, Long minPrice,
+                                              Long accommodationsId) {
+        PublicSearchClusterRow row = new PublicSearchClusterRow();
+        row.setAccommodationCount(count);
+        row.setLatitude(latitude);
+        row.setLongitude(longitude);
+        row.setMinPrice(minPrice);
+        row.setAccommodationsId(accommodationsId);
+        return row;
+    }
+
+    private PublicSearchRow row(Long accommodationsId, String accommodationsName, Long minPrice) {
+        PublicSearchRow row = new PublicSearchRow();
+        row.setAccommodationsId(accommodationsId);
+        row.setAccommodationsName(accommodationsName);
+        row.setShortDescription("설명");
+        row.setCity("부산");
+        row.setDistrict("해운대");
+        row.setTownship("좌동");
+        row.setLatitude(35.1);
+        row.setLongitude(129.1);
+        row.setMinPrice(minPrice);
+        row.setRating(4.5);
+        row.setReviewCount(10);
+        row.setMaxGuests(4);
+        row.setImageUrl("https://example.com/image.jpg");
+        return row;
     }
 }
@@ -0,0 +1,99 @@
+package com.ssg9th2team.geharbang.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TieredCacheManagerTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private TieredCacheManager nodeA;
+    private TieredCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager();
+        meterRegistry = new SimpleMeterRegistry();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("cache.near.spec.userCoupons", "maximumSize=10,expireAfterWrite=30s");
+        ObjectMapper objectMapper = new ObjectMapper();
+        nodeA = new TieredCacheManager(remoteCacheManager, environment, stringRedisTemplate, objectMapper, meterRegistry);
+        nodeB = new TieredCacheManager(remoteCacheManager, environment, stringRedisTemplate, objectMapper, null);
+    }
+
+    @Test
+    @DisplayName("L2 에서 읽은 값은 L1 에 채워 다음 조회는 L2 를 거치지 않는다")
+    void testReadThroughFillsLocalCache() {
+        remoteCacheManager.getCache("userCoupons").put("1_ISSUED", "coupons");
+        Cache cache = nodeA.getCache("userCoupons");
+
+        assertThat(cache.get("1_ISSUED", String.class)).isEqualTo("coupons");
+        remoteCacheManager.getCache("userCoupons").evict("1_ISSUED");
+        assertThat(cache.get("1_ISSUED", String.class)).isEqualTo("coupons");
+
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "userCoupons", "tier", "l1", "result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경 통지를 받으면 L1 을 비우고 L2 의 새 값을 읽는다")
+    void testInvalidationMessageEvictsOtherNode() {
+        Cache cacheA = nodeA.getCache("userCoupons");
+        Cache cacheB = nodeB.getCache("userCoupons");
+        cacheA.put("1_ISSUED", "old");
+        assertThat(cacheB.get("1_ISSUED", String.class)).isEqualTo("old");
+
+        cacheA.put("1_ISSUED", "new");
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate, times(2)).convertAndSend(eq(TieredCacheManager.INVALIDATION_CHANNEL), payload.capture());
+        nodeB.onMessage(message(payload.getValue()), null);
+        // 자신이 보낸 메시지는 무시한다.
+        nodeA.onMessage(message(payload.getValue()), null);
+
+        assertThat(cacheB.get("1_ISSUED", String.class)).isEqualTo("new");
+        assertThat(cacheA.get("1_ISSUED", String.class)).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("clear 통지는 다른 노드의 L1 전체를 비운다")
+    void testClearMessageClearsOtherNode() {
+        nodeA.getCache("reviewTags").put("tags", "a");
+        Cache cacheB = nodeB.getCache("reviewTags");
+        assertThat(cacheB.get("tags", String.class)).isEqualTo("a");
+
+        nodeA.getCache("reviewTags").clear();
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate, times(2)).convertAndSend(eq(TieredCacheManager.INVALIDATION_CHANNEL), payload.capture());
+        nodeB.onMessage(message(payload.getValue()), null);
+
+        assertThat(cacheB.get("tags")).isNull();
+    }
+
+    private DefaultMessage message(String payload) {
+        return new DefaultMessage(TieredCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,66 @@
+package com.ssg9th2team.geharbang.global.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageResizeProcessorTest {
+
+    private final ImageResizeProcessor processor = new ImageResizeProcessor();
+
+    @Test
+    @DisplayName("한 번 디코딩으로 표시용 이미지와 폭별 JPEG 변형을 만든다")
+    void testDerive() throws IOException {
+        byte[] source = png(4000, 2000, BufferedImage.TYPE_INT_ARGB);
+
+        ImageDerivatives derivatives = processor.derive(source, "png", 1600, 1600, 320, 1280, 640);
+
+        BufferedImage display = read(derivatives.display());
+        assertThat(display.getWidth()).isEqualTo(1600);
+        assertThat(display.getHeight()).isEqualTo(800);
+        assertThat(derivatives.variants()).extracting(ImageDerivatives.Variant::width).containsExactly(1280, 640, 320);
+        BufferedImage thumbnail = read(derivatives.variants().get(2).bytes());
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(160);
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 폭의 변형은 확대하지 않고 원본 크기로 만든다")
+    void testDeriveDoesNotUpscale() throws IOException {
+        byte[] source = png(500, 250, BufferedImage.TYPE_INT_RGB);
+
+        ImageDerivatives derivatives = processor.derive(source, "png", 1600, 1600, 1280, 320);
+
+        assertThat(derivatives.display()).isSameAs(source);
+        assertThat(read(derivatives.variants().get(0).bytes()).getWidth()).isEqualTo(500);
+        assertThat(read(derivatives.variants().get(1).bytes()).getWidth()).isEqualTo(320);
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 바이트는 변형 없이 원본을 돌려준다")
+    void testDeriveUndecodable() {
+        byte[] source = {1, 2, 3};
+
+        ImageDerivatives derivatives = processor.derive(source, "jpg", 1600, 1600, 320);
+
+        assertThat(derivatives.display()).isSameAs(source);
+        assertThat(derivatives.variants()).isEmpty();
+    }
+
+    private static byte[] png(int width, int height, int type) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), "png", out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage read(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+}
@@ -0,0 +1,135 @@
+package com.ssg9th2team.geharbang.global.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventJpaRepository outboxEventRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private OutboxEventHandler handler;
+
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(handler.eventType()).thenReturn("TEST_EVENT");
+        dispatcher = new OutboxDispatcher(outboxEventRepository, new TransactionTemplate(transactionManager),
+                List.of(handler));
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 100);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", 60L);
+        ReflectionTestUtils.setField(dispatcher, "backoffBaseMs", 1000L);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxMs", 10000L);
+    }
+
+    @Test
+    @DisplayName("선점한 이벤트를 처리하고 완료로 기록한다")
+    void testDispatchMarksDone() throws Exception {
+        OutboxEvent event = event(1L, "TEST_EVENT", 0);
+        givenDispatchable(event);
+        when(outboxEventRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(outboxEventRepository.markDone(eq(1L), any())).thenReturn(1);
+
+        dispatcher.dispatchPending();
+
+        verify(handler).handle(event);
+        verify(outboxEventRepository, never()).markAttemptFailed(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 선점한 이벤트는 처리하지 않는다")
+    void testSkipsEventClaimedByOtherNode() throws Exception {
+        when(outboxEventRepository.findDispatchableIds(any(), any(Pageable.class))).thenReturn(List.of(1L));
+        when(outboxEventRepository.claim(eq(1L), any(), any())).thenReturn(0);
+
+        dispatcher.dispatchPending();
+
+        verify(handler, never()).handle(any());
+        verify(outboxEventRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 실패 횟수를 올리고 backoff 이후로 재시도를 미룬다")
+    void testFailureSchedulesRetry() throws Exception {
+        OutboxEvent event = event(1L, "TEST_EVENT", 0);
+        givenDispatchable(event);
+        when(outboxEventRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        doThrow(new IllegalStateException("boom")).when(handler).handle(event);
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher.dispatchPending();
+
+        verify(outboxEventRepository, never()).markDone(any(), any());
+        verify(outboxEventRepository).markAttemptFailed(eq(1L), eq(OutboxEventStatus.PENDING), eq(1),
+                argThat(next -> !next.isBefore(before.plusSeconds(1))), eq("boom"));
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘으면 FAILED 로 남기고, 처리기가 없는 이벤트(배포 중 다른 버전 노드)는 재시도한다")
+    void testExhaustedOrUnknownEventFails() throws Exception {
+        OutboxEvent exhausted = event(1L, "TEST_EVENT", 2);
+        OutboxEvent unknown = event(2L, "UNKNOWN_EVENT", 0);
+        when(outboxEventRepository.findDispatchableIds(any(), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(outboxEventRepository.claim(any(), any(), any())).thenReturn(1);
+        when(outboxEventRepository.findById(1L)).thenReturn(Optional.of(exhausted));
+        when(outboxEventRepository.findById(2L)).thenReturn(Optional.of(unknown));
+        doThrow(new IllegalStateException("boom")).when(handler).handle(exhausted);
+
+        dispatcher.dispatchPending();
+
+        verify(outboxEventRepository).markAttemptFailed(eq(1L), eq(OutboxEventStatus.FAILED), eq(3), any(), eq("boom"));
+        verify(outboxEventRepository).markAttemptFailed(eq(2L), eq(OutboxEventStatus.PENDING), eq(1), any(), any());
+    }
+
+    @Test
+    @DisplayName("backoff 는 실패할 때마다 두 배로 늘고 최대값을 넘지 않는다")
+    void testBackoff() {
+        assertThat(dispatcher.backoffMillis(1)).isEqualTo(1000L);
+        assertThat(dispatcher.backoffMillis(3)).isEqualTo(4000L);
+        assertThat(dispatcher.backoffMillis(5)).isEqualTo(10000L);
+        assertThat(dispatcher.backoffMillis(64)).isEqualTo(10000L);
+    }
+
+    private void givenDispatchable(OutboxEvent event) {
+        when(outboxEventRepository.findDispatchableIds(any(), any(Pageable.class))).thenReturn(List.of(event.getId()));
+        when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+    }
+
+    private OutboxEvent event(Long id, String eventType, int attempts) {
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(10L)
+                .payload("{}")
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        ReflectionTestUtils.setField(event, "attempts", attempts);
+        return event;
+    }
+}
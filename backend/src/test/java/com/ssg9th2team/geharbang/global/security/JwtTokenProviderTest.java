@@ -0,0 +1,172 @@
+package com.ssg9th2team.geharbang.global.security;
+
+import com.ssg9th2team.geharbang.domain.auth.entity.SocialProvider;
+import com.ssg9th2team.geharbang.domain.auth.entity.User;
+import com.ssg9th2team.geharbang.domain.auth.entity.UserRole;
+import com.ssg9th2team.geharbang.domain.auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+    private static final String SECRET =
+            "dGVzdC1qd3Qtc2VjcmV0LWtleS1mb3ItdGVzdGluZy1wdXJwb3Nlcy1vbmx5LTEyMzQ1Njc4OTAxMjM0NTY3ODkw";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserAuthStateCache userAuthStateCache;
+    private JwtTokenProvider jwtTokenProvider;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        userAuthStateCache = new UserAuthStateCache(userRepository, 30, 100);
+        jwtTokenProvider = provider(SECRET, 3600000L);
+        testUser = User.builder()
+                .name("Test User").nickname("TestNick").email("user@example.com")
+                .password("encodedPassword").phone("010-1234-5678").role(UserRole.HOST)
+                .marketingAgreed(false).socialProvider(SocialProvider.LOCAL)
+                .build();
+        ReflectionTestUtils.setField(testUser, "id", 7L);
+    }
+
+    @Test
+    @DisplayName("사용자 ID 가 담긴 토큰은 이메일 조회 없이 클레임과 사용자의 현재 권한으로 인증한다")
+    void testAuthenticateFromClaims() {
+        String token = jwtTokenProvider.generateAccessToken(userAuthentication());
+        when(userRepository.findById(7L)).thenReturn(Optional.of(testUser));
+
+        Authentication authentication = jwtTokenProvider.authenticate(token);
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isInstanceOf(AuthenticatedUser.class);
+        assertThat(authentication.getName()).isEqualTo("user@example.com");
+        assertThat(SecurityUtils.findUserId(authentication)).contains(7L);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_HOST");
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 캐시된 검증 결과와 사용자 상태를 쓰되 요청마다 새 Authentication 을 만든다")
+    void testAuthenticateUsesCache() {
+        String token = jwtTokenProvider.generateAccessToken(userAuthentication());
+        when(userRepository.findById(7L)).thenReturn(Optional.of(testUser));
+
+        Authentication first = jwtTokenProvider.authenticate(token);
+        Authentication second = jwtTokenProvider.authenticate(token);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo(first.getName());
+        verify(userRepository, times(1)).findById(7L);
+    }
+
+    @Test
+    @DisplayName("권한이 바뀐 사용자는 상태 캐시를 비우면 이전 토큰으로도 바뀐 권한으로 인증된다")
+    void testAuthenticateReflectsRoleChangeAfterEvict() {
+        String token = jwtTokenProvider.generateAccessToken(userAuthentication());
+        when(userRepository.findById(7L)).thenReturn(Optional.of(testUser));
+        assertThat(jwtTokenProvider.authenticate(token).getAuthorities())
+                .extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_HOST");
+
+        testUser.updateRole(UserRole.USER);
+        userAuthStateCache.evict(7L);
+
+        assertThat(jwtTokenProvider.authenticate(token).getAuthorities())
+                .extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("정지되었거나 탈퇴한 사용자의 토큰은 인증하지 않는다")
+    void testAuthenticateRejectsSuspendedOrDeletedUser() {
+        String token = jwtTokenProvider.generateAccessToken(userAuthentication());
+        testUser.updateSuspended(true);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(testUser), Optional.empty());
+
+        assertThat(jwtTokenProvider.authenticate(token)).isNull();
+
+        userAuthStateCache.evict(7L);
+        assertThat(jwtTokenProvider.authenticate(token)).isNull();
+        verify(userRepository, times(2)).findById(7L);
+    }
+
+    @Test
+    @DisplayName("사용자 ID 가 없는 이전 토큰은 DB 에서 사용자를 조회한다")
+    void testAuthenticateLegacyToken() {
+        Authentication legacy = new UsernamePasswordAuthenticationToken("user@example.com", null,
+                Collections.singleton(new SimpleGrantedAuthority("ROLE_HOST")));
+        String token = jwtTokenProvider.generateAccessToken(legacy);
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(testUser));
+
+        Authentication authentication = jwtTokenProvider.authenticate(token);
+
+        assertThat(authentication.getPrincipal()).isInstanceOf(CustomUserDetails.class);
+        assertThat(SecurityUtils.findUserId(authentication)).contains(7L);
+    }
+
+    @Test
+    @DisplayName("관리자 토큰은 DB 조회 없이 인증한다")
+    void testAuthenticateAdminToken() {
+        Authentication admin = new UsernamePasswordAuthenticationToken("admin@example.com", null,
+                Collections.singleton(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        String token = jwtTokenProvider.generateAccessToken(admin);
+
+        Authentication authentication = jwtTokenProvider.authenticate(token);
+
+        assertThat(authentication.getName()).isEqualTo("admin@example.com");
+        assertThat(SecurityUtils.findUserId(authentication)).isEmpty();
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("서명이 다르거나 형식이 잘못된 토큰은 인증하지 않는다")
+    void testAuthenticateInvalidToken() {
+        String otherSecret = Base64.getEncoder()
+                .encodeToString("other-jwt-secret-key-for-testing-purposes-only-123456789012345678".getBytes());
+        JwtTokenProvider otherProvider = provider(otherSecret, 3600000L);
+        String token = otherProvider.generateAccessToken(userAuthentication());
+
+        assertThat(jwtTokenProvider.authenticate(token)).isNull();
+        assertThat(jwtTokenProvider.authenticate("not-a-jwt")).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 인증하지 않는다")
+    void testAuthenticateExpiredToken() {
+        JwtTokenProvider expiredProvider = provider(SECRET, -1000L);
+        String token = expiredProvider.generateAccessToken(userAuthentication());
+
+        assertThat(jwtTokenProvider.authenticate(token)).isNull();
+    }
+
+    private JwtTokenProvider provider(String secret, long expiration) {
+        return new JwtTokenProvider(secret, expiration, expiration, 100L, 300L, userRepository, userAuthStateCache);
+    }
+
+    private Authentication userAuthentication() {
+        CustomUserDetails principal = new CustomUserDetails(testUser);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
@@ -0,0 +1,82 @@
+package com.ssg9th2team.geharbang.global.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotChangeChannelTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private SnapshotChangeChannel nodeA;
+    private SnapshotChangeChannel nodeB;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        nodeA = new SnapshotChangeChannel(stringRedisTemplate, objectMapper);
+        nodeB = new SnapshotChangeChannel(stringRedisTemplate, objectMapper);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경 ID 만 주제별 핸들러로 전달한다")
+    void testMessageDispatchesToOtherNodes() {
+        List<Long> receivedA = new ArrayList<>();
+        List<Long> receivedB = new ArrayList<>();
+        List<Long> otherTopic = new ArrayList<>();
+        nodeA.subscribe("geo-index", receivedA::add);
+        nodeB.subscribe("geo-index", receivedB::add);
+        nodeB.subscribe("keyword-index:review", otherTopic::add);
+
+        nodeA.publishAfterCommit("geo-index", 7L);
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(SnapshotChangeChannel.CHANNEL), payload.capture());
+        nodeA.onMessage(message(payload.getValue()), null);
+        nodeB.onMessage(message(payload.getValue()), null);
+
+        assertThat(receivedA).isEmpty();
+        assertThat(receivedB).containsExactly(7L);
+        assertThat(otherTopic).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에 발행한다")
+    void testPublishWaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            nodeA.publishAfterCommit("geo-index", 7L);
+            verify(stringRedisTemplate, never()).convertAndSend(any(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(stringRedisTemplate).convertAndSend(eq(SnapshotChangeChannel.CHANNEL), any(String.class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private DefaultMessage message(String payload) {
+        return new DefaultMessage(SnapshotChangeChannel.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
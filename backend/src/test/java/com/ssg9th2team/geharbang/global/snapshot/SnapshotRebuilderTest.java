@@ -0,0 +1,98 @@
+package com.ssg9th2team.geharbang.global.snapshot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnapshotRebuilderTest {
+
+    /** 현재 스냅샷: 반영된 변경 목록 */
+    private List<String> current = null;
+    private final SnapshotRebuilder<String> rebuilder = new SnapshotRebuilder<>("테스트", change -> {
+        if (current != null) {
+            current.add(change);
+        }
+    });
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("적재 중 반영된 변경은 새 스냅샷으로 교체한 뒤 다시 반영한다")
+    void testChangesDuringLoadAreReplayedAfterSwap() {
+        current = new ArrayList<>(List.of("old"));
+
+        boolean rebuilt = rebuilder.rebuild(() -> {
+            rebuilder.apply("during");
+            return new ArrayList<>(List.of("loaded"));
+        }, next -> current = next);
+
+        assertThat(rebuilt).isTrue();
+        assertThat(current).containsExactly("loaded", "during");
+
+        rebuilder.apply("after");
+        assertThat(current).containsExactly("loaded", "during", "after");
+    }
+
+    @Test
+    @DisplayName("적재가 진행 중이면 다른 재적재는 건너뛴다")
+    void testRebuildIsSingleFlight() {
+        List<Boolean> nested = new ArrayList<>();
+
+        rebuilder.rebuild(() -> {
+            nested.add(rebuilder.rebuild(ArrayList::new, next -> current = next));
+            return new ArrayList<String>();
+        }, next -> current = next);
+
+        assertThat(nested).containsExactly(false);
+        assertThat(rebuilder.rebuild(ArrayList::new, next -> current = next)).isTrue();
+    }
+
+    @Test
+    @DisplayName("적재에 실패하면 예외를 던지고 journal 을 정리해 다음 재적재가 가능하다")
+    void testFailedLoadResetsState() {
+        current = new ArrayList<>();
+
+        assertThatThrownBy(() -> rebuilder.rebuild(() -> {
+            rebuilder.apply("during");
+            throw new IllegalStateException("db down");
+        }, next -> current = next)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(current).containsExactly("during");
+        assertThat(rebuilder.rebuild(() -> new ArrayList<>(List.of("loaded")), next -> current = next)).isTrue();
+        // 실패한 적재의 journal 은 다음 적재에서 재반영되지 않는다.
+        assertThat(current).containsExactly("loaded");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋 이후에만 반영하고 반영 실패는 삼킨다")
+    void testApplyAfterCommit() {
+        current = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+
+        rebuilder.applyAfterCommit("committed");
+        assertThat(current).isEmpty();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertThat(current).containsExactly("committed");
+
+        SnapshotRebuilder<String> failing = new SnapshotRebuilder<>("실패", change -> {
+            throw new IllegalStateException("db down");
+        });
+        failing.applyAfterCommit("ignored");
+    }
+}
@@ -0,0 +1,91 @@
+package com.ssg9th2team.geharbang.global.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImageUploadServiceTest {
+
+    @Mock
+    private ObjectStorageService objectStorageService;
+
+    private ImageUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImageUploadService(objectStorageService);
+        ReflectionTestUtils.setField(service, "threads", 4);
+        ReflectionTestUtils.setField(service, "queueCapacity", 4);
+        ReflectionTestUtils.setField(service, "timeoutSeconds", 10L);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Base64 이미지만 업로드하고 URL/빈 값은 그대로 두며 결과는 입력 순서를 유지한다")
+    void testUploadAllKeepsOrder() {
+        when(objectStorageService.storeBase64Image("data:a", "reviews")).thenReturn(new StoredImage("https://cdn/a.jpg", true));
+        when(objectStorageService.storeBase64Image("data:b", "reviews")).thenReturn(new StoredImage("https://cdn/b.jpg", true));
+
+        ImageUploadResult result = service.uploadAll(
+                Arrays.asList("data:a", "https://old/x.jpg", null, "data:b"), "reviews");
+
+        assertThat(result.urls()).containsExactly("https://cdn/a.jpg", "https://old/x.jpg", null, "https://cdn/b.jpg");
+        assertThat(result.ownedUrls()).containsExactlyInAnyOrder("https://cdn/a.jpg", "https://cdn/b.jpg");
+        verify(objectStorageService, never()).storeBase64Image("https://old/x.jpg", "reviews");
+    }
+
+    @Test
+    @DisplayName("하나라도 실패하면 이 요청이 소유한 이미지만 지우고 예외를 던진다")
+    void testUploadAllCleansUpOnFailure() {
+        when(objectStorageService.storeBase64Image("data:a", "rooms")).thenReturn(new StoredImage("https://cdn/a.jpg", true));
+        when(objectStorageService.storeBase64Image("data:dup", "rooms")).thenReturn(new StoredImage("https://cdn/dup.jpg", false));
+        when(objectStorageService.storeBase64Image("data:bad", "rooms")).thenThrow(new RuntimeException("boom"));
+
+        assertThatThrownBy(() -> service.uploadAll(List.of("data:a", "data:dup", "data:bad"), "rooms"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("boom");
+        verify(objectStorageService, timeout(1000)).deleteImage("https://cdn/a.jpg");
+        verify(objectStorageService, never()).deleteImage("https://cdn/dup.jpg");
+    }
+
+    @Test
+    @DisplayName("공유될 수 있는 내용 해시 이미지는 롤백 정리 대상에서 뺀다")
+    void testUploadAllExcludesDeduplicated() {
+        when(objectStorageService.storeBase64Image("data:dup", "reviews")).thenReturn(new StoredImage("https://cdn/dup.jpg", false));
+
+        ImageUploadResult result = service.uploadAll(List.of("data:dup"), "reviews");
+
+        assertThat(result.urls()).containsExactly("https://cdn/dup.jpg");
+        assertThat(result.ownedUrls()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("업로드할 이미지가 없으면 스토리지를 호출하지 않는다")
+    void testUploadAllEmpty() {
+        assertThat(service.uploadAll(null, "reviews").urls()).isEmpty();
+        assertThat(service.uploadAll(List.of("https://old/x.jpg"), "reviews").ownedUrls()).isEmpty();
+        verify(objectStorageService, never()).storeBase64Image(anyString(), anyString());
+    }
+}
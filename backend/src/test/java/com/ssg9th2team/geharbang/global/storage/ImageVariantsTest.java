@@ -0,0 +1,35 @@
+package com.ssg9th2team.geharbang.global.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantsTest {
+
+    private static final String HASH = "a".repeat(64);
+    private static final String BASE = "https://kr.object.ncloudstorage.com/guesthouse/accommodations/" + HASH;
+
+    @Test
+    @DisplayName("내용 해시 키 숙소/객실 이미지는 폭별 JPEG 변형 URL 로 바꾼다")
+    void testResolveContentHashUrl() {
+        assertThat(ImageVariants.card(BASE + ".png")).isEqualTo(BASE + "_w640.jpg");
+        assertThat(ImageVariants.thumbnail(BASE + ".jpg")).isEqualTo(BASE + "_w320.jpg");
+        assertThat(ImageVariants.variantsOf(BASE + ".jpg"))
+                .containsExactly(BASE + "_w1280.jpg", BASE + "_w640.jpg", BASE + "_w320.jpg");
+    }
+
+    @Test
+    @DisplayName("변형이 없는 URL(UUID 키, 리뷰 폴더, 이미 변형인 URL, 외부 URL)은 그대로 둔다")
+    void testResolveKeepsOtherUrls() {
+        String uuid = "https://kr.object.ncloudstorage.com/guesthouse/accommodations/3f2b6c1e-1d2a-4c6b-9a55-0d2e1f9a7b10.jpg";
+        String review = "https://kr.object.ncloudstorage.com/guesthouse/reviews/" + HASH + ".jpg";
+
+        assertThat(ImageVariants.card(uuid)).isEqualTo(uuid);
+        assertThat(ImageVariants.card(review)).isEqualTo(review);
+        assertThat(ImageVariants.card(BASE + "_w640.jpg")).isEqualTo(BASE + "_w640.jpg");
+        assertThat(ImageVariants.card("https://example.com/image.jpg")).isEqualTo("https://example.com/image.jpg");
+        assertThat(ImageVariants.card(null)).isNull();
+        assertThat(ImageVariants.variantsOf(uuid)).isEmpty();
+    }
+}
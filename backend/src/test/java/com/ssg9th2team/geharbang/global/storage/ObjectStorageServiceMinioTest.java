@@ -0,0 +1,165 @@
+package com.ssg9th2team.geharbang.global.storage;
+
+import com.ssg9th2team.geharbang.global.image.ImageResizeProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 S3 호환 스토리지(MinIO)로 단건/멀티파트 업로드, 내용 해시 중복 제거와 변형 생성, 삭제를 확인한다. (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ObjectStorageServiceMinioTest {
+
+    private static final String BUCKET = "guesthouse-test";
+    private static final String ACCESS_KEY = "minioadmin";
+    private static final String SECRET_KEY = "minioadmin";
+
+    @Container
+    static GenericContainer<?> minio = new GenericContainer<>("minio/minio:RELEASE.2023-12-23T07-19-11Z")
+            .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+            .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+            .withCommand("server", "/data")
+            .withExposedPorts(9000)
+            .waitingFor(Wait.forHttp("/minio/health/live").forPort(9000));
+
+    private static S3Client s3;
+
+    private ObjectStorageService storage;
+
+    @BeforeAll
+    static void createBucket() {
+        s3 = S3Client.builder()
+                .endpointOverride(URI.create(endpoint()))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(ACCESS_KEY, SECRET_KEY)))
+                .forcePathStyle(true)
+                .build();
+        s3.createBucket(builder -> builder.bucket(BUCKET));
+    }
+
+    @BeforeEach
+    void setUp() {
+        storage = new ObjectStorageService(new ImageResizeProcessor());
+        ReflectionTestUtils.setField(storage, "endpoint", endpoint());
+        ReflectionTestUtils.setField(storage, "region", "us-east-1");
+        ReflectionTestUtils.setField(storage, "bucket", BUCKET);
+        ReflectionTestUtils.setField(storage, "accessKey", ACCESS_KEY);
+        ReflectionTestUtils.setField(storage, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(storage, "pathStyleAccess", true);
+        ReflectionTestUtils.setField(storage, "multipartThresholdBytes", 6L * 1024 * 1024);
+        ReflectionTestUtils.setField(storage, "multipartPartSizeBytes", 5 * 1024 * 1024);
+        storage.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.shutdown();
+    }
+
+    @Test
+    @DisplayName("임계값 미만 스트림은 단건 업로드, URL 로 삭제까지 된다")
+    void testSmallUploadAndDelete() {
+        byte[] bytes = new byte[1024];
+
+        String url = storage.storeImageStream(new ByteArrayInputStream(bytes), bytes.length, "image/webp", "reviews").url();
+
+        String key = keyOf(url);
+        assertThat(key).startsWith("reviews/").endsWith(".webp");
+        assertThat(head(key).contentLength()).isEqualTo(bytes.length);
+
+        storage.deleteImage(url);
+        assertThatThrownBy(() -> head(key)).isInstanceOf(NoSuchKeyException.class);
+    }
+
+    @Test
+    @DisplayName("임계값 이상 스트림은 part 단위 멀티파트로 올라가 하나의 객체가 된다")
+    void testMultipartUpload() {
+        byte[] bytes = new byte[12 * 1024 * 1024];
+        Arrays.fill(bytes, (byte) 7);
+
+        StoredImage stored = storage.storeImageStream(new ByteArrayInputStream(bytes), bytes.length, "image/webp", "reviews");
+        String url = stored.url();
+
+        // UUID 키는 이 요청만 참조하므로 실패/롤백 시 지울 수 있다.
+        assertThat(stored.owned()).isTrue();
+        HeadObjectResponse head = head(keyOf(url));
+        assertThat(head.contentLength()).isEqualTo(bytes.length);
+        // 멀티파트 객체의 ETag 는 "<md5>-<part 수>" 형식
+        assertThat(head.eTag()).endsWith("-3\"");
+    }
+
+    @Test
+    @DisplayName("숙소 이미지는 내용 해시 키로 저장되고 폭별 변형이 함께 생기며, 같은 내용은 다시 올리지 않는다")
+    void testContentHashDedupAndVariants() throws Exception {
+        String base64 = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(jpeg(2000, 1000));
+
+        StoredImage first = storage.storeBase64Image(base64, "accommodations");
+        StoredImage second = storage.storeBase64Image(base64, "accommodations");
+
+        // 내용 해시 객체는 공유될 수 있으므로 처음 올린 요청도 소유하지 않는다.
+        assertThat(first.owned()).isFalse();
+        assertThat(second.owned()).isFalse();
+        assertThat(second.url()).isEqualTo(first.url());
+        assertThat(keyOf(first.url())).matches("accommodations/[0-9a-f]{64}\\.jpg");
+
+        BufferedImage card = ImageIO.read(s3.getObject(builder -> builder.bucket(BUCKET)
+                .key(keyOf(ImageVariants.card(first.url())))));
+        assertThat(card.getWidth()).isEqualTo(ImageVariants.CARD_WIDTH);
+        assertThat(card.getHeight()).isEqualTo(320);
+        assertThat(head(keyOf(ImageVariants.thumbnail(first.url()))).contentType()).isEqualTo("image/jpeg");
+        assertThat(head(keyOf(ImageVariants.resolve(first.url(), ImageVariants.LARGE_WIDTH))).contentLength()).isPositive();
+
+        storage.deleteImage(first.url());
+        assertThatThrownBy(() -> head(keyOf(ImageVariants.card(first.url())))).isInstanceOf(NoSuchKeyException.class);
+    }
+
+    private static byte[] jpeg(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setColor(Color.ORANGE);
+        g2d.fillRect(0, 0, width / 2, height);
+        g2d.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static String endpoint() {
+        return "http://" + minio.getHost() + ":" + minio.getMappedPort(9000);
+    }
+
+    private static String keyOf(String url) {
+        return url.substring(url.indexOf(BUCKET + "/") + BUCKET.length() + 1);
+    }
+
+    private static HeadObjectResponse head(String key) {
+        return s3.headObject(builder -> builder.bucket(BUCKET).key(key));
+    }
+}
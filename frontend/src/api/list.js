@@ -37,21 +37,18 @@ export async function fetchListBulk(themeIds = [], keyword = '') {
   return hostGet('/public/list/bulk', params)
 }
 
-export async function searchList({
+const buildSearchFilterParams = ({
   themeIds = [],
   keyword = '',
-  page = 0,
-  size = 24,
   bounds = null,
   checkin = null,
   checkout = null,
   guestCount = null,
   minPrice = null,
   maxPrice = null,
-  sort = null,
   includeUnavailable = false
-} = {}) {
-  const params = { page, size }
+} = {}) => {
+  const params = {}
   if (Array.isArray(themeIds) && themeIds.length) {
     params.themeIds = themeIds.join(',')
   }
@@ -76,9 +73,6 @@ export async function searchList({
   if (Number.isFinite(maxPrice)) {
     params.maxPrice = String(maxPrice)
   }
-  if (sort) {
-    params.sort = sort
-  }
   if (includeUnavailable) {
     params.includeUnavailable = 'true'
   }
@@ -88,9 +82,63 @@ export async function searchList({
     params.minLng = bounds.minLng
     params.maxLng = bounds.maxLng
   }
+  return params
+}
+
+export async function searchList({
+  themeIds = [],
+  keyword = '',
+  page = 0,
+  size = 24,
+  bounds = null,
+  checkin = null,
+  checkout = null,
+  guestCount = null,
+  minPrice = null,
+  maxPrice = null,
+  sort = null,
+  includeUnavailable = false,
+  cursor = null
+} = {}) {
+  const params = {
+    page,
+    size,
+    ...buildSearchFilterParams({
+      themeIds, keyword, bounds, checkin, checkout, guestCount, minPrice, maxPrice, includeUnavailable
+    })
+  }
+  // 커서가 있으면 count 없이 다음 페이지만 조회한다.
+  if (cursor) {
+    params.cursor = cursor
+  }
+  if (sort) {
+    params.sort = sort
+  }
   return hostGet('/public/search', params)
 }
 
+// 지도 클러스터: level 은 카카오맵 지도 레벨 (클수록 넓은 격자로 묶는다)
+export async function searchClusters({
+  themeIds = [],
+  keyword = '',
+  bounds,
+  level = 7,
+  checkin = null,
+  checkout = null,
+  guestCount = null,
+  minPrice = null,
+  maxPrice = null,
+  includeUnavailable = false
+} = {}) {
+  const params = {
+    level,
+    ...buildSearchFilterParams({
+      themeIds, keyword, bounds, checkin, checkout, guestCount, minPrice, maxPrice, includeUnavailable
+    })
+  }
+  return hostGet('/public/search/clusters', params)
+}
+
 export async function fetchSearchSuggestions(keyword, limit = 10) {
   const normalizedKeyword = String(keyword ?? '').trim()
   if (!normalizedKeyword) {
@@ -1,7 +1,10 @@
 import { defineStore } from 'pinia'
 import { Client } from '@stomp/stompjs'
 import SockJS from 'sockjs-client'
-import { getUserInfo } from '@/api/authClient'
+import { getAccessToken, getUserInfo } from '@/api/authClient'
+
+// 채팅 메시지 한 번에 불러오는 개수 (서버 최대 200)
+const MESSAGE_PAGE_SIZE = 100
 
 export const useRealtimeChatStore = defineStore('realtimeChat', {
     state: () => ({
@@ -9,6 +12,9 @@ export const useRealtimeChatStore = defineStore('realtimeChat', {
         connected: false,
         currentRoomId: null,
         messages: [],
+        // 현재 불러온 메시지보다 이전 메시지가 서버에 더 있는지 (위로 스크롤 시 이어서 조회)
+        hasMoreMessages: false,
+        loadingOlderMessages: false,
         subscription: null,
         notificationSubscription: null, // 사용자별 알림 구독
         reconnectAttempts: 0,
@@ -106,6 +112,7 @@ export const useRealtimeChatStore = defineStore('realtimeChat', {
 
             this.currentRoomId = roomId;
             this.messages = [];
+            this.hasMoreMessages = false;
 
             if (this.subscription) {
                 console.log('Unsubscribing from previous room');
@@ -155,6 +162,55 @@ export const useRealtimeChatStore = defineStore('realtimeChat', {
             }
         },
 
+        // 채팅방의 최신 메시지 한 페이지 조회 (구독 이후 먼저 도착한 실시간 메시지는 유지)
+        async loadMessages(roomId) {
+            const page = await this.fetchMessagePage(roomId, null);
+            if (this.currentRoomId !== roomId) return;
+            const loadedIds = new Set(page.map(msg => msg.id));
+            this.messages = [...page, ...this.messages.filter(msg => !loadedIds.has(msg.id))];
+            this.hasMoreMessages = page.length >= MESSAGE_PAGE_SIZE;
+        },
+
+        // 가장 오래된 메시지 이전 페이지를 앞에 붙인다. (위로 스크롤)
+        async loadOlderMessages() {
+            const roomId = this.currentRoomId;
+            if (!roomId || !this.hasMoreMessages || this.loadingOlderMessages || this.messages.length === 0) {
+                return false;
+            }
+            this.loadingOlderMessages = true;
+            try {
+                const oldestId = this.messages.reduce((min, msg) => Math.min(min, Number(msg.id)), Infinity);
+                const page = await this.fetchMessagePage(roomId, oldestId);
+                if (this.currentRoomId !== roomId) return false;
+                const loadedIds = new Set(this.messages.map(msg => msg.id));
+                this.messages = [...page.filter(msg => !loadedIds.has(msg.id)), ...this.messages];
+                this.hasMoreMessages = page.length >= MESSAGE_PAGE_SIZE;
+                return page.length > 0;
+            } finally {
+                this.loadingOlderMessages = false;
+            }
+        },
+
+        async fetchMessagePage(roomId, before) {
+            const params = new URLSearchParams({ limit: MESSAGE_PAGE_SIZE });
+            if (before != null) params.set('before', before);
+            const res = await fetch(`/api/realtime-chat/rooms/${roomId}/messages?${params}`, {
+                headers: { 'Authorization': `Bearer ${getAccessToken()}` }
+            });
+            if (!res.ok) {
+                console.error('Failed to fetch chat messages:', res.status);
+                return [];
+            }
+            const fetchedMessages = await res.json();
+            const currentUser = getUserInfo();
+            const myId = currentUser?.userId || currentUser?.id;
+            // 내가 보낸 메시지는 서버의 isRead 로 상대방 읽음 여부를 표시
+            return fetchedMessages.map(msg => ({
+                ...msg,
+                readByRecipient: myId && Number(msg.senderUserId) === Number(myId) ? msg.isRead : undefined
+            }));
+        },
+
         // 사용자별 알림 채널 구독
         subscribeToNotifications(userId) {
             if (!this.connected || !this.stompClient || !this.stompClient.active) {
@@ -216,6 +272,7 @@ export const useRealtimeChatStore = defineStore('realtimeChat', {
             }
             this.currentRoomId = null;
             this.messages = [];
+            this.hasMoreMessages = false;
             console.log('Left chat room');
         },
 
@@ -228,6 +285,7 @@ export const useRealtimeChatStore = defineStore('realtimeChat', {
             this.subscription = null;
             this.notificationSubscription = null;
             this.messages = [];
+            this.hasMoreMessages = false;
             this.roomNotifications = [];
             this.token = null;
             this.reconnectAttempts = 0;